@@ -14,7 +14,6 @@ package org.semanticweb.owlapi.change;
 
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
@@ -35,9 +34,9 @@ public abstract class AbstractCompositeOntologyChange implements
     /** The data factory. */
     @Nonnull
     private final OWLDataFactory dataFactory;
-    /** The changes. */
+    /** The changes; axiom changes are held as their axioms. */
     @Nonnull
-    private final List<OWLOntologyChange> changes = new ArrayList<>();
+    private final OWLOntologyChangeBatch changes = new OWLOntologyChangeBatch();
 
     /**
      * Instantiates a new abstract composite ontology change.
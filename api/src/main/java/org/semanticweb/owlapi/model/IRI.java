@@ -18,6 +18,8 @@ import java.io.File;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
@@ -28,15 +30,17 @@ import javax.annotation.Nullable;
 import org.semanticweb.owlapi.io.XMLUtils;
 import org.semanticweb.owlapi.model.parameters.ConfigurationOptions;
 import org.semanticweb.owlapi.util.CollectionFactory;
+import org.semanticweb.owlapi.util.WeakInterner;
 import org.semanticweb.owlapi.vocab.Namespaces;
 import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.base.Optional;
 
 /**
- * Represents International Resource Identifiers
+ * Represents International Resource Identifiers. The namespace is shared between IRIs through a
+ * weak interner, the remainder is kept as Latin-1 bytes whenever possible, and the hash code is
+ * computed once.
  * 
  * @author Matthew Horridge, The University of Manchester, Information Management Group
  * @since 3.0.0
@@ -57,7 +61,7 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
      */
     @Nonnull
     public URI toURI() {
-        return URI.create(namespace + remainder);
+        return URI.create(toString());
     }
 
     /**
@@ -169,7 +173,7 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
      *         {@code false}
      */
     public boolean isPlainLiteral() {
-        return remainder.equals("PlainLiteral") && Namespaces.RDF.inNamespace(namespace);
+        return remainderEquals("PlainLiteral") && Namespaces.RDF.inNamespace(namespace);
     }
 
     /**
@@ -180,7 +184,7 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
      */
     @Nonnull
     public String getFragment() {
-        return remainder;
+        return remainderString();
     }
 
 
@@ -189,10 +193,10 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
      */
     @Nonnull
     public Optional<String> getRemainder() {
-        if (remainder.isEmpty()) {
+        if (remainderLength() == 0) {
             return Optional.absent();
         }
-        return Optional.of(remainder);
+        return Optional.of(remainderString());
     }
 
     /**
@@ -202,7 +206,7 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
      */
     @Nonnull
     public String toQuotedString() {
-        return '<' + namespace + remainder + '>';
+        return '<' + toString() + '>';
     }
 
     /**
@@ -312,18 +316,33 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
     // Impl - All constructors are private - factory methods are used for
     // public creation
     private static final long serialVersionUID = 40000L;
-    private static final LoadingCache<String, String> PREFIX_CACHE =
-        Caffeine.newBuilder().weakKeys().maximumSize(size()).build(k -> k);
+    private static final WeakInterner<String> PREFIX_CACHE = new WeakInterner<>();
 
+    /**
+     * @return the configured {@link ConfigurationOptions#CACHE_SIZE}
+     * @deprecated namespaces are interned weakly and the cache is no longer bounded by size
+     */
+    @Deprecated
     protected static long size() {
         return ConfigurationOptions.CACHE_SIZE.getValue(Integer.class, Collections.emptyMap())
             .longValue();
     }
 
+    /**
+     * @return hit and miss counts for the interning of IRI namespaces
+     */
     @Nonnull
-    private final String remainder;
+    public static CacheStats namespaceInterningStats() {
+        return PREFIX_CACHE.stats();
+    }
+
+    private static final byte[] NO_REMAINDER = new byte[0];
+    /** Latin-1 bytes, or a String if the remainder has characters outside Latin-1. */
+    @Nonnull
+    private final Object remainder;
     @Nonnull
     private final String namespace;
+    private final int hashCode;
 
     /**
      * Constructs an IRI which is built from the concatenation of the specified prefix and suffix.
@@ -332,8 +351,81 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
      * @param suffix The suffix.
      */
     protected IRI(@Nonnull String prefix, @Nullable String suffix) {
-        namespace = PREFIX_CACHE.get(XMLUtils.getNCNamePrefix(prefix));
-        remainder = suffix == null ? "" : suffix;
+        namespace = PREFIX_CACHE.intern(XMLUtils.getNCNamePrefix(prefix));
+        String s = suffix == null ? "" : suffix;
+        remainder = compact(s);
+        // same value as the hash code of the two strings
+        hashCode = namespace.hashCode() + s.hashCode();
+    }
+
+    @Nonnull
+    private static Object compact(String s) {
+        if (s.isEmpty()) {
+            return NO_REMAINDER;
+        }
+        byte[] bytes = new byte[s.length()];
+        for (int i = 0; i < bytes.length; i++) {
+            char c = s.charAt(i);
+            if (c > 0xFF) {
+                return s;
+            }
+            bytes[i] = (byte) c;
+        }
+        return bytes;
+    }
+
+    private int remainderLength() {
+        Object r = remainder;
+        return r instanceof byte[] ? ((byte[]) r).length : ((String) r).length();
+    }
+
+    private char remainderCharAt(int index) {
+        Object r = remainder;
+        return r instanceof byte[] ? (char) (((byte[]) r)[index] & 0xFF)
+            : ((String) r).charAt(index);
+    }
+
+    @Nonnull
+    private String remainderString() {
+        Object r = remainder;
+        if (r instanceof String) {
+            return (String) r;
+        }
+        byte[] bytes = (byte[]) r;
+        return bytes.length == 0 ? "" : new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    private boolean remainderEquals(String s) {
+        int length = remainderLength();
+        if (length != s.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (remainderCharAt(i) != s.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean sameRemainder(IRI other) {
+        Object r = remainder;
+        Object o = other.remainder;
+        if (r instanceof byte[] && o instanceof byte[]) {
+            return Arrays.equals((byte[]) r, (byte[]) o);
+        }
+        // a remainder is stored as a String only if it cannot be stored as bytes
+        return r.equals(o);
+    }
+
+    /**
+     * Namespaces of deserialized IRIs are interned again, so that equal namespaces keep being
+     * shared.
+     * 
+     * @return an IRI equal to this one
+     */
+    protected Object readResolve() {
+        return new IRI(namespace, remainderString());
     }
 
     /**
@@ -360,7 +452,7 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
 
     @Override
     public int length() {
-        return namespace.length() + remainder.length();
+        return namespace.length() + remainderLength();
     }
 
     @Override
@@ -371,15 +463,12 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
         if (index < namespace.length()) {
             return namespace.charAt(index);
         }
-        return remainder.charAt(index - namespace.length());
+        return remainderCharAt(index - namespace.length());
     }
 
     @Override
     public CharSequence subSequence(int start, int end) {
-        StringBuilder sb = new StringBuilder();
-        sb.append(namespace);
-        sb.append(remainder);
-        return sb.subSequence(start, end);
+        return toString().subSequence(start, end);
     }
 
     /**
@@ -389,17 +478,17 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
     @Nonnull
     public String prefixedBy(@Nonnull String prefix) {
         checkNotNull(prefix, "prefix cannot be null");
-        if (remainder.isEmpty()) {
+        if (remainderLength() == 0) {
             return prefix;
         }
-        return prefix + remainder;
+        return prefix + remainderString();
     }
 
     @Override
     @Nonnull
     public String getShortForm() {
-        if (!remainder.isEmpty()) {
-            return remainder;
+        if (remainderLength() > 0) {
+            return remainderString();
         }
         int lastSlashIndex = namespace.lastIndexOf('/');
         if (lastSlashIndex != -1 && lastSlashIndex != namespace.length() - 1) {
@@ -495,25 +584,41 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
             return -1;
         }
         IRI other = (IRI) o;
-        int diff = namespace.compareTo(other.namespace);
-        if (diff != 0) {
-            return diff;
+        if (namespace != other.namespace) {
+            int diff = namespace.compareTo(other.namespace);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        if (remainder instanceof byte[] && other.remainder instanceof byte[]) {
+            // Latin-1 bytes compare as the characters they encode
+            return Arrays.compareUnsigned((byte[]) remainder, (byte[]) other.remainder);
         }
-        return remainder.compareTo(other.remainder);
+        return remainderString().compareTo(other.remainderString());
     }
 
     @Nonnull
     @Override
     public String toString() {
-        if (remainder.isEmpty()) {
+        Object r = remainder;
+        if (r instanceof String) {
+            return namespace + r;
+        }
+        byte[] bytes = (byte[]) r;
+        if (bytes.length == 0) {
             return namespace;
         }
-        return namespace + remainder;
+        StringBuilder sb = new StringBuilder(namespace.length() + bytes.length);
+        sb.append(namespace);
+        for (byte b : bytes) {
+            sb.append((char) (b & 0xFF));
+        }
+        return sb.toString();
     }
 
     @Override
     public int hashCode() {
-        return namespace.hashCode() + remainder.hashCode();
+        return hashCode;
     }
 
     @Override
@@ -563,6 +668,9 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
             return false;
         }
         IRI other = (IRI) obj;
-        return remainder.equals(other.remainder) && other.namespace.equals(namespace);
+        // namespaces are interned, so equal namespaces are almost always the same object
+        return hashCode == other.hashCode
+            && (namespace == other.namespace || namespace.equals(other.namespace))
+            && sameRemainder(other);
     }
 }
@@ -14,6 +14,8 @@ package org.semanticweb.owlapi.model;
 
 import java.util.Collection;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
 
@@ -652,4 +654,62 @@ public interface OWLAxiomIndex {
     @Nonnull
     Set<OWLDatatypeDefinitionAxiom> getDatatypeDefinitions(
             @Nonnull OWLDatatype datatype);
+
+    /**
+     * Streaming counterpart of
+     * {@link #getAxioms(Class, Class, OWLObject, Imports, Navigation)} for this
+     * collection only. Implementations backed by indexes stream the index
+     * contents rather than a copy of them.
+     * 
+     * @param <T>
+     *        type of returned axioms
+     * @param type
+     *        type of axioms
+     * @param explicitClass
+     *        for overlapping indexes in the ontology internals, an explicit
+     *        class rather than the entity class might be necessary
+     * @param entity
+     *        referred entity (OWLPrimitive or property/class expression)
+     * @param forSubPosition
+     *        for sub axioms (subclass, subproperty), the value specifies
+     *        whether entity should appear as sub or super entity in the axioms
+     *        returned.
+     * @return stream of axioms satisfying the conditions
+     * @since 4.7.7
+     */
+    @Nonnull
+    default <T extends OWLAxiom> Stream<T> axioms(@Nonnull Class<T> type,
+            @Nonnull Class<? extends OWLObject> explicitClass,
+            @Nonnull OWLObject entity, @Nonnull Navigation forSubPosition) {
+        return getAxioms(type, explicitClass, entity, Imports.EXCLUDED,
+                forSubPosition).stream();
+    }
+
+    /**
+     * Callback counterpart of
+     * {@link #axioms(Class, Class, OWLObject, Navigation)}: the action is
+     * applied to each matching axiom without collecting them. The action must
+     * not modify the ontology.
+     * 
+     * @param <T>
+     *        type of axioms
+     * @param type
+     *        type of axioms
+     * @param explicitClass
+     *        for overlapping indexes in the ontology internals, an explicit
+     *        class rather than the entity class might be necessary
+     * @param entity
+     *        referred entity (OWLPrimitive or property/class expression)
+     * @param forSubPosition
+     *        sub or super position for sub axioms
+     * @param action
+     *        action to apply to each axiom
+     * @since 4.7.7
+     */
+    default <T extends OWLAxiom> void forEachAxiom(@Nonnull Class<T> type,
+            @Nonnull Class<? extends OWLObject> explicitClass,
+            @Nonnull OWLObject entity, @Nonnull Navigation forSubPosition,
+            @Nonnull Consumer<? super T> action) {
+        axioms(type, explicitClass, entity, forSubPosition).forEach(action);
+    }
 }
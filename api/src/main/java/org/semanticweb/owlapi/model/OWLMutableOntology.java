@@ -12,8 +12,15 @@
  * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
 package org.semanticweb.owlapi.model;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.locks.ReadWriteLock;
 
+import javax.annotation.Nonnull;
+
+import org.semanticweb.owlapi.model.parameters.ChangeApplied;
+
 /**
  * @author Matthew Horridge, The University Of Manchester, Bio-Health Informatics Group
  * @since 2.0.0
@@ -28,4 +35,24 @@ public interface OWLMutableOntology
     default void setLock(@SuppressWarnings("unused") ReadWriteLock lock) {
         // do nothing in the default implementation
     }
+
+    /**
+     * Adds a batch of axioms to this ontology. No change events are generated; applications
+     * should call {@link OWLOntologyManager#addAxiomsInBulk(OWLOntology, Collection)}, which uses
+     * this method and notifies listeners. Implementations may defer index maintenance to the end
+     * of the batch; this default implementation applies one {@link AddAxiom} change per axiom.
+     * 
+     * @param axioms axioms to add
+     * @return the axioms that were added, i.e., those not already in the ontology
+     */
+    @Nonnull
+    default List<OWLAxiom> addAxiomsInBulk(@Nonnull Collection<? extends OWLAxiom> axioms) {
+        List<OWLAxiom> added = new ArrayList<>();
+        for (OWLAxiom ax : axioms) {
+            if (applyChange(new AddAxiom(this, ax)) == ChangeApplied.SUCCESSFULLY) {
+                added.add(ax);
+            }
+        }
+        return added;
+    }
 }
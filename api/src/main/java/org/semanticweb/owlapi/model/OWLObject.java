@@ -17,6 +17,8 @@ import java.util.Set;
 
 import javax.annotation.Nonnull;
 
+import org.semanticweb.owlapi.util.StructuralFingerprint;
+
 /**
  * @author Matthew Horridge, The University Of Manchester, Bio-Health Informatics Group
  * @since 2.0.0
@@ -39,6 +41,19 @@ public interface OWLObject extends Comparable<OWLObject>, Serializable, HasSigna
         return false;
     }
 
+    /**
+     * A 64 bit structural fingerprint: equal objects have equal fingerprints, and the value is the
+     * same in every JVM, so it can be stored, e.g., in on disk caches or diffs. Objects with
+     * different fingerprints are not equal; equal fingerprints make equality very likely, but not
+     * certain. Implementations may compute it once and cache it.
+     * 
+     * @return structural fingerprint of this object, never 0
+     * @since 4.7.7
+     */
+    default long getFingerprint() {
+        return StructuralFingerprint.fingerprint(this);
+    }
+
 
     /**
      * Gets all of the nested (includes top level) class expressions (anonymous and named) that are
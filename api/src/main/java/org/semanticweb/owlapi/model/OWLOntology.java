@@ -14,11 +14,14 @@ package org.semanticweb.owlapi.model;
 
 import java.io.OutputStream;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
 
 import org.semanticweb.owlapi.io.OWLOntologyDocumentTarget;
 import org.semanticweb.owlapi.model.parameters.Imports;
+import org.semanticweb.owlapi.model.parameters.Navigation;
 
 /**
  * Represents an OWL 2 <a href="http://www.w3.org/TR/owl2-syntax/#Ontologies">Ontology</a> in the
@@ -383,4 +386,154 @@ public interface OWLOntology extends OWLObject, HasAnnotations, HasDirectImports
      */
     void saveOntology(@Nonnull OWLDocumentFormat ontologyFormat,
         @Nonnull OWLOntologyDocumentTarget documentTarget) throws OWLOntologyStorageException;
+
+    /**
+     * @return the ontologies in the imports closure, as a stream; a parallel stream splits across
+     *         the closure members
+     * @since 4.7.7
+     */
+    @Nonnull
+    default Stream<OWLOntology> importsClosure() {
+        return getImportsClosure().stream();
+    }
+
+    /**
+     * Streaming counterpart of {@link #getAxioms()}. Implementations backed by indexes stream the
+     * index contents rather than a copy of them.
+     * 
+     * @return the axioms in this ontology
+     * @since 4.7.7
+     */
+    @Nonnull
+    default Stream<OWLAxiom> axioms() {
+        return getAxioms().stream();
+    }
+
+    /**
+     * Streaming counterpart of {@link #getAxioms(Imports)}. When the imports closure is included,
+     * the stream is the concatenation of the streams of each closure member: an axiom contained in
+     * more than one member appears once per member.
+     * 
+     * @param includeImportsClosure if INCLUDED, include imports closure.
+     * @return the axioms in this ontology, and optionally in the imports closure
+     * @since 4.7.7
+     */
+    @Nonnull
+    default Stream<OWLAxiom> axioms(@Nonnull Imports includeImportsClosure) {
+        if (includeImportsClosure == Imports.EXCLUDED) {
+            return axioms();
+        }
+        return importsClosure().flatMap(OWLOntology::axioms);
+    }
+
+    /**
+     * Streaming counterpart of {@link #getAxioms(AxiomType)}.
+     * 
+     * @param axiomType the type of axioms to be retrieved
+     * @param <T> axiom type
+     * @return the axioms of the specified type
+     * @since 4.7.7
+     */
+    @Nonnull
+    default <T extends OWLAxiom> Stream<T> axioms(@Nonnull AxiomType<T> axiomType) {
+        return getAxioms(axiomType).stream();
+    }
+
+    /**
+     * Streaming counterpart of {@link #getAxioms(AxiomType, Imports)}; see
+     * {@link #axioms(Imports)} for duplicates across the imports closure.
+     * 
+     * @param axiomType the type of axioms to be retrieved
+     * @param includeImportsClosure if INCLUDED, include imports closure.
+     * @param <T> axiom type
+     * @return the axioms of the specified type
+     * @since 4.7.7
+     */
+    @Nonnull
+    default <T extends OWLAxiom> Stream<T> axioms(@Nonnull AxiomType<T> axiomType,
+        @Nonnull Imports includeImportsClosure) {
+        if (includeImportsClosure == Imports.EXCLUDED) {
+            return axioms(axiomType);
+        }
+        return importsClosure().flatMap(o -> o.axioms(axiomType));
+    }
+
+    /**
+     * Callback counterpart of {@link #axioms(AxiomType, Imports)}: the action is applied to each
+     * axiom without collecting them. The action must not modify the ontology.
+     * 
+     * @param axiomType the type of axioms to be visited
+     * @param includeImportsClosure if INCLUDED, include imports closure.
+     * @param action action to apply to each axiom
+     * @param <T> axiom type
+     * @since 4.7.7
+     */
+    default <T extends OWLAxiom> void forEachAxiom(@Nonnull AxiomType<T> axiomType,
+        @Nonnull Imports includeImportsClosure, @Nonnull Consumer<? super T> action) {
+        if (includeImportsClosure == Imports.EXCLUDED) {
+            axioms(axiomType).forEach(action);
+        } else {
+            for (OWLOntology o : getImportsClosure()) {
+                o.forEachAxiom(axiomType, Imports.EXCLUDED, action);
+            }
+        }
+    }
+
+    /**
+     * Streaming counterpart of {@link #getReferencingAxioms(OWLPrimitive, Imports)}; see
+     * {@link #axioms(Imports)} for duplicates across the imports closure.
+     * 
+     * @param owlEntity the entity that returned axioms reference
+     * @param includeImportsClosure if INCLUDED, include imports closure.
+     * @return the axioms referencing the entity
+     * @since 4.7.7
+     */
+    @Nonnull
+    default Stream<OWLAxiom> referencingAxioms(@Nonnull OWLPrimitive owlEntity,
+        @Nonnull Imports includeImportsClosure) {
+        if (includeImportsClosure == Imports.EXCLUDED) {
+            return getReferencingAxioms(owlEntity, Imports.EXCLUDED).stream();
+        }
+        return importsClosure().flatMap(o -> o.referencingAxioms(owlEntity, Imports.EXCLUDED));
+    }
+
+    /**
+     * Streaming counterpart of {@link #getSignature(Imports)}; see {@link #axioms(Imports)} for
+     * duplicates across the imports closure.
+     * 
+     * @param includeImportsClosure if INCLUDED, include imports closure.
+     * @return the entities in the signature
+     * @since 4.7.7
+     */
+    @Nonnull
+    default Stream<OWLEntity> signature(@Nonnull Imports includeImportsClosure) {
+        if (includeImportsClosure == Imports.EXCLUDED) {
+            return getSignature().stream();
+        }
+        return importsClosure().flatMap(o -> o.signature(Imports.EXCLUDED));
+    }
+
+    /**
+     * Streaming counterpart of
+     * {@link #getAxioms(Class, Class, OWLObject, Imports, Navigation)}; see
+     * {@link #axioms(Imports)} for duplicates across the imports closure.
+     * 
+     * @param type type of axioms
+     * @param explicitClass explicit class to select the index
+     * @param entity referred entity
+     * @param includeImports if INCLUDED, include imports closure.
+     * @param forSubPosition sub or super position for sub axioms
+     * @param <T> axiom type
+     * @return stream of axioms satisfying the conditions
+     * @since 4.7.7
+     */
+    @Nonnull
+    default <T extends OWLAxiom> Stream<T> axioms(@Nonnull Class<T> type,
+        @Nonnull Class<? extends OWLObject> explicitClass, @Nonnull OWLObject entity,
+        @Nonnull Imports includeImports, @Nonnull Navigation forSubPosition) {
+        if (includeImports == Imports.EXCLUDED) {
+            return axioms(type, explicitClass, entity, forSubPosition);
+        }
+        return importsClosure().flatMap(o -> o.axioms(type, explicitClass, entity, forSubPosition));
+    }
 }
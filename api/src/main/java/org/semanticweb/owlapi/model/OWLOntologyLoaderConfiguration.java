@@ -12,14 +12,20 @@
  * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
 package org.semanticweb.owlapi.model;
 
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
+
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.ACCEPT_HTTP_COMPRESSION;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.ALLOW_DUPLICATES_IN_CONSTRUCT_SETS;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.AUTHORIZATION_VALUE;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.BUILD_INDEXES_IN_PARALLEL;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.BANNED_PARSERS;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.COMPACT_AXIOM_INDEXES;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.CONNECTION_TIMEOUT;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.ENTITY_EXPANSION_LIMIT;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.FOLLOW_REDIRECTS;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.LOAD_ANNOTATIONS;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.LOAD_IMPORTS_IN_PARALLEL;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.LOCK_FREE_INDEXES;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.MISSING_IMPORT_HANDLING_STRATEGY;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.MISSING_ONTOLOGY_HEADER_STRATEGY;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.OUTPUT_NAMED_GRAPH_IRI;
@@ -28,6 +34,7 @@ import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.PRIOR
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.REPAIR_ILLEGAL_PUNNINGS;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.REPORT_STACK_TRACES;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.RETRIES_TO_ATTEMPT;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.SIGNATURE_CACHING;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.SKIP_MODULE_ANNOTATIONS;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.TREAT_DUBLINCORE_AS_BUILTIN;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.TRIM_TO_SIZE;
@@ -36,8 +43,11 @@ import java.io.Serializable;
 import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import org.semanticweb.owlapi.model.parameters.ConfigurationOptions;
 import org.semanticweb.owlapi.vocab.Namespaces;
@@ -82,6 +92,9 @@ public class OWLOntologyLoaderConfiguration implements Serializable {
     /** set of imports to ignore */
     @Nonnull
     private final Set<IRI> ignoredImports = new HashSet<>();
+    /** Executor for building indexes; not serialized. */
+    @Nullable
+    private transient Executor indexesExecutor;
 
     /**
      * Adds an ontology document IRI to the list of ontology imports that will be ignored during
@@ -136,6 +149,7 @@ public class OWLOntologyLoaderConfiguration implements Serializable {
         copy.overrides.putAll(overrides);
         copy.ignoredImports.clear();
         copy.ignoredImports.addAll(ignoredImports);
+        copy.indexesExecutor = indexesExecutor;
         return copy;
     }
 
@@ -289,6 +303,37 @@ public class OWLOntologyLoaderConfiguration implements Serializable {
         return TRIM_TO_SIZE.getValue(Boolean.class, overrides).booleanValue();
     }
 
+    /**
+     * @return true if the axiom indexes of new ontologies should allow reads without locking
+     */
+    public boolean shouldUseLockFreeIndexes() {
+        return LOCK_FREE_INDEXES.getValue(Boolean.class, overrides).booleanValue();
+    }
+
+    /**
+     * @return true if the axiom indexes of new ontologies should store keys with many values as
+     *         posting lists of axiom ids
+     */
+    public boolean shouldUseCompactAxiomIndexes() {
+        return COMPACT_AXIOM_INDEXES.getValue(Boolean.class, overrides).booleanValue();
+    }
+
+    /**
+     * @return how axioms and expressions created by data factories with this configuration cache
+     *         their signature
+     */
+    @Nonnull
+    public SignatureCaching getSignatureCaching() {
+        return SIGNATURE_CACHING.getValue(SignatureCaching.class, overrides);
+    }
+
+    /**
+     * @return true if axiom indexes should be built in parallel right after load
+     */
+    public boolean shouldBuildIndexesInParallel() {
+        return BUILD_INDEXES_IN_PARALLEL.getValue(Boolean.class, overrides).booleanValue();
+    }
+
     /**
      * @param b true if HTTP compression should be accepted
      * @return a copy of this configuration with accepting HTTP compression set to the new value
@@ -522,6 +567,125 @@ public class OWLOntologyLoaderConfiguration implements Serializable {
         return configuration;
     }
 
+    /**
+     * Read from the configuration of the manager when an ontology is created; existing ontologies
+     * keep their indexes.
+     *
+     * @param value true if the axiom indexes of new ontologies should allow reads without locking
+     * @return An {@code OntologyConfigurator} with the new option set.
+     */
+    public OWLOntologyLoaderConfiguration setLockFreeIndexes(boolean value) {
+        if (shouldUseLockFreeIndexes() == value) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration configuration = copyConfiguration();
+        configuration.overrides.put(LOCK_FREE_INDEXES, Boolean.valueOf(value));
+        return configuration;
+    }
+
+    /**
+     * Read from the configuration of the manager when an ontology is created; ignored if lock free
+     * indexes are enabled.
+     *
+     * @param value true if the axiom indexes of new ontologies should store keys with many values
+     *        as posting lists of axiom ids
+     * @return An {@code OntologyConfigurator} with the new option set.
+     */
+    public OWLOntologyLoaderConfiguration setCompactAxiomIndexes(boolean value) {
+        if (shouldUseCompactAxiomIndexes() == value) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration configuration = copyConfiguration();
+        configuration.overrides.put(COMPACT_AXIOM_INDEXES, Boolean.valueOf(value));
+        return configuration;
+    }
+
+    /**
+     * Read by data factories when they are created; objects keep the signature caching of the
+     * factory that created them.
+     *
+     * @param value how axioms and expressions should cache their signature
+     * @return An {@code OntologyConfigurator} with the new option set.
+     */
+    public OWLOntologyLoaderConfiguration setSignatureCaching(@Nonnull SignatureCaching value) {
+        checkNotNull(value, "value cannot be null");
+        if (getSignatureCaching() == value) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration configuration = copyConfiguration();
+        configuration.overrides.put(SIGNATURE_CACHING, value);
+        return configuration;
+    }
+
+    /**
+     * @param value true if axiom indexes should be built in parallel right after load, rather than
+     *        lazily on first use
+     * @return An {@code OntologyConfigurator} with the new option set.
+     */
+    public OWLOntologyLoaderConfiguration setBuildIndexesInParallel(boolean value) {
+        if (shouldBuildIndexesInParallel() == value) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration configuration = copyConfiguration();
+        configuration.overrides.put(BUILD_INDEXES_IN_PARALLEL, Boolean.valueOf(value));
+        return configuration;
+    }
+
+    /**
+     * @return executor on which axiom indexes are built after load; the common ForkJoin pool by
+     *         default
+     * @see #setBuildIndexesInParallel(boolean)
+     */
+    @Nonnull
+    public Executor getIndexesExecutor() {
+        Executor executor = indexesExecutor;
+        return executor == null ? ForkJoinPool.commonPool() : executor;
+    }
+
+    /**
+     * Index builds are short CPU bound tasks, one per index; they are waited for before the load
+     * returns. The executor is not serialized with this configuration.
+     *
+     * @param executor executor on which axiom indexes are built after load
+     * @return An {@code OWLOntologyLoaderConfiguration} with the new executor set.
+     * @see #setBuildIndexesInParallel(boolean)
+     */
+    public OWLOntologyLoaderConfiguration setIndexesExecutor(@Nonnull Executor executor) {
+        checkNotNull(executor, "executor cannot be null");
+        if (getIndexesExecutor() == executor) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration configuration = copyConfiguration();
+        configuration.indexesExecutor = executor;
+        return configuration;
+    }
+
+    /**
+     * @return true if imported ontologies should be loaded in parallel
+     */
+    public boolean shouldLoadImportsInParallel() {
+        return LOAD_IMPORTS_IN_PARALLEL.getValue(Boolean.class, overrides).booleanValue();
+    }
+
+    /**
+     * Each import is scheduled on another thread as soon as the parser requests it, and the parse
+     * continues without waiting for it; imports of imported ontologies are scheduled in the same
+     * way. The load completes when the whole imports closure is loaded. Parsers that look at
+     * imported ontologies while parsing, such as the RDF parsers when typing entities declared in
+     * an import, may find them missing or incomplete in this mode.
+     *
+     * @param value true if imported ontologies should be loaded in parallel
+     * @return An {@code OWLOntologyLoaderConfiguration} with the new option set.
+     */
+    public OWLOntologyLoaderConfiguration setLoadImportsInParallel(boolean value) {
+        if (shouldLoadImportsInParallel() == value) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration configuration = copyConfiguration();
+        configuration.overrides.put(LOAD_IMPORTS_IN_PARALLEL, Boolean.valueOf(value));
+        return configuration;
+    }
+
     /**
      * @return true if module extraction should not add annotation axioms to the module.
      */
@@ -110,11 +110,18 @@ public interface OWLOntologyLoaderListener extends Serializable {
     class LoadingFinishedEvent extends LoadingEvent {
 
         private final Exception ex;
+        private final long loadingTime;
 
         public LoadingFinishedEvent(OWLOntologyID ontologyID, IRI documentIRI,
                 boolean imported, Exception ex) {
+            this(ontologyID, documentIRI, imported, ex, 0L);
+        }
+
+        public LoadingFinishedEvent(OWLOntologyID ontologyID, IRI documentIRI,
+                boolean imported, Exception ex, long loadingTime) {
             super(ontologyID, documentIRI, imported);
             this.ex = ex;
+            this.loadingTime = loadingTime;
         }
 
         /**
@@ -142,5 +149,17 @@ public interface OWLOntologyLoaderListener extends Serializable {
         public Exception getException() {
             return ex;
         }
+
+        /**
+         * Gets the time taken to load the ontology. This includes loading the
+         * imported ontologies, except for imports loaded in parallel, which
+         * report their own time and only add to the time of the ontology that
+         * started the load.
+         * 
+         * @return The loading time in nanoseconds, or 0 if it was not measured.
+         */
+        public long getLoadingTime() {
+            return loadingTime;
+        }
     }
 }
@@ -16,8 +16,13 @@ import java.io.File;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -25,6 +30,7 @@ import javax.annotation.Nullable;
 import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
 import org.semanticweb.owlapi.io.OWLOntologyDocumentTarget;
 import org.semanticweb.owlapi.io.OWLParserFactory;
+import org.semanticweb.owlapi.model.parameters.ChangeApplied;
 import org.semanticweb.owlapi.model.parameters.OntologyCopy;
 import org.semanticweb.owlapi.util.PriorityCollection;
 
@@ -350,6 +356,47 @@ public interface OWLOntologyManager extends OWLOntologySetProvider, HasDataFacto
     OWLOntology copyOntology(@Nonnull OWLOntology toCopy, @Nonnull OntologyCopy settings)
         throws OWLOntologyCreationException;
 
+    /**
+     * Replace an ontology in this manager with a frozen, read only copy. The copy has the same id,
+     * axioms, annotations and imports declarations; document IRI and format are kept. Its indexes
+     * are built up front and stored in compact immutable form, so that queries do not lock. Any
+     * attempt to change the frozen ontology throws an {@link ImmutableOWLOntologyChangeException}.
+     * The original ontology is replaced in this manager; it keeps its reference to the manager, so
+     * code holding it can still read it, but changes to it are not seen by the frozen copy.
+     * Freezing an already frozen ontology returns it unchanged. Managers that cannot freeze
+     * ontologies throw {@link UnsupportedOperationException}; this is the default.
+     * 
+     * @param ontology ontology to freeze
+     * @return the frozen ontology
+     * @throws UnknownOWLOntologyException if the ontology is not managed by this manager
+     */
+    @Nonnull
+    default OWLOntology freezeOntology(@Nonnull OWLOntology ontology) {
+        throw new UnsupportedOperationException(
+            getClass().getName() + " cannot freeze ontologies");
+    }
+
+    /**
+     * Adds a large batch of axioms to an ontology. Unlike {@link #addAxioms(OWLOntology, Set)},
+     * the axioms are added without creating and dispatching a change object per axiom, and the
+     * ontology may defer its index maintenance to a single pass at the end of the batch.
+     * Impending change listeners and change listeners each receive one list of {@link AddAxiom}
+     * changes; the changes in the lists are created when accessed. Progress listeners are told of
+     * the beginning and end of the batch only. Axioms already in the ontology are skipped. By
+     * default, the axioms are added with {@link #addAxioms(OWLOntology, Set)}.
+     * 
+     * @param ontology ontology to add the axioms to; must be an {@link OWLMutableOntology}
+     * @param axioms axioms to add
+     * @return {@code SUCCESSFULLY} if any axiom was added, {@code NO_OPERATION} if none was added,
+     *         {@code UNSUCCESSFULLY} if the changes were vetoed
+     * @throws ImmutableOWLOntologyChangeException if the ontology cannot be changed
+     */
+    @Nonnull
+    default ChangeApplied addAxiomsInBulk(@Nonnull OWLOntology ontology,
+        @Nonnull Collection<? extends OWLAxiom> axioms) {
+        return addAxioms(ontology, new LinkedHashSet<>(axioms));
+    }
+
     // Loading
     /**
      * Loads an ontology that is assumed to have the specified {@code ontologyIRI} as its IRI or
@@ -537,6 +584,50 @@ public interface OWLOntologyManager extends OWLOntologySetProvider, HasDataFacto
     OWLOntology loadOntologyFromOntologyDocument(@Nonnull OWLOntologyDocumentSource documentSource,
         @Nonnull OWLOntologyLoaderConfiguration config) throws OWLOntologyCreationException;
 
+    /**
+     * Loads the ontologies in a collection of documents, on the threads of an executor. The loaded
+     * ontologies share the data factory of this manager. Managers that can parse several documents
+     * at the same time do so; by default, documents are loaded one after the other, on the
+     * executor.
+     * <p>
+     * If parsing a document requests imports in parallel, use a different executor for the imports
+     * than for the documents: a bounded executor could otherwise be filled with documents waiting
+     * for their imports.
+     * <p>
+     * An import requested by several documents is loaded once. A document that finds the import
+     * already being loaded for another document is parsed without waiting for it, so the parser
+     * does not see the axioms of that import; the future of the document completes only once the
+     * import has been loaded. Formats whose parsing depends on the imports closure, such as RDF
+     * documents that rely on declarations in their imports, should be loaded one at a time.
+     * 
+     * @param documentSources The input sources that describe where the ontologies should be loaded
+     *        from. Each document should be loaded only once.
+     * @param config the configuration to use for every document
+     * @param executor executor that loads the documents
+     * @return one future for each document, in the iteration order of the document sources. A
+     *         future completes with the loaded ontology, or exceptionally with the exception that
+     *         {@link #loadOntologyFromOntologyDocument(OWLOntologyDocumentSource, OWLOntologyLoaderConfiguration)}
+     *         would have thrown for the document.
+     */
+    @Nonnull
+    default List<CompletableFuture<OWLOntology>> loadOntologiesFromOntologyDocuments(
+        @Nonnull Collection<? extends OWLOntologyDocumentSource> documentSources,
+        @Nonnull OWLOntologyLoaderConfiguration config, @Nonnull Executor executor) {
+        List<CompletableFuture<OWLOntology>> futures = new ArrayList<>(documentSources.size());
+        for (OWLOntologyDocumentSource documentSource : documentSources) {
+            CompletableFuture<OWLOntology> future = new CompletableFuture<>();
+            executor.execute(() -> {
+                try {
+                    future.complete(loadOntologyFromOntologyDocument(documentSource, config));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+            futures.add(future);
+        }
+        return futures;
+    }
+
     /**
      * Attempts to remove an ontology. The ontology which is identified by the specified IRI is
      * removed regardless of whether it is referenced by other ontologies via imports statements.
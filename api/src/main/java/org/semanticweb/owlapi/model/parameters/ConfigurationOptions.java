@@ -12,6 +12,7 @@ import org.semanticweb.owlapi.model.ByName;
 import org.semanticweb.owlapi.model.MissingImportHandlingStrategy;
 import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration.MissingOntologyHeaderStrategy;
 import org.semanticweb.owlapi.model.PriorityCollectionSorting;
+import org.semanticweb.owlapi.model.SignatureCaching;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -119,7 +120,12 @@ public enum ConfigurationOptions {
      * of a tautology like 
      * {@code Equivalent(A, A)}.*/
     ALLOW_DUPLICATES_IN_CONSTRUCT_SETS  (Boolean.FALSE),
-    /**Max number of elements for caches.*/
+    /**Max number of elements for the
+     * ontology caches, i.e., the general
+     * class axioms cached by
+     * OWLImmutableOntologyImpl. Data
+     * factory and IRI caches are weak
+     * interners, not bounded by size.*/
     CACHE_SIZE                        (Integer.valueOf(2048)),
     /** False if named graph IRIs should
      * not be created for formats like
@@ -131,7 +137,67 @@ public enum ConfigurationOptions {
      * graph IRI can be set independently
      * or overridden with 
      * {@code OWLDocumentFormat::setParameter("namedGraphOverride", "desired value")}.*/
-    OUTPUT_NAMED_GRAPH_IRI              (Boolean.FALSE);
+    OUTPUT_NAMED_GRAPH_IRI              (Boolean.FALSE),
+    /** True if the axiom indexes of
+     * ontologies should allow reads
+     * without locking. Readers see
+     * immutable views of the index
+     * values; writers still serialize.
+     * Read from the loader configuration
+     * of the manager when ontologies
+     * are created.*/
+    LOCK_FREE_INDEXES                   (Boolean.FALSE),
+    /** True if axiom indexes should
+     * give each axiom a dense int id
+     * and store keys with many values
+     * as sorted posting lists of ids.
+     * Saves heap on large ontologies.
+     * Ignored if lock free indexes
+     * are enabled. Read from the loader
+     * configuration of the manager when
+     * ontologies are created.*/
+    COMPACT_AXIOM_INDEXES               (Boolean.FALSE),
+    /** True if all axiom indexes
+     * should be built in parallel
+     * right after loading, rather
+     * than lazily on first use.*/
+    BUILD_INDEXES_IN_PARALLEL           (Boolean.FALSE),
+    /** True if data factories should
+     * share one instance among
+     * structurally equal class
+     * expressions, data ranges and
+     * axioms. Saves heap on ontologies
+     * that repeat the same restrictions.
+     * Read once, when data factories
+     * are created.*/
+    HASH_CONSING                        (Boolean.FALSE),
+    /** True if data factories should
+     * take entities from one registry
+     * shared by the whole JVM, rather
+     * than keep their own. Saves heap
+     * when many managers load the same
+     * vocabularies. Read once, when
+     * data factories are created.*/
+    SHARED_ENTITY_REGISTRY              (Boolean.FALSE),
+    /** How axioms and expressions
+     * cache their signature: NONE,
+     * WEAK (the historic behaviour)
+     * or INLINE, a compact array
+     * kept with the object.
+     * Read from the loader configuration
+     * when data factories are created;
+     * objects created without a factory
+     * use the value read once from the
+     * system properties.*/
+    SIGNATURE_CACHING                   (SignatureCaching.WEAK),
+    /** True if imported ontologies
+     * should be loaded in parallel,
+     * each scheduled when the parser
+     * requests it while the parse of
+     * the importing ontology goes on,
+     * rather than one after the other,
+     * each blocking the parse.*/
+    LOAD_IMPORTS_IN_PARALLEL            (Boolean.FALSE);
     //@formatter:on
     private static final String PREFIX =
         "org.semanticweb.owlapi.model.parameters.ConfigurationOptions.";
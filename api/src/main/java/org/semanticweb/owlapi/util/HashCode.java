@@ -661,7 +661,7 @@ public class HashCode implements OWLObjectVisitor, SWRLObjectVisitor {
     @Override
     public void visit(OWLFacetRestriction node) {
         hashCode = primes[59];
-        hashCode = hashCode * MULT + node.getFacet().hashCode();
+        hashCode = hashCode * MULT + node.getFacet().getIRI().hashCode();
         hashCode = hashCode * MULT + node.getFacetValue().hashCode();
     }
 
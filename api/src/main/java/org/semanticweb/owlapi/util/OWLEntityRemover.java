@@ -22,6 +22,7 @@ import java.util.Set;
 
 import javax.annotation.Nonnull;
 
+import org.semanticweb.owlapi.change.OWLOntologyChangeBatch;
 import org.semanticweb.owlapi.model.OWLAnnotationAssertionAxiom;
 import org.semanticweb.owlapi.model.OWLAnnotationProperty;
 import org.semanticweb.owlapi.model.OWLAxiom;
@@ -49,7 +50,7 @@ import org.semanticweb.owlapi.model.RemoveAxiom;
  */
 public class OWLEntityRemover implements OWLEntityVisitor {
 
-    private final List<RemoveAxiom> changes = new ArrayList<>();
+    private final OWLOntologyChangeBatch changes = new OWLOntologyChangeBatch();
     @Nonnull
     private final Collection<OWLOntology> ontologies;
 
@@ -72,7 +73,21 @@ public class OWLEntityRemover implements OWLEntityVisitor {
      */
     @Nonnull
     public List<RemoveAxiom> getChanges() {
-        return new ArrayList<>(changes);
+        List<RemoveAxiom> list = new ArrayList<>(changes.size());
+        for (int i = 0; i < changes.size(); i++) {
+            list.add(new RemoveAxiom(changes.getOntology(i), changes.getAxiom(i)));
+        }
+        return list;
+    }
+
+    /**
+     * @return a copy of the accumulated changes as a batch, which holds the removed axioms
+     *         without creating a change object for each of them
+     * @since 4.7.7
+     */
+    @Nonnull
+    public OWLOntologyChangeBatch getChangeBatch() {
+        return new OWLOntologyChangeBatch(changes);
     }
 
     /**
@@ -89,12 +104,12 @@ public class OWLEntityRemover implements OWLEntityVisitor {
             assert ont != null;
             for (OWLAxiom ax : ont.getReferencingAxioms(entity, EXCLUDED)) {
                 assert ax != null;
-                changes.add(new RemoveAxiom(ont, ax));
+                changes.removeAxiom(ont, ax);
             }
             for (OWLAnnotationAssertionAxiom ax : ont
                     .getAnnotationAssertionAxioms(entity.getIRI())) {
                 assert ax != null;
-                changes.add(new RemoveAxiom(ont, ax));
+                changes.removeAxiom(ont, ax);
             }
         }
     }
@@ -15,7 +15,6 @@ package org.semanticweb.owlapi.util;
 import static org.semanticweb.owlapi.model.parameters.Imports.EXCLUDED;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -25,7 +24,7 @@ import java.util.Set;
 
 import javax.annotation.Nonnull;
 
-import org.semanticweb.owlapi.model.AddAxiom;
+import org.semanticweb.owlapi.change.OWLOntologyChangeBatch;
 import org.semanticweb.owlapi.model.AddOntologyAnnotation;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAnnotation;
@@ -34,7 +33,6 @@ import org.semanticweb.owlapi.model.OWLEntity;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyChange;
 import org.semanticweb.owlapi.model.OWLOntologyManager;
-import org.semanticweb.owlapi.model.RemoveAxiom;
 import org.semanticweb.owlapi.model.RemoveOntologyAnnotation;
 
 /**
@@ -75,7 +73,7 @@ public class OWLEntityRenamer {
         checkNotNull(newIRI, "newIRI cannot be null");
         Map<IRI, IRI> uriMap = new HashMap<>();
         uriMap.put(iri, newIRI);
-        List<OWLOntologyChange> changes = new ArrayList<>();
+        OWLOntologyChangeBatch changes = new OWLOntologyChangeBatch();
         OWLObjectDuplicator dup =
             new OWLObjectDuplicator(owlOntologyManager.getOWLDataFactory(), uriMap);
         for (OWLOntology ont : ontologies) {
@@ -96,7 +94,7 @@ public class OWLEntityRenamer {
     public List<OWLOntologyChange> changeIRI(@Nonnull OWLEntity entity, @Nonnull IRI newIRI) {
         Map<OWLEntity, IRI> iriMap = new HashMap<>();
         iriMap.put(entity, newIRI);
-        List<OWLOntologyChange> changes = new ArrayList<>();
+        OWLOntologyChangeBatch changes = new OWLOntologyChangeBatch();
         OWLObjectDuplicator duplicator = new OWLObjectDuplicator(iriMap,
             owlOntologyManager.getOWLDataFactory(), Collections.emptyMap(),
             new RemappingIndividualProvider(owlOntologyManager.getOWLDataFactory(), false));
@@ -112,7 +110,7 @@ public class OWLEntityRenamer {
      * @return list of changes
      */
     public List<OWLOntologyChange> changeIRI(@Nonnull Map<OWLEntity, IRI> entity2IRIMap) {
-        List<OWLOntologyChange> changes = new ArrayList<>();
+        OWLOntologyChangeBatch changes = new OWLOntologyChangeBatch();
         OWLObjectDuplicator duplicator = new OWLObjectDuplicator(entity2IRIMap,
             owlOntologyManager.getOWLDataFactory(), Collections.emptyMap(),
             new RemappingIndividualProvider(owlOntologyManager.getOWLDataFactory(), false));
@@ -162,13 +160,13 @@ public class OWLEntityRenamer {
      * @param ont The ontology to which the changed should be applied
      * @param duplicator The duplicator that will do the duplicating
      */
-    private static void fillListWithTransformChanges(List<OWLOntologyChange> changes,
+    private static void fillListWithTransformChanges(OWLOntologyChangeBatch changes,
         Set<OWLAxiom> axioms, @Nonnull OWLOntology ont, OWLObjectDuplicator duplicator) {
         for (OWLAxiom ax : axioms) {
             assert ax != null;
-            changes.add(new RemoveAxiom(ont, ax));
+            changes.removeAxiom(ont, ax);
             OWLAxiom dupAx = duplicator.duplicateObject(ax);
-            changes.add(new AddAxiom(ont, dupAx));
+            changes.addAxiom(ont, dupAx);
         }
         fillListWithOntologyAnnotationTransformChanges(changes, ont, duplicator);
     }
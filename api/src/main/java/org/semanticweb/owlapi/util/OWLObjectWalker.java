@@ -44,6 +44,8 @@ public class OWLObjectWalker<O extends OWLObject> {
     protected final boolean visitDuplicates;
     protected OWLAxiom ax;
     protected OWLAnnotation annotation;
+    boolean stopped;
+    boolean skipSubtree;
     private final List<OWLClassExpression> classExpressionPath = new ArrayList<>();
     private final List<OWLDataRange> dataRangePath = new ArrayList<>();
     @Nonnull
@@ -166,9 +168,7 @@ public class OWLObjectWalker<O extends OWLObject> {
      */
     public void walkStructure(@Nonnull OWLObjectVisitorEx<?> v) {
         setVisitor(checkNotNull(v, "v cannot be null"));
-        for (O o : objects) {
-            o.accept(walker);
-        }
+        walkObjects();
     }
 
     /**
@@ -177,11 +177,44 @@ public class OWLObjectWalker<O extends OWLObject> {
      */
     public void walkStructure(@Nonnull OWLObjectVisitor v) {
         setVisitor(checkNotNull(v, "v cannot be null"));
+        walkObjects();
+    }
+
+    private void walkObjects() {
+        stopped = false;
+        skipSubtree = false;
         for (O o : objects) {
+            if (stopped) {
+                return;
+            }
             o.accept(walker);
         }
     }
 
+    /**
+     * Ends the current walk: no further objects are passed to the visitor. Meant to be called by
+     * visitors that have found what they were looking for.
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * @return true if the current walk has been ended with {@link #stop()}
+     */
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    /**
+     * Skips the components of the object being visited: the walk continues with the next sibling
+     * of the object. Meant to be called by visitors while visiting the object; an axiom's
+     * annotations are skipped as well.
+     */
+    public void skipSubtree() {
+        skipSubtree = true;
+    }
+
     /**
      * Gets the last ontology to be visited.
      * 
@@ -0,0 +1,821 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.util;
+
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
+
+import java.util.Collection;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAnnotationAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLAnnotationProperty;
+import org.semanticweb.owlapi.model.OWLAnnotationPropertyDomainAxiom;
+import org.semanticweb.owlapi.model.OWLAnnotationPropertyRangeAxiom;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLAsymmetricObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLDataAllValuesFrom;
+import org.semanticweb.owlapi.model.OWLDataComplementOf;
+import org.semanticweb.owlapi.model.OWLDataExactCardinality;
+import org.semanticweb.owlapi.model.OWLDataHasValue;
+import org.semanticweb.owlapi.model.OWLDataIntersectionOf;
+import org.semanticweb.owlapi.model.OWLDataMaxCardinality;
+import org.semanticweb.owlapi.model.OWLDataMinCardinality;
+import org.semanticweb.owlapi.model.OWLDataOneOf;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLDataPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLDataPropertyDomainAxiom;
+import org.semanticweb.owlapi.model.OWLDataPropertyRangeAxiom;
+import org.semanticweb.owlapi.model.OWLDataSomeValuesFrom;
+import org.semanticweb.owlapi.model.OWLDataUnionOf;
+import org.semanticweb.owlapi.model.OWLDatatype;
+import org.semanticweb.owlapi.model.OWLDatatypeDefinitionAxiom;
+import org.semanticweb.owlapi.model.OWLDatatypeRestriction;
+import org.semanticweb.owlapi.model.OWLDeclarationAxiom;
+import org.semanticweb.owlapi.model.OWLDifferentIndividualsAxiom;
+import org.semanticweb.owlapi.model.OWLDisjointClassesAxiom;
+import org.semanticweb.owlapi.model.OWLDisjointDataPropertiesAxiom;
+import org.semanticweb.owlapi.model.OWLDisjointObjectPropertiesAxiom;
+import org.semanticweb.owlapi.model.OWLDisjointUnionAxiom;
+import org.semanticweb.owlapi.model.OWLEquivalentClassesAxiom;
+import org.semanticweb.owlapi.model.OWLEquivalentDataPropertiesAxiom;
+import org.semanticweb.owlapi.model.OWLEquivalentObjectPropertiesAxiom;
+import org.semanticweb.owlapi.model.OWLFacetRestriction;
+import org.semanticweb.owlapi.model.OWLFunctionalDataPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLFunctionalObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLHasKeyAxiom;
+import org.semanticweb.owlapi.model.OWLInverseFunctionalObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLInverseObjectPropertiesAxiom;
+import org.semanticweb.owlapi.model.OWLIrreflexiveObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLNegativeDataPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLNegativeObjectPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLObjectAllValuesFrom;
+import org.semanticweb.owlapi.model.OWLObjectComplementOf;
+import org.semanticweb.owlapi.model.OWLObjectExactCardinality;
+import org.semanticweb.owlapi.model.OWLObjectHasSelf;
+import org.semanticweb.owlapi.model.OWLObjectHasValue;
+import org.semanticweb.owlapi.model.OWLObjectIntersectionOf;
+import org.semanticweb.owlapi.model.OWLObjectInverseOf;
+import org.semanticweb.owlapi.model.OWLObjectMaxCardinality;
+import org.semanticweb.owlapi.model.OWLObjectMinCardinality;
+import org.semanticweb.owlapi.model.OWLObjectOneOf;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLObjectPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLObjectPropertyDomainAxiom;
+import org.semanticweb.owlapi.model.OWLObjectPropertyRangeAxiom;
+import org.semanticweb.owlapi.model.OWLObjectSomeValuesFrom;
+import org.semanticweb.owlapi.model.OWLObjectUnionOf;
+import org.semanticweb.owlapi.model.OWLObjectVisitor;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLReflexiveObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLSameIndividualAxiom;
+import org.semanticweb.owlapi.model.OWLSubAnnotationPropertyOfAxiom;
+import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
+import org.semanticweb.owlapi.model.OWLSubDataPropertyOfAxiom;
+import org.semanticweb.owlapi.model.OWLSubObjectPropertyOfAxiom;
+import org.semanticweb.owlapi.model.OWLSubPropertyChainOfAxiom;
+import org.semanticweb.owlapi.model.OWLSymmetricObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLTransitiveObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.SWRLBuiltInAtom;
+import org.semanticweb.owlapi.model.SWRLClassAtom;
+import org.semanticweb.owlapi.model.SWRLDataPropertyAtom;
+import org.semanticweb.owlapi.model.SWRLDataRangeAtom;
+import org.semanticweb.owlapi.model.SWRLDifferentIndividualsAtom;
+import org.semanticweb.owlapi.model.SWRLIndividualArgument;
+import org.semanticweb.owlapi.model.SWRLLiteralArgument;
+import org.semanticweb.owlapi.model.SWRLObjectPropertyAtom;
+import org.semanticweb.owlapi.model.SWRLObjectVisitor;
+import org.semanticweb.owlapi.model.SWRLRule;
+import org.semanticweb.owlapi.model.SWRLSameIndividualAtom;
+import org.semanticweb.owlapi.model.SWRLVariable;
+import org.semanticweb.owlapi.vocab.OWL2Datatype;
+import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
+
+/**
+ * Computes 64 bit structural fingerprints. Equal objects have equal fingerprints; the fingerprint
+ * of an object depends only on its structure, IRIs, literal values and blank node ids, so it is the
+ * same in every JVM and can be stored. Nested objects contribute their own fingerprint, through
+ * {@link OWLObject#getFingerprint()}, so implementations that cache it compute each one once. Sets
+ * are combined independently of iteration order; lists in order.
+ *
+ * @since 4.7.7
+ */
+public class StructuralFingerprint implements OWLObjectVisitor, SWRLObjectVisitor {
+
+    private static final long SEED = 0xCBF29CE484222325L;
+    private static final long PRIME = 0x100000001B3L;
+    private long fingerprint;
+
+    /**
+     * @param object the object to compute the fingerprint for
+     * @return the fingerprint; never 0, so that implementations can use 0 for "not computed"
+     */
+    public static long fingerprint(@Nonnull OWLObject object) {
+        checkNotNull(object, "object cannot be null");
+        StructuralFingerprint visitor = new StructuralFingerprint();
+        object.accept(visitor);
+        long result = finish(visitor.fingerprint);
+        return result == 0 ? 1 : result;
+    }
+
+    /** MurmurHash3 finalizer: every input bit affects every output bit. */
+    private static long finish(long h) {
+        long x = h;
+        x ^= x >>> 33;
+        x *= 0xFF51AFD7ED558CCDL;
+        x ^= x >>> 33;
+        x *= 0xC4CEB9FE1A85EC53L;
+        x ^= x >>> 33;
+        return x;
+    }
+
+    private static long start(int type) {
+        return (SEED ^ type) * PRIME;
+    }
+
+    private void mix(long value) {
+        fingerprint = (fingerprint ^ finish(value)) * PRIME;
+    }
+
+    private void add(int value) {
+        mix(value);
+    }
+
+    private void add(String value) {
+        long h = SEED;
+        for (int i = 0; i < value.length(); i++) {
+            h = (h ^ value.charAt(i)) * PRIME;
+        }
+        mix(h ^ value.length());
+    }
+
+    private void add(OWLObject object) {
+        mix(object.getFingerprint());
+    }
+
+    private void addUnordered(OWLObject first, OWLObject second) {
+        mix(finish(first.getFingerprint()) + finish(second.getFingerprint()));
+    }
+
+    private void add(Collection<?> values) {
+        long h;
+        if (values instanceof List) {
+            h = SEED;
+            for (Object o : values) {
+                h = (h ^ finish(elementFingerprint(o))) * PRIME;
+            }
+        } else {
+            // a sum does not depend on iteration order
+            h = 0;
+            for (Object o : values) {
+                h += finish(elementFingerprint(o));
+            }
+        }
+        mix(h ^ values.size());
+    }
+
+    private static long elementFingerprint(Object o) {
+        if (o instanceof OWLObject) {
+            return ((OWLObject) o).getFingerprint();
+        }
+        StructuralFingerprint visitor = new StructuralFingerprint();
+        visitor.add(o.toString());
+        return visitor.fingerprint;
+    }
+
+    @Override
+    public void visit(OWLOntology ontology) {
+        fingerprint = start(-1);
+        add(ontology.getOntologyID().toString());
+    }
+
+    @Override
+    public void visit(OWLAsymmetricObjectPropertyAxiom axiom) {
+        fingerprint = start(0);
+        add(axiom.getProperty());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLClassAssertionAxiom axiom) {
+        fingerprint = start(1);
+        add(axiom.getIndividual());
+        add(axiom.getClassExpression());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLDataPropertyAssertionAxiom axiom) {
+        fingerprint = start(2);
+        add(axiom.getSubject());
+        add(axiom.getProperty());
+        add(axiom.getObject());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLDataPropertyDomainAxiom axiom) {
+        fingerprint = start(3);
+        add(axiom.getProperty());
+        add(axiom.getDomain());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLDataPropertyRangeAxiom axiom) {
+        fingerprint = start(4);
+        add(axiom.getProperty());
+        add(axiom.getRange());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLSubDataPropertyOfAxiom axiom) {
+        fingerprint = start(5);
+        add(axiom.getSubProperty());
+        add(axiom.getSuperProperty());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLDeclarationAxiom axiom) {
+        fingerprint = start(6);
+        add(axiom.getEntity());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLDifferentIndividualsAxiom axiom) {
+        fingerprint = start(7);
+        add(axiom.getIndividuals());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLDisjointClassesAxiom axiom) {
+        fingerprint = start(8);
+        add(axiom.getClassExpressions());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLDisjointDataPropertiesAxiom axiom) {
+        fingerprint = start(9);
+        add(axiom.getProperties());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLDisjointObjectPropertiesAxiom axiom) {
+        fingerprint = start(10);
+        add(axiom.getProperties());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLDisjointUnionAxiom axiom) {
+        fingerprint = start(11);
+        add(axiom.getOWLClass());
+        add(axiom.getClassExpressions());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLAnnotationAssertionAxiom axiom) {
+        fingerprint = start(12);
+        add(axiom.getSubject());
+        add(axiom.getProperty());
+        add(axiom.getValue());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLEquivalentClassesAxiom axiom) {
+        fingerprint = start(13);
+        add(axiom.getClassExpressions());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLEquivalentDataPropertiesAxiom axiom) {
+        fingerprint = start(14);
+        add(axiom.getProperties());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLEquivalentObjectPropertiesAxiom axiom) {
+        fingerprint = start(15);
+        add(axiom.getProperties());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLFunctionalDataPropertyAxiom axiom) {
+        fingerprint = start(16);
+        add(axiom.getProperty());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLFunctionalObjectPropertyAxiom axiom) {
+        fingerprint = start(17);
+        add(axiom.getProperty());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLInverseFunctionalObjectPropertyAxiom axiom) {
+        fingerprint = start(18);
+        add(axiom.getProperty());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLInverseObjectPropertiesAxiom axiom) {
+        fingerprint = start(19);
+        addUnordered(axiom.getFirstProperty(), axiom.getSecondProperty());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLIrreflexiveObjectPropertyAxiom axiom) {
+        fingerprint = start(20);
+        add(axiom.getProperty());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLNegativeDataPropertyAssertionAxiom axiom) {
+        fingerprint = start(21);
+        add(axiom.getSubject());
+        add(axiom.getProperty());
+        add(axiom.getObject());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLNegativeObjectPropertyAssertionAxiom axiom) {
+        fingerprint = start(22);
+        add(axiom.getSubject());
+        add(axiom.getProperty());
+        add(axiom.getObject());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLObjectPropertyAssertionAxiom axiom) {
+        fingerprint = start(23);
+        add(axiom.getSubject());
+        add(axiom.getProperty());
+        add(axiom.getObject());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLSubPropertyChainOfAxiom axiom) {
+        fingerprint = start(24);
+        add(axiom.getPropertyChain());
+        add(axiom.getSuperProperty());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLObjectPropertyDomainAxiom axiom) {
+        fingerprint = start(25);
+        add(axiom.getProperty());
+        add(axiom.getDomain());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLObjectPropertyRangeAxiom axiom) {
+        fingerprint = start(26);
+        add(axiom.getProperty());
+        add(axiom.getRange());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLSubObjectPropertyOfAxiom axiom) {
+        fingerprint = start(27);
+        add(axiom.getSubProperty());
+        add(axiom.getSuperProperty());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLReflexiveObjectPropertyAxiom axiom) {
+        fingerprint = start(28);
+        add(axiom.getProperty());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLSameIndividualAxiom axiom) {
+        fingerprint = start(29);
+        add(axiom.getIndividuals());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLSubClassOfAxiom axiom) {
+        fingerprint = start(30);
+        add(axiom.getSubClass());
+        add(axiom.getSuperClass());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLSymmetricObjectPropertyAxiom axiom) {
+        fingerprint = start(31);
+        add(axiom.getProperty());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLTransitiveObjectPropertyAxiom axiom) {
+        fingerprint = start(32);
+        add(axiom.getProperty());
+        add(axiom.getAnnotations());
+    }
+
+    @Override
+    public void visit(OWLClass ce) {
+        fingerprint = start(33);
+        add(ce.getIRI());
+    }
+
+    @Override
+    public void visit(OWLDataAllValuesFrom ce) {
+        fingerprint = start(34);
+        add(ce.getProperty());
+        add(ce.getFiller());
+    }
+
+    @Override
+    public void visit(OWLDataExactCardinality ce) {
+        fingerprint = start(35);
+        add(ce.getProperty());
+        add(ce.getCardinality());
+        add(ce.getFiller());
+    }
+
+    @Override
+    public void visit(OWLDataMaxCardinality ce) {
+        fingerprint = start(36);
+        add(ce.getProperty());
+        add(ce.getCardinality());
+        add(ce.getFiller());
+    }
+
+    @Override
+    public void visit(OWLDataMinCardinality ce) {
+        fingerprint = start(37);
+        add(ce.getProperty());
+        add(ce.getCardinality());
+        add(ce.getFiller());
+    }
+
+    @Override
+    public void visit(OWLDataSomeValuesFrom ce) {
+        fingerprint = start(38);
+        add(ce.getProperty());
+        add(ce.getFiller());
+    }
+
+    @Override
+    public void visit(OWLDataHasValue ce) {
+        fingerprint = start(39);
+        add(ce.getProperty());
+        add(ce.getFiller());
+    }
+
+    @Override
+    public void visit(OWLObjectAllValuesFrom ce) {
+        fingerprint = start(40);
+        add(ce.getProperty());
+        add(ce.getFiller());
+    }
+
+    @Override
+    public void visit(OWLObjectComplementOf ce) {
+        fingerprint = start(41);
+        add(ce.getOperand());
+    }
+
+    @Override
+    public void visit(OWLObjectExactCardinality ce) {
+        fingerprint = start(42);
+        add(ce.getProperty());
+        add(ce.getCardinality());
+        add(ce.getFiller());
+    }
+
+    @Override
+    public void visit(OWLObjectIntersectionOf ce) {
+        fingerprint = start(43);
+        add(ce.getOperands());
+    }
+
+    @Override
+    public void visit(OWLObjectMaxCardinality ce) {
+        fingerprint = start(44);
+        add(ce.getProperty());
+        add(ce.getCardinality());
+        add(ce.getFiller());
+    }
+
+    @Override
+    public void visit(OWLObjectMinCardinality ce) {
+        fingerprint = start(45);
+        add(ce.getProperty());
+        add(ce.getCardinality());
+        add(ce.getFiller());
+    }
+
+    @Override
+    public void visit(OWLObjectOneOf ce) {
+        fingerprint = start(46);
+        add(ce.getIndividuals());
+    }
+
+    @Override
+    public void visit(OWLObjectHasSelf ce) {
+        fingerprint = start(47);
+        add(ce.getProperty());
+    }
+
+    @Override
+    public void visit(OWLObjectSomeValuesFrom ce) {
+        fingerprint = start(48);
+        add(ce.getProperty());
+        add(ce.getFiller());
+    }
+
+    @Override
+    public void visit(OWLObjectUnionOf ce) {
+        fingerprint = start(49);
+        add(ce.getOperands());
+    }
+
+    @Override
+    public void visit(OWLObjectHasValue ce) {
+        fingerprint = start(50);
+        add(ce.getProperty());
+        add(ce.getFiller());
+    }
+
+    @Override
+    public void visit(OWLDataComplementOf node) {
+        fingerprint = start(51);
+        add(node.getDataRange());
+    }
+
+    @Override
+    public void visit(OWLDataOneOf node) {
+        fingerprint = start(52);
+        add(node.getValues());
+    }
+
+    @Override
+    public void visit(OWLDatatype node) {
+        fingerprint = start(53);
+        add(node.getIRI());
+    }
+
+    @Override
+    public void visit(OWLDatatypeRestriction node) {
+        fingerprint = start(54);
+        add(node.getDatatype());
+        add(node.getFacetRestrictions());
+    }
+
+    @Override
+    public void visit(OWLDataProperty property) {
+        fingerprint = start(55);
+        add(property.getIRI());
+    }
+
+    @Override
+    public void visit(OWLObjectProperty property) {
+        fingerprint = start(56);
+        add(property.getIRI());
+    }
+
+    @Override
+    public void visit(OWLObjectInverseOf property) {
+        fingerprint = start(57);
+        add(property.getInverse());
+    }
+
+    @Override
+    public void visit(OWLNamedIndividual individual) {
+        fingerprint = start(58);
+        add(individual.getIRI());
+    }
+
+    @Override
+    public void visit(OWLFacetRestriction node) {
+        fingerprint = start(59);
+        add(node.getFacet().getIRI());
+        add(node.getFacetValue());
+    }
+
+    @Override
+    public void visit(OWLLiteral node) {
+        fingerprint = start(82);
+        // literal equality is lenient: string datatypes are interchangeable, and numbers and
+        // booleans are compared by value, so their fingerprint must not depend on the datatype
+        // name or lexical form, as for OWLLiteralImpl hash codes
+        try {
+            if (node.isInteger()) {
+                add(node.parseInteger());
+            } else if (node.isDouble()) {
+                mix(Double.doubleToLongBits(node.parseDouble()));
+            } else if (node.isFloat()) {
+                add(Float.floatToIntBits(node.parseFloat()));
+            } else if (node.isBoolean()) {
+                add(node.parseBoolean() ? 1 : 0);
+            } else {
+                add(node.getLiteral());
+            }
+        } catch (NumberFormatException e) {
+            // not a valid value for the datatype
+            add(node.getLiteral());
+        }
+        IRI datatype = node.getDatatype().getIRI();
+        if (datatype.equals(OWL2Datatype.XSD_STRING.getIRI())
+            || datatype.equals(OWLRDFVocabulary.RDF_LANG_STRING.getIRI())) {
+            datatype = OWL2Datatype.RDF_PLAIN_LITERAL.getIRI();
+        }
+        add(datatype);
+        add(node.getLang());
+    }
+
+    @Override
+    public void visit(SWRLRule rule) {
+        fingerprint = start(61);
+        add(rule.getBody());
+        add(rule.getHead());
+    }
+
+    @Override
+    public void visit(SWRLClassAtom node) {
+        fingerprint = start(62);
+        add(node.getArgument());
+        add(node.getPredicate());
+    }
+
+    @Override
+    public void visit(SWRLDataRangeAtom node) {
+        fingerprint = start(63);
+        add(node.getArgument());
+        add(node.getPredicate());
+    }
+
+    @Override
+    public void visit(SWRLObjectPropertyAtom node) {
+        fingerprint = start(64);
+        add(node.getFirstArgument());
+        add(node.getSecondArgument());
+        add(node.getPredicate());
+    }
+
+    @Override
+    public void visit(SWRLDataPropertyAtom node) {
+        fingerprint = start(65);
+        add(node.getFirstArgument());
+        add(node.getSecondArgument());
+        add(node.getPredicate());
+    }
+
+    @Override
+    public void visit(SWRLBuiltInAtom node) {
+        fingerprint = start(66);
+        add(node.getAllArguments());
+        add(node.getPredicate());
+    }
+
+    @Override
+    public void visit(SWRLVariable node) {
+        fingerprint = start(67);
+        add(node.getIRI());
+    }
+
+    @Override
+    public void visit(SWRLIndividualArgument node) {
+        fingerprint = start(68);
+        add(node.getIndividual());
+    }
+
+    @Override
+    public void visit(SWRLLiteralArgument node) {
+        fingerprint = start(69);
+        add(node.getLiteral());
+    }
+
+    @Override
+    public void visit(SWRLDifferentIndividualsAtom node) {
+        fingerprint = start(70);
+        add(node.getFirstArgument());
+        add(node.getSecondArgument());
+    }
+
+    @Override
+    public void visit(SWRLSameIndividualAtom node) {
+        fingerprint = start(71);
+        add(node.getFirstArgument());
+        add(node.getSecondArgument());
+    }
+
+    @Override
+    public void visit(OWLHasKeyAxiom axiom) {
+        fingerprint = start(72);
+        add(axiom.getClassExpression());
+        add(axiom.getPropertyExpressions());
+    }
+
+    @Override
+    public void visit(OWLAnnotationPropertyDomainAxiom axiom) {
+        fingerprint = start(73);
+        add(axiom.getProperty());
+        add(axiom.getDomain());
+    }
+
+    @Override
+    public void visit(OWLAnnotationPropertyRangeAxiom axiom) {
+        fingerprint = start(74);
+        add(axiom.getProperty());
+        add(axiom.getRange());
+    }
+
+    @Override
+    public void visit(OWLSubAnnotationPropertyOfAxiom axiom) {
+        fingerprint = start(75);
+        add(axiom.getSubProperty());
+        add(axiom.getSuperProperty());
+    }
+
+    @Override
+    public void visit(OWLDataIntersectionOf node) {
+        fingerprint = start(76);
+        add(node.getOperands());
+    }
+
+    @Override
+    public void visit(OWLDataUnionOf node) {
+        fingerprint = start(77);
+        add(node.getOperands());
+    }
+
+    @Override
+    public void visit(OWLAnnotationProperty property) {
+        fingerprint = start(78);
+        add(property.getIRI());
+    }
+
+    @Override
+    public void visit(OWLAnonymousIndividual individual) {
+        fingerprint = start(79);
+        add(individual.getID().getID());
+    }
+
+    @Override
+    public void visit(IRI iri) {
+        fingerprint = start(80);
+        add(iri.toString());
+    }
+
+    @Override
+    public void visit(OWLAnnotation node) {
+        fingerprint = start(81);
+        add(node.getProperty());
+        add(node.getValue());
+    }
+
+    @Override
+    public void visit(OWLDatatypeDefinitionAxiom axiom) {
+        fingerprint = start(82);
+        add(axiom.getDatatype());
+        add(axiom.getDataRange());
+    }
+}
@@ -20,6 +20,8 @@ import java.util.Set;
 import javax.annotation.Nonnull;
 
 import org.semanticweb.owlapi.model.HasAnnotations;
+import org.semanticweb.owlapi.model.HasIndexedAnnotations;
+import org.semanticweb.owlapi.model.HasIndexedOperands;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAnnotation;
 import org.semanticweb.owlapi.model.OWLAnnotationAssertionAxiom;
@@ -162,6 +164,10 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     }
 
     protected void process(@Nonnull OWLObject object) {
+        if (walkerCallback.stopped) {
+            return;
+        }
+        walkerCallback.skipSubtree = false;
         if (object instanceof OWLAxiom) {
             walkerCallback.setAxiom((OWLAxiom) object);
         }
@@ -169,15 +175,14 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
             walkerCallback.setAnnotation((OWLAnnotation) object);
         }
         if (!walkerCallback.visitDuplicates) {
-            if (!visited.contains(object)) {
-                visited.add(object);
+            if (visited.add(object)) {
                 walkerCallback.passToVisitor(object);
             }
         } else {
             walkerCallback.passToVisitor(object);
         }
-        if (object instanceof HasAnnotations) {
-            HasAnnotations hasAnnotations = (HasAnnotations) object;
+        if (object instanceof HasAnnotations && !walkerCallback.skipSubtree
+            && !walkerCallback.stopped) {
             switch (annotationWalkFlag) {
                 case DONT_WALK_ANNOTATIONS:
                     break;
@@ -187,15 +192,59 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
                     }
                     // $FALL-THROUGH$
                 case WALK_ANNOTATIONS:
-                    for (OWLAnnotation anno : hasAnnotations.getAnnotations()) {
-                        anno.accept(this);
-                    }
+                    walkAnnotations(object);
                     break;
                 default:
             }
         }
     }
 
+    /**
+     * Called after {@link #process(OWLObject)} to decide whether the components of the object just
+     * processed should be walked; a visitor can prevent it with
+     * {@link OWLObjectWalker#skipSubtree()} or {@link OWLObjectWalker#stop()}.
+     *
+     * @return true if the walk should continue below the current object
+     */
+    protected boolean descend() {
+        if (walkerCallback.skipSubtree) {
+            walkerCallback.skipSubtree = false;
+            return false;
+        }
+        return !walkerCallback.stopped;
+    }
+
+    /**
+     * Walks the operands of an object by position, if the object supports it; this avoids the
+     * defensive copy and the iterator of the collection accessors.
+     *
+     * @param object object whose operands should be walked
+     * @return true if the operands have been walked, false if the caller has to walk them
+     */
+    protected boolean walkOperands(OWLObject object) {
+        if (!(object instanceof HasIndexedOperands)) {
+            return false;
+        }
+        HasIndexedOperands<?> operands = (HasIndexedOperands<?>) object;
+        for (int i = 0, n = operands.getOperandCount(); i < n; i++) {
+            operands.getOperandAt(i).accept(this);
+        }
+        return true;
+    }
+
+    private void walkAnnotations(OWLObject object) {
+        if (object instanceof HasIndexedAnnotations) {
+            HasIndexedAnnotations annotations = (HasIndexedAnnotations) object;
+            for (int i = 0, n = annotations.getAnnotationCount(); i < n; i++) {
+                annotations.getAnnotationAt(i).accept(this);
+            }
+        } else {
+            for (OWLAnnotation anno : ((HasAnnotations) object).getAnnotations()) {
+                anno.accept(this);
+            }
+        }
+    }
+
     @Override
     public void visit(IRI iri) {
         process(iri);
@@ -206,8 +255,13 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
         walkerCallback.ontology = ontology;
         walkerCallback.ax = null;
         process(ontology);
-        for (OWLAxiom a : ontology.getAxioms()) {
-            a.accept(this);
+        if (descend()) {
+            for (OWLAxiom a : ontology.getAxioms()) {
+                if (walkerCallback.stopped) {
+                    break;
+                }
+                a.accept(this);
+            }
         }
     }
 
@@ -215,63 +269,79 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLAsymmetricObjectPropertyAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        axiom.getProperty().accept(this);
+        if (descend()) {
+            axiom.getProperty().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLClassAssertionAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        axiom.getIndividual().accept(this);
-        axiom.getClassExpression().accept(this);
+        if (descend()) {
+            axiom.getIndividual().accept(this);
+            axiom.getClassExpression().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLDataPropertyAssertionAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        axiom.getSubject().accept(this);
-        axiom.getProperty().accept(this);
-        axiom.getObject().accept(this);
+        if (descend()) {
+            axiom.getSubject().accept(this);
+            axiom.getProperty().accept(this);
+            axiom.getObject().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLDataPropertyDomainAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        axiom.getDomain().accept(this);
-        axiom.getProperty().accept(this);
+        if (descend()) {
+            axiom.getDomain().accept(this);
+            axiom.getProperty().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLDataPropertyRangeAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        axiom.getRange().accept(this);
-        axiom.getProperty().accept(this);
+        if (descend()) {
+            axiom.getRange().accept(this);
+            axiom.getProperty().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLSubDataPropertyOfAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        axiom.getSubProperty().accept(this);
-        axiom.getSuperProperty().accept(this);
+        if (descend()) {
+            axiom.getSubProperty().accept(this);
+            axiom.getSuperProperty().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLDeclarationAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        axiom.getEntity().accept(this);
+        if (descend()) {
+            axiom.getEntity().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLDifferentIndividualsAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        for (OWLIndividual ind : axiom.getIndividuals()) {
-            ind.accept(this);
+        if (descend() && !walkOperands(axiom)) {
+            for (OWLIndividual ind : axiom.getIndividuals()) {
+                ind.accept(this);
+            }
         }
     }
 
@@ -279,8 +349,10 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLDisjointClassesAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        for (OWLClassExpression desc : axiom.getClassExpressions()) {
-            desc.accept(this);
+        if (descend() && !walkOperands(axiom)) {
+            for (OWLClassExpression desc : axiom.getClassExpressions()) {
+                desc.accept(this);
+            }
         }
     }
 
@@ -288,8 +360,10 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLDisjointDataPropertiesAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        for (OWLDataPropertyExpression prop : axiom.getProperties()) {
-            prop.accept(this);
+        if (descend() && !walkOperands(axiom)) {
+            for (OWLDataPropertyExpression prop : axiom.getProperties()) {
+                prop.accept(this);
+            }
         }
     }
 
@@ -297,8 +371,10 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLDisjointObjectPropertiesAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        for (OWLObjectPropertyExpression prop : axiom.getProperties()) {
-            prop.accept(this);
+        if (descend() && !walkOperands(axiom)) {
+            for (OWLObjectPropertyExpression prop : axiom.getProperties()) {
+                prop.accept(this);
+            }
         }
     }
 
@@ -306,9 +382,13 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLDisjointUnionAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        axiom.getOWLClass().accept(this);
-        for (OWLClassExpression desc : axiom.getClassExpressions()) {
-            desc.accept(this);
+        if (descend()) {
+            axiom.getOWLClass().accept(this);
+            if (!walkOperands(axiom)) {
+                for (OWLClassExpression desc : axiom.getClassExpressions()) {
+                    desc.accept(this);
+                }
+            }
         }
     }
 
@@ -316,48 +396,60 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLAnnotationAssertionAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        axiom.getSubject().accept(this);
-        axiom.getAnnotation().accept(this);
+        if (descend()) {
+            axiom.getSubject().accept(this);
+            axiom.getAnnotation().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLAnnotationPropertyDomainAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        axiom.getProperty().accept(this);
-        axiom.getDomain().accept(this);
+        if (descend()) {
+            axiom.getProperty().accept(this);
+            axiom.getDomain().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLAnnotationPropertyRangeAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        axiom.getProperty().accept(this);
-        axiom.getRange().accept(this);
+        if (descend()) {
+            axiom.getProperty().accept(this);
+            axiom.getRange().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLSubAnnotationPropertyOfAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        axiom.getSubProperty().accept(this);
-        axiom.getSuperProperty().accept(this);
+        if (descend()) {
+            axiom.getSubProperty().accept(this);
+            axiom.getSuperProperty().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLAnnotation node) {
         process(node);
         walkerCallback.setAnnotation(node);
-        node.getProperty().accept(this);
-        node.getValue().accept(this);
+        if (descend()) {
+            node.getProperty().accept(this);
+            node.getValue().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLEquivalentClassesAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        for (OWLClassExpression desc : axiom.getClassExpressions()) {
-            desc.accept(this);
+        if (descend() && !walkOperands(axiom)) {
+            for (OWLClassExpression desc : axiom.getClassExpressions()) {
+                desc.accept(this);
+            }
         }
     }
 
@@ -365,8 +457,10 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLEquivalentDataPropertiesAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        for (OWLDataPropertyExpression prop : axiom.getProperties()) {
-            prop.accept(this);
+        if (descend() && !walkOperands(axiom)) {
+            for (OWLDataPropertyExpression prop : axiom.getProperties()) {
+                prop.accept(this);
+            }
         }
     }
 
@@ -374,8 +468,10 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLEquivalentObjectPropertiesAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        for (OWLObjectPropertyExpression prop : axiom.getProperties()) {
-            prop.accept(this);
+        if (descend() && !walkOperands(axiom)) {
+            for (OWLObjectPropertyExpression prop : axiom.getProperties()) {
+                prop.accept(this);
+            }
         }
     }
 
@@ -383,112 +479,140 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLFunctionalDataPropertyAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        axiom.getProperty().accept(this);
+        if (descend()) {
+            axiom.getProperty().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLFunctionalObjectPropertyAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        axiom.getProperty().accept(this);
+        if (descend()) {
+            axiom.getProperty().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLInverseFunctionalObjectPropertyAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        axiom.getProperty().accept(this);
+        if (descend()) {
+            axiom.getProperty().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLInverseObjectPropertiesAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        axiom.getFirstProperty().accept(this);
-        axiom.getSecondProperty().accept(this);
+        if (descend()) {
+            axiom.getFirstProperty().accept(this);
+            axiom.getSecondProperty().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLIrreflexiveObjectPropertyAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        axiom.getProperty().accept(this);
+        if (descend()) {
+            axiom.getProperty().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLNegativeDataPropertyAssertionAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        axiom.getSubject().accept(this);
-        axiom.getProperty().accept(this);
-        axiom.getObject().accept(this);
+        if (descend()) {
+            axiom.getSubject().accept(this);
+            axiom.getProperty().accept(this);
+            axiom.getObject().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLNegativeObjectPropertyAssertionAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        axiom.getSubject().accept(this);
-        axiom.getProperty().accept(this);
-        axiom.getObject().accept(this);
+        if (descend()) {
+            axiom.getSubject().accept(this);
+            axiom.getProperty().accept(this);
+            axiom.getObject().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLObjectPropertyAssertionAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        axiom.getSubject().accept(this);
-        axiom.getProperty().accept(this);
-        axiom.getObject().accept(this);
+        if (descend()) {
+            axiom.getSubject().accept(this);
+            axiom.getProperty().accept(this);
+            axiom.getObject().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLSubPropertyChainOfAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        for (OWLObjectPropertyExpression prop : axiom.getPropertyChain()) {
-            prop.accept(this);
+        if (descend()) {
+            for (OWLObjectPropertyExpression prop : axiom.getPropertyChain()) {
+                prop.accept(this);
+            }
+            axiom.getSuperProperty().accept(this);
         }
-        axiom.getSuperProperty().accept(this);
     }
 
     @Override
     public void visit(OWLObjectPropertyDomainAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        axiom.getDomain().accept(this);
-        axiom.getProperty().accept(this);
+        if (descend()) {
+            axiom.getDomain().accept(this);
+            axiom.getProperty().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLObjectPropertyRangeAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        axiom.getProperty().accept(this);
-        axiom.getRange().accept(this);
+        if (descend()) {
+            axiom.getProperty().accept(this);
+            axiom.getRange().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLSubObjectPropertyOfAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        axiom.getSubProperty().accept(this);
-        axiom.getSuperProperty().accept(this);
+        if (descend()) {
+            axiom.getSubProperty().accept(this);
+            axiom.getSuperProperty().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLReflexiveObjectPropertyAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        axiom.getProperty().accept(this);
+        if (descend()) {
+            axiom.getProperty().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLSameIndividualAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        for (OWLIndividual ind : axiom.getIndividuals()) {
-            ind.accept(this);
+        if (descend() && !walkOperands(axiom)) {
+            for (OWLIndividual ind : axiom.getIndividuals()) {
+                ind.accept(this);
+            }
         }
     }
 
@@ -496,35 +620,43 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLSubClassOfAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        // -ve polarity
-        axiom.getSubClass().accept(this);
-        // +ve polarity
-        axiom.getSuperClass().accept(this);
+        if (descend()) {
+            // -ve polarity
+            axiom.getSubClass().accept(this);
+            // +ve polarity
+            axiom.getSuperClass().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLSymmetricObjectPropertyAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        axiom.getProperty().accept(this);
+        if (descend()) {
+            axiom.getProperty().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLTransitiveObjectPropertyAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        axiom.getProperty().accept(this);
+        if (descend()) {
+            axiom.getProperty().accept(this);
+        }
     }
 
     @Override
     public void visit(SWRLRule rule) {
         process(rule);
         walkerCallback.ax = rule;
-        for (SWRLAtom at : rule.getBody()) {
-            at.accept(this);
-        }
-        for (SWRLAtom at : rule.getHead()) {
-            at.accept(this);
+        if (descend()) {
+            for (SWRLAtom at : rule.getBody()) {
+                at.accept(this);
+            }
+            for (SWRLAtom at : rule.getHead()) {
+                at.accept(this);
+            }
         }
     }
 
@@ -532,12 +664,14 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLHasKeyAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        axiom.getClassExpression().accept(this);
-        for (OWLObjectPropertyExpression prop : axiom.getObjectPropertyExpressions()) {
-            prop.accept(this);
-        }
-        for (OWLDataPropertyExpression prop : axiom.getDataPropertyExpressions()) {
-            prop.accept(this);
+        if (descend()) {
+            axiom.getClassExpression().accept(this);
+            for (OWLObjectPropertyExpression prop : axiom.getObjectPropertyExpressions()) {
+                prop.accept(this);
+            }
+            for (OWLDataPropertyExpression prop : axiom.getDataPropertyExpressions()) {
+                prop.accept(this);
+            }
         }
     }
 
@@ -545,7 +679,9 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLClass ce) {
         walkerCallback.pushClassExpression(ce);
         process(ce);
-        ce.getIRI().accept(this);
+        if (descend()) {
+            ce.getIRI().accept(this);
+        }
         walkerCallback.popClassExpression();
     }
 
@@ -553,8 +689,10 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLDataAllValuesFrom ce) {
         walkerCallback.pushClassExpression(ce);
         process(ce);
-        ce.getProperty().accept(this);
-        ce.getFiller().accept(this);
+        if (descend()) {
+            ce.getProperty().accept(this);
+            ce.getFiller().accept(this);
+        }
         walkerCallback.popClassExpression();
     }
 
@@ -562,8 +700,10 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLDataExactCardinality ce) {
         walkerCallback.pushClassExpression(ce);
         process(ce);
-        ce.getProperty().accept(this);
-        ce.getFiller().accept(this);
+        if (descend()) {
+            ce.getProperty().accept(this);
+            ce.getFiller().accept(this);
+        }
         walkerCallback.popClassExpression();
     }
 
@@ -571,8 +711,10 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLDataMaxCardinality ce) {
         walkerCallback.pushClassExpression(ce);
         process(ce);
-        ce.getProperty().accept(this);
-        ce.getFiller().accept(this);
+        if (descend()) {
+            ce.getProperty().accept(this);
+            ce.getFiller().accept(this);
+        }
         walkerCallback.popClassExpression();
     }
 
@@ -580,8 +722,10 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLDataMinCardinality ce) {
         walkerCallback.pushClassExpression(ce);
         process(ce);
-        ce.getProperty().accept(this);
-        ce.getFiller().accept(this);
+        if (descend()) {
+            ce.getProperty().accept(this);
+            ce.getFiller().accept(this);
+        }
         walkerCallback.popClassExpression();
     }
 
@@ -589,8 +733,10 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLDataSomeValuesFrom ce) {
         walkerCallback.pushClassExpression(ce);
         process(ce);
-        ce.getProperty().accept(this);
-        ce.getFiller().accept(this);
+        if (descend()) {
+            ce.getProperty().accept(this);
+            ce.getFiller().accept(this);
+        }
         walkerCallback.popClassExpression();
     }
 
@@ -598,8 +744,10 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLDataHasValue ce) {
         walkerCallback.pushClassExpression(ce);
         process(ce);
-        ce.getProperty().accept(this);
-        ce.getFiller().accept(this);
+        if (descend()) {
+            ce.getProperty().accept(this);
+            ce.getFiller().accept(this);
+        }
         walkerCallback.popClassExpression();
     }
 
@@ -607,8 +755,10 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLObjectAllValuesFrom ce) {
         walkerCallback.pushClassExpression(ce);
         process(ce);
-        ce.getProperty().accept(this);
-        ce.getFiller().accept(this);
+        if (descend()) {
+            ce.getProperty().accept(this);
+            ce.getFiller().accept(this);
+        }
         walkerCallback.popClassExpression();
     }
 
@@ -616,7 +766,9 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLObjectComplementOf ce) {
         walkerCallback.pushClassExpression(ce);
         process(ce);
-        ce.getOperand().accept(this);
+        if (descend()) {
+            ce.getOperand().accept(this);
+        }
         walkerCallback.popClassExpression();
     }
 
@@ -624,8 +776,10 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLObjectExactCardinality ce) {
         walkerCallback.pushClassExpression(ce);
         process(ce);
-        ce.getProperty().accept(this);
-        ce.getFiller().accept(this);
+        if (descend()) {
+            ce.getProperty().accept(this);
+            ce.getFiller().accept(this);
+        }
         walkerCallback.popClassExpression();
     }
 
@@ -633,8 +787,10 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLObjectIntersectionOf ce) {
         walkerCallback.pushClassExpression(ce);
         process(ce);
-        for (OWLClassExpression op : ce.getOperands()) {
-            op.accept(this);
+        if (descend() && !walkOperands(ce)) {
+            for (OWLClassExpression op : ce.getOperands()) {
+                op.accept(this);
+            }
         }
         walkerCallback.popClassExpression();
     }
@@ -643,8 +799,10 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLObjectMaxCardinality ce) {
         walkerCallback.pushClassExpression(ce);
         process(ce);
-        ce.getProperty().accept(this);
-        ce.getFiller().accept(this);
+        if (descend()) {
+            ce.getProperty().accept(this);
+            ce.getFiller().accept(this);
+        }
         walkerCallback.popClassExpression();
     }
 
@@ -652,8 +810,10 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLObjectMinCardinality ce) {
         walkerCallback.pushClassExpression(ce);
         process(ce);
-        ce.getProperty().accept(this);
-        ce.getFiller().accept(this);
+        if (descend()) {
+            ce.getProperty().accept(this);
+            ce.getFiller().accept(this);
+        }
         walkerCallback.popClassExpression();
     }
 
@@ -661,8 +821,10 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLObjectOneOf ce) {
         walkerCallback.pushClassExpression(ce);
         process(ce);
-        for (OWLIndividual ind : ce.getIndividuals()) {
-            ind.accept(this);
+        if (descend()) {
+            for (OWLIndividual ind : ce.getIndividuals()) {
+                ind.accept(this);
+            }
         }
         walkerCallback.popClassExpression();
     }
@@ -671,7 +833,9 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLObjectHasSelf ce) {
         walkerCallback.pushClassExpression(ce);
         process(ce);
-        ce.getProperty().accept(this);
+        if (descend()) {
+            ce.getProperty().accept(this);
+        }
         walkerCallback.popClassExpression();
     }
 
@@ -679,8 +843,10 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLObjectSomeValuesFrom ce) {
         walkerCallback.pushClassExpression(ce);
         process(ce);
-        ce.getProperty().accept(this);
-        ce.getFiller().accept(this);
+        if (descend()) {
+            ce.getProperty().accept(this);
+            ce.getFiller().accept(this);
+        }
         walkerCallback.popClassExpression();
     }
 
@@ -688,8 +854,10 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLObjectUnionOf ce) {
         walkerCallback.pushClassExpression(ce);
         process(ce);
-        for (OWLClassExpression op : ce.getOperands()) {
-            op.accept(this);
+        if (descend() && !walkOperands(ce)) {
+            for (OWLClassExpression op : ce.getOperands()) {
+                op.accept(this);
+            }
         }
         walkerCallback.popClassExpression();
     }
@@ -698,8 +866,10 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLObjectHasValue ce) {
         walkerCallback.pushClassExpression(ce);
         process(ce);
-        ce.getProperty().accept(this);
-        ce.getFiller().accept(this);
+        if (descend()) {
+            ce.getProperty().accept(this);
+            ce.getFiller().accept(this);
+        }
         walkerCallback.popClassExpression();
     }
 
@@ -707,7 +877,9 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLDataComplementOf node) {
         walkerCallback.pushDataRange(node);
         process(node);
-        node.getDataRange().accept(this);
+        if (descend()) {
+            node.getDataRange().accept(this);
+        }
         walkerCallback.popDataRange();
     }
 
@@ -715,8 +887,10 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLDataOneOf node) {
         walkerCallback.pushDataRange(node);
         process(node);
-        for (OWLLiteral con : node.getValues()) {
-            con.accept(this);
+        if (descend() && !walkOperands(node)) {
+            for (OWLLiteral con : node.getValues()) {
+                con.accept(this);
+            }
         }
         walkerCallback.popDataRange();
     }
@@ -725,8 +899,10 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLDataIntersectionOf node) {
         walkerCallback.pushDataRange(node);
         process(node);
-        for (OWLDataRange rng : node.getOperands()) {
-            rng.accept(this);
+        if (descend() && !walkOperands(node)) {
+            for (OWLDataRange rng : node.getOperands()) {
+                rng.accept(this);
+            }
         }
         walkerCallback.popDataRange();
     }
@@ -735,8 +911,10 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     public void visit(OWLDataUnionOf node) {
         walkerCallback.pushDataRange(node);
         process(node);
-        for (OWLDataRange rng : node.getOperands()) {
-            rng.accept(this);
+        if (descend() && !walkOperands(node)) {
+            for (OWLDataRange rng : node.getOperands()) {
+                rng.accept(this);
+            }
         }
         walkerCallback.popDataRange();
     }
@@ -744,16 +922,20 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     @Override
     public void visit(OWLFacetRestriction node) {
         process(node);
-        node.getFacetValue().accept(this);
+        if (descend()) {
+            node.getFacetValue().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLDatatypeRestriction node) {
         walkerCallback.pushDataRange(node);
         process(node);
-        node.getDatatype().accept(this);
-        for (OWLFacetRestriction fr : node.getFacetRestrictions()) {
-            fr.accept(this);
+        if (descend()) {
+            node.getDatatype().accept(this);
+            for (OWLFacetRestriction fr : node.getFacetRestrictions()) {
+                fr.accept(this);
+            }
         }
         walkerCallback.popDataRange();
     }
@@ -768,38 +950,50 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     @Override
     public void visit(OWLLiteral node) {
         process(node);
-        node.getDatatype().accept(this);
+        if (descend()) {
+            node.getDatatype().accept(this);
+        }
         walkerCallback.popDataRange();
     }
 
     @Override
     public void visit(OWLAnnotationProperty property) {
         process(property);
-        property.getIRI().accept(this);
+        if (descend()) {
+            property.getIRI().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLDataProperty property) {
         process(property);
-        property.getIRI().accept(this);
+        if (descend()) {
+            property.getIRI().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLObjectProperty property) {
         process(property);
-        property.getIRI().accept(this);
+        if (descend()) {
+            property.getIRI().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLObjectInverseOf property) {
         process(property);
-        property.getInverse().accept(this);
+        if (descend()) {
+            property.getInverse().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLNamedIndividual individual) {
         process(individual);
-        individual.getIRI().accept(this);
+        if (descend()) {
+            individual.getIRI().accept(this);
+        }
     }
 
     @Override
@@ -810,7 +1004,9 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     @Override
     public void visit(SWRLLiteralArgument node) {
         process(node);
-        node.getLiteral().accept(this);
+        if (descend()) {
+            node.getLiteral().accept(this);
+        }
     }
 
     @Override
@@ -821,66 +1017,84 @@ public class StructureWalker<O extends OWLObject> implements OWLObjectVisitor {
     @Override
     public void visit(SWRLIndividualArgument node) {
         process(node);
-        node.getIndividual().accept(this);
+        if (descend()) {
+            node.getIndividual().accept(this);
+        }
     }
 
     @Override
     public void visit(SWRLBuiltInAtom node) {
         process(node);
-        for (SWRLDArgument at : node.getArguments()) {
-            at.accept(this);
+        if (descend()) {
+            for (SWRLDArgument at : node.getArguments()) {
+                at.accept(this);
+            }
         }
     }
 
     @Override
     public void visit(SWRLClassAtom node) {
         process(node);
-        node.getArgument().accept(this);
-        node.getPredicate().accept(this);
+        if (descend()) {
+            node.getArgument().accept(this);
+            node.getPredicate().accept(this);
+        }
     }
 
     @Override
     public void visit(SWRLDataRangeAtom node) {
         process(node);
-        node.getArgument().accept(this);
-        node.getPredicate().accept(this);
+        if (descend()) {
+            node.getArgument().accept(this);
+            node.getPredicate().accept(this);
+        }
     }
 
     @Override
     public void visit(SWRLDataPropertyAtom node) {
         process(node);
-        node.getPredicate().accept(this);
-        node.getFirstArgument().accept(this);
-        node.getSecondArgument().accept(this);
+        if (descend()) {
+            node.getPredicate().accept(this);
+            node.getFirstArgument().accept(this);
+            node.getSecondArgument().accept(this);
+        }
     }
 
     @Override
     public void visit(SWRLDifferentIndividualsAtom node) {
         process(node);
-        node.getFirstArgument().accept(this);
-        node.getSecondArgument().accept(this);
+        if (descend()) {
+            node.getFirstArgument().accept(this);
+            node.getSecondArgument().accept(this);
+        }
     }
 
     @Override
     public void visit(SWRLObjectPropertyAtom node) {
         process(node);
-        node.getPredicate().accept(this);
-        node.getFirstArgument().accept(this);
-        node.getSecondArgument().accept(this);
+        if (descend()) {
+            node.getPredicate().accept(this);
+            node.getFirstArgument().accept(this);
+            node.getSecondArgument().accept(this);
+        }
     }
 
     @Override
     public void visit(SWRLSameIndividualAtom node) {
         process(node);
-        node.getFirstArgument().accept(this);
-        node.getSecondArgument().accept(this);
+        if (descend()) {
+            node.getFirstArgument().accept(this);
+            node.getSecondArgument().accept(this);
+        }
     }
 
     @Override
     public void visit(OWLDatatypeDefinitionAxiom axiom) {
         process(axiom);
         walkerCallback.ax = axiom;
-        axiom.getDatatype().accept(this);
-        axiom.getDataRange().accept(this);
+        if (descend()) {
+            axiom.getDatatype().accept(this);
+            axiom.getDataRange().accept(this);
+        }
     }
 }
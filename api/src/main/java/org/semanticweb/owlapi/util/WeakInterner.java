@@ -0,0 +1,128 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.util;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nonnull;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * An interner that compares by value and holds canonical instances weakly: equal samples are
+ * resolved to the same instance for as long as that instance is reachable elsewhere, and nothing
+ * is evicted while still in use. Hits and misses are counted.
+ * 
+ * @param <T> interned type
+ */
+public class WeakInterner<T> implements Serializable {
+
+    private static final long serialVersionUID = 40000L;
+    private transient volatile ConcurrentMap<Entry<T>, Entry<T>> entries =
+        new ConcurrentHashMap<>();
+    private transient ReferenceQueue<T> collected = new ReferenceQueue<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        entries = new ConcurrentHashMap<>();
+        collected = new ReferenceQueue<>();
+    }
+
+    /**
+     * @param sample the value to intern
+     * @return the canonical instance equal to sample; sample itself if there was none
+     */
+    @Nonnull
+    public T intern(@Nonnull T sample) {
+        removeCollected();
+        Entry<T> entry = new Entry<>(sample, collected);
+        while (true) {
+            Entry<T> existing = entries.putIfAbsent(entry, entry);
+            if (existing == null) {
+                misses.increment();
+                return sample;
+            }
+            T canonical = existing.get();
+            if (canonical != null) {
+                hits.increment();
+                return canonical;
+            }
+            // collected after the lookup
+            entries.remove(existing, existing);
+        }
+    }
+
+    private void removeCollected() {
+        Reference<? extends T> ref;
+        while ((ref = collected.poll()) != null) {
+            entries.remove(ref, ref);
+        }
+    }
+
+    /**
+     * @return hit and miss counts; a hit is a sample equal to a canonical instance still in use,
+     *         including the canonical instance itself, and a miss is a sample that became canonical
+     */
+    @Nonnull
+    public CacheStats stats() {
+        return CacheStats.of(hits.sum(), misses.sum(), 0L, 0L, 0L, 0L, 0L);
+    }
+
+    /** Forget all canonical instances and reset the statistics. */
+    public void clear() {
+        entries = new ConcurrentHashMap<>();
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * Weak reference that compares by the value of its referent; once the referent has been
+     * collected, an entry is only equal to itself.
+     */
+    private static class Entry<T> extends WeakReference<T> {
+
+        private final int hash;
+
+        Entry(T referent, ReferenceQueue<T> queue) {
+            super(referent, queue);
+            hash = referent.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Entry)) {
+                return false;
+            }
+            Object value = get();
+            return value != null && value.equals(((Entry<?>) obj).get());
+        }
+    }
+}
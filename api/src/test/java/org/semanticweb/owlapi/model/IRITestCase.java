@@ -0,0 +1,70 @@
+package org.semanticweb.owlapi.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+class IRITestCase {
+
+    private static final String NS = "http://purl.obolibrary.org/obo/";
+
+    @Test
+    void shouldKeepStringBehaviour() {
+        IRI iri = IRI.create(NS + "GO_0000001");
+        assertEquals(NS, iri.getNamespace());
+        assertEquals("GO_0000001", iri.getFragment());
+        assertEquals("GO_0000001", iri.getShortForm());
+        assertEquals(NS + "GO_0000001", iri.toString());
+        assertEquals("<" + NS + "GO_0000001>", iri.toQuotedString());
+        assertEquals(NS.hashCode() + "GO_0000001".hashCode(), iri.hashCode());
+        assertEquals(iri.toString().length(), iri.length());
+        assertEquals('G', iri.charAt(NS.length()));
+        assertEquals("GO_", iri.subSequence(NS.length(), NS.length() + 3).toString());
+        assertEquals(iri, IRI.create(NS, "GO_0000001"));
+        assertNotEquals(iri, IRI.create(NS + "GO_0000002"));
+    }
+
+    @Test
+    void shouldHandleRemaindersOutsideLatin1() {
+        IRI iri = IRI.create(NS + "caf\u00e9\u4e2d");
+        assertEquals("caf\u00e9\u4e2d", iri.getFragment());
+        assertEquals(NS + "caf\u00e9\u4e2d", iri.toString());
+        assertEquals('\u4e2d', iri.charAt(iri.length() - 1));
+        assertEquals(iri, IRI.create(NS + "caf\u00e9\u4e2d"));
+        assertNotEquals(iri, IRI.create(NS + "caf\u00e9"));
+        assertEquals(NS.hashCode() + "caf\u00e9\u4e2d".hashCode(), iri.hashCode());
+    }
+
+    @Test
+    void shouldCompareAsStrings() {
+        String[] remainders = {"a", "ab", "b", "\u00e9", "\u4e2d", "A"};
+        for (String first : remainders) {
+            for (String second : remainders) {
+                int expected = Integer.signum(first.compareTo(second));
+                assertEquals(expected, Integer.signum(
+                    IRI.create(NS + first).compareTo(IRI.create(NS + second))),
+                    first + " " + second);
+            }
+        }
+    }
+
+    @Test
+    void shouldShareNamespaceAfterDeserialization() throws Exception {
+        IRI iri = IRI.create(NS + "GO_0000001");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream stream = new ObjectOutputStream(out)) {
+            stream.writeObject(iri);
+        }
+        try (ObjectInputStream stream =
+            new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            IRI copy = (IRI) stream.readObject();
+            assertEquals(iri, copy);
+            assertSame(iri.getNamespace(), copy.getNamespace());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.semanticweb.owlapi.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+class WeakInternerTestCase {
+
+    private final WeakInterner<String> interner = new WeakInterner<>();
+
+    @Test
+    void shouldCountCanonicalSamplesAsHits() {
+        String canonical = new String("urn:test#");
+        assertSame(canonical, interner.intern(canonical));
+        assertSame(canonical, interner.intern(canonical));
+        assertSame(canonical, interner.intern(new String("urn:test#")));
+        assertEquals(2, interner.stats().hitCount());
+        assertEquals(1, interner.stats().missCount());
+    }
+
+    @Test
+    void shouldResetStatisticsOnClear() {
+        String canonical = new String("urn:test#");
+        interner.intern(canonical);
+        interner.clear();
+        assertSame(canonical, interner.intern(canonical));
+        assertEquals(0, interner.stats().hitCount());
+        assertEquals(1, interner.stats().missCount());
+    }
+}
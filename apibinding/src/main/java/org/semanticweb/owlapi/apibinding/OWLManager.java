@@ -28,10 +28,12 @@ import org.semanticweb.owlapi.utilities.Injector;
 
 import uk.ac.manchester.cs.owl.owlapi.CompressionEnabled;
 import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+import uk.ac.manchester.cs.owl.owlapi.concurrent.Concurrency;
 import uk.ac.manchester.cs.owl.owlapi.concurrent.ConcurrentOWLOntologyBuilder;
 import uk.ac.manchester.cs.owl.owlapi.concurrent.NoOpReadWriteLock;
 import uk.ac.manchester.cs.owl.owlapi.concurrent.NonConcurrentDelegate;
 import uk.ac.manchester.cs.owl.owlapi.concurrent.NonConcurrentOWLOntologyBuilder;
+import uk.ac.manchester.cs.owl.owlapi.concurrent.OptimisticReadWriteLock;
 
 /**
  * Provides a point of convenience for creating an {@code OWLOntologyManager} with commonly required
@@ -55,6 +57,8 @@ public class OWLManager implements OWLOntologyManagerFactory {
         // singletons.
         REENTRANT(ReadWriteLock.class, () -> new ReentrantReadWriteLock()),
         //
+        OPTIMISTIC(ReadWriteLock.class, () -> new OptimisticReadWriteLock()),
+        //
         NOOP(ReadWriteLock.class, new NoOpReadWriteLock());
 
         private Class<?> c;
@@ -101,6 +105,8 @@ public class OWLManager implements OWLOntologyManagerFactory {
         InjectorConstants.REENTRANT.init(configure(new Injector()));
     private static final Injector normalInjector =
         InjectorConstants.NOOP.init(configure(new Injector()));
+    private static final Injector optimisticInjector =
+        InjectorConstants.OPTIMISTIC.init(configure(new Injector()));
 
     private static Injector configure(Injector i) {
         Arrays.stream(InjectorConstants.values()).forEach(f -> f.init(i));
@@ -127,6 +133,30 @@ public class OWLManager implements OWLOntologyManagerFactory {
             .inject(concurrentInjector.getImplementation(OWLOntologyManager.class));
     }
 
+    /**
+     * Creates an OWL ontology manager that is configured with the standard parsers and storers and
+     * the specified locking: {@link Concurrency#CONCURRENT} is the same as
+     * {@link #createConcurrentOWLOntologyManager()}, {@link Concurrency#OPTIMISTIC} runs short
+     * ontology queries, such as containment checks and counts, without locking unless a change is
+     * being applied, and {@link Concurrency#NON_CONCURRENT} is the same as
+     * {@link #createOWLOntologyManager()}.
+     *
+     * @param concurrency locking to use
+     * @return The new manager.
+     */
+    public static OWLOntologyManager createOWLOntologyManager(Concurrency concurrency) {
+        switch (concurrency) {
+            case CONCURRENT:
+                return createConcurrentOWLOntologyManager();
+            case OPTIMISTIC:
+                return optimisticInjector
+                    .inject(optimisticInjector.getImplementation(OWLOntologyManager.class));
+            case NON_CONCURRENT:
+            default:
+                return createOWLOntologyManager();
+        }
+    }
+
     /**
      * Gets a global data factory that can be used to create OWL API objects.
      * 
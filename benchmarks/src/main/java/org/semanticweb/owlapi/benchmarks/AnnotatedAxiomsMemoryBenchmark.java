@@ -0,0 +1,67 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import java.nio.file.FileSystems;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAnnotationProperty;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+/**
+ * Reports the heap retained by an ontology whose axioms carry the same few annotation sets, as in
+ * ontologies derived from OBO such as GO and Uberon. With an ontology file as argument, loads that
+ * file instead of generating axioms.
+ */
+public class AnnotatedAxiomsMemoryBenchmark {
+
+    private static final int CLASSES = 200000;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0) {
+            long retained =
+                MemoryBenchmark.retainedHeap(FileSystems.getDefault().getPath(args[0]));
+            System.out.println(args[0] + ": " + (retained >> 20) + " MB retained");
+            return;
+        }
+        long before = MemoryBenchmark.usedHeap();
+        OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+        OWLDataFactory df = manager.getOWLDataFactory();
+        OWLOntology ontology = manager.createOntology();
+        String obo = "http://www.geneontology.org/formats/oboInOwl#";
+        OWLAnnotationProperty xref = df.getOWLAnnotationProperty(IRI.create(obo, "hasDbXref"));
+        OWLAnnotationProperty source = df.getOWLAnnotationProperty(IRI.create(obo, "source"));
+        List<OWLAnnotation> xrefs = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            xrefs.add(df.getOWLAnnotation(xref, df.getOWLLiteral("GOC:curator" + i)));
+        }
+        OWLAnnotation sourceAnnotation = df.getOWLAnnotation(source, df.getOWLLiteral("GO"));
+        Random random = new Random(42);
+        Set<OWLAxiom> axioms = new HashSet<>();
+        for (int i = 0; i < CLASSES; i++) {
+            OWLClass c = df.getOWLClass(IRI.create("http://purl.obolibrary.org/obo/GO_", "" + i));
+            Set<OWLAnnotation> annotations = new HashSet<>(Arrays.asList(sourceAnnotation,
+                xrefs.get(random.nextInt(xrefs.size()))));
+            axioms.add(df.getOWLAnnotationAssertionAxiom(df.getRDFSLabel(), c.getIRI(),
+                df.getOWLLiteral("term " + i), annotations));
+            axioms.add(df.getOWLSubClassOfAxiom(c, df.getOWLClass(IRI.create(
+                "http://purl.obolibrary.org/obo/GO_", "" + random.nextInt(CLASSES))),
+                new HashSet<>(Arrays.asList(xrefs.get(random.nextInt(xrefs.size()))))));
+        }
+        manager.addAxioms(ontology, axioms);
+        axioms = null;
+        long retained = MemoryBenchmark.usedHeap() - before;
+        System.out.println(ontology.getAxiomCount() + " axioms: " + (retained >> 20)
+            + " MB retained");
+    }
+}
@@ -0,0 +1,52 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.change.OWLOntologyChangeBatch;
+import org.semanticweb.owlapi.model.AddAxiom;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+
+/**
+ * Reports the heap retained by a million axiom additions held as a list of {@link AddAxiom}
+ * objects and, with the argument {@code batch}, as an {@link OWLOntologyChangeBatch}. The axioms
+ * are created before measuring, so only the changes are counted.
+ */
+public class ChangeBatchMemoryBenchmark {
+
+    private static final int CHANGES = 1000000;
+
+    public static void main(String[] args) throws Exception {
+        boolean batch = args.length > 0 && "batch".equals(args[0]);
+        OWLDataFactory df = OWLManager.getOWLDataFactory();
+        OWLOntology ontology = OWLManager.createOWLOntologyManager()
+            .createOntology(IRI.create("http://www.example.org/changes"));
+        String ns = "http://www.example.org/changes#";
+        List<OWLAxiom> axioms = new ArrayList<>(CHANGES);
+        for (int i = 0; i < CHANGES; i++) {
+            axioms.add(df.getOWLDeclarationAxiom(df.getOWLClass(IRI.create(ns, "C" + i))));
+        }
+        long before = MemoryBenchmark.usedHeap();
+        List<OWLOntologyChange> changes;
+        if (batch) {
+            OWLOntologyChangeBatch list = new OWLOntologyChangeBatch(CHANGES);
+            for (OWLAxiom ax : axioms) {
+                list.addAxiom(ontology, ax);
+            }
+            changes = list;
+        } else {
+            changes = new ArrayList<>(CHANGES);
+            for (OWLAxiom ax : axioms) {
+                changes.add(new AddAxiom(ontology, ax));
+            }
+        }
+        long retained = MemoryBenchmark.usedHeap() - before;
+        System.out.println((batch ? "batch" : "list") + ": " + changes.size() + " changes, "
+            + (retained >> 20) + " MB retained");
+    }
+}
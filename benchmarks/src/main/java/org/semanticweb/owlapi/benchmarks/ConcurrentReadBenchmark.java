@@ -0,0 +1,87 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+import uk.ac.manchester.cs.owl.owlapi.concurrent.Concurrency;
+
+/**
+ * Short queries on one ontology from many threads, with the read write lock of
+ * {@link Concurrency#CONCURRENT} managers and the optimistic reads of
+ * {@link Concurrency#OPTIMISTIC} managers. No changes are applied while measuring, so the
+ * difference is the cost of locking; it grows with the number of cores the readers run on.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(Threads.MAX)
+public class ConcurrentReadBenchmark {
+
+    private static final int CLASSES = 10000;
+    @Param({"CONCURRENT", "OPTIMISTIC"})
+    public String concurrency;
+    private OWLOntology ontology;
+    private final List<OWLAxiom> axioms = new ArrayList<>();
+    private final List<OWLClass> classes = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() throws OWLOntologyCreationException {
+        OWLOntologyManager manager =
+            OWLManager.createOWLOntologyManager(Concurrency.valueOf(concurrency));
+        OWLDataFactory df = manager.getOWLDataFactory();
+        ontology = manager.createOntology(IRI.create("http://www.example.org/reads"));
+        String ns = "http://www.example.org/reads#";
+        for (int i = 0; i < CLASSES; i++) {
+            classes.add(df.getOWLClass(IRI.create(ns, "C" + i)));
+        }
+        for (int i = 1; i < CLASSES; i++) {
+            axioms.add(df.getOWLSubClassOfAxiom(classes.get(i), classes.get(i / 2)));
+            // half of the queried axioms are not in the ontology
+            axioms.add(df.getOWLSubClassOfAxiom(classes.get(i / 2), classes.get(i)));
+        }
+        for (int i = 0; i < axioms.size(); i += 2) {
+            manager.addAxiom(ontology, axioms.get(i));
+        }
+        // build the lazy indexes before measuring
+        ontology.isDeclared(classes.get(0));
+        ontology.containsClassInSignature(classes.get(0).getIRI());
+    }
+
+    @Benchmark
+    public boolean containsAxiom() {
+        return ontology.containsAxiom(axioms.get(ThreadLocalRandom.current().nextInt(axioms
+            .size())));
+    }
+
+    @Benchmark
+    public boolean containsClassInSignature() {
+        return ontology.containsClassInSignature(classes.get(ThreadLocalRandom.current().nextInt(
+            CLASSES)).getIRI());
+    }
+
+    @Benchmark
+    public int getAxiomCount() {
+        return ontology.getAxiomCount();
+    }
+}
@@ -0,0 +1,44 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+
+/**
+ * Reports the heap retained by axioms built by several data factories, one per tenant, over the
+ * same vocabulary, as in a server that keeps one manager per tenant. With the argument
+ * {@code shared}, the factories take their entities from the shared entity registry.
+ */
+public class EntityRegistryMemoryBenchmark {
+
+    private static final int TENANTS = 20;
+    private static final int CLASSES = 50000;
+
+    public static void main(String[] args) {
+        boolean shared = args.length > 0 && "shared".equals(args[0]);
+        String ns = "http://purl.obolibrary.org/obo/";
+        List<IRI> iris = new ArrayList<>();
+        for (int i = 0; i < CLASSES; i++) {
+            iris.add(IRI.create(ns, "GO_" + i));
+        }
+        long before = MemoryBenchmark.usedHeap();
+        List<OWLAxiom> axioms = new ArrayList<>();
+        for (int t = 0; t < TENANTS; t++) {
+            OWLDataFactoryImpl df =
+                new OWLDataFactoryImpl(new OWLOntologyLoaderConfiguration(), false, shared);
+            for (int i = 1; i < CLASSES; i++) {
+                OWLClass sub = df.getOWLClass(iris.get(i));
+                axioms.add(df.getOWLSubClassOfAxiom(sub, df.getOWLClass(iris.get(i / 2))));
+            }
+        }
+        long retained = MemoryBenchmark.usedHeap() - before;
+        System.out.println((shared ? "shared" : "per factory") + ": " + axioms.size()
+            + " axioms, " + (retained >> 20) + " MB retained");
+    }
+}
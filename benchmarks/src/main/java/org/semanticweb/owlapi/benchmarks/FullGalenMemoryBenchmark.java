@@ -1,13 +1,29 @@
 package org.semanticweb.owlapi.benchmarks;
 
 import java.nio.file.FileSystems;
+import java.nio.file.Path;
 
+import org.semanticweb.owlapi.model.parameters.ConfigurationOptions;
+
+/**
+ * Dumps the heap with full Galen loaded; with the argument {@code retained}, reports the heap
+ * retained instead, and {@code retained hashconsing} does the same with a hash consing data
+ * factory. The data factory is a singleton, so the two have to run in separate JVMs.
+ */
 public class FullGalenMemoryBenchmark {
 
+    private static final Path GALEN =
+        FileSystems.getDefault().getPath("/Users/ignazio/full-galen.owl");
+
     public static void main(String[] args) throws Exception {
-        MemoryBenchmark.memoryProfile(
-                FileSystems.getDefault().getPath(
-                        "/Users/ignazio/full-galen.owl"), FileSystems
-                        .getDefault().getPath("fullgalen.hprof"));
+        if (args.length > 0 && "retained".equals(args[0])) {
+            long retained = args.length > 1 && "hashconsing".equals(args[1])
+                ? MemoryBenchmark.retainedHeap(GALEN, ConfigurationOptions.HASH_CONSING)
+                : MemoryBenchmark.retainedHeap(GALEN);
+            System.out.println("full Galen: " + (retained >> 20) + " MB retained");
+            return;
+        }
+        MemoryBenchmark.memoryProfile(GALEN,
+            FileSystems.getDefault().getPath("fullgalen.hprof"));
     }
 }
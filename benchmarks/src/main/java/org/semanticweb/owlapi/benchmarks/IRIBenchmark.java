@@ -0,0 +1,54 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.semanticweb.owlapi.model.IRI;
+
+/**
+ * Reports the heap retained by a million IRIs shaped like OBO term IRIs, all in a handful of
+ * namespaces, and the time taken to look up equal copies of them in a hash set. Run it against
+ * builds of the api module to compare IRI representations.
+ */
+public class IRIBenchmark {
+
+    private static final int IRIS = 1000000;
+    private static final String[] NAMESPACES = {"http://purl.obolibrary.org/obo/",
+        "http://www.geneontology.org/formats/oboInOwl#", "http://www.w3.org/2002/07/owl#",
+        "http://example.org/onto/"};
+
+    private static IRI iri(int i) {
+        return IRI.create(NAMESPACES[i % NAMESPACES.length], "TERM_" + i);
+    }
+
+    public static void main(String[] args) {
+        long before = MemoryBenchmark.usedHeap();
+        IRI[] iris = new IRI[IRIS];
+        for (int i = 0; i < IRIS; i++) {
+            iris[i] = iri(i);
+        }
+        long retained = MemoryBenchmark.usedHeap() - before;
+        Set<IRI> set = new HashSet<>();
+        for (IRI iri : iris) {
+            set.add(iri);
+        }
+        IRI[] copies = new IRI[IRIS];
+        for (int i = 0; i < IRIS; i++) {
+            copies[i] = iri(i);
+        }
+        long best = Long.MAX_VALUE;
+        int found = 0;
+        for (int round = 0; round < 10; round++) {
+            long start = System.nanoTime();
+            found = 0;
+            for (IRI copy : copies) {
+                if (set.contains(copy)) {
+                    found++;
+                }
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.println(IRIS + " IRIs: " + (retained >> 20) + " MB retained, " + found
+            + " lookups in " + best / 1000000 + " ms");
+    }
+}
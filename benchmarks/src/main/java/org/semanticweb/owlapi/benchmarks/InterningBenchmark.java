@@ -0,0 +1,49 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import java.io.File;
+import java.util.Map;
+
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.io.FileDocumentSource;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+
+/**
+ * Loads an RDF/XML ontology and reports the heap retained by it together with the hit rates of the
+ * data factory caches and interners: namespaces, entities, annotations and language tags.
+ */
+public class InterningBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        String filename = "/Users/ignazio/full-galen.owl";
+        if (args.length > 0) {
+            filename = args[0];
+        }
+        long before = MemoryBenchmark.usedHeap();
+        OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+        long start = System.nanoTime();
+        OWLOntology ontology = manager.loadOntologyFromOntologyDocument(
+            new FileDocumentSource(new File(filename)),
+            new OWLOntologyLoaderConfiguration().setStrict(false));
+        long elapsed = System.nanoTime() - start;
+        long retained = MemoryBenchmark.usedHeap() - before;
+        System.out.println(ontology.getAxiomCount() + " axioms loaded in " + elapsed / 1000000
+            + " ms, " + (retained >> 20) + " MB retained");
+        OWLDataFactory df = manager.getOWLDataFactory();
+        if (df instanceof OWLDataFactoryImpl) {
+            for (Map.Entry<String, CacheStats> e : ((OWLDataFactoryImpl) df)
+                .getCacheStatistics().entrySet()) {
+                CacheStats stats = e.getValue();
+                System.out.println(String.format("%-22s hits %10d misses %10d hit rate %.3f",
+                    e.getKey(), Long.valueOf(stats.hitCount()), Long.valueOf(stats.missCount()),
+                    Double.valueOf(stats.hitRate())));
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.semanticweb.owlapi.model.OWLDatatype;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.vocab.OWL2Datatype;
+
+import uk.ac.manchester.cs.owl.owlapi.OWL2DatatypeImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryInternalsImplNoCache;
+
+/**
+ * Builds the literals of an ABox heavy ontology: xsd:long, xsd:decimal and xsd:dateTime values,
+ * then long descriptions with compression switched on. Reports the heap retained by each group
+ * and the time spent in {@code parseDouble()} and {@code getLiteral()} over the numbers. Run it
+ * against builds of the impl module to compare literal implementations.
+ */
+public class LiteralBenchmark {
+
+    private static final int LITERALS = 1000000;
+    private static final int DESCRIPTIONS = 50000;
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        OWLDataFactoryInternalsImplNoCache factory = new OWLDataFactoryInternalsImplNoCache(true);
+        OWLDatatype xsdLong = new OWL2DatatypeImpl(OWL2Datatype.XSD_LONG);
+        OWLDatatype xsdDecimal = new OWL2DatatypeImpl(OWL2Datatype.XSD_DECIMAL);
+        OWLDatatype xsdDateTime = new OWL2DatatypeImpl(OWL2Datatype.XSD_DATE_TIME);
+        long before = MemoryBenchmark.usedHeap();
+        List<OWLLiteral> numbers = new ArrayList<>(LITERALS);
+        List<OWLLiteral> dates = new ArrayList<>(LITERALS / 2);
+        for (int i = 0; i < LITERALS; i++) {
+            if (i % 2 == 0) {
+                numbers.add(factory.getOWLLiteral(
+                    Long.toString(random.nextLong() % 100000000000L), xsdLong));
+            } else {
+                numbers.add(factory.getOWLLiteral(
+                    random.nextInt(100000) + "." + (10 + random.nextInt(90)), xsdDecimal));
+                dates.add(factory.getOWLLiteral(String.format("20%02d-%02d-%02dT%02d:%02d:%02dZ",
+                    Integer.valueOf(random.nextInt(30)), Integer.valueOf(1 + random.nextInt(12)),
+                    Integer.valueOf(1 + random.nextInt(28)), Integer.valueOf(random.nextInt(24)),
+                    Integer.valueOf(random.nextInt(60)), Integer.valueOf(random.nextInt(60))),
+                    xsdDateTime));
+            }
+        }
+        long typed = MemoryBenchmark.usedHeap() - before;
+        before = MemoryBenchmark.usedHeap();
+        List<OWLLiteral> descriptions = new ArrayList<>(DESCRIPTIONS);
+        for (int i = 0; i < DESCRIPTIONS; i++) {
+            StringBuilder b = new StringBuilder();
+            while (b.length() < 600) {
+                b.append("measured sample ").append(random.nextInt(1000)).append(" of batch ")
+                    .append(i % 50).append("; ");
+            }
+            descriptions.add(factory.getOWLLiteral(b.toString()));
+        }
+        long strings = MemoryBenchmark.usedHeap() - before;
+        double sum = 0;
+        long start = System.nanoTime();
+        for (int round = 0; round < 10; round++) {
+            for (OWLLiteral literal : numbers) {
+                sum += literal.parseDouble();
+            }
+        }
+        long parse = System.nanoTime() - start;
+        long length = 0;
+        start = System.nanoTime();
+        for (OWLLiteral literal : numbers) {
+            length += literal.getLiteral().length();
+        }
+        for (OWLLiteral literal : descriptions) {
+            length += literal.getLiteral().length();
+        }
+        long render = System.nanoTime() - start;
+        System.out.println(String.format(
+            "numbers and dates: %d MB, descriptions: %d MB, parseDouble x10: %d ms, "
+                + "getLiteral: %d ms (%s, %d)",
+            Long.valueOf(typed >> 20), Long.valueOf(strings >> 20), Long.valueOf(parse / 1000000),
+            Long.valueOf(render / 1000000), Double.valueOf(sum), Long.valueOf(length
+                + dates.size())));
+    }
+}
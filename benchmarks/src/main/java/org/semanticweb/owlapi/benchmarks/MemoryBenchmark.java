@@ -7,6 +7,9 @@ import java.io.IOException;
 import java.lang.management.RuntimeMXBean;
 import java.nio.file.FileSystems;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.semanticweb.owlapi.apibinding.OWLManager;
 import org.semanticweb.owlapi.io.FileDocumentSource;
@@ -16,6 +19,7 @@ import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyCreationException;
 import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
 import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.parameters.ConfigurationOptions;
 import org.semanticweb.owlapi.util.AutoIRIMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,6 +32,8 @@ import com.sun.management.VMOption;
  */
 public class MemoryBenchmark {
 
+    private static final String PROPERTY_PREFIX =
+        "org.semanticweb.owlapi.model.parameters.ConfigurationOptions.";
     private static Logger logger = LoggerFactory.getLogger(
         MemoryBenchmark.class);
 
@@ -79,6 +85,79 @@ public class MemoryBenchmark {
         manager.removeOntology(ontology);
     }
 
+    /**
+     * Load an ontology with the given configuration options switched on and report the heap still
+     * in use after loading, once garbage has been collected. Index options are set in the loader
+     * configuration of the manager; other options are read from system properties, which are
+     * restored before returning.
+     * 
+     * @param ontologyPath
+     *        input ontology
+     * @param options
+     *        boolean options to enable for this load
+     * @return bytes of heap in use with the ontology loaded
+     * @throws OWLOntologyCreationException
+     *         if the ontology cannot be created or loaded
+     */
+    public static long retainedHeap(Path ontologyPath, ConfigurationOptions... options)
+        throws OWLOntologyCreationException {
+        Map<String, String> previous = new HashMap<>();
+        for (ConfigurationOptions option : ConfigurationOptions.values()) {
+            if (option.getDefaultValue(Object.class) instanceof Boolean) {
+                String key = PROPERTY_PREFIX + option.name();
+                previous.put(key, System.clearProperty(key));
+            }
+        }
+        try {
+            OWLOntologyLoaderConfiguration config = new OWLOntologyLoaderConfiguration()
+                .setStrict(false);
+            for (ConfigurationOptions option : options) {
+                if (option == ConfigurationOptions.LOCK_FREE_INDEXES) {
+                    config = config.setLockFreeIndexes(true);
+                } else if (option == ConfigurationOptions.COMPACT_AXIOM_INDEXES) {
+                    config = config.setCompactAxiomIndexes(true);
+                } else {
+                    System.setProperty(PROPERTY_PREFIX + option.name(), "true");
+                }
+            }
+            long before = usedHeap();
+            OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+            manager.setOntologyLoaderConfiguration(config);
+            File file = ontologyPath.toFile();
+            OWLOntologyDocumentSource ds = file.getName().endsWith(".gz")
+                ? new GZipFileDocumentSource(file) : new FileDocumentSource(file);
+            OWLOntology ontology = manager.loadOntologyFromOntologyDocument(ds, config);
+            long retained = usedHeap() - before;
+            logger.info("{} axioms, options {}: {} MB retained", Integer.valueOf(ontology
+                .getAxiomCount()), Arrays.toString(options), Long.valueOf(retained >> 20));
+            manager.removeOntology(ontology);
+            return retained;
+        } finally {
+            previous.forEach((key, value) -> {
+                if (value == null) {
+                    System.clearProperty(key);
+                } else {
+                    System.setProperty(key, value);
+                }
+            });
+        }
+    }
+
+    protected static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        // a few rounds, until collections stop freeing memory
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            long now = runtime.totalMemory() - runtime.freeMemory();
+            if (now >= used) {
+                break;
+            }
+            used = now;
+        }
+        return used;
+    }
+
     protected static HotSpotDiagnosticMXBean getDiagnostics()
         throws IOException {
         HotSpotDiagnosticMXBean hotSpotDiagnosticMXBean = newPlatformMXBeanProxy(
@@ -0,0 +1,92 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.SignatureCaching;
+
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+import uk.ac.manchester.cs.owlapi.modularity.ModuleType;
+import uk.ac.manchester.cs.owlapi.modularity.SyntacticLocalityModuleExtractor;
+
+/**
+ * Extracts STAR modules for random seed signatures from a synthetic ontology of nested
+ * existential restrictions, and reports the extraction time and the heap retained by the ontology
+ * afterwards, signature caches included. Locality checks ask every axiom for its signature many
+ * times, so this is the workload the signature caching strategy matters for. Runs each strategy in
+ * turn, or only the one named by the first argument, e.g. {@code INLINE}.
+ */
+public class ModuleExtractionBenchmark {
+
+    private static final int CLASSES = 20000;
+    private static final int SEEDS = 300;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0) {
+            run(SignatureCaching.valueOf(args[0]));
+            return;
+        }
+        for (SignatureCaching caching : SignatureCaching.values()) {
+            run(caching);
+        }
+    }
+
+    private static void run(SignatureCaching caching) throws OWLOntologyCreationException {
+        long before = MemoryBenchmark.usedHeap();
+        OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+        OWLDataFactory df = new OWLDataFactoryImpl(
+            new OWLOntologyLoaderConfiguration().setSignatureCaching(caching));
+        OWLOntology ontology = manager.createOntology();
+        Random random = new Random(42);
+        String ns = "http://www.example.org/modules#";
+        List<OWLClass> classes = new ArrayList<>();
+        for (int i = 0; i < CLASSES; i++) {
+            classes.add(df.getOWLClass(IRI.create(ns, "C" + i)));
+        }
+        List<OWLObjectProperty> properties = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            properties.add(df.getOWLObjectProperty(IRI.create(ns, "p" + i)));
+        }
+        Set<OWLAxiom> axioms = new HashSet<>();
+        for (int i = 1; i < CLASSES; i++) {
+            // a tree of named classes, plus a restriction on classes below in the tree
+            axioms.add(df.getOWLSubClassOfAxiom(classes.get(i), classes.get(random.nextInt(i))));
+            axioms.add(df.getOWLSubClassOfAxiom(classes.get(i), df.getOWLObjectSomeValuesFrom(
+                properties.get(random.nextInt(properties.size())),
+                df.getOWLObjectIntersectionOf(classes.get(random.nextInt(i)),
+                    classes.get(random.nextInt(i))))));
+        }
+        manager.addAxioms(ontology, axioms);
+        SyntacticLocalityModuleExtractor extractor =
+            new SyntacticLocalityModuleExtractor(manager, ontology, ModuleType.STAR);
+        long start = System.nanoTime();
+        long moduleAxioms = 0;
+        for (int i = 0; i < SEEDS; i++) {
+            Set<OWLEntity> seed = new HashSet<>();
+            for (int j = 0; j < 5; j++) {
+                seed.add(classes.get(random.nextInt(CLASSES)));
+            }
+            moduleAxioms += extractor.extract(seed).size();
+        }
+        long elapsed = System.nanoTime() - start;
+        long retained = MemoryBenchmark.usedHeap() - before;
+        System.out.println(caching + ": " + SEEDS + " modules (" + moduleAxioms
+            + " axioms) in " + elapsed / 1000000 + " ms, " + (retained >> 20) + " MB retained, "
+            + ontology.getAxiomCount() + " axioms");
+        manager.removeOntology(ontology);
+    }
+}
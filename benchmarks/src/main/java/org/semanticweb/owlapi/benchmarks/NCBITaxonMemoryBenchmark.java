@@ -1,12 +1,25 @@
 package org.semanticweb.owlapi.benchmarks;
 
 import java.nio.file.FileSystems;
+import java.nio.file.Path;
+
+import org.semanticweb.owlapi.model.parameters.ConfigurationOptions;
 
 public class NCBITaxonMemoryBenchmark {
 
+    private static final Path NCBITAXON = FileSystems.getDefault().getPath(
+        "/Users/ignazio/workspace/benchmarks/ncbitaxon/src/main/resources/ncbitaxon.rdf.ofn.gz");
+
     public static void main(String[] args) throws Exception {
-        MemoryBenchmark.memoryProfile(FileSystems.getDefault().getPath(
-            "/Users/ignazio/workspace/benchmarks/ncbitaxon/src/main/resources/ncbitaxon.rdf.ofn.gz"),
+        if (args.length > 0 && "compare".equals(args[0])) {
+            long plain = MemoryBenchmark.retainedHeap(NCBITAXON);
+            long compact = MemoryBenchmark.retainedHeap(NCBITAXON,
+                ConfigurationOptions.COMPACT_AXIOM_INDEXES);
+            System.out.println("compact axiom indexes: " + (plain - compact >> 20)
+                + " MB saved out of " + (plain >> 20) + " MB");
+            return;
+        }
+        MemoryBenchmark.memoryProfile(NCBITAXON,
             FileSystems.getDefault().getPath("ncbitaxon.hprof"));
     }
 }
@@ -0,0 +1,93 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+
+/**
+ * Sorts a shuffled list of axioms shaped like those of a large ontology: subclass axioms with
+ * nested restrictions and intersections, n-ary axioms and annotated axioms, many of which differ
+ * only deep in their structure. This is the work done by the storers before rendering; run it
+ * against builds of the impl module to compare implementations of compareTo().
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SortingBenchmark {
+
+    private static final int AXIOMS = 50000;
+    private List<OWLAxiom> axioms;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        OWLDataFactory df = new OWLDataFactoryImpl();
+        Random random = new Random(42);
+        String ns = "http://www.example.org/sorting#";
+        List<OWLClass> classes = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            classes.add(df.getOWLClass(IRI.create(ns, "C" + i)));
+        }
+        List<OWLObjectProperty> properties = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            properties.add(df.getOWLObjectProperty(IRI.create(ns, "p" + i)));
+        }
+        axioms = new ArrayList<>(AXIOMS);
+        while (axioms.size() < AXIOMS) {
+            OWLClass sub = classes.get(random.nextInt(classes.size()));
+            OWLClassExpression sup = df.getOWLObjectSomeValuesFrom(
+                properties.get(random.nextInt(properties.size())),
+                df.getOWLObjectIntersectionOf(classes.get(random.nextInt(classes.size())),
+                    classes.get(random.nextInt(classes.size()))));
+            Set<OWLAnnotation> annotations = new HashSet<>();
+            if (random.nextInt(4) == 0) {
+                annotations.add(df.getOWLAnnotation(df.getRDFSComment(),
+                    df.getOWLLiteral("note " + random.nextInt(10))));
+            }
+            switch (random.nextInt(3)) {
+                case 0:
+                    axioms.add(df.getOWLSubClassOfAxiom(sub, sup, annotations));
+                    break;
+                case 1:
+                    axioms.add(df.getOWLEquivalentClassesAxiom(sub, sup, annotations));
+                    break;
+                default:
+                    axioms.add(df.getOWLDisjointClassesAxiom(new HashSet<>(
+                        Arrays.asList(sub, sup,
+                            classes.get(random.nextInt(classes.size())))),
+                        annotations));
+                    break;
+            }
+        }
+        Collections.shuffle(axioms, random);
+    }
+
+    @Benchmark
+    public List<OWLAxiom> sort() {
+        List<OWLAxiom> copy = new ArrayList<>(axioms);
+        Collections.sort(copy);
+        return copy;
+    }
+}
@@ -0,0 +1,126 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.util.OWLObjectVisitorExAdapter;
+import org.semanticweb.owlapi.util.OWLObjectWalker;
+import org.semanticweb.owlapi.util.StructureWalker.AnnotationWalkingControl;
+
+/**
+ * Collects the signature of a synthetic ontology with an {@link OWLObjectWalker}: subclass axioms
+ * with nested intersections, n-ary class axioms and annotated axioms. Run it against builds of the
+ * api and impl modules to compare walker implementations; the walk visits duplicates, as
+ * renderers and profile checks do, so that the cost is in the traversal rather than in the
+ * visited set.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WalkerBenchmark {
+
+    private static final int CLASSES = 50000;
+    private List<OWLAxiom> axioms;
+
+    @Setup(Level.Trial)
+    public void setUp() throws OWLOntologyCreationException {
+        OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+        OWLDataFactory df = manager.getOWLDataFactory();
+        OWLOntology ontology = manager.createOntology();
+        Random random = new Random(42);
+        String ns = "http://www.example.org/walker#";
+        List<OWLClass> classes = new ArrayList<>();
+        for (int i = 0; i < CLASSES; i++) {
+            classes.add(df.getOWLClass(IRI.create(ns, "C" + i)));
+        }
+        List<OWLObjectProperty> properties = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            properties.add(df.getOWLObjectProperty(IRI.create(ns, "p" + i)));
+        }
+        Set<OWLAxiom> toAdd = new HashSet<>();
+        for (int i = 0; i < CLASSES; i++) {
+            OWLClass c = classes.get(i);
+            Set<OWLAnnotation> annotations = Collections.emptySet();
+            if (random.nextInt(4) == 0) {
+                annotations = new HashSet<>(Arrays.asList(
+                    df.getOWLAnnotation(df.getRDFSComment(), df.getOWLLiteral("note " + i)),
+                    df.getOWLAnnotation(df.getRDFSLabel(), df.getOWLLiteral("C" + i))));
+            }
+            toAdd.add(df.getOWLSubClassOfAxiom(c, df.getOWLObjectIntersectionOf(
+                classes.get(random.nextInt(CLASSES)),
+                df.getOWLObjectSomeValuesFrom(properties.get(random.nextInt(properties.size())),
+                    df.getOWLObjectUnionOf(classes.get(random.nextInt(CLASSES)),
+                        classes.get(random.nextInt(CLASSES))))),
+                annotations));
+            toAdd.add(df.getOWLEquivalentClassesAxiom(c, classes.get(random.nextInt(CLASSES)),
+                df.getOWLObjectIntersectionOf(classes.get(random.nextInt(CLASSES)),
+                    classes.get(random.nextInt(CLASSES)))));
+            toAdd.add(df.getOWLDisjointClassesAxiom(c, classes.get(random.nextInt(CLASSES)),
+                classes.get(random.nextInt(CLASSES))));
+        }
+        manager.addAxioms(ontology, toAdd);
+        axioms = new ArrayList<>(ontology.getAxioms());
+    }
+
+    @Benchmark
+    public Set<OWLEntity> collectSignature() {
+        OWLObjectWalker<OWLAxiom> walker =
+            new OWLObjectWalker<>(axioms, true, AnnotationWalkingControl.WALK_ANNOTATIONS);
+        final Set<OWLEntity> signature = new HashSet<>();
+        walker.walkStructure(new OWLObjectVisitorExAdapter<Object>(Boolean.TRUE) {
+
+            @Override
+            protected Object doDefault(OWLObject object) {
+                if (object instanceof OWLEntity) {
+                    signature.add((OWLEntity) object);
+                }
+                return Boolean.TRUE;
+            }
+        });
+        return signature;
+    }
+
+    @Benchmark
+    public int countEntities() {
+        OWLObjectWalker<OWLAxiom> walker =
+            new OWLObjectWalker<>(axioms, true, AnnotationWalkingControl.WALK_ANNOTATIONS);
+        final int[] count = new int[1];
+        walker.walkStructure(new OWLObjectVisitorExAdapter<Object>(Boolean.TRUE) {
+
+            @Override
+            protected Object doDefault(OWLObject object) {
+                if (object instanceof OWLEntity) {
+                    count[0]++;
+                }
+                return Boolean.TRUE;
+            }
+        });
+        return count[0];
+    }
+}
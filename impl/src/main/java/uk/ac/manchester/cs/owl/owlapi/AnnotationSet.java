@@ -0,0 +1,221 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.util.CollectionFactory;
+import org.semanticweb.owlapi.util.WeakInterner;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * An immutable set of annotations, kept sorted in an array and shared: {@link #of(Collection)}
+ * interns sets by value, so all axioms with the same annotations hold the same instance, for as
+ * long as any of them is reachable. Ontologies derived from OBO attach the same few annotations to
+ * very many axioms.
+ * 
+ * @since 4.7.7
+ */
+public final class AnnotationSet extends AbstractSet<OWLAnnotation> implements Serializable {
+
+    private static final long serialVersionUID = 40000L;
+    private static final WeakInterner<AnnotationSet> INTERNER = new WeakInterner<>();
+    /** The empty set. */
+    @Nonnull
+    public static final AnnotationSet EMPTY = new AnnotationSet(new OWLAnnotation[0]);
+    private final OWLAnnotation[] annotations;
+    private final int hashCode;
+
+    private AnnotationSet(OWLAnnotation[] annotations) {
+        this.annotations = annotations;
+        int code = 0;
+        for (OWLAnnotation a : annotations) {
+            code += a.hashCode();
+        }
+        hashCode = code;
+    }
+
+    /**
+     * @param annotations annotations
+     * @return the shared set with the same annotations; annotations itself if it is already an
+     *         annotation set
+     */
+    @Nonnull
+    public static AnnotationSet of(@Nonnull Collection<? extends OWLAnnotation> annotations) {
+        if (annotations instanceof AnnotationSet) {
+            return (AnnotationSet) annotations;
+        }
+        if (annotations.isEmpty()) {
+            return EMPTY;
+        }
+        OWLAnnotation[] array = annotations.toArray(new OWLAnnotation[annotations.size()]);
+        int size = array.length;
+        if (size > 1) {
+            Collection<OWLAnnotation> unsorted = Arrays.asList(array);
+            CollectionFactory.sortOptionally(unsorted).toArray(array);
+            // drop duplicates; annotations that compare equal need not be equal, so a duplicate
+            // can be anywhere in the run of kept annotations comparing equal to it
+            size = 1;
+            int run = 0;
+            for (int i = 1; i < array.length; i++) {
+                if (array[size - 1].compareTo(array[i]) != 0) {
+                    run = size;
+                }
+                if (!contains(array, run, size, array[i])) {
+                    array[size++] = array[i];
+                }
+            }
+        }
+        return INTERNER.intern(new AnnotationSet(size == array.length ? array
+            : Arrays.copyOf(array, size)));
+    }
+
+    private static boolean contains(OWLAnnotation[] array, int from, int to, OWLAnnotation a) {
+        for (int i = from; i < to; i++) {
+            if (array[i].equals(a)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return hit and miss counts of the shared sets
+     */
+    @Nonnull
+    public static CacheStats stats() {
+        return INTERNER.stats();
+    }
+
+    private Object readResolve() {
+        return annotations.length == 0 ? EMPTY : INTERNER.intern(this);
+    }
+
+    /**
+     * @param index position in the sort order
+     * @return annotation at index
+     */
+    @Nonnull
+    public OWLAnnotation get(int index) {
+        return annotations[index];
+    }
+
+    /**
+     * @param other set to compare
+     * @return comparison of the two sets as sorted lists
+     */
+    public int compareTo(AnnotationSet other) {
+        if (other == this) {
+            return 0;
+        }
+        int size = Math.min(annotations.length, other.annotations.length);
+        for (int i = 0; i < size; i++) {
+            int diff = annotations[i].compareTo(other.annotations[i]);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return annotations.length - other.annotations.length;
+    }
+
+    @Override
+    public int size() {
+        return annotations.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return annotations.length == 0;
+    }
+
+    @Override
+    public boolean contains(@Nullable Object o) {
+        for (OWLAnnotation a : annotations) {
+            if (a.equals(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Iterator<OWLAnnotation> iterator() {
+        return new Iterator<OWLAnnotation>() {
+
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < annotations.length;
+            }
+
+            @Override
+            public OWLAnnotation next() {
+                if (index >= annotations.length) {
+                    throw new NoSuchElementException("No Next Element");
+                }
+                return annotations[index++];
+            }
+        };
+    }
+
+    @Override
+    public Object[] toArray() {
+        return annotations.clone();
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof AnnotationSet) {
+            AnnotationSet other = (AnnotationSet) obj;
+            return hashCode == other.hashCode && Arrays.equals(annotations, other.annotations);
+        }
+        return super.equals(obj);
+    }
+
+    /**
+     * Annotations of an axiom together with the axiom without them, so that axioms can build the
+     * latter only once.
+     */
+    static final class Memo implements Serializable {
+
+        private static final long serialVersionUID = 40000L;
+        @Nonnull
+        final AnnotationSet annotations;
+        @Nullable
+        final transient Object axiom;
+
+        Memo(@Nonnull AnnotationSet annotations, @Nonnull Object axiom) {
+            this.annotations = annotations;
+            this.axiom = axiom;
+        }
+    }
+}
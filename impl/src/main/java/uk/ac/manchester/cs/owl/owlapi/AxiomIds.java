@@ -0,0 +1,160 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+/**
+ * Dense int ids for the axioms of an {@link Internals} instance, used by compact indexes to store
+ * posting lists of ids instead of sets of axiom references. Ids of removed axioms are reused.
+ * Lookups from id to axiom do not lock; assignment, release and lookups from axiom to id are
+ * synchronized.
+ */
+public class AxiomIds {
+
+    private static final int EMPTY = 0;
+    private static final int TOMBSTONE = -1;
+    private volatile OWLAxiom[] axioms = new OWLAxiom[64];
+    /** Open addressing table: 0 is an empty slot, -1 a removed one, otherwise id + 1. */
+    private int[] slots = new int[128];
+    private int next = 0;
+    private int used = 0;
+    private int[] free = new int[8];
+    private int freeCount = 0;
+
+    /**
+     * @param id id to decode
+     * @return the axiom with the id, or null if the id is not in use
+     */
+    @Nullable
+    public OWLAxiom get(int id) {
+        OWLAxiom[] array = axioms;
+        if (id < 0 || id >= array.length) {
+            return null;
+        }
+        return array[id];
+    }
+
+    /**
+     * @param axiom axiom to look up
+     * @return id of the axiom, or -1 if no id has been assigned
+     */
+    public synchronized int find(@Nullable Object axiom) {
+        if (!(axiom instanceof OWLAxiom)) {
+            return -1;
+        }
+        int mask = slots.length - 1;
+        for (int i = mix(axiom.hashCode()) & mask;; i = (i + 1) & mask) {
+            int slot = slots[i];
+            if (slot == EMPTY) {
+                return -1;
+            }
+            if (slot != TOMBSTONE && axiom.equals(axioms[slot - 1])) {
+                return slot - 1;
+            }
+        }
+    }
+
+    /**
+     * @param axiom axiom to look up
+     * @return id of the axiom; a new id is assigned if the axiom does not have one
+     */
+    public synchronized int assign(OWLAxiom axiom) {
+        int mask = slots.length - 1;
+        int firstTombstone = -1;
+        int i = mix(axiom.hashCode()) & mask;
+        for (;; i = (i + 1) & mask) {
+            int slot = slots[i];
+            if (slot == EMPTY) {
+                break;
+            }
+            if (slot == TOMBSTONE) {
+                if (firstTombstone < 0) {
+                    firstTombstone = i;
+                }
+            } else if (axiom.equals(axioms[slot - 1])) {
+                return slot - 1;
+            }
+        }
+        int id = freeCount > 0 ? free[--freeCount] : next++;
+        OWLAxiom[] array = axioms;
+        if (id >= array.length) {
+            array = Arrays.copyOf(array, array.length << 1);
+        }
+        array[id] = axiom;
+        axioms = array;
+        slots[firstTombstone < 0 ? i : firstTombstone] = id + 1;
+        if (firstTombstone < 0) {
+            used++;
+            if (used * 2 > slots.length) {
+                rehash(slots.length << 1);
+            }
+        }
+        return id;
+    }
+
+    /**
+     * @param axiom axiom whose id can be reused
+     */
+    public synchronized void release(OWLAxiom axiom) {
+        int mask = slots.length - 1;
+        for (int i = mix(axiom.hashCode()) & mask;; i = (i + 1) & mask) {
+            int slot = slots[i];
+            if (slot == EMPTY) {
+                return;
+            }
+            if (slot != TOMBSTONE && axiom.equals(axioms[slot - 1])) {
+                slots[i] = TOMBSTONE;
+                axioms[slot - 1] = null;
+                if (freeCount == free.length) {
+                    free = Arrays.copyOf(free, free.length << 1);
+                }
+                free[freeCount++] = slot - 1;
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return number of ids in use
+     */
+    public synchronized int size() {
+        return next - freeCount;
+    }
+
+    private void rehash(int capacity) {
+        int[] newSlots = new int[capacity];
+        int mask = capacity - 1;
+        used = 0;
+        for (int slot : slots) {
+            if (slot > 0) {
+                int i = mix(axioms[slot - 1].hashCode()) & mask;
+                while (newSlots[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                newSlots[i] = slot;
+                used++;
+            }
+        }
+        slots = newSlots;
+    }
+
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
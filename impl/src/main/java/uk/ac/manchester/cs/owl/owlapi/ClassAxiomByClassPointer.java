@@ -44,13 +44,9 @@ public class ClassAxiomByClassPointer extends
         super(t, v, initialized, i);
     }
 
-    @Nonnull
     @Override
-    public synchronized ClassAxiomByClassPointer init() {
-        if (isInitialized()) {
-            return this;
-        }
-        super.init();
+    protected void populate() {
+        super.populate();
         // special case: this map needs other maps to be initialized first
         MapPointer<OWLClass, OWLEquivalentClassesAxiom> equivalent = i.get(
                 OWLClass.class, OWLEquivalentClassesAxiom.class).get();
@@ -80,6 +76,5 @@ public class ClassAxiomByClassPointer extends
                 put(c, ax);
             }
         }
-        return this;
     }
 }
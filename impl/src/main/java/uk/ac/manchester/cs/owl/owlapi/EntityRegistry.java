@@ -0,0 +1,162 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotationProperty;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLDatatype;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * Tables of entities by IRI, one per entity type. Tables compare IRIs by value and hold entities
+ * weakly: an entity stays in its table for as long as it is in use, so equal IRIs always map to
+ * the same entity, and nothing is evicted while still reachable. Lookups of entities already in a
+ * table do not lock. Data factories use a registry of their own, or the {@link #shared()}
+ * registry, so that all factories in the JVM hand out the same entity instances.
+ * 
+ * @since 4.7.7
+ */
+public final class EntityRegistry {
+
+    private static final EntityRegistry SHARED = new EntityRegistry();
+    private final LoadingCache<IRI, OWLClass> classes;
+    private final LoadingCache<IRI, OWLObjectProperty> objectProperties;
+    private final LoadingCache<IRI, OWLDataProperty> dataProperties;
+    private final LoadingCache<IRI, OWLDatatype> datatypes;
+    private final LoadingCache<IRI, OWLNamedIndividual> individuals;
+    private final LoadingCache<IRI, OWLAnnotationProperty> annotationProperties;
+
+    /**
+     * Creates an empty registry.
+     */
+    public EntityRegistry() {
+        // weak keys would compare IRIs by identity, and a size bound would evict entities still
+        // in use; neither is used
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().weakValues().recordStats();
+        classes = builder.build(OWLClassImpl::new);
+        objectProperties = builder.build(OWLObjectPropertyImpl::new);
+        dataProperties = builder.build(OWLDataPropertyImpl::new);
+        datatypes = builder.build(OWLDatatypeImpl::new);
+        individuals = builder.build(OWLNamedIndividualImpl::new);
+        annotationProperties = builder.build(OWLAnnotationPropertyImpl::new);
+    }
+
+    /**
+     * @return the registry shared by all data factories that do not use one of their own
+     */
+    @Nonnull
+    public static EntityRegistry shared() {
+        return SHARED;
+    }
+
+    /**
+     * @param iri entity IRI
+     * @return the class with the IRI
+     */
+    @Nonnull
+    public OWLClass getOWLClass(@Nonnull IRI iri) {
+        return classes.get(iri);
+    }
+
+    /**
+     * @param iri entity IRI
+     * @return the object property with the IRI
+     */
+    @Nonnull
+    public OWLObjectProperty getOWLObjectProperty(@Nonnull IRI iri) {
+        return objectProperties.get(iri);
+    }
+
+    /**
+     * @param iri entity IRI
+     * @return the data property with the IRI
+     */
+    @Nonnull
+    public OWLDataProperty getOWLDataProperty(@Nonnull IRI iri) {
+        return dataProperties.get(iri);
+    }
+
+    /**
+     * @param iri entity IRI
+     * @return the datatype with the IRI
+     */
+    @Nonnull
+    public OWLDatatype getOWLDatatype(@Nonnull IRI iri) {
+        return datatypes.get(iri);
+    }
+
+    /**
+     * @param iri entity IRI
+     * @return the named individual with the IRI
+     */
+    @Nonnull
+    public OWLNamedIndividual getOWLNamedIndividual(@Nonnull IRI iri) {
+        return individuals.get(iri);
+    }
+
+    /**
+     * @param iri entity IRI
+     * @return the annotation property with the IRI
+     */
+    @Nonnull
+    public OWLAnnotationProperty getOWLAnnotationProperty(@Nonnull IRI iri) {
+        return annotationProperties.get(iri);
+    }
+
+    /**
+     * @return number of entities in the tables, including entities no longer reachable that
+     *         have not been cleared yet
+     */
+    public long size() {
+        return classes.estimatedSize() + objectProperties.estimatedSize()
+            + dataProperties.estimatedSize() + datatypes.estimatedSize()
+            + individuals.estimatedSize() + annotationProperties.estimatedSize();
+    }
+
+    /**
+     * @return hit and miss counts for each table, by table name
+     */
+    @Nonnull
+    public Map<String, CacheStats> stats() {
+        Map<String, CacheStats> stats = new LinkedHashMap<>();
+        stats.put("classes", classes.stats());
+        stats.put("objectProperties", objectProperties.stats());
+        stats.put("dataProperties", dataProperties.stats());
+        stats.put("datatypes", datatypes.stats());
+        stats.put("individuals", individuals.stats());
+        stats.put("annotationProperties", annotationProperties.stats());
+        return stats;
+    }
+
+    /** Empties the tables; entities in use stay valid, but are no longer shared with new ones. */
+    public void clear() {
+        classes.invalidateAll();
+        objectProperties.invalidateAll();
+        dataProperties.invalidateAll();
+        datatypes.invalidateAll();
+        individuals.invalidateAll();
+        annotationProperties.invalidateAll();
+    }
+}
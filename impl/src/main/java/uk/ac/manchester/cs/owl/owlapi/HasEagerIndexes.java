@@ -0,0 +1,19 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * Implemented by ontologies whose axiom indexes are built lazily, on first use, and can instead be
+ * built ahead of time.
+ */
+public interface HasEagerIndexes {
+
+    /**
+     * Build all indexes not built yet, in parallel on the given executor.
+     * 
+     * @param executor executor to run the builds on
+     * @return build time in nanoseconds for each index built by this call, by index name
+     */
+    Map<String, Long> buildIndexes(Executor executor);
+}
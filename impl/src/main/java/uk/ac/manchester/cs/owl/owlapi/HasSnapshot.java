@@ -0,0 +1,28 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import javax.annotation.Nonnull;
+
+import org.semanticweb.owlapi.model.OWLOntology;
+
+/**
+ * Implemented by ontologies that can hand out read only snapshots of their current version, so
+ * that long running readers, such as a reasoner or a storer, work on a stable ontology without
+ * keeping writers out.
+ */
+public interface HasSnapshot {
+
+    /**
+     * @return version of the ontology; every change applied to the ontology creates a new version
+     */
+    long getVersion();
+
+    /**
+     * Snapshots include the axioms, annotations, imports declarations and id of the ontology;
+     * imported ontologies are looked up through the manager, so they are not part of the snapshot.
+     * The same snapshot is returned until the ontology changes.
+     *
+     * @return an immutable copy of the ontology at its current version
+     */
+    @Nonnull
+    OWLOntology snapshot();
+}
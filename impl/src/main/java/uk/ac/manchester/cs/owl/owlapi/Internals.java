@@ -68,10 +68,14 @@ import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -134,13 +138,17 @@ import org.semanticweb.owlapi.model.OWLSubObjectPropertyOfAxiom;
 import org.semanticweb.owlapi.model.OWLSubPropertyChainOfAxiom;
 import org.semanticweb.owlapi.model.OWLSymmetricObjectPropertyAxiom;
 import org.semanticweb.owlapi.model.OWLTransitiveObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.parameters.ConfigurationOptions;
 import org.semanticweb.owlapi.model.parameters.Navigation;
 import org.semanticweb.owlapi.search.Filters;
+import org.semanticweb.owlapi.util.CollectionFactory;
 import org.semanticweb.owlapi.util.OWLAxiomSearchFilter;
 import org.semanticweb.owlapi.util.OWLAxiomVisitorAdapter;
 
 import com.google.common.collect.Iterables;
 
+import uk.ac.manchester.cs.owl.owlapi.util.collections.SortedArrayList;
+
 /**
  * @author ignazio
  */
@@ -189,7 +197,10 @@ public class Internals implements Serializable {
 
         private static final long serialVersionUID = 40000L;
         @Nonnull
-        private final Set<K> set = createSyncSet();
+        private Set<K> set = createSyncSet();
+        private volatile boolean frozen;
+        /** Incremented on each change, so that values derived from the set can be cached. */
+        private transient volatile int version;
 
         public boolean isEmpty() {
             return set.isEmpty();
@@ -197,16 +208,24 @@ public class Internals implements Serializable {
 
         @Nonnull
         public Set<K> copy() {
+            if (frozen) {
+                return CollectionFactory.getCopyOnRequestSetFromImmutableCollection(set);
+            }
             return new TreeSet<>(set);
         }
 
+        void freeze() {
+            set = new SortedArrayList<>(set).asSet();
+            frozen = true;
+        }
+
         @Nonnull
         public Collection<K> iterable() {
             return set;
         }
 
         public boolean add(K k) {
-            return set.add(k);
+            return changed(set.add(k));
         }
 
         public boolean contains(K k) {
@@ -214,83 +233,129 @@ public class Internals implements Serializable {
         }
 
         public boolean remove(K k) {
-            return set.remove(k);
+            return changed(set.remove(k));
+        }
+
+        private boolean changed(boolean changed) {
+            if (changed) {
+                version++;
+            }
+            return changed;
+        }
+
+        int version() {
+            return version;
         }
     }
 
+    /** Set before the pointers are built; see {@link ConfigurationOptions#LOCK_FREE_INDEXES}. */
+    private final boolean lockFreeIndexes;
+    /** See {@link ConfigurationOptions#COMPACT_AXIOM_INDEXES}; not combined with lock free indexes. */
+    private final boolean compactIndexes;
+    @Nonnull
+    private transient AxiomIds axiomIds = new AxiomIds();
+    private transient volatile boolean frozen;
+
     //@formatter:off
-    @Nonnull protected transient MapPointer<OWLClassExpression, OWLClassAssertionAxiom>                          classAssertionAxiomsByClass                         = buildLazy(CLASS_ASSERTION, CLASSEXPRESSIONS);
-    @Nonnull protected transient MapPointer<OWLAnnotationSubject, OWLAnnotationAssertionAxiom>                   annotationAssertionAxiomsBySubject                  = buildLazy(ANNOTATION_ASSERTION, ANNOTSUPERNAMED);
-    @Nonnull protected transient MapPointer<OWLClass, OWLSubClassOfAxiom>                                        subClassAxiomsBySubPosition                         = buildLazy(SUBCLASS_OF, CLASSSUBNAMED);
-    @Nonnull protected transient MapPointer<OWLClass, OWLSubClassOfAxiom>                                        subClassAxiomsBySuperPosition                       = buildLazy(SUBCLASS_OF, CLASSSUPERNAMED);
-    @Nonnull protected transient MapPointer<OWLObjectPropertyExpression, OWLSubObjectPropertyOfAxiom>            objectSubPropertyAxiomsBySubPosition                = buildLazy(SUB_OBJECT_PROPERTY, OPSUBNAMED);
-    @Nonnull protected transient MapPointer<OWLObjectPropertyExpression, OWLSubObjectPropertyOfAxiom>            objectSubPropertyAxiomsBySuperPosition              = buildLazy(SUB_OBJECT_PROPERTY, OPSUPERNAMED);
-    @Nonnull protected transient MapPointer<OWLDataPropertyExpression, OWLSubDataPropertyOfAxiom>                dataSubPropertyAxiomsBySubPosition                  = buildLazy(SUB_DATA_PROPERTY, DPSUBNAMED);
-    @Nonnull protected transient MapPointer<OWLDataPropertyExpression, OWLSubDataPropertyOfAxiom>                dataSubPropertyAxiomsBySuperPosition                = buildLazy(SUB_DATA_PROPERTY, DPSUPERNAMED);
-
-    @Nonnull protected transient MapPointer<OWLClass, OWLClassAxiom>                                             classAxiomsByClass                                  = buildClassAxiomByClass();
-    @Nonnull protected transient MapPointer<OWLClass, OWLEquivalentClassesAxiom>                                 equivalentClassesAxiomsByClass                      = buildLazy(EQUIVALENT_CLASSES, CLASSCOLLECTIONS);
-    @Nonnull protected transient MapPointer<OWLClass, OWLDisjointClassesAxiom>                                   disjointClassesAxiomsByClass                        = buildLazy(DISJOINT_CLASSES, CLASSCOLLECTIONS);
-    @Nonnull protected transient MapPointer<OWLClass, OWLDisjointUnionAxiom>                                     disjointUnionAxiomsByClass                          = buildLazy(DISJOINT_UNION, CLASSCOLLECTIONS);
-    @Nonnull protected transient MapPointer<OWLClass, OWLHasKeyAxiom>                                            hasKeyAxiomsByClass                                 = buildLazy(HAS_KEY, CLASSSUPERNAMED);
-
-    @Nonnull protected transient MapPointer<OWLObjectPropertyExpression, OWLEquivalentObjectPropertiesAxiom>     equivalentObjectPropertyAxiomsByProperty            = buildLazy(EQUIVALENT_OBJECT_PROPERTIES, OPCOLLECTIONS);
-    @Nonnull protected transient MapPointer<OWLObjectPropertyExpression, OWLDisjointObjectPropertiesAxiom>       disjointObjectPropertyAxiomsByProperty              = buildLazy(DISJOINT_OBJECT_PROPERTIES, OPCOLLECTIONS);
-    @Nonnull protected transient MapPointer<OWLObjectPropertyExpression, OWLObjectPropertyDomainAxiom>           objectPropertyDomainAxiomsByProperty                = buildLazy(OBJECT_PROPERTY_DOMAIN, OPSUBNAMED);
-    @Nonnull protected transient MapPointer<OWLObjectPropertyExpression, OWLObjectPropertyRangeAxiom>            objectPropertyRangeAxiomsByProperty                 = buildLazy(OBJECT_PROPERTY_RANGE, OPSUBNAMED);
-    @Nonnull protected transient MapPointer<OWLObjectPropertyExpression, OWLFunctionalObjectPropertyAxiom>       functionalObjectPropertyAxiomsByProperty            = buildLazy(FUNCTIONAL_OBJECT_PROPERTY, OPSUBNAMED);
-    @Nonnull protected transient MapPointer<OWLObjectPropertyExpression, OWLInverseFunctionalObjectPropertyAxiom>inverseFunctionalPropertyAxiomsByProperty           = buildLazy(INVERSE_FUNCTIONAL_OBJECT_PROPERTY, OPSUBNAMED);
-    @Nonnull protected transient MapPointer<OWLObjectPropertyExpression, OWLSymmetricObjectPropertyAxiom>        symmetricPropertyAxiomsByProperty                   = buildLazy(SYMMETRIC_OBJECT_PROPERTY, OPSUBNAMED);
-    @Nonnull protected transient MapPointer<OWLObjectPropertyExpression, OWLAsymmetricObjectPropertyAxiom>       asymmetricPropertyAxiomsByProperty                  = buildLazy(ASYMMETRIC_OBJECT_PROPERTY, OPSUBNAMED);
-    @Nonnull protected transient MapPointer<OWLObjectPropertyExpression, OWLReflexiveObjectPropertyAxiom>        reflexivePropertyAxiomsByProperty                   = buildLazy(REFLEXIVE_OBJECT_PROPERTY, OPSUBNAMED);
-    @Nonnull protected transient MapPointer<OWLObjectPropertyExpression, OWLIrreflexiveObjectPropertyAxiom>      irreflexivePropertyAxiomsByProperty                 = buildLazy(IRREFLEXIVE_OBJECT_PROPERTY, OPSUBNAMED);
-    @Nonnull protected transient MapPointer<OWLObjectPropertyExpression, OWLTransitiveObjectPropertyAxiom>       transitivePropertyAxiomsByProperty                  = buildLazy(TRANSITIVE_OBJECT_PROPERTY, OPSUBNAMED);
-    @Nonnull protected transient MapPointer<OWLObjectPropertyExpression, OWLInverseObjectPropertiesAxiom>        inversePropertyAxiomsByProperty                     = buildLazy(INVERSE_OBJECT_PROPERTIES, OPCOLLECTIONS);
-
-    @Nonnull protected transient MapPointer<OWLDataPropertyExpression, OWLEquivalentDataPropertiesAxiom>         equivalentDataPropertyAxiomsByProperty              = buildLazy(EQUIVALENT_DATA_PROPERTIES, DPCOLLECTIONS);
-    @Nonnull protected transient MapPointer<OWLDataPropertyExpression, OWLDisjointDataPropertiesAxiom>           disjointDataPropertyAxiomsByProperty                = buildLazy(DISJOINT_DATA_PROPERTIES, DPCOLLECTIONS);
-    @Nonnull protected transient MapPointer<OWLDataPropertyExpression, OWLDataPropertyDomainAxiom>               dataPropertyDomainAxiomsByProperty                  = buildLazy(DATA_PROPERTY_DOMAIN, DPSUBNAMED);
-    @Nonnull protected transient MapPointer<OWLDataPropertyExpression, OWLDataPropertyRangeAxiom>                dataPropertyRangeAxiomsByProperty                   = buildLazy(DATA_PROPERTY_RANGE, DPSUBNAMED);
-    @Nonnull protected transient MapPointer<OWLDataPropertyExpression, OWLFunctionalDataPropertyAxiom>           functionalDataPropertyAxiomsByProperty              = buildLazy(FUNCTIONAL_DATA_PROPERTY, DPSUBNAMED);
-
-    @Nonnull protected transient MapPointer<OWLIndividual, OWLClassAssertionAxiom>                               classAssertionAxiomsByIndividual                    = buildLazy(CLASS_ASSERTION, INDIVIDUALSUBNAMED);
-    @Nonnull protected transient MapPointer<OWLIndividual, OWLObjectPropertyAssertionAxiom>                      objectPropertyAssertionsByIndividual                = buildLazy(OBJECT_PROPERTY_ASSERTION, INDIVIDUALSUBNAMED);
-    @Nonnull protected transient MapPointer<OWLIndividual, OWLDataPropertyAssertionAxiom>                        dataPropertyAssertionsByIndividual                  = buildLazy(DATA_PROPERTY_ASSERTION, INDIVIDUALSUBNAMED);
-    @Nonnull protected transient MapPointer<OWLIndividual, OWLNegativeObjectPropertyAssertionAxiom>              negativeObjectPropertyAssertionAxiomsByIndividual   = buildLazy(NEGATIVE_OBJECT_PROPERTY_ASSERTION, INDIVIDUALSUBNAMED);
-    @Nonnull protected transient MapPointer<OWLIndividual, OWLNegativeDataPropertyAssertionAxiom>                negativeDataPropertyAssertionAxiomsByIndividual     = buildLazy(NEGATIVE_DATA_PROPERTY_ASSERTION, INDIVIDUALSUBNAMED);
-    @Nonnull protected transient MapPointer<OWLIndividual, OWLDifferentIndividualsAxiom>                         differentIndividualsAxiomsByIndividual              = buildLazy(DIFFERENT_INDIVIDUALS, ICOLLECTIONS);
-    @Nonnull protected transient MapPointer<OWLIndividual, OWLSameIndividualAxiom>                               sameIndividualsAxiomsByIndividual                   = buildLazy(SAME_INDIVIDUAL, ICOLLECTIONS);
+    @Nonnull protected transient MapPointer<OWLClassExpression, OWLClassAssertionAxiom>                          classAssertionAxiomsByClass;
+    @Nonnull protected transient MapPointer<OWLAnnotationSubject, OWLAnnotationAssertionAxiom>                   annotationAssertionAxiomsBySubject;
+    @Nonnull protected transient MapPointer<OWLClass, OWLSubClassOfAxiom>                                        subClassAxiomsBySubPosition;
+    @Nonnull protected transient MapPointer<OWLClass, OWLSubClassOfAxiom>                                        subClassAxiomsBySuperPosition;
+    @Nonnull protected transient MapPointer<OWLObjectPropertyExpression, OWLSubObjectPropertyOfAxiom>            objectSubPropertyAxiomsBySubPosition;
+    @Nonnull protected transient MapPointer<OWLObjectPropertyExpression, OWLSubObjectPropertyOfAxiom>            objectSubPropertyAxiomsBySuperPosition;
+    @Nonnull protected transient MapPointer<OWLDataPropertyExpression, OWLSubDataPropertyOfAxiom>                dataSubPropertyAxiomsBySubPosition;
+    @Nonnull protected transient MapPointer<OWLDataPropertyExpression, OWLSubDataPropertyOfAxiom>                dataSubPropertyAxiomsBySuperPosition;
+
+    @Nonnull protected transient MapPointer<OWLClass, OWLClassAxiom>                                             classAxiomsByClass;
+    @Nonnull protected transient MapPointer<OWLClass, OWLEquivalentClassesAxiom>                                 equivalentClassesAxiomsByClass;
+    @Nonnull protected transient MapPointer<OWLClass, OWLDisjointClassesAxiom>                                   disjointClassesAxiomsByClass;
+    @Nonnull protected transient MapPointer<OWLClass, OWLDisjointUnionAxiom>                                     disjointUnionAxiomsByClass;
+    @Nonnull protected transient MapPointer<OWLClass, OWLHasKeyAxiom>                                            hasKeyAxiomsByClass;
+
+    @Nonnull protected transient MapPointer<OWLObjectPropertyExpression, OWLEquivalentObjectPropertiesAxiom>     equivalentObjectPropertyAxiomsByProperty;
+    @Nonnull protected transient MapPointer<OWLObjectPropertyExpression, OWLDisjointObjectPropertiesAxiom>       disjointObjectPropertyAxiomsByProperty;
+    @Nonnull protected transient MapPointer<OWLObjectPropertyExpression, OWLObjectPropertyDomainAxiom>           objectPropertyDomainAxiomsByProperty;
+    @Nonnull protected transient MapPointer<OWLObjectPropertyExpression, OWLObjectPropertyRangeAxiom>            objectPropertyRangeAxiomsByProperty;
+    @Nonnull protected transient MapPointer<OWLObjectPropertyExpression, OWLFunctionalObjectPropertyAxiom>       functionalObjectPropertyAxiomsByProperty;
+    @Nonnull protected transient MapPointer<OWLObjectPropertyExpression, OWLInverseFunctionalObjectPropertyAxiom>inverseFunctionalPropertyAxiomsByProperty;
+    @Nonnull protected transient MapPointer<OWLObjectPropertyExpression, OWLSymmetricObjectPropertyAxiom>        symmetricPropertyAxiomsByProperty;
+    @Nonnull protected transient MapPointer<OWLObjectPropertyExpression, OWLAsymmetricObjectPropertyAxiom>       asymmetricPropertyAxiomsByProperty;
+    @Nonnull protected transient MapPointer<OWLObjectPropertyExpression, OWLReflexiveObjectPropertyAxiom>        reflexivePropertyAxiomsByProperty;
+    @Nonnull protected transient MapPointer<OWLObjectPropertyExpression, OWLIrreflexiveObjectPropertyAxiom>      irreflexivePropertyAxiomsByProperty;
+    @Nonnull protected transient MapPointer<OWLObjectPropertyExpression, OWLTransitiveObjectPropertyAxiom>       transitivePropertyAxiomsByProperty;
+    @Nonnull protected transient MapPointer<OWLObjectPropertyExpression, OWLInverseObjectPropertiesAxiom>        inversePropertyAxiomsByProperty;
+
+    @Nonnull protected transient MapPointer<OWLDataPropertyExpression, OWLEquivalentDataPropertiesAxiom>         equivalentDataPropertyAxiomsByProperty;
+    @Nonnull protected transient MapPointer<OWLDataPropertyExpression, OWLDisjointDataPropertiesAxiom>           disjointDataPropertyAxiomsByProperty;
+    @Nonnull protected transient MapPointer<OWLDataPropertyExpression, OWLDataPropertyDomainAxiom>               dataPropertyDomainAxiomsByProperty;
+    @Nonnull protected transient MapPointer<OWLDataPropertyExpression, OWLDataPropertyRangeAxiom>                dataPropertyRangeAxiomsByProperty;
+    @Nonnull protected transient MapPointer<OWLDataPropertyExpression, OWLFunctionalDataPropertyAxiom>           functionalDataPropertyAxiomsByProperty;
+
+    @Nonnull protected transient MapPointer<OWLIndividual, OWLClassAssertionAxiom>                               classAssertionAxiomsByIndividual;
+    @Nonnull protected transient MapPointer<OWLIndividual, OWLObjectPropertyAssertionAxiom>                      objectPropertyAssertionsByIndividual;
+    @Nonnull protected transient MapPointer<OWLIndividual, OWLDataPropertyAssertionAxiom>                        dataPropertyAssertionsByIndividual;
+    @Nonnull protected transient MapPointer<OWLIndividual, OWLNegativeObjectPropertyAssertionAxiom>              negativeObjectPropertyAssertionAxiomsByIndividual;
+    @Nonnull protected transient MapPointer<OWLIndividual, OWLNegativeDataPropertyAssertionAxiom>                negativeDataPropertyAssertionAxiomsByIndividual;
+    @Nonnull protected transient MapPointer<OWLIndividual, OWLDifferentIndividualsAxiom>                         differentIndividualsAxiomsByIndividual;
+    @Nonnull protected transient MapPointer<OWLIndividual, OWLSameIndividualAxiom>                               sameIndividualsAxiomsByIndividual;
 
     @Nonnull protected  SetPointer<OWLImportsDeclaration>                        importsDeclarations                 = new SetPointer<>();
     @Nonnull protected  SetPointer<OWLAnnotation>                                ontologyAnnotations                 = new SetPointer<>();
     @Nonnull protected  SetPointer<OWLClassAxiom>                                generalClassAxioms                  = new SetPointer<>();
     @Nonnull protected  SetPointer<OWLSubPropertyChainOfAxiom>                   propertyChainSubPropertyAxioms      = new SetPointer<>();
 
-    @Nonnull protected transient MapPointer<AxiomType<?>, OWLAxiom>              axiomsByType                        = build();
+    @Nonnull protected transient MapPointer<AxiomType<?>, OWLAxiom>              axiomsByType;
 
-    @Nonnull protected transient MapPointer<OWLClass, OWLAxiom>                  owlClassReferences                  = build();
-    @Nonnull protected transient MapPointer<OWLObjectProperty, OWLAxiom>         owlObjectPropertyReferences         = build();
-    @Nonnull protected transient MapPointer<OWLDataProperty, OWLAxiom>           owlDataPropertyReferences           = build();
-    @Nonnull protected transient MapPointer<OWLNamedIndividual, OWLAxiom>        owlIndividualReferences             = build();
-    @Nonnull protected transient MapPointer<OWLAnonymousIndividual, OWLAxiom>    owlAnonymousIndividualReferences    = build();
-    @Nonnull protected transient MapPointer<OWLDatatype, OWLAxiom>               owlDatatypeReferences               = build();
-    @Nonnull protected transient MapPointer<OWLAnnotationProperty, OWLAxiom>     owlAnnotationPropertyReferences     = build();
-    @Nonnull protected transient MapPointer<OWLEntity, OWLDeclarationAxiom>      declarationsByEntity                = build();
+    @Nonnull protected transient MapPointer<OWLClass, OWLAxiom>                  owlClassReferences;
+    @Nonnull protected transient MapPointer<OWLObjectProperty, OWLAxiom>         owlObjectPropertyReferences;
+    @Nonnull protected transient MapPointer<OWLDataProperty, OWLAxiom>           owlDataPropertyReferences;
+    @Nonnull protected transient MapPointer<OWLNamedIndividual, OWLAxiom>        owlIndividualReferences;
+    @Nonnull protected transient MapPointer<OWLAnonymousIndividual, OWLAxiom>    owlAnonymousIndividualReferences;
+    @Nonnull protected transient MapPointer<OWLDatatype, OWLAxiom>               owlDatatypeReferences;
+    @Nonnull protected transient MapPointer<OWLAnnotationProperty, OWLAxiom>     owlAnnotationPropertyReferences;
+    @Nonnull protected transient MapPointer<OWLEntity, OWLDeclarationAxiom>      declarationsByEntity;
 //@formatter:on
     @Nullable
     private List<OWLAxiom> axiomsForSerialization;
 
+    /**
+     * Internals with the default indexes: locking and not compact.
+     */
+    public Internals() {
+        this(false, false);
+    }
+
+    /**
+     * @param lockFreeIndexes true if the indexes should not lock on reads
+     * @param compactIndexes true if multi valued index entries should be stored as posting lists of
+     *        axiom ids; ignored if lock free indexes are requested
+     */
+    public Internals(boolean lockFreeIndexes, boolean compactIndexes) {
+        this.lockFreeIndexes = lockFreeIndexes;
+        this.compactIndexes = !lockFreeIndexes && compactIndexes;
+        initPointers();
+    }
+
     @SuppressWarnings("null")
     private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
         stream.defaultReadObject();
+        axiomIds = new AxiomIds();
+        initPointers();
+        for (OWLAxiom ax : axiomsForSerialization) {
+            addAxiom(ax);
+        }
+        axiomsForSerialization = null;
+    }
+
+    private void initPointers() {
         axiomsByType = build();
-        owlClassReferences = build();
-        owlObjectPropertyReferences = build();
-        owlDataPropertyReferences = build();
-        owlIndividualReferences = build();
-        owlAnonymousIndividualReferences = build();
-        owlDatatypeReferences = build();
-        owlAnnotationPropertyReferences = build();
+        owlClassReferences = buildSorted();
+        owlObjectPropertyReferences = buildSorted();
+        owlDataPropertyReferences = buildSorted();
+        owlIndividualReferences = buildSorted();
+        owlAnonymousIndividualReferences = buildSorted();
+        owlDatatypeReferences = buildSorted();
+        owlAnnotationPropertyReferences = buildSorted();
         declarationsByEntity = build();
         classAssertionAxiomsByClass = buildLazy(CLASS_ASSERTION, CLASSEXPRESSIONS);
         annotationAssertionAxiomsBySubject = buildLazy(ANNOTATION_ASSERTION, ANNOTSUPERNAMED);
@@ -337,10 +402,28 @@ public class Internals implements Serializable {
             buildLazy(NEGATIVE_DATA_PROPERTY_ASSERTION, INDIVIDUALSUBNAMED);
         differentIndividualsAxiomsByIndividual = buildLazy(DIFFERENT_INDIVIDUALS, ICOLLECTIONS);
         sameIndividualsAxiomsByIndividual = buildLazy(SAME_INDIVIDUAL, ICOLLECTIONS);
-        for (OWLAxiom ax : axiomsForSerialization) {
-            addAxiom(ax);
-        }
-        axiomsForSerialization = null;
+    }
+
+    /**
+     * @return true if the indexes of this instance do not lock on reads
+     */
+    public boolean isLockFreeIndexes() {
+        return lockFreeIndexes;
+    }
+
+    /**
+     * @return true if multi valued index entries are stored as posting lists of axiom ids
+     */
+    public boolean isCompactIndexes() {
+        return compactIndexes;
+    }
+
+    /**
+     * @return the axiom id table used by compact indexes
+     */
+    @Nonnull
+    public AxiomIds getAxiomIds() {
+        return axiomIds;
     }
 
     /**
@@ -374,52 +457,123 @@ public class Internals implements Serializable {
      * the storage of the internals instance.
      */
     public void trimToSize() {
-        axiomsByType.trimToSize();
-        owlClassReferences.trimToSize();
-        owlObjectPropertyReferences.trimToSize();
-        owlDataPropertyReferences.trimToSize();
-        owlIndividualReferences.trimToSize();
-        owlAnonymousIndividualReferences.trimToSize();
-        owlDatatypeReferences.trimToSize();
-        owlAnnotationPropertyReferences.trimToSize();
-        declarationsByEntity.trimToSize();
-        classAssertionAxiomsByClass.trimToSize();
-        annotationAssertionAxiomsBySubject.trimToSize();
-        subClassAxiomsBySubPosition.trimToSize();
-        subClassAxiomsBySuperPosition.trimToSize();
-        objectSubPropertyAxiomsBySubPosition.trimToSize();
-        objectSubPropertyAxiomsBySuperPosition.trimToSize();
-        dataSubPropertyAxiomsBySubPosition.trimToSize();
-        dataSubPropertyAxiomsBySuperPosition.trimToSize();
-        classAxiomsByClass.trimToSize();
-        equivalentClassesAxiomsByClass.trimToSize();
-        disjointClassesAxiomsByClass.trimToSize();
-        disjointUnionAxiomsByClass.trimToSize();
-        hasKeyAxiomsByClass.trimToSize();
-        equivalentObjectPropertyAxiomsByProperty.trimToSize();
-        disjointObjectPropertyAxiomsByProperty.trimToSize();
-        objectPropertyDomainAxiomsByProperty.trimToSize();
-        objectPropertyRangeAxiomsByProperty.trimToSize();
-        functionalObjectPropertyAxiomsByProperty.trimToSize();
-        inverseFunctionalPropertyAxiomsByProperty.trimToSize();
-        symmetricPropertyAxiomsByProperty.trimToSize();
-        asymmetricPropertyAxiomsByProperty.trimToSize();
-        reflexivePropertyAxiomsByProperty.trimToSize();
-        irreflexivePropertyAxiomsByProperty.trimToSize();
-        transitivePropertyAxiomsByProperty.trimToSize();
-        inversePropertyAxiomsByProperty.trimToSize();
-        equivalentDataPropertyAxiomsByProperty.trimToSize();
-        disjointDataPropertyAxiomsByProperty.trimToSize();
-        dataPropertyDomainAxiomsByProperty.trimToSize();
-        dataPropertyRangeAxiomsByProperty.trimToSize();
-        functionalDataPropertyAxiomsByProperty.trimToSize();
-        classAssertionAxiomsByIndividual.trimToSize();
-        objectPropertyAssertionsByIndividual.trimToSize();
-        dataPropertyAssertionsByIndividual.trimToSize();
-        negativeObjectPropertyAssertionAxiomsByIndividual.trimToSize();
-        negativeDataPropertyAssertionAxiomsByIndividual.trimToSize();
-        differentIndividualsAxiomsByIndividual.trimToSize();
-        sameIndividualsAxiomsByIndividual.trimToSize();
+        for (MapPointer<?, ?> pointer : pointers()) {
+            pointer.trimToSize();
+        }
+    }
+
+    /**
+     * Build all indexes and replace them with immutable, array backed copies. After this call, reads
+     * never lock and any change to the indexes throws an {@link UnsupportedOperationException}.
+     * Used for frozen ontologies; there is no way back.
+     */
+    public synchronized void freeze() {
+        if (frozen) {
+            return;
+        }
+        for (MapPointer<?, ?> pointer : pointers()) {
+            pointer.freeze();
+        }
+        importsDeclarations.freeze();
+        ontologyAnnotations.freeze();
+        generalClassAxioms.freeze();
+        propertyChainSubPropertyAxioms.freeze();
+        // ids are only needed to build or update posting lists
+        axiomIds = new AxiomIds();
+        frozen = true;
+    }
+
+    /**
+     * @return true if {@link #freeze()} has been called
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Build all indexes that are still uninitialized, in parallel on the given executor, instead
+     * of waiting for the first query that needs each of them. Indexes are built exactly as they
+     * would be on first use.
+     * 
+     * @param executor executor to run the builds on
+     * @return build time in nanoseconds for each index built by this call, by index name
+     */
+    @Nonnull
+    public Map<String, Long> buildIndexes(@Nonnull Executor executor) {
+        Map<String, CompletableFuture<Long>> tasks = new LinkedHashMap<>();
+        for (Map.Entry<String, MapPointer<?, ?>> e : namedPointers().entrySet()) {
+            MapPointer<?, ?> pointer = e.getValue();
+            if (!pointer.isInitialized()) {
+                tasks.put(e.getKey(), CompletableFuture.supplyAsync(() -> {
+                    long start = System.nanoTime();
+                    pointer.init();
+                    return Long.valueOf(System.nanoTime() - start);
+                }, executor));
+            }
+        }
+        Map<String, Long> times = new LinkedHashMap<>();
+        tasks.forEach((name, task) -> times.put(name, task.join()));
+        return times;
+    }
+
+    @Nonnull
+    private Collection<MapPointer<?, ?>> pointers() {
+        return namedPointers().values();
+    }
+
+    /**
+     * @return all index pointers, by field name
+     */
+    @Nonnull
+    private Map<String, MapPointer<?, ?>> namedPointers() {
+        Map<String, MapPointer<?, ?>> pointers = new LinkedHashMap<>();
+        pointers.put("axiomsByType", axiomsByType);
+        pointers.put("owlClassReferences", owlClassReferences);
+        pointers.put("owlObjectPropertyReferences", owlObjectPropertyReferences);
+        pointers.put("owlDataPropertyReferences", owlDataPropertyReferences);
+        pointers.put("owlIndividualReferences", owlIndividualReferences);
+        pointers.put("owlAnonymousIndividualReferences", owlAnonymousIndividualReferences);
+        pointers.put("owlDatatypeReferences", owlDatatypeReferences);
+        pointers.put("owlAnnotationPropertyReferences", owlAnnotationPropertyReferences);
+        pointers.put("declarationsByEntity", declarationsByEntity);
+        pointers.put("classAssertionAxiomsByClass", classAssertionAxiomsByClass);
+        pointers.put("annotationAssertionAxiomsBySubject", annotationAssertionAxiomsBySubject);
+        pointers.put("subClassAxiomsBySubPosition", subClassAxiomsBySubPosition);
+        pointers.put("subClassAxiomsBySuperPosition", subClassAxiomsBySuperPosition);
+        pointers.put("objectSubPropertyAxiomsBySubPosition", objectSubPropertyAxiomsBySubPosition);
+        pointers.put("objectSubPropertyAxiomsBySuperPosition", objectSubPropertyAxiomsBySuperPosition);
+        pointers.put("dataSubPropertyAxiomsBySubPosition", dataSubPropertyAxiomsBySubPosition);
+        pointers.put("dataSubPropertyAxiomsBySuperPosition", dataSubPropertyAxiomsBySuperPosition);
+        pointers.put("classAxiomsByClass", classAxiomsByClass);
+        pointers.put("equivalentClassesAxiomsByClass", equivalentClassesAxiomsByClass);
+        pointers.put("disjointClassesAxiomsByClass", disjointClassesAxiomsByClass);
+        pointers.put("disjointUnionAxiomsByClass", disjointUnionAxiomsByClass);
+        pointers.put("hasKeyAxiomsByClass", hasKeyAxiomsByClass);
+        pointers.put("equivalentObjectPropertyAxiomsByProperty", equivalentObjectPropertyAxiomsByProperty);
+        pointers.put("disjointObjectPropertyAxiomsByProperty", disjointObjectPropertyAxiomsByProperty);
+        pointers.put("objectPropertyDomainAxiomsByProperty", objectPropertyDomainAxiomsByProperty);
+        pointers.put("objectPropertyRangeAxiomsByProperty", objectPropertyRangeAxiomsByProperty);
+        pointers.put("functionalObjectPropertyAxiomsByProperty", functionalObjectPropertyAxiomsByProperty);
+        pointers.put("inverseFunctionalPropertyAxiomsByProperty", inverseFunctionalPropertyAxiomsByProperty);
+        pointers.put("symmetricPropertyAxiomsByProperty", symmetricPropertyAxiomsByProperty);
+        pointers.put("asymmetricPropertyAxiomsByProperty", asymmetricPropertyAxiomsByProperty);
+        pointers.put("reflexivePropertyAxiomsByProperty", reflexivePropertyAxiomsByProperty);
+        pointers.put("irreflexivePropertyAxiomsByProperty", irreflexivePropertyAxiomsByProperty);
+        pointers.put("transitivePropertyAxiomsByProperty", transitivePropertyAxiomsByProperty);
+        pointers.put("inversePropertyAxiomsByProperty", inversePropertyAxiomsByProperty);
+        pointers.put("equivalentDataPropertyAxiomsByProperty", equivalentDataPropertyAxiomsByProperty);
+        pointers.put("disjointDataPropertyAxiomsByProperty", disjointDataPropertyAxiomsByProperty);
+        pointers.put("dataPropertyDomainAxiomsByProperty", dataPropertyDomainAxiomsByProperty);
+        pointers.put("dataPropertyRangeAxiomsByProperty", dataPropertyRangeAxiomsByProperty);
+        pointers.put("functionalDataPropertyAxiomsByProperty", functionalDataPropertyAxiomsByProperty);
+        pointers.put("classAssertionAxiomsByIndividual", classAssertionAxiomsByIndividual);
+        pointers.put("objectPropertyAssertionsByIndividual", objectPropertyAssertionsByIndividual);
+        pointers.put("dataPropertyAssertionsByIndividual", dataPropertyAssertionsByIndividual);
+        pointers.put("negativeObjectPropertyAssertionAxiomsByIndividual", negativeObjectPropertyAssertionAxiomsByIndividual);
+        pointers.put("negativeDataPropertyAssertionAxiomsByIndividual", negativeDataPropertyAssertionAxiomsByIndividual);
+        pointers.put("differentIndividualsAxiomsByIndividual", differentIndividualsAxiomsByIndividual);
+        pointers.put("sameIndividualsAxiomsByIndividual", sameIndividualsAxiomsByIndividual);
+        return pointers;
     }
 
     private void writeObject(ObjectOutputStream stream) throws IOException {
@@ -716,6 +870,11 @@ public class Internals implements Serializable {
         return build(null, null);
     }
 
+    @Nonnull
+    protected <K, V extends OWLAxiom> MapPointer<K, V> buildSorted() {
+        return this.<K, V>build().sorted();
+    }
+
     @Nonnull
     protected <K, V extends OWLAxiom> MapPointer<K, V> buildLazy(AxiomType<?> t,
         OWLAxiomVisitorEx<?> v) {
@@ -733,6 +892,38 @@ public class Internals implements Serializable {
         return new MapPointer<>(t, v, true, this);
     }
 
+    /**
+     * Adds a batch of axioms, deferring index maintenance: lazy indexes already built are dropped
+     * and rebuilt in one pass when next used, entity indexes are presized and their sorted keys
+     * rebuilt once, when next needed.
+     * 
+     * @param axioms axioms to add
+     * @return the axioms that were not already included, in input order
+     */
+    @Nonnull
+    public List<OWLAxiom> addAxioms(@Nonnull Collection<? extends OWLAxiom> axioms) {
+        checkNotNull(axioms, "axioms cannot be null");
+        Collection<MapPointer<?, ?>> pointers = pointers();
+        // roughly one new entity every few axioms; maps grow as usual beyond the hint
+        int expectedKeys = axioms.size() / 4;
+        for (MapPointer<?, ?> pointer : pointers) {
+            pointer.beginBulk(pointer == axiomsByType ? 0 : expectedKeys);
+        }
+        List<OWLAxiom> added = new ArrayList<>(axioms.size());
+        try {
+            for (OWLAxiom ax : axioms) {
+                if (addAxiom(ax)) {
+                    added.add(ax);
+                }
+            }
+        } finally {
+            for (MapPointer<?, ?> pointer : pointers) {
+                pointer.endBulk();
+            }
+        }
+        return added;
+    }
+
     /**
      * @param axiom axiom to add
      * @return true if the axiom was not already included
@@ -830,6 +1021,9 @@ public class Internals implements Serializable {
                     }
                 };
             axiom.accept(referenceRemover);
+            if (compactIndexes) {
+                axiomIds.release(axiom);
+            }
             return true;
         }
         return false;
@@ -931,6 +1125,13 @@ public class Internals implements Serializable {
         return ontologyAnnotations.copy();
     }
 
+    /**
+     * @return a number that changes whenever the ontology annotations change
+     */
+    int getOntologyAnnotationsVersion() {
+        return ontologyAnnotations.version();
+    }
+
     /**
      * @param ann annotation to add
      * @return true if annotation added
@@ -1550,6 +1751,30 @@ public class Internals implements Serializable {
         return owlEntity.accept(refAxiomsCollector);
     }
 
+    /**
+     * @param owlEntity entity to describe
+     * @return the index of axioms referencing entities of the same type as the input
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public MapPointer<OWLEntity, OWLAxiom> getReferences(@Nonnull OWLEntity owlEntity) {
+        MapPointer<? extends OWLEntity, OWLAxiom> pointer;
+        if (owlEntity.isOWLClass()) {
+            pointer = owlClassReferences;
+        } else if (owlEntity.isOWLObjectProperty()) {
+            pointer = owlObjectPropertyReferences;
+        } else if (owlEntity.isOWLDataProperty()) {
+            pointer = owlDataPropertyReferences;
+        } else if (owlEntity.isOWLNamedIndividual()) {
+            pointer = owlIndividualReferences;
+        } else if (owlEntity.isOWLDatatype()) {
+            pointer = owlDatatypeReferences;
+        } else {
+            pointer = owlAnnotationPropertyReferences;
+        }
+        return (MapPointer<OWLEntity, OWLAxiom>) pointer;
+    }
+
     private class ReferencedAxiomsCollector
         implements OWLEntityVisitorEx<Iterable<OWLAxiom>>, Serializable {
 
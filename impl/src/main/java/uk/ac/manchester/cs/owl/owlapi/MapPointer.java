@@ -16,15 +16,22 @@ import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.verifyNotNull;
 
 import java.lang.ref.SoftReference;
+import java.util.AbstractCollection;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PrimitiveIterator;
 import java.util.Set;
-//import java.util.function.Consumer;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -44,11 +51,30 @@ import org.semanticweb.owlapi.util.OWLAxiomSearchFilter;
 
 import uk.ac.manchester.cs.owl.owlapi.InitVisitorFactory.InitCollectionVisitor;
 import uk.ac.manchester.cs.owl.owlapi.InitVisitorFactory.InitVisitor;
-import uk.ac.manchester.cs.owl.owlapi.util.collections.SmallSet;
+import uk.ac.manchester.cs.owl.owlapi.util.collections.IntPostingList;
+import uk.ac.manchester.cs.owl.owlapi.util.collections.OpenHashSet;
+import uk.ac.manchester.cs.owl.owlapi.util.collections.SortedArrayList;
 
 /**
  * * Objects that identify contained maps - so that getting the keys of a specific map does not
  * require a specific method for each map nor does it require the map to be copied and returned.
+ * <p>
+ * If the internals have been created with lock free indexes (see
+ * {@link org.semanticweb.owlapi.model.parameters.ConfigurationOptions#LOCK_FREE_INDEXES}), reads
+ * do not acquire the pointer monitor: keys are held in a concurrent map, small value collections
+ * are immutable lists replaced on write, and larger ones are concurrent sets with a cached
+ * immutable snapshot. {@link #getValues(Object)} then returns a view rather than a copy. Writes
+ * and lazy initialization are still serialized on the pointer monitor.
+ * <p>
+ * A pointer can also be frozen (see {@link #freeze()}): it is initialized, each value collection is
+ * replaced by an immutable sorted array, and from then on all reads are lock free and all writes
+ * fail.
+ * <p>
+ * Pointers set up with {@link #sorted()} also keep their keys in a sorted set, built on the first
+ * call to {@link #sortedKeys()} and from then on updated when a key gains its first value or loses
+ * its last one. The values for a key act as its reference count, so
+ * adding or removing values for a key already present costs nothing extra. {@link #sortedKeys()}
+ * returns an immutable snapshot, rebuilt only after the key set has changed.
  * 
  * @author ignazio
  * @param <K> key
@@ -56,17 +82,39 @@ import uk.ac.manchester.cs.owl.owlapi.util.collections.SmallSet;
  */
 public class MapPointer<K, V extends OWLAxiom> {
 
+    /** Above this number of values, lock free pointers switch from copy on write lists to sets. */
+    private static final int COPY_ON_WRITE_THRESHOLD = 8;
     @Nullable
     private final AxiomType<?> type;
     @Nullable
     private final OWLAxiomVisitorEx<?> visitor;
     private boolean initialized;
+    /** True for indexes populated on first use from the axioms by type index. */
+    private final boolean lazy;
+    /** Set between {@link #beginBulk(int)} and {@link #endBulk()}. */
+    private boolean bulk;
+    /** Set once initialization has completed; only used by lock free pointers. */
+    private volatile boolean ready;
+    private final boolean lockFree;
+    private final boolean compact;
     @Nonnull
     protected final Internals i;
-    private SoftReference<Set<IRI>> iris;
-    private int size = 0;
+    private volatile SoftReference<Set<IRI>> iris;
+    private volatile int size = 0;
 //    private final ObjectObjectHashMap<K, Collection<V>> map = new ObjectObjectHashMap<>(17, 0.75F);
-    private final HashMap<K, Collection<V>> map = new HashMap<>(17, 0.75F);
+    private Map<K, Collection<V>> map;
+    /** Set once the pointer has been frozen; written after the frozen map. */
+    private volatile boolean frozen;
+    /** Set by {@link #sorted()}. */
+    private boolean sortable;
+    /**
+     * Keys in natural order, maintained on writes once built by {@link #sortedKeys()}; null until
+     * then, and during bulk additions.
+     */
+    @Nullable
+    private NavigableSet<K> sortedKeys;
+    @Nullable
+    private volatile SortedArrayList<K> sortedSnapshot;
 
     /**
      * @param t type of axioms contained
@@ -79,30 +127,54 @@ public class MapPointer<K, V extends OWLAxiom> {
         type = t;
         visitor = v;
         this.initialized = initialized;
+        this.ready = initialized;
+        lazy = !initialized;
         this.i = checkNotNull(i, "i cannot be null");
+        lockFree = i.isLockFreeIndexes();
+        compact = i.isCompactIndexes();
+        if (lockFree) {
+            map = new ConcurrentHashMap<>(17, 0.75F);
+        } else {
+            map = new HashMap<>(17, 0.75F);
+        }
     }
 
     /**
      * @param e entity
      * @return true if an entity with the same iri as the input exists in the collection
      */
-    public synchronized boolean containsReference(K e) {
-        return map.containsKey(e);
+    public boolean containsReference(K e) {
+        if (lockFree || frozen) {
+            return map.containsKey(e);
+        }
+        synchronized (this) {
+            return map.containsKey(e);
+        }
     }
 
     /**
      * @param e IRI
      * @return true if an entity with the same iri as the input exists in the collection
      */
-    public synchronized boolean containsReference(IRI e) {
+    public boolean containsReference(IRI e) {
+        if (lockFree || frozen) {
+            return iriSet().contains(e);
+        }
+        synchronized (this) {
+            return iriSet().contains(e);
+        }
+    }
+
+    private Set<IRI> iriSet() {
         Set<IRI> set = null;
-        if (iris != null) {
-            set = iris.get();
+        SoftReference<Set<IRI>> reference = iris;
+        if (reference != null) {
+            set = reference.get();
         }
         if (set == null) {
             set = initSet();
         }
-        return set.contains(e);
+        return set;
     }
 
 	private Set<IRI> initSet() {
@@ -134,17 +206,173 @@ public class MapPointer<K, V extends OWLAxiom> {
         return initialized;
     }
 
+    /**
+     * @return true if this pointer does not lock on reads
+     */
+    public boolean isLockFree() {
+        return lockFree;
+    }
+
+    /**
+     * @return true if this pointer has been frozen
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Initialize this pointer, if needed, and replace its contents with an immutable, array backed
+     * copy: values for each key are kept as a sorted array, so that lookups are binary searches.
+     * After this call, reads never lock and writes throw an {@link UnsupportedOperationException}.
+     * 
+     * @return this pointer
+     */
+    public synchronized MapPointer<K, V> freeze() {
+        if (frozen) {
+            return this;
+        }
+        init();
+        Map<K, Collection<V>> frozenMap = new HashMap<>(map.size() * 4 / 3 + 1, 0.75F);
+        for (Map.Entry<K, Collection<V>> e : map.entrySet()) {
+            frozenMap.put(e.getKey(), new SortedArrayList<>(e.getValue()));
+        }
+        // not Map.copyOf: its lookups throw on null keys
+        map = Collections.unmodifiableMap(frozenMap);
+        sortedKeys = null;
+        frozen = true;
+        return this;
+    }
+
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new UnsupportedOperationException("Frozen index pointers cannot be modified");
+        }
+    }
+
+    /**
+     * Keeps the keys of this pointer sorted from now on; keys must be comparable and their natural
+     * order consistent with equals.
+     * 
+     * @return this pointer
+     */
+    public synchronized MapPointer<K, V> sorted() {
+        sortable = true;
+        return this;
+    }
+
+    /**
+     * @return immutable snapshot of the keys in natural order; the same instance is returned until
+     *         a key is added or removed
+     * @throws IllegalStateException if the pointer was not set up with {@link #sorted()}
+     */
+    @Nonnull
+    public SortedArrayList<K> sortedKeys() {
+        ensureReady();
+        SortedArrayList<K> snapshot = sortedSnapshot;
+        if (snapshot != null) {
+            return snapshot;
+        }
+        synchronized (this) {
+            if (!sortable) {
+                throw new IllegalStateException("Keys are not sorted for this pointer");
+            }
+            snapshot = sortedSnapshot;
+            if (snapshot == null) {
+                if (frozen) {
+                    // keys never change, so there is no set to maintain
+                    snapshot = new SortedArrayList<>(map.keySet());
+                } else {
+                    if (sortedKeys == null) {
+                        sortedKeys = new TreeSet<>(map.keySet());
+                    }
+                    // the set is already sorted, so building the array does not need a full sort
+                    snapshot = new SortedArrayList<>(sortedKeys);
+                }
+                sortedSnapshot = snapshot;
+            }
+            return snapshot;
+        }
+    }
+
+    private void keyAdded(K k) {
+        if (sortedKeys != null && sortedKeys.add(k)) {
+            sortedSnapshot = null;
+        }
+    }
+
+    private void keyRemoved(K k) {
+        if (sortedKeys != null && sortedKeys.remove(k)) {
+            sortedSnapshot = null;
+        }
+    }
+
+    /**
+     * Prepares this pointer for a batch of additions. Lazy indexes that have already been built
+     * are dropped, to be rebuilt in a single pass over the axioms by type index when next used;
+     * other indexes stop maintaining their sorted keys until {@link #endBulk()}, and are presized
+     * if empty and not lock free.
+     * 
+     * @param expectedKeys hint for the number of keys the batch will add
+     */
+    public synchronized void beginBulk(int expectedKeys) {
+        checkNotFrozen();
+        if (lazy) {
+            if (initialized && !lockFree) {
+                map = new HashMap<>(17, 0.75F);
+                size = 0;
+                iris = null;
+                initialized = false;
+                ready = false;
+                sortedKeys = null;
+                sortedSnapshot = null;
+            }
+            return;
+        }
+        // lock free readers do not synchronize on this pointer, so their map is never replaced
+        if (!lockFree && map.isEmpty() && expectedKeys > 17) {
+            int capacity = (int) Math.min(Integer.MAX_VALUE, expectedKeys * 4L / 3 + 1);
+            map = new HashMap<>(capacity, 0.75F);
+        }
+        // rebuilt from the map when next needed
+        sortedKeys = null;
+        sortedSnapshot = null;
+        bulk = true;
+    }
+
+    /**
+     * Completes a batch of additions started with {@link #beginBulk(int)}; sorted keys are rebuilt
+     * from the map in one pass when next needed.
+     */
+    public synchronized void endBulk() {
+        if (!bulk) {
+            return;
+        }
+        bulk = false;
+        sortedSnapshot = null;
+        iris = null;
+    }
+
     /**
      * @return the map pointer
      */
-    @SuppressWarnings({"unchecked", "null"})
     public synchronized MapPointer<K, V> init() {
         if (initialized) {
             return this;
         }
         initialized = true;
+        populate();
+        ready = true;
+        return this;
+    }
+
+    /**
+     * Fill the map from the axioms by type index. Called once, by {@link #init()}, while holding
+     * the monitor of this pointer; lock free readers cannot see the map until this returns.
+     */
+    @SuppressWarnings({"unchecked", "null"})
+    protected void populate() {
         if (visitor == null) {
-            return this;
+            return;
         }
         if (visitor instanceof InitVisitor) {
             for (V ax : (Collection<V>) i.getAxiomsByType().getValues(type)) {
@@ -163,7 +391,12 @@ public class MapPointer<K, V extends OWLAxiom> {
                 }
             }
         }
-        return this;
+    }
+
+    private void ensureReady() {
+        if (!ready) {
+            init();
+        }
     }
 
     @Nonnull
@@ -176,23 +409,109 @@ public class MapPointer<K, V extends OWLAxiom> {
      * @return key set
      */
     @Nonnull
-    public synchronized List<K> keySet() {
-        init();
-        List<K> keySet = new ArrayList<>();
-//        ObjectProcedure<K> predicate = keySet::add;
-        map.keySet().forEach(el -> keySet.add(el));
-        assert keySet != null;
-        return keySet;
+    public List<K> keySet() {
+        if (lockFree || frozen) {
+            ensureReady();
+            return new ArrayList<>(map.keySet());
+        }
+        synchronized (this) {
+            init();
+            List<K> keySet = new ArrayList<>();
+//            ObjectProcedure<K> predicate = keySet::add;
+            map.keySet().forEach(el -> keySet.add(el));
+            assert keySet != null;
+            return keySet;
+        }
     }
 
     /**
      * @param key key to look up
-     * @return value
+     * @return value; for lock free pointers, this is an immutable view
      */
     @Nonnull
-    public synchronized List<V> getValues(K key) {
-        init();
-        return get(key);
+    public List<V> getValues(K key) {
+        if (lockFree || frozen) {
+            ensureReady();
+            return view(key);
+        }
+        synchronized (this) {
+            init();
+            return get(key);
+        }
+    }
+
+    /**
+     * Streams the values for a key. For lock free and frozen pointers the stream reads the stored
+     * collection directly; otherwise the values are copied into a single array under the monitor,
+     * since the stored collections cannot be read safely while a writer holds it.
+     * 
+     * @param key key to look up
+     * @return values for the key
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public Stream<V> values(K key) {
+        if (lockFree || frozen) {
+            ensureReady();
+            Collection<V> t = map.get(key);
+            return t == null ? Stream.empty() : t.stream();
+        }
+        synchronized (this) {
+            init();
+            Collection<V> t = map.get(key);
+            return t == null ? Stream.empty() : (Stream<V>) (Stream<?>) Arrays.stream(t.toArray());
+        }
+    }
+
+    /**
+     * Streams all values; see {@link #values(Object)} for when a copy is made.
+     * 
+     * @return all values contained
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public Stream<V> allValues() {
+        if (lockFree || frozen) {
+            ensureReady();
+            return map.values().stream().flatMap(Collection::stream);
+        }
+        synchronized (this) {
+            init();
+            Object[] values = new Object[size];
+            int index = 0;
+            for (Collection<V> t : map.values()) {
+                for (V v : t) {
+                    values[index++] = v;
+                }
+            }
+            return (Stream<V>) (Stream<?>) Arrays.stream(values, 0, index);
+        }
+    }
+
+    /**
+     * Passes each value for a key to the action without copying. For pointers that are neither lock
+     * free nor frozen, the action runs while holding the pointer monitor and must not modify the
+     * ontology.
+     * 
+     * @param key key to look up
+     * @param action action to perform on each value
+     */
+    public void forEach(K key, Consumer<? super V> action) {
+        if (lockFree || frozen) {
+            ensureReady();
+            Collection<V> t = map.get(key);
+            if (t != null) {
+                t.forEach(action);
+            }
+            return;
+        }
+        synchronized (this) {
+            init();
+            Collection<V> t = map.get(key);
+            if (t != null) {
+                t.forEach(action);
+            }
+        }
     }
 
     /**
@@ -202,9 +521,20 @@ public class MapPointer<K, V extends OWLAxiom> {
      * @return set of values
      */
     @Nonnull
-    public synchronized <T> Collection<OWLAxiom> filterAxioms(@Nonnull OWLAxiomSearchFilter filter,
+    public <T> Collection<OWLAxiom> filterAxioms(@Nonnull OWLAxiomSearchFilter filter,
         @Nonnull T key) {
-        init();
+        if (lockFree || frozen) {
+            ensureReady();
+            return filter(filter, key);
+        }
+        synchronized (this) {
+            init();
+            return filter(filter, key);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Collection<OWLAxiom> filter(OWLAxiomSearchFilter filter, T key) {
         List<OWLAxiom> toReturn = new ArrayList<>();
         for (AxiomType<?> at : filter.getAxiomTypes()) {
             Collection<V> collection = map.get((K) at);
@@ -224,9 +554,8 @@ public class MapPointer<K, V extends OWLAxiom> {
      * @param key key to look up
      * @return true if there are values for key
      */
-    public synchronized boolean hasValues(K key) {
-        init();
-        return map.containsKey(key);
+    public boolean hasValues(K key) {
+        return containsKey(key);
     }
 
     /**
@@ -235,6 +564,7 @@ public class MapPointer<K, V extends OWLAxiom> {
      * @return true if addition happens
      */
     public synchronized boolean put(K key, V value) {
+        checkNotFrozen();
         // lazy init: no elements added until a recall is made
         if (!initialized) {
             return false;
@@ -249,6 +579,7 @@ public class MapPointer<K, V extends OWLAxiom> {
      * @return true if removal happens
      */
     public synchronized boolean remove(K key, V value) {
+        checkNotFrozen();
         if (!initialized) {
             return false;
         }
@@ -260,9 +591,15 @@ public class MapPointer<K, V extends OWLAxiom> {
      * @param key key to look up
      * @return true if there are values for key
      */
-    public synchronized boolean containsKey(K key) {
-        init();
-        return map.containsKey(key);
+    public boolean containsKey(K key) {
+        if (lockFree || frozen) {
+            ensureReady();
+            return map.containsKey(key);
+        }
+        synchronized (this) {
+            init();
+            return map.containsKey(key);
+        }
     }
 
     /**
@@ -270,63 +607,82 @@ public class MapPointer<K, V extends OWLAxiom> {
      * @param value value to look up
      * @return true if key and value are contained
      */
-    public synchronized boolean contains(K key, V value) {
-        init();
-        return containsEntry(key, value);
+    public boolean contains(K key, V value) {
+        if (lockFree || frozen) {
+            ensureReady();
+            return containsEntry(key, value);
+        }
+        synchronized (this) {
+            init();
+            return containsEntry(key, value);
+        }
     }
 
     /**
      * @return all values contained
      */
     @Nonnull
-    public synchronized List<V> getAllValues() {
-        init();
-        return values();
+    public List<V> getAllValues() {
+        if (lockFree || frozen) {
+            ensureReady();
+            return values();
+        }
+        synchronized (this) {
+            init();
+            return values();
+        }
     }
 
     /**
      * @return number of mapping contained
      */
-    public synchronized int size() {
-        init();
-        return size;
+    public int size() {
+        if (lockFree || frozen) {
+            ensureReady();
+            return size;
+        }
+        synchronized (this) {
+            init();
+            return size;
+        }
     }
 
     /**
      * @return true if empty
      */
-    public synchronized boolean isEmpty() {
-        init();
-        return size == 0;
+    public boolean isEmpty() {
+        return size() == 0;
     }
 
     private boolean putInternal(@Nullable K k, V v) {
         if (k == null) {
             return false;
         }
+        if (lockFree) {
+            return putCopyOnWrite(k, v);
+        }
         Collection<V> set = map.get(k);
         if (set == null) {
             set = Collections.singleton(v);
             map.put(k, set);
+            keyAdded(k);
             size++;
             return true;
         }
         if (set.size() == 1) {
             if (set.contains(v)) {
                 return false;
-            } else {
-                set = new SmallSet<>(set);
-                map.put(k, set);
             }
-        } else if (set.size() == 3) {
+            set = new OpenHashSet<>(set);
+            map.put(k, set);
+        } else if (compact && set.size() == 3 && !(set instanceof AxiomPostingList)) {
             if (set.contains(v)) {
                 return false;
-            } else {
-                set = new HPPCSet(set, v);
-                map.put(k, set);
-                size++;
-                return true;
             }
+            set = new AxiomPostingList<>(i.getAxiomIds(), set, v);
+            map.put(k, set);
+            size++;
+            return true;
         }
         boolean added = set.add(v);
         if (added) {
@@ -335,6 +691,33 @@ public class MapPointer<K, V extends OWLAxiom> {
         return added;
     }
 
+    /**
+     * Lock free readers never see a collection being modified: small collections are immutable
+     * lists replaced on each write, larger ones are concurrent sets.
+     */
+    private boolean putCopyOnWrite(K k, V v) {
+        Collection<V> values = map.get(k);
+        if (values == null) {
+            map.put(k, Collections.singletonList(v));
+            keyAdded(k);
+        } else if (values instanceof ConcurrentValues) {
+            if (!values.add(v)) {
+                return false;
+            }
+        } else if (values.contains(v)) {
+            return false;
+        } else if (values.size() < COPY_ON_WRITE_THRESHOLD) {
+            List<V> copy = new ArrayList<>(values.size() + 1);
+            copy.addAll(values);
+            copy.add(v);
+            map.put(k, List.copyOf(copy));
+        } else {
+            map.put(k, new ConcurrentValues<>(values, v));
+        }
+        size++;
+        return true;
+    }
+
     private boolean containsEntry(K k, V v) {
         Collection<V> t = map.get(k);
         if (t == null) {
@@ -351,18 +734,30 @@ public class MapPointer<K, V extends OWLAxiom> {
         if (t.size() == 1) {
             if (t.contains(v)) {
                 map.remove(k);
+                keyRemoved(k);
                 size--;
                 return true;
             } else {
                 return false;
             }
         }
+        if (lockFree && !(t instanceof ConcurrentValues)) {
+            if (!t.contains(v)) {
+                return false;
+            }
+            List<V> copy = new ArrayList<>(t);
+            copy.remove(v);
+            map.put(k, List.copyOf(copy));
+            size--;
+            return true;
+        }
         boolean removed = t.remove(v);
         if (removed) {
             size--;
         }
         if (t.isEmpty()) {
             map.remove(k);
+            keyRemoved(k);
         }
         return removed;
     }
@@ -384,159 +779,179 @@ public class MapPointer<K, V extends OWLAxiom> {
         return new ArrayList<>(t);
     }
 
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    private List<V> view(K k) {
+        Collection<V> t = map.get(k);
+        if (t == null) {
+            return CollectionFactory.emptyList();
+        }
+        if (!(t instanceof ConcurrentValues)) {
+            return (List<V>) t;
+        }
+        List<V> snapshot = ((ConcurrentValues<V>) t).snapshot();
+        if (snapshot != null) {
+            return snapshot;
+        }
+        // snapshots are built under the monitor, so that no write can be missed
+        synchronized (this) {
+            t = map.get(k);
+            if (t == null) {
+                return CollectionFactory.emptyList();
+            }
+            if (t instanceof ConcurrentValues) {
+                return ((ConcurrentValues<V>) t).buildSnapshot();
+            }
+            return (List<V>) t;
+        }
+    }
     /**
-     * Trim internal map to size.
+     * Trim internal map to size: value sets shrink to fit their elements, sets left with a single
+     * value are replaced by singletons, and the map table is rebuilt for the current number of keys.
+     * Frozen and lock free pointers are left alone, as readers may be iterating them without
+     * locking.
      */
+    @SuppressWarnings("unchecked")
     public synchronized void trimToSize() {
-        // if (initialized) {
-        // map.trimToSize();
-        // neverTrimmed = false;
-        // for (Map.Entry<K, Collection<V>> entry : map.entrySet()) {
-        // Collection<V> set = entry.getValue();
-        // if (set instanceof ArrayList) {
-        // THashSet<V> value =
-        // new THashSet<>(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
-        // value.addAll(set);
-        // entry.setValue(value);
-        // size = size - set.size() + value.size();
-        // value.trimToSize();
-        // } else if (set instanceof THashSet) {
-        // THashSet<V> vs = (THashSet<V>) set;
-        // vs.trimToSize();
-        // totalInUse.addAndGet(set.size());
-        // totalAllocated.addAndGet(vs.capacity());
-        // } else if (set instanceof SmallSet<?>) {
-        // totalInUse.addAndGet(set.size());
-        // totalAllocated.addAndGet(3);
-        // } else {
-        // totalInUse.addAndGet(1);
-        // totalAllocated.addAndGet(1);
-        // }
-        // }
-        // }
+        if (!initialized || frozen || lockFree || bulk) {
+            return;
+        }
+        for (Map.Entry<K, Collection<V>> entry : map.entrySet()) {
+            Collection<V> set = entry.getValue();
+            if (set.size() == 1 && !(set instanceof AxiomPostingList)) {
+                entry.setValue(Collections.singleton(set.iterator().next()));
+            } else if (set instanceof OpenHashSet) {
+                ((OpenHashSet<V>) set).trimToSize();
+            } else if (set instanceof AxiomPostingList) {
+                ((AxiomPostingList<V>) set).trimToSize();
+            }
+        }
+        map = new HashMap<>(map);
     }
 }
 
 
-class HPPCSet<S> implements Collection<S> {
-    private final HashSet<S> delegate;
-
-    public HPPCSet() {
-        delegate = new HashSet<>();
-    }
+/**
+ * Values of a lock free pointer when they outgrow copy on write lists. Modified only under the
+ * pointer monitor; the immutable snapshot is dropped on every write and rebuilt lazily.
+ */
+class ConcurrentValues<S> extends AbstractCollection<S> {
 
-    public HPPCSet(int initialCapacity) {
-        delegate = new HashSet<>(initialCapacity);
-    }
+    private final Set<S> delegate;
+    @Nullable
+    private volatile List<S> snapshot;
 
-    public HPPCSet(int initialCapacity, double loadFactor) {
-        delegate = new HashSet<>(initialCapacity);
+    ConcurrentValues(Collection<S> container, S s) {
+        delegate = ConcurrentHashMap.newKeySet(container.size() + 1);
+        delegate.addAll(container);
+        delegate.add(s);
     }
 
-    public HPPCSet(Collection<S> container) {
-        delegate = new HashSet<>(container.size() + 1);
-        addAll(container);
+    @Nullable
+    List<S> snapshot() {
+        return snapshot;
     }
 
-    public HPPCSet(Collection<S> container, S s) {
-        delegate = new HashSet<>(container.size() + 1);
-        addAll(container);
-        add(s);
+    List<S> buildSnapshot() {
+        List<S> list = snapshot;
+        if (list == null) {
+            list = List.copyOf(delegate);
+            snapshot = list;
+        }
+        return list;
     }
 
     @Override
-    public int size() {
-        return delegate.size();
+    public boolean add(S e) {
+        boolean added = delegate.add(e);
+        if (added) {
+            snapshot = null;
+        }
+        return added;
     }
 
     @Override
-    public boolean isEmpty() {
-        return delegate.isEmpty();
+    public boolean remove(@Nullable Object o) {
+        boolean removed = delegate.remove(o);
+        if (removed) {
+            snapshot = null;
+        }
+        return removed;
     }
 
     @Override
     public boolean contains(@Nullable Object o) {
-        return delegate.contains((S) o);
+        return delegate.contains(o);
     }
 
     @Override
     public Iterator<S> iterator() {
-    	return delegate.iterator();
-//        final HashSet<S>.EntryIterator iterator = delegate.iterator();
-//        return new Iterator<S>() {
-//
-//            @Override
-//            public boolean hasNext() {
-//                return iterator.hasNext();
-//            }
-//
-//            @Override
-//            public S next() {
-//                return iterator.next().value;
-//            }
-//        };
+        return Collections.unmodifiableSet(delegate).iterator();
     }
 
     @Override
-    public Object[] toArray() {
-        return delegate.toArray();
+    public int size() {
+        return delegate.size();
     }
+}
 
-    @Override
-    public <T> T[] toArray(@Nullable T[] a) {
-        throw new UnsupportedOperationException("Not suppoerted for " + getClass());
+
+/**
+ * Values of a compact pointer: a sorted list of axiom ids, decoded through the axiom id table of
+ * the internals on iteration.
+ */
+class AxiomPostingList<S extends OWLAxiom> extends AbstractCollection<S> {
+
+    private final AxiomIds ids;
+    private final IntPostingList postings;
+
+    AxiomPostingList(AxiomIds ids, Collection<S> container, S s) {
+        this.ids = ids;
+        postings = new IntPostingList(container.size() + 1);
+        addAll(container);
+        add(s);
     }
 
     @Override
-    public boolean add(@Nullable S e) {
-        return delegate.add(e);
+    public boolean add(S e) {
+        return postings.add(ids.assign(e));
     }
 
     @Override
     public boolean remove(@Nullable Object o) {
-        return delegate.remove((S) o);
+        int id = ids.find(o);
+        return id >= 0 && postings.remove(id);
     }
 
     @Override
-    public boolean containsAll(@Nullable Collection<?> c) {
-        for (Object o : c) {
-            if (!delegate.contains((S) o)) {
-                return false;
-            }
-        }
-        return true;
+    public boolean contains(@Nullable Object o) {
+        return postings.contains(ids.find(o));
     }
 
     @Override
-    public boolean addAll(@Nullable Collection<? extends S> c) {
-        boolean toReturn = false;
-        for (S s : c) {
-            if (add(s)) {
-                toReturn = true;
+    public Iterator<S> iterator() {
+        PrimitiveIterator.OfInt delegate = postings.iterator();
+        return new Iterator<S>() {
+
+            @Override
+            public boolean hasNext() {
+                return delegate.hasNext();
             }
-        }
-        return toReturn;
-    }
 
-    @Override
-    public boolean removeAll(@Nullable Collection<?> c) {
-        boolean toReturn = false;
-        for (Object s : c) {
-            if (remove(s)) {
-                toReturn = true;
+            @SuppressWarnings("unchecked")
+            @Override
+            public S next() {
+                return (S) verifyNotNull(ids.get(delegate.nextInt()));
             }
-        }
-        return toReturn;
+        };
     }
 
     @Override
-    public boolean retainAll(@Nullable Collection<?> c) {
-//        return delegate.retainAll(new HPPCSet(verifyNotNull(c)).delegate) > 0;
-        return delegate.retainAll(new HPPCSet(verifyNotNull(c)).delegate);
+    public int size() {
+        return postings.size();
     }
 
-    @Override
-    public void clear() {
-        this.delegate.clear();
+    void trimToSize() {
+        postings.trimToSize();
     }
 }
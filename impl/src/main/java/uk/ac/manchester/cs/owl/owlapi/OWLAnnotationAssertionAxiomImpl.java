@@ -76,8 +76,13 @@ public class OWLAnnotationAssertionAxiomImpl extends
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLAnnotationAssertionAxiomImpl(getSubject(), getProperty(),
-                getValue(), NO_ANNOTATIONS);
+        OWLAnnotationAssertionAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLAnnotationAssertionAxiomImpl(getSubject(), getProperty(), getValue(),
+                    NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
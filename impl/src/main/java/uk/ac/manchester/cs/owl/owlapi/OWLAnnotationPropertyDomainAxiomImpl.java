@@ -76,8 +76,13 @@ public class OWLAnnotationPropertyDomainAxiomImpl extends
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLAnnotationPropertyDomainAxiomImpl(getProperty(),
-                getDomain(), NO_ANNOTATIONS);
+        OWLAnnotationPropertyDomainAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLAnnotationPropertyDomainAxiomImpl(getProperty(), getDomain(),
+                    NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
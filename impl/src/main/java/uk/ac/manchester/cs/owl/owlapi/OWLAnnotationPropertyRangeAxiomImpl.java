@@ -76,8 +76,13 @@ public class OWLAnnotationPropertyRangeAxiomImpl extends
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLAnnotationPropertyRangeAxiomImpl(getProperty(),
-                getRange(), NO_ANNOTATIONS);
+        OWLAnnotationPropertyRangeAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLAnnotationPropertyRangeAxiomImpl(getProperty(), getRange(),
+                    NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
@@ -55,8 +55,12 @@ public class OWLAsymmetricObjectPropertyAxiomImpl extends
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLAsymmetricObjectPropertyAxiomImpl(getProperty(),
-                NO_ANNOTATIONS);
+        OWLAsymmetricObjectPropertyAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLAsymmetricObjectPropertyAxiomImpl(getProperty(), NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
@@ -16,12 +16,11 @@ import static org.semanticweb.owlapi.util.CollectionFactory.*;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.*;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import org.semanticweb.owlapi.model.*;
 import org.semanticweb.owlapi.util.NNF;
@@ -33,11 +32,15 @@ import org.semanticweb.owlapi.util.OWLObjectTypeIndexProvider;
  * @since 2.0.0
  */
 public abstract class OWLAxiomImplWithoutEntityAndAnonCaching extends OWLObjectImplWithoutEntityAndAnonCaching
-    implements OWLAxiom, CollectionContainer<OWLAnnotation> {
+    implements OWLAxiom, CollectionContainer<OWLAnnotation>, HasIndexedAnnotations {
 
     private static final long serialVersionUID = 40000L;
+    /**
+     * An {@link AnnotationSet}, or, once this axiom without annotations has been built, an
+     * {@link AnnotationSet.Memo} holding both.
+     */
     @Nonnull
-    private final List<OWLAnnotation> annotations;
+    private Object annotations;
 
     @Override
     protected int index() {
@@ -48,51 +51,91 @@ public abstract class OWLAxiomImplWithoutEntityAndAnonCaching extends OWLObjectI
      * @param annotations
      *        annotations on the axiom
      */
-    @SuppressWarnings("unchecked")
     public OWLAxiomImplWithoutEntityAndAnonCaching(@Nonnull Collection<? extends OWLAnnotation> annotations) {
         checkNotNull(annotations, "annotations cannot be null");
-        if (!annotations.isEmpty()) {
-            if (annotations.size() == 1) {
-                OWLAnnotation tmp = annotations.iterator().next();
-                this.annotations = Collections.singletonList(tmp);
-            } else {
-                this.annotations = (List<OWLAnnotation>) sortOptionally(annotations);
-            }
-        } else {
-            this.annotations = emptyList();
+        this.annotations = AnnotationSet.of(annotations);
+    }
+
+    @Nonnull
+    private AnnotationSet annotationSet() {
+        Object a = annotations;
+        return a instanceof AnnotationSet ? (AnnotationSet) a : ((AnnotationSet.Memo) a).annotations;
+    }
+
+    /**
+     * @param <T> axiom type
+     * @return this axiom without annotations, if already stored with
+     *         {@link #cacheAxiomWithoutAnnotations(OWLAxiom)}; null otherwise
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    protected <T extends OWLAxiom> T cachedAxiomWithoutAnnotations() {
+        Object a = annotations;
+        return a instanceof AnnotationSet.Memo ? (T) ((AnnotationSet.Memo) a).axiom : null;
+    }
+
+    /**
+     * @param axiom this axiom without annotations, to return from later calls to
+     *        getAxiomWithoutAnnotations()
+     * @param <T> axiom type
+     * @return axiom
+     */
+    @Nonnull
+    protected <T extends OWLAxiom> T cacheAxiomWithoutAnnotations(@Nonnull T axiom) {
+        annotations = new AnnotationSet.Memo(annotationSet(), axiom);
+        return axiom;
+    }
+
+    @Override
+    protected int compareAnnotationsOfSameType(OWLObject o) {
+        // annotation sets are kept sorted, so no copies are needed
+        if (o instanceof OWLAxiomImplWithoutEntityAndAnonCaching) {
+            return annotationSet().compareTo(((OWLAxiomImplWithoutEntityAndAnonCaching) o).annotationSet());
         }
+        return annotationSet().compareTo(AnnotationSet.of(((OWLAxiom) o).getAnnotations()));
     }
 
     @Override
     public boolean isAnnotated() {
-        return !annotations.isEmpty();
+        return annotations != AnnotationSet.EMPTY;
     }
 
-    // TODO when processing annotations on OWLOntology:: add axiom, needs
-    // optimizing
     @Override
     public Set<OWLAnnotation> getAnnotations() {
-        if (annotations.isEmpty()) {
+        if (!isAnnotated()) {
             return emptySet();
         }
-        return getCopyOnRequestSetFromImmutableCollection(annotations);
+        // one small wrapper per call, not cached: callers may modify the returned set, and the
+        // wrapper copies the shared set when they do
+        return getCopyOnRequestSetFromImmutableCollection(annotationSet());
+    }
+
+    @Override
+    public int getAnnotationCount() {
+        return annotationSet().size();
+    }
+
+    @Override
+    public OWLAnnotation getAnnotationAt(int index) {
+        return annotationSet().get(index);
     }
 
     @Override
     public void accept(CollectionContainerVisitor<OWLAnnotation> t) {
-        int size = annotations.size();
+        AnnotationSet set = annotationSet();
+        int size = set.size();
         for (int i = 0; i < size; i++) {
-            t.visitItem(annotations.get(i));
+            t.visitItem(set.get(i));
         }
     }
 
     @Override
     public Set<OWLAnnotation> getAnnotations(OWLAnnotationProperty annotationProperty) {
-        if (annotations.isEmpty()) {
+        if (!isAnnotated()) {
             return emptySet();
         } else {
             Set<OWLAnnotation> result = new HashSet<>();
-            for (OWLAnnotation anno : annotations) {
+            for (OWLAnnotation anno : annotationSet()) {
                 if (anno.getProperty().equals(annotationProperty)) {
                     result.add(anno);
                 }
@@ -132,7 +175,7 @@ public abstract class OWLAxiomImplWithoutEntityAndAnonCaching extends OWLObjectI
     @Nonnull
     protected Set<OWLAnnotation> mergeAnnos(Set<OWLAnnotation> annos) {
         Set<OWLAnnotation> merged = new HashSet<>(annos);
-        merged.addAll(annotations);
+        merged.addAll(annotationSet());
         return merged;
     }
 
@@ -141,7 +184,7 @@ public abstract class OWLAxiomImplWithoutEntityAndAnonCaching extends OWLObjectI
         if (this == obj) {
             return true;
         }
-        if (obj == null || hashCode() != obj.hashCode()) {
+        if (obj == null || hashCode() != obj.hashCode() || fingerprintsDiffer(obj)) {
             return false;
         }
         if (!(obj instanceof OWLAxiom)) {
@@ -150,9 +193,10 @@ public abstract class OWLAxiomImplWithoutEntityAndAnonCaching extends OWLObjectI
         OWLAxiom other = (OWLAxiom) obj;
         // for OWLAxiomImpl comparisons, do not create wrapper objects
         if (other instanceof OWLAxiomImplWithoutEntityAndAnonCaching) {
-            return annotations.equals(((OWLAxiomImplWithoutEntityAndAnonCaching) other).annotations);
+            return annotationSet() == ((OWLAxiomImplWithoutEntityAndAnonCaching) other).annotationSet()
+                || annotationSet().equals(((OWLAxiomImplWithoutEntityAndAnonCaching) other).annotationSet());
         }
-        return getAnnotations().equals(other.getAnnotations());
+        return annotationSet().equals(other.getAnnotations());
     }
 
     @Override
@@ -166,7 +210,7 @@ public abstract class OWLAxiomImplWithoutEntityAndAnonCaching extends OWLObjectI
     @Override
     public Set<OWLEntity> getSignature() {
         Set<OWLEntity> signature = super.getSignature();
-        addEntitiesFromAnnotationsToSet(annotations, signature);
+        addEntitiesFromAnnotationsToSet(annotationSet(), signature);
         return signature;
     }
 
@@ -174,7 +218,7 @@ public abstract class OWLAxiomImplWithoutEntityAndAnonCaching extends OWLObjectI
     @Override
     public Set<OWLAnonymousIndividual> getAnonymousIndividuals() {
         Set<OWLAnonymousIndividual> anons = super.getAnonymousIndividuals();
-        addAnonymousIndividualsFromAnnotationsToSet(annotations, anons);
+        addAnonymousIndividualsFromAnnotationsToSet(annotationSet(), anons);
         return anons;
     }
 }
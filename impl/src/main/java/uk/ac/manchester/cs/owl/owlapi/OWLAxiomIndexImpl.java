@@ -2,9 +2,12 @@ package uk.ac.manchester.cs.owl.owlapi;
 
 import static org.semanticweb.owlapi.model.parameters.Imports.EXCLUDED;
 import static org.semanticweb.owlapi.model.parameters.Navigation.*;
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import javax.annotation.Nonnull;
 
@@ -65,17 +68,33 @@ import org.semanticweb.owlapi.search.Filters;
  */
 public abstract class OWLAxiomIndexImpl extends
         OWLObjectImplWithEntityAndAnonCaching implements OWLAxiomIndex,
-        HasTrimToSize {
+        HasTrimToSize, HasEagerIndexes {
 
     private static final long serialVersionUID = 40000L;
     @Nonnull
-    protected final Internals ints = new Internals();
+    protected final Internals ints;
+
+    protected OWLAxiomIndexImpl() {
+        this(new Internals());
+    }
+
+    /**
+     * @param ints internals holding the axioms and indexes
+     */
+    protected OWLAxiomIndexImpl(@Nonnull Internals ints) {
+        this.ints = checkNotNull(ints, "ints cannot be null");
+    }
 
     @Override
     public void trimToSize() {
         ints.trimToSize();
     }
 
+    @Override
+    public Map<String, Long> buildIndexes(Executor executor) {
+        return ints.buildIndexes(executor);
+    }
+
     @Override
     public Set<OWLDeclarationAxiom> getDeclarationAxioms(OWLEntity subject) {
         return getAxioms(OWLDeclarationAxiom.class, subject, EXCLUDED,
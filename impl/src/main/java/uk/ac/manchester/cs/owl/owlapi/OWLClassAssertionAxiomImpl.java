@@ -69,8 +69,13 @@ public class OWLClassAssertionAxiomImpl extends
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLClassAssertionAxiomImpl(getIndividual(),
-                getClassExpression(), NO_ANNOTATIONS);
+        OWLClassAssertionAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLClassAssertionAxiomImpl(getIndividual(), getClassExpression(),
+                    NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
@@ -23,6 +23,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.Nonnull;
@@ -88,6 +89,7 @@ import org.semanticweb.owlapi.model.OWLLiteral;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
 import org.semanticweb.owlapi.model.OWLNegativeDataPropertyAssertionAxiom;
 import org.semanticweb.owlapi.model.OWLNegativeObjectPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLObject;
 import org.semanticweb.owlapi.model.OWLObjectAllValuesFrom;
 import org.semanticweb.owlapi.model.OWLObjectComplementOf;
 import org.semanticweb.owlapi.model.OWLObjectExactCardinality;
@@ -132,12 +134,16 @@ import org.semanticweb.owlapi.model.SWRLObjectPropertyAtom;
 import org.semanticweb.owlapi.model.SWRLRule;
 import org.semanticweb.owlapi.model.SWRLSameIndividualAtom;
 import org.semanticweb.owlapi.model.SWRLVariable;
+import org.semanticweb.owlapi.model.SignatureCaching;
+import org.semanticweb.owlapi.model.parameters.ConfigurationOptions;
 import org.semanticweb.owlapi.util.CollectionFactory;
 import org.semanticweb.owlapi.util.VersionInfo;
 import org.semanticweb.owlapi.vocab.OWL2Datatype;
 import org.semanticweb.owlapi.vocab.OWLFacet;
 import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
 /**
  * @author Matthew Horridge, The University Of Manchester, Bio-Health Informatics Group
  * @since 2.0.0
@@ -182,9 +188,10 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
     @Nonnull private static final OWLDataProperty        OWL_TOP_DATA_PROPERTY        = new OWLDataPropertyImpl(       OWLRDFVocabulary.OWL_TOP_DATA_PROPERTY.getIRI());
     @Nonnull private static final OWLDataProperty        OWL_BOTTOM_DATA_PROPERTY     = new OWLDataPropertyImpl(       OWLRDFVocabulary.OWL_BOTTOM_DATA_PROPERTY.getIRI());
     //@formatter:on
-    private final OWLDataFactoryInternals dataFactoryInternals =
-        new OWLDataFactoryInternalsImpl(false);
+    private final OWLDataFactoryInternals dataFactoryInternals;
     private OWLOntologyLoaderConfiguration config;
+    /** Signature caching of the axioms and expressions created by this factory. */
+    private final SignatureCaching signatureCaching;
 
     /**
      * Constructor for configuration injection.
@@ -198,7 +205,33 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
      * @param config configuration
      */
     public OWLDataFactoryImpl(OWLOntologyLoaderConfiguration config) {
+        this(config, ConfigurationOptions.HASH_CONSING
+            .getValue(Boolean.class, Collections.emptyMap()).booleanValue());
+    }
+
+    /**
+     * @param config configuration
+     * @param hashConsing true if structurally equal class expressions, data ranges and axioms
+     *        created by this factory should share one instance
+     */
+    public OWLDataFactoryImpl(OWLOntologyLoaderConfiguration config, boolean hashConsing) {
+        this(config, hashConsing, ConfigurationOptions.SHARED_ENTITY_REGISTRY
+            .getValue(Boolean.class, Collections.emptyMap()).booleanValue());
+    }
+
+    /**
+     * @param config configuration
+     * @param hashConsing true if structurally equal class expressions, data ranges and axioms
+     *        created by this factory should share one instance
+     * @param sharedEntities true if entities should be shared with all other factories using
+     *        {@link EntityRegistry#shared()}
+     */
+    public OWLDataFactoryImpl(OWLOntologyLoaderConfiguration config, boolean hashConsing,
+        boolean sharedEntities) {
         this.config = config;
+        signatureCaching = config.getSignatureCaching();
+        dataFactoryInternals =
+            new OWLDataFactoryInternalsImpl(false, hashConsing, sharedEntities);
     }
 
     @Override
@@ -206,6 +239,23 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         dataFactoryInternals.purge();
     }
 
+    /**
+     * @return hit and miss counts for the entity caches and interners of this factory, by cache
+     *         name
+     */
+    @Nonnull
+    public Map<String, CacheStats> getCacheStatistics() {
+        return dataFactoryInternals.getCacheStatistics();
+    }
+
+    @Nonnull
+    private <T extends OWLObject> T intern(@Nonnull T object) {
+        if (object instanceof OWLObjectImplWithEntityAndAnonCaching) {
+            ((OWLObjectImplWithEntityAndAnonCaching) object).setSignatureCaching(signatureCaching);
+        }
+        return dataFactoryInternals.intern(object);
+    }
+
     private static void checkAnnotations(@Nonnull Set<? extends OWLAnnotation> o) {
         checkNull(o, "annotations cannot be null", true);
     }
@@ -440,7 +490,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
     @Override
     public OWLDataOneOf getOWLDataOneOf(@Nonnull Set<? extends OWLLiteral> values) {
         checkNull(values, "values", true);
-        return new OWLDataOneOfImpl(values);
+        return intern(new OWLDataOneOfImpl(values));
     }
 
     @Override
@@ -453,7 +503,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
     @Override
     public OWLDataComplementOf getOWLDataComplementOf(OWLDataRange dataRange) {
         checkNotNull(dataRange, DATA_RANGE_CANNOT_BE_NULL);
-        return new OWLDataComplementOfImpl(dataRange);
+        return intern(new OWLDataComplementOfImpl(dataRange));
     }
 
     @Override
@@ -467,7 +517,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
     public OWLDataIntersectionOf getOWLDataIntersectionOf(
         @Nonnull Set<? extends OWLDataRange> dataRanges) {
         checkNull(dataRanges, DATA_RANGES, true);
-        return new OWLDataIntersectionOfImpl(dataRanges);
+        return intern(new OWLDataIntersectionOfImpl(dataRanges));
     }
 
     @Override
@@ -480,7 +530,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
     @Override
     public OWLDataUnionOf getOWLDataUnionOf(@Nonnull Set<? extends OWLDataRange> dataRanges) {
         checkNull(dataRanges, DATA_RANGES, true);
-        return new OWLDataUnionOfImpl(dataRanges);
+        return intern(new OWLDataUnionOfImpl(dataRanges));
     }
 
     @Nonnull
@@ -489,7 +539,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         @Nonnull Set<OWLFacetRestriction> facetRestrictions) {
         checkNotNull(dataType, DATATYPE_CANNOT_BE_NULL);
         checkNull(facetRestrictions, "facets", true);
-        return new OWLDatatypeRestrictionImpl(dataType, facetRestrictions);
+        return intern(new OWLDatatypeRestrictionImpl(dataType, facetRestrictions));
     }
 
     @Nonnull
@@ -499,8 +549,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         checkNotNull(dataType, DATATYPE_CANNOT_BE_NULL);
         checkNotNull(facet, "facet cannot be null");
         checkNotNull(typedLiteral, "typedConstant cannot be null");
-        return new OWLDatatypeRestrictionImpl(dataType,
-            CollectionFactory.createSet(getOWLFacetRestriction(facet, typedLiteral)));
+        return intern(new OWLDatatypeRestrictionImpl(dataType,
+            CollectionFactory.createSet(getOWLFacetRestriction(facet, typedLiteral))));
     }
 
     @Override
@@ -613,7 +663,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
     public OWLFacetRestriction getOWLFacetRestriction(OWLFacet facet, OWLLiteral facetValue) {
         checkNotNull(facet, "facet cannot be null");
         checkNotNull(facetValue, "facetValue cannot be null");
-        return new OWLFacetRestrictionImpl(facet, facetValue);
+        return intern(new OWLFacetRestrictionImpl(facet, facetValue));
     }
 
     @Nonnull
@@ -621,7 +671,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
     public OWLObjectIntersectionOf getOWLObjectIntersectionOf(
         @Nonnull Set<? extends OWLClassExpression> operands) {
         checkNull(operands, OPERANDS2, true);
-        return new OWLObjectIntersectionOfImpl(operands);
+        return intern(new OWLObjectIntersectionOfImpl(operands));
     }
 
     @Override
@@ -636,7 +686,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         OWLDataRange dataRange) {
         checkNotNull(dataRange, DATA_RANGE_CANNOT_BE_NULL);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLDataAllValuesFromImpl(property, dataRange);
+        return intern(new OWLDataAllValuesFromImpl(property, dataRange));
     }
 
     @Nonnull
@@ -645,7 +695,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         OWLDataPropertyExpression property) {
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLDataExactCardinalityImpl(property, cardinality, getTopDatatype());
+        return intern(new OWLDataExactCardinalityImpl(property, cardinality, getTopDatatype()));
     }
 
     @Nonnull
@@ -655,7 +705,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         checkNotNull(dataRange, DATA_RANGE_CANNOT_BE_NULL);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
-        return new OWLDataExactCardinalityImpl(property, cardinality, dataRange);
+        return intern(new OWLDataExactCardinalityImpl(property, cardinality, dataRange));
     }
 
     @Nonnull
@@ -664,7 +714,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         OWLDataPropertyExpression property) {
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLDataMaxCardinalityImpl(property, cardinality, getTopDatatype());
+        return intern(new OWLDataMaxCardinalityImpl(property, cardinality, getTopDatatype()));
     }
 
     @Nonnull
@@ -674,7 +724,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(dataRange, DATA_RANGE_CANNOT_BE_NULL);
-        return new OWLDataMaxCardinalityImpl(property, cardinality, dataRange);
+        return intern(new OWLDataMaxCardinalityImpl(property, cardinality, dataRange));
     }
 
     @Nonnull
@@ -683,7 +733,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         OWLDataPropertyExpression property) {
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLDataMinCardinalityImpl(property, cardinality, getTopDatatype());
+        return intern(new OWLDataMinCardinalityImpl(property, cardinality, getTopDatatype()));
     }
 
     @Nonnull
@@ -693,7 +743,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         checkNotNull(dataRange, DATA_RANGE_CANNOT_BE_NULL);
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLDataMinCardinalityImpl(property, cardinality, dataRange);
+        return intern(new OWLDataMinCardinalityImpl(property, cardinality, dataRange));
     }
 
     @Nonnull
@@ -702,7 +752,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         OWLDataRange dataRange) {
         checkNotNull(dataRange, DATA_RANGE_CANNOT_BE_NULL);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLDataSomeValuesFromImpl(property, dataRange);
+        return intern(new OWLDataSomeValuesFromImpl(property, dataRange));
     }
 
     @Nonnull
@@ -711,14 +761,14 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         OWLLiteral value) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(value, VALUE_CANNOT_BE_NULL);
-        return new OWLDataHasValueImpl(property, value);
+        return intern(new OWLDataHasValueImpl(property, value));
     }
 
     @Nonnull
     @Override
     public OWLObjectComplementOf getOWLObjectComplementOf(OWLClassExpression operand) {
         checkNotNull(operand, "operand");
-        return new OWLObjectComplementOfImpl(operand);
+        return intern(new OWLObjectComplementOfImpl(operand));
     }
 
     @Nonnull
@@ -727,14 +777,14 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         OWLClassExpression classExpression) {
         checkNotNull(classExpression, CLASS_EXPRESSION_CANNOT_BE_NULL);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLObjectAllValuesFromImpl(property, classExpression);
+        return intern(new OWLObjectAllValuesFromImpl(property, classExpression));
     }
 
     @Nonnull
     @Override
     public OWLObjectOneOf getOWLObjectOneOf(@Nonnull Set<? extends OWLIndividual> values) {
         checkNull(values, "values", true);
-        return new OWLObjectOneOfImpl(values);
+        return intern(new OWLObjectOneOfImpl(values));
     }
 
     @Override
@@ -749,7 +799,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         OWLObjectPropertyExpression property) {
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLObjectExactCardinalityImpl(property, cardinality, OWL_THING);
+        return intern(new OWLObjectExactCardinalityImpl(property, cardinality, OWL_THING));
     }
 
     @Nonnull
@@ -759,7 +809,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         checkNotNull(classExpression, CLASS_EXPRESSION_CANNOT_BE_NULL);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
-        return new OWLObjectExactCardinalityImpl(property, cardinality, classExpression);
+        return intern(new OWLObjectExactCardinalityImpl(property, cardinality, classExpression));
     }
 
     @Nonnull
@@ -768,7 +818,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         OWLObjectPropertyExpression property) {
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLObjectMinCardinalityImpl(property, cardinality, OWL_THING);
+        return intern(new OWLObjectMinCardinalityImpl(property, cardinality, OWL_THING));
     }
 
     @Nonnull
@@ -778,7 +828,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         checkNotNull(classExpression, CLASS_EXPRESSION_CANNOT_BE_NULL);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
-        return new OWLObjectMinCardinalityImpl(property, cardinality, classExpression);
+        return intern(new OWLObjectMinCardinalityImpl(property, cardinality, classExpression));
     }
 
     @Nonnull
@@ -787,7 +837,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         OWLObjectPropertyExpression property) {
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLObjectMaxCardinalityImpl(property, cardinality, OWL_THING);
+        return intern(new OWLObjectMaxCardinalityImpl(property, cardinality, OWL_THING));
     }
 
     @Nonnull
@@ -797,14 +847,14 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
         checkNotNull(classExpression, CLASS_EXPRESSION_CANNOT_BE_NULL);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLObjectMaxCardinalityImpl(property, cardinality, classExpression);
+        return intern(new OWLObjectMaxCardinalityImpl(property, cardinality, classExpression));
     }
 
     @Nonnull
     @Override
     public OWLObjectHasSelf getOWLObjectHasSelf(OWLObjectPropertyExpression property) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLObjectHasSelfImpl(property);
+        return intern(new OWLObjectHasSelfImpl(property));
     }
 
     @Nonnull
@@ -813,7 +863,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         OWLClassExpression classExpression) {
         checkNotNull(classExpression, CLASS_EXPRESSION_CANNOT_BE_NULL);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLObjectSomeValuesFromImpl(property, classExpression);
+        return intern(new OWLObjectSomeValuesFromImpl(property, classExpression));
     }
 
     @Nonnull
@@ -822,7 +872,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         OWLIndividual individual) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(individual, INDIVIDUAL_CANNOT_BE_NULL);
-        return new OWLObjectHasValueImpl(property, individual);
+        return intern(new OWLObjectHasValueImpl(property, individual));
     }
 
     @Nonnull
@@ -830,7 +880,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
     public OWLObjectUnionOf getOWLObjectUnionOf(
         @Nonnull Set<? extends OWLClassExpression> operands) {
         checkNull(operands, OPERANDS2, true);
-        return new OWLObjectUnionOfImpl(operands);
+        return intern(new OWLObjectUnionOfImpl(operands));
     }
 
     @Override
@@ -846,7 +896,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNotNull(propertyExpression, PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLAsymmetricObjectPropertyAxiomImpl(propertyExpression, annotations);
+        return intern(new OWLAsymmetricObjectPropertyAxiomImpl(propertyExpression, annotations));
     }
 
     @Nonnull
@@ -864,7 +914,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(domain, "domain cannot be null");
         checkAnnotations(annotations);
-        return new OWLDataPropertyDomainAxiomImpl(property, domain, annotations);
+        return intern(new OWLDataPropertyDomainAxiomImpl(property, domain, annotations));
     }
 
     @Nonnull
@@ -882,7 +932,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(owlDataRange, "owlDataRange cannot be null");
         checkAnnotations(annotations);
-        return new OWLDataPropertyRangeAxiomImpl(property, owlDataRange, annotations);
+        return intern(new OWLDataPropertyRangeAxiomImpl(property, owlDataRange, annotations));
     }
 
     @Nonnull
@@ -900,7 +950,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         checkNotNull(subProperty, "subProperty cannot be null");
         checkNotNull(superProperty, SUPER_PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLSubDataPropertyOfAxiomImpl(subProperty, superProperty, annotations);
+        return intern(new OWLSubDataPropertyOfAxiomImpl(subProperty, superProperty, annotations));
     }
 
     @Nonnull
@@ -922,7 +972,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNotNull(owlEntity, "owlEntity cannot be null");
         checkAnnotations(annotations);
-        return new OWLDeclarationAxiomImpl(owlEntity, annotations);
+        return intern(new OWLDeclarationAxiomImpl(owlEntity, annotations));
     }
 
     @Nonnull
@@ -932,7 +982,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNull(individuals, INDIVIDUALS2, true);
         checkAnnotations(annotations);
-        return new OWLDifferentIndividualsAxiomImpl(individuals, annotations);
+        return intern(new OWLDifferentIndividualsAxiomImpl(individuals, annotations));
     }
 
     @Override
@@ -972,11 +1022,11 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
             OWLClass addedClass = classExpression.isOWLThing() ? OWL_NOTHING : OWL_THING;
             modifiedClassExpressions.add(addedClass);
             modifiedClassExpressions.add(classExpression);
-            return new OWLDisjointClassesAxiomImpl(modifiedClassExpressions,
+            return intern(new OWLDisjointClassesAxiomImpl(modifiedClassExpressions,
                 makeSingletonDisjoinClassWarningAnnotation(annotations, classExpression,
-                    addedClass));
+                    addedClass)));
         }
-        return new OWLDisjointClassesAxiomImpl(classExpressions, annotations);
+        return intern(new OWLDisjointClassesAxiomImpl(classExpressions, annotations));
     }
 
     @Nonnull
@@ -1023,7 +1073,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNull(properties, PROPERTIES2, true);
         checkAnnotations(annotations);
-        return new OWLDisjointDataPropertiesAxiomImpl(properties, annotations);
+        return intern(new OWLDisjointDataPropertiesAxiomImpl(properties, annotations));
     }
 
     @Nonnull
@@ -1061,7 +1111,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNull(properties, PROPERTIES2, true);
         checkAnnotations(annotations);
-        return new OWLDisjointObjectPropertiesAxiomImpl(properties, annotations);
+        return intern(new OWLDisjointObjectPropertiesAxiomImpl(properties, annotations));
     }
 
     @Nonnull
@@ -1071,7 +1121,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNull(classExpressions, CLASS_EXPRESSIONS, true);
         checkAnnotations(annotations);
-        return new OWLEquivalentClassesAxiomImpl(classExpressions, annotations);
+        return intern(new OWLEquivalentClassesAxiomImpl(classExpressions, annotations));
     }
 
     @Override
@@ -1114,7 +1164,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNull(properties, PROPERTIES2, true);
         checkAnnotations(annotations);
-        return new OWLEquivalentDataPropertiesAxiomImpl(properties, annotations);
+        return intern(new OWLEquivalentDataPropertiesAxiomImpl(properties, annotations));
     }
 
     @Nonnull
@@ -1185,7 +1235,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         OWLDataPropertyExpression property, @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLFunctionalDataPropertyAxiomImpl(property, annotations);
+        return intern(new OWLFunctionalDataPropertyAxiomImpl(property, annotations));
     }
 
     @Nonnull
@@ -1201,7 +1251,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         OWLObjectPropertyExpression property, @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLFunctionalObjectPropertyAxiomImpl(property, annotations);
+        return intern(new OWLFunctionalObjectPropertyAxiomImpl(property, annotations));
     }
 
     @Nonnull
@@ -1227,7 +1277,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         checkNotNull(object, OBJECT_CANNOT_BE_NULL);
         checkNotNull(subject, SUBJECT_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLDataPropertyAssertionAxiomImpl(subject, property, object, annotations);
+        return intern(new OWLDataPropertyAssertionAxiomImpl(subject, property, object, annotations));
     }
 
     @Nonnull
@@ -1294,8 +1344,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         checkNotNull(object, OBJECT_CANNOT_BE_NULL);
         checkNotNull(subject, SUBJECT_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLNegativeDataPropertyAssertionAxiomImpl(subject, property, object,
-            annotations);
+        return intern(new OWLNegativeDataPropertyAssertionAxiomImpl(subject, property, object,
+            annotations));
     }
 
     @Nonnull
@@ -1315,8 +1365,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         checkNotNull(object, OBJECT_CANNOT_BE_NULL);
         checkNotNull(subject, SUBJECT_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLNegativeObjectPropertyAssertionAxiomImpl(subject, property, object,
-            annotations);
+        return intern(new OWLNegativeObjectPropertyAssertionAxiomImpl(subject, property, object,
+            annotations));
     }
 
     @Nonnull
@@ -1341,7 +1391,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         checkNotNull(classExpression, CLASS_EXPRESSION_CANNOT_BE_NULL);
         checkNotNull(individual, INDIVIDUAL_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLClassAssertionAxiomImpl(individual, classExpression, annotations);
+        return intern(new OWLClassAssertionAxiomImpl(individual, classExpression, annotations));
     }
 
     @Nonnull
@@ -1357,7 +1407,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         OWLObjectPropertyExpression property, @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLInverseFunctionalObjectPropertyAxiomImpl(property, annotations);
+        return intern(new OWLInverseFunctionalObjectPropertyAxiomImpl(property, annotations));
     }
 
     @Nonnull
@@ -1366,7 +1416,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         OWLObjectPropertyExpression property, @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLIrreflexiveObjectPropertyAxiomImpl(property, annotations);
+        return intern(new OWLIrreflexiveObjectPropertyAxiomImpl(property, annotations));
     }
 
     @Nonnull
@@ -1391,7 +1441,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(classExpression, CLASS_EXPRESSION_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLObjectPropertyDomainAxiomImpl(property, classExpression, annotations);
+        return intern(new OWLObjectPropertyDomainAxiomImpl(property, classExpression, annotations));
     }
 
     @Nonnull
@@ -1409,7 +1459,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(range, "range cannot be null");
         checkAnnotations(annotations);
-        return new OWLObjectPropertyRangeAxiomImpl(property, range, annotations);
+        return intern(new OWLObjectPropertyRangeAxiomImpl(property, range, annotations));
     }
 
     @Nonnull
@@ -1427,7 +1477,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         checkNotNull(subProperty, "subProperty cannot be null");
         checkNotNull(superProperty, SUPER_PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLSubObjectPropertyOfAxiomImpl(subProperty, superProperty, annotations);
+        return intern(new OWLSubObjectPropertyOfAxiomImpl(subProperty, superProperty, annotations));
     }
 
     @Nonnull
@@ -1443,7 +1493,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         OWLObjectPropertyExpression property, @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLReflexiveObjectPropertyAxiomImpl(property, annotations);
+        return intern(new OWLReflexiveObjectPropertyAxiomImpl(property, annotations));
     }
 
     @Nonnull
@@ -1453,7 +1503,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNull(individuals, INDIVIDUALS2, true);
         checkAnnotations(annotations);
-        return new OWLSameIndividualAxiomImpl(individuals, annotations);
+        return intern(new OWLSameIndividualAxiomImpl(individuals, annotations));
     }
 
     @Nonnull
@@ -1479,7 +1529,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         checkNotNull(subClass, "subclass cannot be null");
         checkNotNull(superClass, "superclass cannot be null");
         checkAnnotations(annotations);
-        return new OWLSubClassOfAxiomImpl(subClass, superClass, annotations);
+        return intern(new OWLSubClassOfAxiomImpl(subClass, superClass, annotations));
     }
 
     @Nonnull
@@ -1495,7 +1545,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         OWLObjectPropertyExpression property, @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLSymmetricObjectPropertyAxiomImpl(property, annotations);
+        return intern(new OWLSymmetricObjectPropertyAxiomImpl(property, annotations));
     }
 
     @Nonnull
@@ -1511,7 +1561,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         OWLObjectPropertyExpression property, @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLTransitiveObjectPropertyAxiomImpl(property, annotations);
+        return intern(new OWLTransitiveObjectPropertyAxiomImpl(property, annotations));
     }
 
     @Nonnull
@@ -1529,7 +1579,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
             throw new IllegalArgumentException(
                 "ObjectInverseOf can only be applied to Object Properties");
         }
-        return new OWLObjectInverseOfImpl(property);
+        return intern(new OWLObjectInverseOfImpl(property));
     }
 
     @Nonnull
@@ -1540,8 +1590,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         checkNotNull(forwardProperty, "forwardProperty cannot be null");
         checkNotNull(inverseProperty, "inverseProperty cannot be null");
         checkAnnotations(annotations);
-        return new OWLInverseObjectPropertiesAxiomImpl(forwardProperty, inverseProperty,
-            annotations);
+        return intern(new OWLInverseObjectPropertiesAxiomImpl(forwardProperty, inverseProperty,
+            annotations));
     }
 
     @Nonnull
@@ -1561,7 +1611,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         checkNotNull(superProperty, SUPER_PROPERTY_CANNOT_BE_NULL);
         checkNull(chain, "chain", true);
         checkAnnotations(annotations);
-        return new OWLSubPropertyChainAxiomImpl(chain, superProperty, annotations);
+        return intern(new OWLSubPropertyChainAxiomImpl(chain, superProperty, annotations));
     }
 
     @Nonnull
@@ -1580,7 +1630,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         checkNotNull(ce, CLASS_EXPRESSION_CANNOT_BE_NULL);
         checkNull(objectProperties, PROPERTIES2, true);
         checkAnnotations(annotations);
-        return new OWLHasKeyAxiomImpl(ce, objectProperties, annotations);
+        return intern(new OWLHasKeyAxiomImpl(ce, objectProperties, annotations));
     }
 
     @Nonnull
@@ -1606,7 +1656,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         checkNotNull(owlClass, "owlClass cannot be null");
         checkNull(classExpressions, CLASS_EXPRESSIONS, true);
         checkAnnotations(annotations);
-        return new OWLDisjointUnionAxiomImpl(owlClass, classExpressions, annotations);
+        return intern(new OWLDisjointUnionAxiomImpl(owlClass, classExpressions, annotations));
     }
 
     @Nonnull
@@ -1623,7 +1673,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         @Nonnull Set<? extends OWLAnnotation> annotations) {
         checkNull(properties, PROPERTIES2, true);
         checkAnnotations(annotations);
-        return new OWLEquivalentObjectPropertiesAxiomImpl(properties, annotations);
+        return intern(new OWLEquivalentObjectPropertiesAxiomImpl(properties, annotations));
     }
 
     @Nonnull
@@ -1635,7 +1685,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         checkNotNull(individual, INDIVIDUAL_CANNOT_BE_NULL);
         checkNotNull(object, OBJECT_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLObjectPropertyAssertionAxiomImpl(individual, property, object, annotations);
+        return intern(new OWLObjectPropertyAssertionAxiomImpl(individual, property, object, annotations));
     }
 
     @Nonnull
@@ -1653,7 +1703,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         checkNotNull(sub, "subProperty cannot be null");
         checkNotNull(sup, SUPER_PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLSubAnnotationPropertyOfAxiomImpl(sub, sup, annotations);
+        return intern(new OWLSubAnnotationPropertyOfAxiomImpl(sub, sup, annotations));
     }
 
     // Annotations
@@ -1714,7 +1764,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(value, VALUE_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLAnnotationAssertionAxiomImpl(subject, property, value, annotations);
+        return intern(new OWLAnnotationAssertionAxiomImpl(subject, property, value, annotations));
     }
 
     @Override
@@ -1730,7 +1780,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         checkNotNull(prop, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(domain, "domain cannot be null");
         checkAnnotations(annotations);
-        return new OWLAnnotationPropertyDomainAxiomImpl(prop, domain, annotations);
+        return intern(new OWLAnnotationPropertyDomainAxiomImpl(prop, domain, annotations));
     }
 
     @Nonnull
@@ -1747,7 +1797,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         checkNotNull(prop, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(range, "range cannot be null");
         checkAnnotations(annotations);
-        return new OWLAnnotationPropertyRangeAxiomImpl(prop, range, annotations);
+        return intern(new OWLAnnotationPropertyRangeAxiomImpl(prop, range, annotations));
     }
 
     @Nonnull
@@ -1881,7 +1931,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, OWLClas
         checkNotNull(datatype, DATATYPE_CANNOT_BE_NULL);
         checkNotNull(dataRange, DATA_RANGE_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLDatatypeDefinitionAxiomImpl(datatype, dataRange, annotations);
+        return intern(new OWLDatatypeDefinitionAxiomImpl(datatype, dataRange, annotations));
     }
 
     @Override
@@ -13,6 +13,8 @@
 package uk.ac.manchester.cs.owl.owlapi;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.Nonnull;
@@ -27,8 +29,11 @@ import org.semanticweb.owlapi.model.OWLDataProperty;
 import org.semanticweb.owlapi.model.OWLDatatype;
 import org.semanticweb.owlapi.model.OWLLiteral;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObject;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
 /**
  * @author ignazio Mutable state in an OWLDataFactory is encapsulated by this
  *         interface
@@ -46,12 +51,32 @@ public interface OWLDataFactoryInternals extends Serializable {
     /** purge any caches. */
     void purge();
 
+    /**
+     * @return hit and miss counts for the caches and interners in use, by cache name; empty if no
+     *         caches are used
+     */
+    @Nonnull
+    default Map<String, CacheStats> getCacheStatistics() {
+        return Collections.emptyMap();
+    }
+
     /**
      * @param iri
      *        new object property IRI
      * @return a new OWLObjectProperty object, or a cached one depending on
      *         policies
      */
+    /**
+     * @param object newly created class expression, data range or axiom
+     * @param <T> object type
+     * @return the canonical instance structurally equal to object, if this implementation shares
+     *         instances; object itself otherwise
+     */
+    @Nonnull
+    default <T extends OWLObject> T intern(@Nonnull T object) {
+        return object;
+    }
+
     @Nonnull
     OWLObjectProperty getOWLObjectProperty(@Nonnull IRI iri);
 
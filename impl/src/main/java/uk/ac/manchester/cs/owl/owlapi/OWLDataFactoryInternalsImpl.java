@@ -13,6 +13,8 @@
 package uk.ac.manchester.cs.owl.owlapi;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.Nonnull;
@@ -28,11 +30,12 @@ import org.semanticweb.owlapi.model.OWLDataProperty;
 import org.semanticweb.owlapi.model.OWLDatatype;
 import org.semanticweb.owlapi.model.OWLLiteral;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObject;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
 import org.semanticweb.owlapi.model.parameters.ConfigurationOptions;
+import org.semanticweb.owlapi.util.WeakInterner;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 
 /**
  * @author ignazio
@@ -41,55 +44,78 @@ public class OWLDataFactoryInternalsImpl extends OWLDataFactoryInternalsImplNoCa
 
     private static final long serialVersionUID = 40000L;
 
+    /** Entities by IRI; the shared registry, or one for this factory only. */
     @Nonnull
-    transient private LoadingCache<IRI, OWLClass> classesByURI;
+    transient private EntityRegistry entities;
     @Nonnull
-    transient private LoadingCache<IRI, OWLObjectProperty> objectPropertiesByURI;
-    @Nonnull
-    transient private LoadingCache<IRI, OWLDataProperty> dataPropertiesByURI;
-    @Nonnull
-    transient private LoadingCache<IRI, OWLDatatype> datatypesByURI;
-    @Nonnull
-    transient private LoadingCache<IRI, OWLNamedIndividual> individualsByURI;
-    @Nonnull
-    transient private LoadingCache<IRI, OWLAnnotationProperty> annotationPropertiesByURI;
-    @Nonnull
-    transient private LoadingCache<String, String> languageTagInterner;
+    transient private WeakInterner<String> languageTagInterner;
 
     /**
-     * Annotations Cache uses a loading cache as a size limited Interner; the value of the loader is
-     * simply the key. As with an interner, each access constructs a new object that is discarded if
-     * the key is used. Most annotations will only be used once; however some annotations may be
-     * reused extremely frequently. for ontologies in the OBO family, a few annotations will be
-     * reused extremely frequently.
+     * Annotations are interned by value; each access constructs a new object that is discarded if
+     * an equal annotation is already in use. Most annotations will only be used once; however, for
+     * ontologies in the OBO family, a few annotations will be reused extremely frequently.
+     */
+    transient private WeakInterner<OWLAnnotation> annotationsCache;
+    /**
+     * Class expressions, data ranges and axioms, interned by structure when hash consing is
+     * enabled; null otherwise. Ontologies such as Galen repeat the same restrictions many times.
      */
-    transient private LoadingCache<OWLAnnotation, OWLAnnotation> annotationsCache;
+    @Nullable
+    transient private WeakInterner<OWLObject> objectsCache;
+    private final boolean hashConsing;
+    private final boolean sharedEntities;
 
     /**
      * @param useCompression true if literals should be compressed
      */
     @Inject
     public OWLDataFactoryInternalsImpl(@CompressionEnabled boolean useCompression) {
+        this(useCompression, false);
+    }
+
+    /**
+     * @param useCompression true if literals should be compressed
+     * @param hashConsing true if structurally equal class expressions, data ranges and axioms
+     *        should share one instance
+     */
+    public OWLDataFactoryInternalsImpl(boolean useCompression, boolean hashConsing) {
+        this(useCompression, hashConsing, ConfigurationOptions.SHARED_ENTITY_REGISTRY
+            .getValue(Boolean.class, Collections.emptyMap()).booleanValue());
+    }
+
+    /**
+     * @param useCompression true if literals should be compressed
+     * @param hashConsing true if structurally equal class expressions, data ranges and axioms
+     *        should share one instance
+     * @param sharedEntities true if entities should come from {@link EntityRegistry#shared()},
+     *        false if this factory should keep entities of its own
+     */
+    public OWLDataFactoryInternalsImpl(boolean useCompression, boolean hashConsing,
+        boolean sharedEntities) {
         super(useCompression);
+        this.hashConsing = hashConsing;
+        this.sharedEntities = sharedEntities;
         initCaches();
     }
 
-    private void readObject(java.io.ObjectInputStream stream) {
+    private void readObject(java.io.ObjectInputStream stream)
+        throws java.io.IOException, ClassNotFoundException {
+        stream.defaultReadObject();
         initCaches();
     }
 
     protected void initCaches() {
-        Caffeine<Object, Object> builder = Caffeine.newBuilder().weakKeys().maximumSize(size());
-        classesByURI = builder.build(OWLClassImpl::new);
-        objectPropertiesByURI = builder.build(OWLObjectPropertyImpl::new);
-        dataPropertiesByURI = builder.build(OWLDataPropertyImpl::new);
-        datatypesByURI = builder.build(OWLDatatypeImpl::new);
-        individualsByURI = builder.build(OWLNamedIndividualImpl::new);
-        annotationPropertiesByURI = builder.build(OWLAnnotationPropertyImpl::new);
-        annotationsCache = builder.build(k -> k);
-        languageTagInterner = builder.build(k -> k);
+        entities = sharedEntities ? EntityRegistry.shared() : new EntityRegistry();
+        annotationsCache = new WeakInterner<>();
+        languageTagInterner = new WeakInterner<>();
+        objectsCache = hashConsing ? new WeakInterner<>() : null;
     }
 
+    /**
+     * @return the configured {@link ConfigurationOptions#CACHE_SIZE}
+     * @deprecated the caches hold entities weakly and are no longer bounded by size
+     */
+    @Deprecated
     protected long size() {
         return ConfigurationOptions.CACHE_SIZE.getValue(Integer.class, Collections.emptyMap())
             .longValue();
@@ -98,48 +124,76 @@ public class OWLDataFactoryInternalsImpl extends OWLDataFactoryInternalsImplNoCa
     @Nonnull
     @Override
     public OWLClass getOWLClass(IRI iri) {
-        return classesByURI.get(iri);
+        return entities.getOWLClass(iri);
     }
 
     @Override
     public void purge() {
-        classesByURI.invalidateAll();
-        objectPropertiesByURI.invalidateAll();
-        dataPropertiesByURI.invalidateAll();
-        datatypesByURI.invalidateAll();
-        individualsByURI.invalidateAll();
-        annotationPropertiesByURI.invalidateAll();
-        annotationsCache.invalidateAll();
+        if (!sharedEntities) {
+            // other factories may be using the shared registry
+            entities.clear();
+        }
+        annotationsCache.clear();
+        languageTagInterner.clear();
+        if (objectsCache != null) {
+            objectsCache.clear();
+        }
+    }
+
+    @Override
+    public Map<String, CacheStats> getCacheStatistics() {
+        Map<String, CacheStats> stats = new LinkedHashMap<>();
+        stats.put("namespaces", IRI.namespaceInterningStats());
+        // counts for the shared registry include lookups from all factories using it
+        stats.putAll(entities.stats());
+        stats.put("annotations", annotationsCache.stats());
+        stats.put("annotationSets", AnnotationSet.stats());
+        stats.put("languageTags", languageTagInterner.stats());
+        if (objectsCache != null) {
+            stats.put("objects", objectsCache.stats());
+        }
+        return stats;
+    }
+
+    @Override
+    public <T extends OWLObject> T intern(T object) {
+        WeakInterner<OWLObject> cache = objectsCache;
+        if (cache == null) {
+            return object;
+        }
+        @SuppressWarnings("unchecked")
+        T canonical = (T) cache.intern(object);
+        return canonical;
     }
 
     @Nonnull
     @Override
     public OWLObjectProperty getOWLObjectProperty(IRI iri) {
-        return objectPropertiesByURI.get(iri);
+        return entities.getOWLObjectProperty(iri);
     }
 
     @Nonnull
     @Override
     public OWLDataProperty getOWLDataProperty(IRI iri) {
-        return dataPropertiesByURI.get(iri);
+        return entities.getOWLDataProperty(iri);
     }
 
     @Nonnull
     @Override
     public OWLNamedIndividual getOWLNamedIndividual(IRI iri) {
-        return individualsByURI.get(iri);
+        return entities.getOWLNamedIndividual(iri);
     }
 
     @Nonnull
     @Override
     public OWLDatatype getOWLDatatype(IRI iri) {
-        return datatypesByURI.get(iri);
+        return entities.getOWLDatatype(iri);
     }
 
     @Nonnull
     @Override
     public OWLAnnotationProperty getOWLAnnotationProperty(IRI iri) {
-        return annotationPropertiesByURI.get(iri);
+        return entities.getOWLAnnotationProperty(iri);
     }
 
     @Override
@@ -151,13 +205,13 @@ public class OWLDataFactoryInternalsImpl extends OWLDataFactoryInternalsImplNoCa
         if (lang == null) {
             return "";
         }
-        return languageTagInterner.get(lang.trim().toLowerCase());
+        return languageTagInterner.intern(lang.trim().toLowerCase());
     }
 
     @Override
     public OWLAnnotation getOWLAnnotation(OWLAnnotationProperty property, OWLAnnotationValue value,
         @Nonnull Set<? extends OWLAnnotation> annotations) {
         OWLAnnotation key = new OWLAnnotationImpl(property, value, annotations);
-        return annotationsCache.get(key);
+        return annotationsCache.intern(key);
     }
 }
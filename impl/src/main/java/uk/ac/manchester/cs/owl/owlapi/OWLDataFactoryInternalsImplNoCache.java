@@ -15,9 +15,12 @@ package uk.ac.manchester.cs.owl.owlapi;
 import static org.semanticweb.owlapi.vocab.OWL2Datatype.RDFS_LITERAL;
 import static org.semanticweb.owlapi.vocab.OWL2Datatype.RDF_PLAIN_LITERAL;
 import static org.semanticweb.owlapi.vocab.OWL2Datatype.XSD_BOOLEAN;
+import static org.semanticweb.owlapi.vocab.OWL2Datatype.XSD_DATE_TIME;
+import static org.semanticweb.owlapi.vocab.OWL2Datatype.XSD_DECIMAL;
 import static org.semanticweb.owlapi.vocab.OWL2Datatype.XSD_DOUBLE;
 import static org.semanticweb.owlapi.vocab.OWL2Datatype.XSD_FLOAT;
 import static org.semanticweb.owlapi.vocab.OWL2Datatype.XSD_INTEGER;
+import static org.semanticweb.owlapi.vocab.OWL2Datatype.XSD_LONG;
 
 import java.io.Serializable;
 import java.util.Locale;
@@ -196,13 +199,19 @@ public class OWLDataFactoryInternalsImplNoCache implements OWLDataFactoryInterna
                                 // ints - not all values are
                                 literal = getOWLLiteral(Integer.parseInt(lexicalValue));
                             } catch (NumberFormatException ex) {
-                                // try as a big decimal
-                                literal = getBasicLiteral(lexicalValue, datatype);
+                                // try as a long, then as a big decimal
+                                literal = OWLLiteralImplLong.parse(lexicalValue, datatype);
+                                if (literal == null) {
+                                    literal = getBasicLiteral(lexicalValue, datatype);
+                                }
                             }
                         }
                     }
                 } else {
-                    literal = getBasicLiteral(lexicalValue, datatype);
+                    literal = getTypedLiteral(lexicalValue, datatype);
+                    if (literal == null) {
+                        literal = getBasicLiteral(lexicalValue, datatype);
+                    }
                 }
             } catch (NumberFormatException e) {
                 // some literal is malformed, i.e., wrong format
@@ -212,6 +221,29 @@ public class OWLDataFactoryInternalsImplNoCache implements OWLDataFactoryInterna
         return literal;
     }
 
+    /**
+     * @param lexicalValue lexical form
+     * @param datatype datatype
+     * @return a literal storing the value rather than the lexical form, for xsd:long, xsd:decimal
+     *         and xsd:dateTime; null for other datatypes, or if the lexical form would not be
+     *         preserved
+     */
+    @Nullable
+    protected OWLLiteral getTypedLiteral(@Nonnull String lexicalValue,
+        @Nonnull OWLDatatype datatype) {
+        IRI iri = datatype.getIRI();
+        if (XSD_LONG.getIRI().equals(iri)) {
+            return OWLLiteralImplLong.parse(lexicalValue, datatype);
+        }
+        if (XSD_DECIMAL.getIRI().equals(iri)) {
+            return OWLLiteralImplDecimal.parse(lexicalValue, datatype);
+        }
+        if (XSD_DATE_TIME.getIRI().equals(iri)) {
+            return OWLLiteralImplDateTime.parse(lexicalValue, datatype);
+        }
+        return null;
+    }
+
     @Nonnull
     protected OWLLiteral getBasicLiteral(@Nonnull String lexicalValue, OWLDatatype datatype) {
         return getBasicLiteral(lexicalValue, "", datatype);
@@ -60,7 +60,7 @@ public class OWLDataIntersectionOfImpl extends OWLNaryDataRangeImpl implements
     @Override
     protected int compareObjectOfSameType(OWLObject object) {
         OWLDataIntersectionOf other = (OWLDataIntersectionOf) object;
-        return compareSets(getOperands(), other.getOperands());
+        return compareOperands(other);
     }
 
     @Override
@@ -29,7 +29,7 @@ import org.semanticweb.owlapi.util.OWLObjectTypeIndexProvider;
  * @since 2.0.0
  */
 public class OWLDataOneOfImpl extends OWLObjectImplWithoutEntityAndAnonCaching
-    implements OWLDataOneOf {
+    implements OWLDataOneOf, HasIndexedOperands<OWLLiteral> {
 
     private static final long serialVersionUID = 40000L;
     @Nonnull
@@ -71,6 +71,16 @@ public class OWLDataOneOfImpl extends OWLObjectImplWithoutEntityAndAnonCaching
             .getCopyOnRequestSetFromImmutableCollection(values);
     }
 
+    @Override
+    public int getOperandCount() {
+        return values.size();
+    }
+
+    @Override
+    public OWLLiteral getOperandAt(int index) {
+        return values.get(index);
+    }
+
     @Override
     public boolean isDatatype() {
         return false;
@@ -132,6 +142,9 @@ public class OWLDataOneOfImpl extends OWLObjectImplWithoutEntityAndAnonCaching
 
     @Override
     protected int compareObjectOfSameType(OWLObject object) {
+        if (object instanceof OWLDataOneOfImpl) {
+            return compareLists(values, ((OWLDataOneOfImpl) object).values);
+        }
         return compareSets(values, ((OWLDataOneOf) object).getValues());
     }
 }
@@ -92,8 +92,13 @@ public class OWLDataPropertyAssertionAxiomImpl
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLDataPropertyAssertionAxiomImpl(getSubject(),
-                getProperty(), getObject(), NO_ANNOTATIONS);
+        OWLDataPropertyAssertionAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLDataPropertyAssertionAxiomImpl(getSubject(), getProperty(), getObject(),
+                    NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
@@ -61,8 +61,12 @@ public class OWLDataPropertyDomainAxiomImpl extends
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLDataPropertyDomainAxiomImpl(getProperty(), getDomain(),
-                NO_ANNOTATIONS);
+        OWLDataPropertyDomainAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLDataPropertyDomainAxiomImpl(getProperty(), getDomain(), NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
@@ -61,8 +61,12 @@ public class OWLDataPropertyRangeAxiomImpl extends
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLDataPropertyRangeAxiomImpl(getProperty(), getRange(),
-                NO_ANNOTATIONS);
+        OWLDataPropertyRangeAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLDataPropertyRangeAxiomImpl(getProperty(), getRange(), NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
@@ -80,8 +80,12 @@ public class OWLDatatypeDefinitionAxiomImpl extends
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLDatatypeDefinitionAxiomImpl(getDatatype(),
-                getDataRange(), NO_ANNOTATIONS);
+        OWLAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLDatatypeDefinitionAxiomImpl(getDatatype(), getDataRange(), NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
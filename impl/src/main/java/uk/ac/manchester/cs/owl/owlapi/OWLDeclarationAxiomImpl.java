@@ -77,7 +77,12 @@ public class OWLDeclarationAxiomImpl extends
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLDeclarationAxiomImpl(getEntity(), NO_ANNOTATIONS);
+        OWLDeclarationAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLDeclarationAxiomImpl(getEntity(), NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
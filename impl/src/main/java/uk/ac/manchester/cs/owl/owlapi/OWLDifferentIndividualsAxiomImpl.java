@@ -60,8 +60,12 @@ public class OWLDifferentIndividualsAxiomImpl extends
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLDifferentIndividualsAxiomImpl(getIndividuals(),
-                NO_ANNOTATIONS);
+        OWLDifferentIndividualsAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLDifferentIndividualsAxiomImpl(getIndividuals(), NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
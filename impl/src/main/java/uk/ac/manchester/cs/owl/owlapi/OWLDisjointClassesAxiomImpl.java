@@ -48,7 +48,12 @@ public class OWLDisjointClassesAxiomImpl extends OWLNaryClassAxiomImpl implement
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLDisjointClassesAxiomImpl(getClassExpressions(), NO_ANNOTATIONS);
+        OWLDisjointClassesAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLDisjointClassesAxiomImpl(getClassExpressions(), NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
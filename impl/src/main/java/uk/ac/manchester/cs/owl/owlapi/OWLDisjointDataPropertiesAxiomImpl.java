@@ -59,8 +59,12 @@ public class OWLDisjointDataPropertiesAxiomImpl extends
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLDisjointDataPropertiesAxiomImpl(getProperties(),
-                NO_ANNOTATIONS);
+        OWLDisjointDataPropertiesAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLDisjointDataPropertiesAxiomImpl(getProperties(), NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
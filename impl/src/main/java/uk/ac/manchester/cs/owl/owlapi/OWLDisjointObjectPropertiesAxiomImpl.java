@@ -60,8 +60,12 @@ public class OWLDisjointObjectPropertiesAxiomImpl extends
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLDisjointObjectPropertiesAxiomImpl(getProperties(),
-                NO_ANNOTATIONS);
+        OWLDisjointObjectPropertiesAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLDisjointObjectPropertiesAxiomImpl(getProperties(), NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Nonnull
@@ -30,7 +30,7 @@ import org.semanticweb.owlapi.util.CollectionFactory;
  * @since 2.0.0
  */
 public class OWLDisjointUnionAxiomImpl extends OWLClassAxiomImpl implements
-    OWLDisjointUnionAxiom {
+    OWLDisjointUnionAxiom, HasIndexedOperands<OWLClassExpression> {
 
     private static final long serialVersionUID = 40000L;
     @Nonnull
@@ -62,13 +62,28 @@ public class OWLDisjointUnionAxiomImpl extends OWLClassAxiomImpl implements
             .getCopyOnRequestSetFromImmutableCollection(classExpressions);
     }
 
+    @Override
+    public int getOperandCount() {
+        return classExpressions.size();
+    }
+
+    @Override
+    public OWLClassExpression getOperandAt(int index) {
+        return classExpressions.get(index);
+    }
+
     @Override
     public OWLDisjointUnionAxiom getAxiomWithoutAnnotations() {
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLDisjointUnionAxiomImpl(getOWLClass(),
-            getClassExpressions(), NO_ANNOTATIONS);
+        OWLDisjointUnionAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLDisjointUnionAxiomImpl(getOWLClass(), getClassExpressions(),
+                    NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
@@ -149,6 +164,10 @@ public class OWLDisjointUnionAxiomImpl extends OWLClassAxiomImpl implements
         if (diff != 0) {
             return diff;
         }
+        if (other instanceof OWLDisjointUnionAxiomImpl) {
+            return compareLists(classExpressions,
+                ((OWLDisjointUnionAxiomImpl) other).classExpressions);
+        }
         return compareSets(classExpressions, other.getClassExpressions());
     }
 }
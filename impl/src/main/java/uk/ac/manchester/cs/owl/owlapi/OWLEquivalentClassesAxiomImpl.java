@@ -56,7 +56,12 @@ public class OWLEquivalentClassesAxiomImpl extends OWLNaryClassAxiomImpl impleme
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLEquivalentClassesAxiomImpl(getClassExpressions(), NO_ANNOTATIONS);
+        OWLEquivalentClassesAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLEquivalentClassesAxiomImpl(getClassExpressions(), NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
@@ -44,7 +44,12 @@ public class OWLEquivalentDataPropertiesAxiomImpl extends OWLNaryPropertyAxiomIm
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLEquivalentDataPropertiesAxiomImpl(getProperties(), NO_ANNOTATIONS);
+        OWLEquivalentDataPropertiesAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLEquivalentDataPropertiesAxiomImpl(getProperties(), NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
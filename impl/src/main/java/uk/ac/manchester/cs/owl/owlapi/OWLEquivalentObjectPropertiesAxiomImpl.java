@@ -44,7 +44,12 @@ public class OWLEquivalentObjectPropertiesAxiomImpl extends OWLNaryPropertyAxiom
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLEquivalentObjectPropertiesAxiomImpl(getProperties(), NO_ANNOTATIONS);
+        OWLEquivalentObjectPropertiesAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLEquivalentObjectPropertiesAxiomImpl(getProperties(), NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
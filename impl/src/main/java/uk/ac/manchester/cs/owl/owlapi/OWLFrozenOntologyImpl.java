@@ -0,0 +1,278 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.semanticweb.owlapi.model.parameters.Imports.EXCLUDED;
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.Nonnull;
+
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAnnotationProperty;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassAxiom;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLDatatype;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLImportsDeclaration;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.parameters.Imports;
+import org.semanticweb.owlapi.model.parameters.Navigation;
+import org.semanticweb.owlapi.util.CollectionFactory;
+
+import uk.ac.manchester.cs.owl.owlapi.util.collections.SortedArrayList;
+
+/**
+ * A read only copy of an ontology, built once and never changed. All indexes are built eagerly and
+ * stored as immutable sorted arrays, and the signature is computed up front, so queries never lock
+ * and never fill caches. The ontology is not an {@link org.semanticweb.owlapi.model.OWLMutableOntology};
+ * changes applied through its manager fail with an
+ * {@link org.semanticweb.owlapi.model.ImmutableOWLOntologyChangeException}. Instances are created by
+ * {@link OWLOntologyManagerImpl#freezeOntology(OWLOntology)}.
+ * 
+ * @since 4.7.7
+ */
+public class OWLFrozenOntologyImpl extends OWLImmutableOntologyImpl implements HasSnapshot {
+
+    private static final long serialVersionUID = 40000L;
+    @Nonnull
+    private final SortedArrayList<OWLClass> classes;
+    @Nonnull
+    private final SortedArrayList<OWLObjectProperty> objectProperties;
+    @Nonnull
+    private final SortedArrayList<OWLDataProperty> dataProperties;
+    @Nonnull
+    private final SortedArrayList<OWLNamedIndividual> individuals;
+    @Nonnull
+    private final SortedArrayList<OWLDatatype> datatypes;
+    @Nonnull
+    private final SortedArrayList<OWLAnnotationProperty> annotationProperties;
+    @Nonnull
+    private final SortedArrayList<OWLAnonymousIndividual> anonymousIndividuals;
+    @Nonnull
+    private final SortedArrayList<OWLEntity> signature;
+    @Nonnull
+    private final SortedArrayList<OWLClassAxiom> generalClassAxioms;
+
+    /**
+     * @param manager manager for the new ontology
+     * @param source ontology to copy; its axioms, annotations, imports declarations and id are
+     *        copied, imports closure excluded
+     */
+    public OWLFrozenOntologyImpl(@Nonnull OWLOntologyManager manager,
+        @Nonnull OWLOntology source) {
+        super(manager, checkNotNull(source, "source cannot be null").getOntologyID());
+        for (OWLAxiom ax : source.getAxioms(EXCLUDED)) {
+            ints.addAxiom(ax);
+        }
+        for (OWLAnnotation a : source.getAnnotations()) {
+            ints.addOntologyAnnotation(a);
+        }
+        for (OWLImportsDeclaration i : source.getImportsDeclarations()) {
+            ints.addImportsDeclaration(i);
+        }
+        ints.freeze();
+        Collection<OWLAnnotation> annotations = ints.getOntologyAnnotations(false);
+        classes = keys(OWLClass.class);
+        objectProperties = keys(OWLObjectProperty.class);
+        dataProperties = keys(OWLDataProperty.class);
+        individuals = keys(OWLNamedIndividual.class);
+        anonymousIndividuals = keys(OWLAnonymousIndividual.class);
+        datatypes = new SortedArrayList<>(Stream.concat(
+            ints.get(OWLDatatype.class, OWLAxiom.class).get().keySet().stream(),
+            annotations.stream().flatMap(a -> a.getDatatypesInSignature().stream()))
+            .collect(Collectors.toList()));
+        annotationProperties = new SortedArrayList<>(Stream.concat(
+            ints.get(OWLAnnotationProperty.class, OWLAxiom.class, Navigation.IN_SUB_POSITION).get()
+                .keySet().stream(),
+            annotations.stream().flatMap(a -> a.getAnnotationPropertiesInSignature().stream()))
+            .collect(Collectors.toList()));
+        List<OWLEntity> entities = new ArrayList<>();
+        entities.addAll(classes);
+        entities.addAll(objectProperties);
+        entities.addAll(dataProperties);
+        entities.addAll(individuals);
+        entities.addAll(datatypes);
+        entities.addAll(annotationProperties);
+        annotations.forEach(a -> entities.addAll(a.getSignature()));
+        signature = new SortedArrayList<>(entities);
+        generalClassAxioms = new SortedArrayList<>(ints.getGeneralClassAxioms());
+    }
+
+    private <K extends OWLObject> SortedArrayList<K> keys(Class<K> type) {
+        return new SortedArrayList<>(ints.get(type, OWLAxiom.class).get().keySet());
+    }
+
+    private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        ints.freeze();
+    }
+
+    /**
+     * @return 0; a frozen ontology never changes
+     */
+    @Override
+    public long getVersion() {
+        return 0;
+    }
+
+    /**
+     * @return this ontology; a frozen ontology is its own snapshot
+     */
+    @Override
+    public OWLOntology snapshot() {
+        return this;
+    }
+
+    /**
+     * The manager resolves imports closures by ontology id, which would give back the live
+     * ontology this one was copied from; a frozen ontology is in its own imports closure instead.
+     */
+    @Override
+    public Set<OWLOntology> getImportsClosure() {
+        Set<OWLOntology> closure = new TreeSet<>();
+        closure.add(this);
+        closure.addAll(getImports());
+        return CollectionFactory.getCopyOnRequestSetFromMutableCollection(closure);
+    }
+
+    @Override
+    public Set<OWLOntology> getDirectImports() {
+        Set<OWLOntology> imports = new TreeSet<>();
+        for (OWLImportsDeclaration i : ints.getImportsDeclarations(false)) {
+            OWLOntology imported = getOWLOntologyManager().getImportedOntology(i);
+            if (imported != null) {
+                imports.add(imported);
+            }
+        }
+        return CollectionFactory.getCopyOnRequestSetFromMutableCollection(imports);
+    }
+
+    @Override
+    public Set<OWLOntology> getImports() {
+        Set<OWLOntology> imports = new TreeSet<>();
+        for (OWLOntology o : getDirectImports()) {
+            for (OWLOntology imported : o.getImportsClosure()) {
+                if (!imported.getOntologyID().equals(getOntologyID())) {
+                    imports.add(imported);
+                }
+            }
+        }
+        return CollectionFactory.getCopyOnRequestSetFromMutableCollection(imports);
+    }
+
+    @Nonnull
+    private static <T> Set<T> copy(SortedArrayList<T> list) {
+        return CollectionFactory.getCopyOnRequestSetFromImmutableCollection(list.asSet());
+    }
+
+    @Override
+    public boolean containsEntityInSignature(@Nonnull OWLEntity owlEntity,
+        Imports includeImportsClosure) {
+        if (includeImportsClosure == EXCLUDED) {
+            return signature.contains(owlEntity);
+        }
+        return super.containsEntityInSignature(owlEntity, includeImportsClosure);
+    }
+
+    @Override
+    public Set<OWLEntity> getSignature() {
+        return copy(signature);
+    }
+
+    @Override
+    public Set<OWLClassAxiom> getGeneralClassAxioms() {
+        return copy(generalClassAxioms);
+    }
+
+    @Override
+    public Set<OWLAnonymousIndividual> getAnonymousIndividuals() {
+        return copy(anonymousIndividuals);
+    }
+
+    @Override
+    public Set<OWLClass> getClassesInSignature() {
+        return copy(classes);
+    }
+
+    @Override
+    public Set<OWLDataProperty> getDataPropertiesInSignature() {
+        return copy(dataProperties);
+    }
+
+    @Override
+    public Set<OWLObjectProperty> getObjectPropertiesInSignature() {
+        return copy(objectProperties);
+    }
+
+    @Override
+    public Set<OWLNamedIndividual> getIndividualsInSignature() {
+        return copy(individuals);
+    }
+
+    @Override
+    public Set<OWLDatatype> getDatatypesInSignature() {
+        return copy(datatypes);
+    }
+
+    @Override
+    public Set<OWLAnnotationProperty> getAnnotationPropertiesInSignature() {
+        return copy(annotationProperties);
+    }
+
+    @Override
+    protected Iterable<OWLClass> classesInSignature() {
+        return classes;
+    }
+
+    @Override
+    protected Iterable<OWLDataProperty> dataPropertiesInSignature() {
+        return dataProperties;
+    }
+
+    @Override
+    protected Iterable<OWLObjectProperty> objectPropertiesInSignature() {
+        return objectProperties;
+    }
+
+    @Override
+    protected Iterable<OWLNamedIndividual> individualsInSignature() {
+        return individuals;
+    }
+
+    @Override
+    protected Iterable<OWLDatatype> datatypesInSignature() {
+        return datatypes;
+    }
+
+    @Override
+    protected Iterable<OWLAnnotationProperty> annotationPropertiesInSignature() {
+        return annotationProperties;
+    }
+}
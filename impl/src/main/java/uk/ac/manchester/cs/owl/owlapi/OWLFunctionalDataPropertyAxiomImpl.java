@@ -59,8 +59,12 @@ public class OWLFunctionalDataPropertyAxiomImpl extends
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLFunctionalDataPropertyAxiomImpl(getProperty(),
-                NO_ANNOTATIONS);
+        OWLFunctionalDataPropertyAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLFunctionalDataPropertyAxiomImpl(getProperty(), NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
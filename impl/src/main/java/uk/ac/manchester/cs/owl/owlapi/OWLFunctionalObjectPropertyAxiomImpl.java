@@ -56,8 +56,12 @@ public class OWLFunctionalObjectPropertyAxiomImpl extends
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLFunctionalObjectPropertyAxiomImpl(getProperty(),
-                NO_ANNOTATIONS);
+        OWLFunctionalObjectPropertyAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLFunctionalObjectPropertyAxiomImpl(getProperty(), NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
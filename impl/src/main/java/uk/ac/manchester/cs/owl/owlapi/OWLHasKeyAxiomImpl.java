@@ -78,8 +78,13 @@ public class OWLHasKeyAxiomImpl extends
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLHasKeyAxiomImpl(getClassExpression(),
-            getPropertyExpressions(), NO_ANNOTATIONS);
+        OWLHasKeyAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLHasKeyAxiomImpl(getClassExpression(), getPropertyExpressions(),
+                    NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
@@ -133,6 +138,10 @@ public class OWLHasKeyAxiomImpl extends
         if (diff != 0) {
             return diff;
         }
+        if (other instanceof OWLHasKeyAxiomImpl) {
+            return compareLists(propertyExpressions,
+                ((OWLHasKeyAxiomImpl) other).propertyExpressions);
+        }
         return compareSets(propertyExpressions, other.getPropertyExpressions());
     }
 
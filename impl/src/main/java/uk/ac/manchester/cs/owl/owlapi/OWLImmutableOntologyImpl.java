@@ -32,6 +32,8 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -77,6 +79,7 @@ import org.semanticweb.owlapi.model.OWLObjectVisitor;
 import org.semanticweb.owlapi.model.OWLObjectVisitorEx;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
 import org.semanticweb.owlapi.model.OWLOntologyManager;
 import org.semanticweb.owlapi.model.OWLOntologyStorageException;
 import org.semanticweb.owlapi.model.OWLPrimitive;
@@ -94,6 +97,8 @@ import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 
+import uk.ac.manchester.cs.owl.owlapi.util.collections.SortedArrayList;
+
 /**
  * @author Matthew Horridge, The University Of Manchester, Bio-Health Informatics Group
  * @since 2.0.0
@@ -102,21 +107,9 @@ public class OWLImmutableOntologyImpl extends OWLAxiomIndexImpl
     implements OWLOntology, Serializable {
 
     private static final long serialVersionUID = 40000L;
-    // @formatter:off
-    protected static LoadingCache<OWLImmutableOntologyImpl, Set<OWLClassAxiom>>          ontgenAxioms  =                    build(OWLImmutableOntologyImpl::buildGenAxioms);
-    protected static LoadingCache<OWLImmutableOntologyImpl, Set<OWLEntity>>              ontsignatures =                    build(OWLImmutableOntologyImpl::build);
-    protected static LoadingCache<OWLImmutableOntologyImpl, Set<OWLAnonymousIndividual>> ontanonCaches =                    build(key -> asCacheable(key.ints.get(OWLAnonymousIndividual.class, OWLAxiom.class).get().keySet()));
-    protected static LoadingCache<OWLImmutableOntologyImpl, Set<OWLClass>>              ontclassesSignatures =              build(key -> asCacheable(key.ints.get(OWLClass.class,               OWLAxiom.class).get().keySet()));
-    protected static LoadingCache<OWLImmutableOntologyImpl, Set<OWLDataProperty>>       ontdataPropertySignatures =         build(key -> asCacheable(key.ints.get(OWLDataProperty.class,        OWLAxiom.class).get().keySet()));
-    protected static LoadingCache<OWLImmutableOntologyImpl, Set<OWLObjectProperty>>     ontobjectPropertySignatures =       build(key -> asCacheable(key.ints.get(OWLObjectProperty.class,      OWLAxiom.class).get().keySet()));
-    protected static LoadingCache<OWLImmutableOntologyImpl, Set<OWLDatatype>>           ontdatatypeSignatures =             build(key -> asCacheable(Stream.concat(
-        key.ints.get(OWLDatatype.class, OWLAxiom.class).get().keySet().stream(), 
-        key.ints.getOntologyAnnotations(false).stream().flatMap(x->x.getDatatypesInSignature().stream())).collect(Collectors.toSet())));
-    protected static LoadingCache<OWLImmutableOntologyImpl, Set<OWLNamedIndividual>>    ontindividualSignatures =           build(key -> asCacheable(key.ints.get(OWLNamedIndividual.class,     OWLAxiom.class).get().keySet()));
-    protected static LoadingCache<OWLImmutableOntologyImpl, Set<OWLAnnotationProperty>> ontannotationPropertiesSignatures = build(key -> asCacheable(Stream.concat(
-        key.ints.get(OWLAnnotationProperty.class, OWLAxiom.class, Navigation.IN_SUB_POSITION).get().keySet().stream(),
-        key.ints.getOntologyAnnotations(false).stream().flatMap(a->a.getAnnotationPropertiesInSignature().stream())).collect(Collectors.toSet())));
-    // @formatter:on
+    protected static LoadingCache<OWLImmutableOntologyImpl, Set<OWLClassAxiom>> ontgenAxioms =
+        build(OWLImmutableOntologyImpl::buildGenAxioms);
+
     static <Q, T> LoadingCache<Q, T> build(CacheLoader<Q, T> c) {
         return Caffeine.newBuilder().weakKeys().maximumSize(size()).build(c);
     }
@@ -126,34 +119,27 @@ public class OWLImmutableOntologyImpl extends OWLAxiomIndexImpl
             .longValue();
     }
 
+    /**
+     * Signatures are maintained incrementally by the reference indexes (see
+     * {@link MapPointer#sortedKeys()}); only the general class axioms are cached here.
+     * 
+     * @param o ontology whose caches are stale
+     */
     protected static void invalidateOntologyCaches(OWLImmutableOntologyImpl o) {
         ontgenAxioms.invalidate(o);
-        ontsignatures.invalidate(o);
-        ontanonCaches.invalidate(o);
-        ontclassesSignatures.invalidate(o);
-        ontdataPropertySignatures.invalidate(o);
-        ontobjectPropertySignatures.invalidate(o);
-        ontdatatypeSignatures.invalidate(o);
-        ontindividualSignatures.invalidate(o);
-        ontannotationPropertiesSignatures.invalidate(o);
     }
 
     private static Set<OWLClassAxiom> buildGenAxioms(OWLImmutableOntologyImpl key) {
         return new LinkedHashSet<>(key.ints.getGeneralClassAxioms());
     }
 
-    private static Set<OWLEntity> build(OWLImmutableOntologyImpl key) {
-        List<OWLEntity> stream = new ArrayList<>();
-        key.classesInSignature().forEach(stream::add);
-        key.objectPropertiesInSignature().forEach(stream::add);
-        key.dataPropertiesInSignature().forEach(stream::add);
-        key.individualsInSignature().forEach(stream::add);
-        key.datatypesInSignature().forEach(stream::add);
-        key.annotationPropertiesInSignature().forEach(stream::add);
-        key.getAnnotations().stream().flatMap(x -> x.getSignature().stream()).forEach(stream::add);
-        stream.sort(null);
-        return new LinkedHashSet<>(stream);
-    }
+    /** Sorted signature parts the cached signature was built from, compared by identity. */
+    @Nullable
+    private transient volatile List<Object> signatureParts;
+    @Nullable
+    private transient volatile SortedArrayList<OWLEntity> signature;
+    @Nullable
+    private transient volatile AnnotationSignature annotationSignature;
 
     @Nullable
     protected OWLOntologyManager manager;
@@ -181,6 +167,30 @@ public class OWLImmutableOntologyImpl extends OWLAxiomIndexImpl
      */
     public OWLImmutableOntologyImpl(@Nonnull OWLOntologyManager manager,
         @Nonnull OWLOntologyID ontologyID) {
+        this(manager, ontologyID, internals(checkNotNull(manager, "manager cannot be null")));
+    }
+
+    /**
+     * @param manager ontology manager
+     * @return internals with the indexes set in the loader configuration of the manager
+     */
+    private static Internals internals(OWLOntologyManager manager) {
+        OWLOntologyLoaderConfiguration config = manager.getOntologyLoaderConfiguration();
+        if (config == null) {
+            return new Internals();
+        }
+        return new Internals(config.shouldUseLockFreeIndexes(),
+            config.shouldUseCompactAxiomIndexes());
+    }
+
+    /**
+     * @param manager ontology manager
+     * @param ontologyID ontology id
+     * @param ints internals holding the axioms and indexes
+     */
+    protected OWLImmutableOntologyImpl(@Nonnull OWLOntologyManager manager,
+        @Nonnull OWLOntologyID ontologyID, @Nonnull Internals ints) {
+        super(ints);
         this.manager = checkNotNull(manager, "manager cannot be null");
         this.ontologyID = checkNotNull(ontologyID, "ontologyID cannot be null");
     }
@@ -335,6 +345,74 @@ public class OWLImmutableOntologyImpl extends OWLAxiomIndexImpl
         return toReturn;
     }
 
+    // streams and callbacks read the indexes directly rather than copying them
+    @Override
+    public Stream<OWLAxiom> axioms() {
+        return ints.getAxiomsByType().allValues();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends OWLAxiom> Stream<T> axioms(AxiomType<T> axiomType) {
+        return (Stream<T>) ints.getAxiomsByType().values(axiomType);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends OWLAxiom> void forEachAxiom(AxiomType<T> axiomType,
+        Imports includeImportsClosure, Consumer<? super T> action) {
+        if (includeImportsClosure == EXCLUDED) {
+            ints.getAxiomsByType().forEach(axiomType, ax -> action.accept((T) ax));
+        } else {
+            for (OWLOntology o : getImportsClosure()) {
+                o.forEachAxiom(axiomType, EXCLUDED, action);
+            }
+        }
+    }
+
+    @Override
+    public Stream<OWLAxiom> referencingAxioms(OWLPrimitive owlEntity,
+        Imports includeImportsClosure) {
+        if (includeImportsClosure == INCLUDED) {
+            return importsClosure().flatMap(o -> o.referencingAxioms(owlEntity, EXCLUDED));
+        }
+        if (owlEntity instanceof OWLEntity) {
+            return ints.getReferences((OWLEntity) owlEntity).values((OWLEntity) owlEntity);
+        }
+        if (owlEntity instanceof OWLAnonymousIndividual) {
+            return ints.get(OWLAnonymousIndividual.class, OWLAxiom.class).get()
+                .values((OWLAnonymousIndividual) owlEntity);
+        }
+        return getReferencingAxioms(owlEntity, EXCLUDED).stream();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <A extends OWLAxiom> Stream<A> axioms(Class<A> type,
+        Class<? extends OWLObject> explicitClass, OWLObject entity, Navigation forSubPosition) {
+        java.util.Optional<MapPointer<OWLObject, A>> optional =
+            ints.get((Class<OWLObject>) explicitClass, type, forSubPosition);
+        if (optional.isPresent()) {
+            return optional.get().values(entity);
+        }
+        return axioms(AxiomType.getTypeForClass(type))
+            .filter(ax -> ax.getSignature().contains(entity));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <A extends OWLAxiom> void forEachAxiom(Class<A> type,
+        Class<? extends OWLObject> explicitClass, OWLObject entity, Navigation forSubPosition,
+        Consumer<? super A> action) {
+        java.util.Optional<MapPointer<OWLObject, A>> optional =
+            ints.get((Class<OWLObject>) explicitClass, type, forSubPosition);
+        if (optional.isPresent()) {
+            optional.get().forEach(entity, action);
+        } else {
+            axioms(type, explicitClass, entity, forSubPosition).forEach(action);
+        }
+    }
+
     @Nonnull
     @Override
     public Set<OWLAxiom> getTBoxAxioms(Imports includeImportsClosure) {
@@ -747,18 +825,15 @@ public class OWLImmutableOntologyImpl extends OWLAxiomIndexImpl
     public boolean containsEntityInSignature(@Nonnull OWLEntity owlEntity,
         Imports includeImportsClosure) {
         if (includeImportsClosure != INCLUDED) {
-            // Do not use the cached signature if it has not been created already.
-            // Creating the cache while this method is called during updates leads to very expensive
-            // lookups.
-            Set<OWLEntity> set = ontsignatures.getIfPresent(this);
-            if (set == null) {
-                if (ints.containsReference(owlEntity)) {
+            if (ints.containsReference(owlEntity)) {
+                return true;
+            }
+            for (OWLAnnotation a : ints.getOntologyAnnotations(false)) {
+                if (a.getSignature().contains(owlEntity)) {
                     return true;
                 }
-                return getAnnotations().stream()
-                    .anyMatch(a -> a.getSignature().contains(owlEntity));
             }
-            return set.contains(owlEntity);
+            return false;
         }
         for (OWLOntology o : getImportsClosure()) {
             if (o.containsEntityInSignature(owlEntity, EXCLUDED)) {
@@ -801,22 +876,96 @@ public class OWLImmutableOntologyImpl extends OWLAxiomIndexImpl
 
     @Override
     public Set<OWLEntity> getSignature() {
-        return ontsignatures.get(this);
+        return asSet(signature());
+    }
+
+    /**
+     * @return the signature in natural order; the result is cached for as long as the sorted
+     *         reference indexes and the ontology annotation signature are unchanged
+     */
+    @SuppressWarnings("unchecked")
+    protected SortedArrayList<OWLEntity> signature() {
+        List<Object> parts = new ArrayList<>(7);
+        parts.add(ints.get(OWLClass.class, OWLAxiom.class).get().sortedKeys());
+        parts.add(ints.get(OWLObjectProperty.class, OWLAxiom.class).get().sortedKeys());
+        parts.add(ints.get(OWLDataProperty.class, OWLAxiom.class).get().sortedKeys());
+        parts.add(ints.get(OWLNamedIndividual.class, OWLAxiom.class).get().sortedKeys());
+        parts.add(ints.get(OWLDatatype.class, OWLAxiom.class).get().sortedKeys());
+        parts.add(ints.get(OWLAnnotationProperty.class, OWLAxiom.class, Navigation.IN_SUB_POSITION)
+            .get().sortedKeys());
+        parts.add(annotationSignature());
+        SortedArrayList<OWLEntity> cached = signature;
+        List<Object> cachedParts = signatureParts;
+        if (cached != null && cachedParts != null && sameParts(parts, cachedParts)) {
+            return cached;
+        }
+        List<OWLEntity> entities = new ArrayList<>();
+        for (Object part : parts) {
+            entities.addAll((Collection<OWLEntity>) part);
+        }
+        // the parts are sorted runs, which the sort merges rather than sorting from scratch
+        cached = new SortedArrayList<>(entities);
+        signature = cached;
+        signatureParts = parts;
+        return cached;
+    }
+
+    private static boolean sameParts(List<Object> parts, List<Object> cachedParts) {
+        for (int index = 0; index < parts.size(); index++) {
+            if (parts.get(index) != cachedParts.get(index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return entities in the ontology annotations; the same set is returned until the annotations
+     *         change
+     */
+    private Set<OWLEntity> annotationSignature() {
+        int version = ints.getOntologyAnnotationsVersion();
+        AnnotationSignature cached = annotationSignature;
+        if (cached == null || cached.version != version) {
+            Set<OWLEntity> entities = new HashSet<>();
+            ints.getOntologyAnnotations(false).forEach(a -> entities.addAll(a.getSignature()));
+            cached = new AnnotationSignature(version, entities);
+            annotationSignature = cached;
+        }
+        return cached.entities;
+    }
+
+    /** Entities of the ontology annotations, and the annotations version they were taken from. */
+    private static final class AnnotationSignature {
+
+        final int version;
+        final Set<OWLEntity> entities;
+
+        AnnotationSignature(int version, Set<OWLEntity> entities) {
+            this.version = version;
+            this.entities = entities;
+        }
     }
 
     @Override
     public Set<OWLEntity> getSignature(Imports includeImportsClosure) {
-        Set<OWLEntity> entities = getSignature();
-        if (includeImportsClosure == INCLUDED) {
-            for (OWLOntology ont : getImportsClosure()) {
-                entities.addAll(ont.getSignature(EXCLUDED));
-            }
+        if (includeImportsClosure == EXCLUDED) {
+            return getSignature();
+        }
+        Set<OWLEntity> entities = createLinkedSet();
+        for (OWLOntology ont : getImportsClosure()) {
+            entities.addAll(ont.getSignature(EXCLUDED));
         }
         return entities;
     }
 
     @Nonnull
     private static <T> Set<T> asSet(Iterable<T> i) {
+        if (i instanceof SortedArrayList) {
+            // immutable snapshot: no defensive copy needed
+            return CollectionFactory
+                .getCopyOnRequestSetFromImmutableCollection(((SortedArrayList<T>) i).asSet());
+        }
         if (i instanceof Set) {
             // in this case we can use a list for the defensive copy
             List<T> list = new ArrayList<>();
@@ -830,54 +979,62 @@ public class OWLImmutableOntologyImpl extends OWLAxiomIndexImpl
         return set;
     }
 
-    @Nonnull
-    private static <T> Set<T> asCacheable(Iterable<T> i) {
-        if (i instanceof List) {
-            List<T> list = (List<T>) i;
-            list.sort(null);
-            return CollectionFactory.getCopyOnRequestSetFromImmutableCollection(list);
+    /**
+     * @param fromAxioms sorted entities referenced by axioms
+     * @param fromAnnotation entities of the required type in an ontology annotation
+     * @return the input list if the ontology annotations add nothing to it, a merged list otherwise
+     */
+    private <T extends OWLEntity> SortedArrayList<T> withOntologyAnnotations(
+        SortedArrayList<T> fromAxioms, Function<OWLAnnotation, Set<T>> fromAnnotation) {
+        List<T> extra = null;
+        for (OWLAnnotation a : ints.getOntologyAnnotations(false)) {
+            for (T e : fromAnnotation.apply(a)) {
+                if (!fromAxioms.contains(e)) {
+                    if (extra == null) {
+                        extra = new ArrayList<>();
+                    }
+                    extra.add(e);
+                }
+            }
         }
-        List<T> list = new ArrayList<>();
-        i.forEach(list::add);
-        list.sort(null);
-        if (i instanceof Set) {
-            // in this case we can use a list for the defensive copy
-            return CollectionFactory.getCopyOnRequestSetFromImmutableCollection(list);
+        if (extra == null) {
+            return fromAxioms;
         }
-        // if the input is not a set, we need to make sure there are no
-        // duplicates
-        Set<T> set = new LinkedHashSet<>();
-        list.forEach(set::add);
-        return set;
+        extra.addAll(fromAxioms);
+        return new SortedArrayList<>(extra);
     }
 
     protected Iterable<OWLClass> classesInSignature() {
-        return ontclassesSignatures.get(this);
+        return ints.get(OWLClass.class, OWLAxiom.class).get().sortedKeys();
     }
 
     protected Iterable<OWLDataProperty> dataPropertiesInSignature() {
-        return ontdataPropertySignatures.get(this);
+        return ints.get(OWLDataProperty.class, OWLAxiom.class).get().sortedKeys();
     }
 
     protected Iterable<OWLObjectProperty> objectPropertiesInSignature() {
-        return ontobjectPropertySignatures.get(this);
+        return ints.get(OWLObjectProperty.class, OWLAxiom.class).get().sortedKeys();
     }
 
     protected Iterable<OWLNamedIndividual> individualsInSignature() {
-        return ontindividualSignatures.get(this);
+        return ints.get(OWLNamedIndividual.class, OWLAxiom.class).get().sortedKeys();
     }
 
     protected Iterable<OWLDatatype> datatypesInSignature() {
-        return ontdatatypeSignatures.get(this);
+        return withOntologyAnnotations(ints.get(OWLDatatype.class, OWLAxiom.class).get()
+            .sortedKeys(), OWLAnnotation::getDatatypesInSignature);
     }
 
     @Override
     public Set<OWLAnonymousIndividual> getAnonymousIndividuals() {
-        return ontanonCaches.get(this);
+        return asSet(ints.get(OWLAnonymousIndividual.class, OWLAxiom.class).get().sortedKeys());
     }
 
     protected Iterable<OWLAnnotationProperty> annotationPropertiesInSignature() {
-        return ontannotationPropertiesSignatures.get(this);
+        return withOntologyAnnotations(
+            ints.get(OWLAnnotationProperty.class, OWLAxiom.class, Navigation.IN_SUB_POSITION).get()
+                .sortedKeys(),
+            OWLAnnotation::getAnnotationPropertiesInSignature);
     }
 
     @Override
@@ -957,7 +1114,7 @@ public class OWLImmutableOntologyImpl extends OWLAxiomIndexImpl
     public Set<OWLAnonymousIndividual> getReferencedAnonymousIndividuals(
         Imports includeImportsClosure) {
         if (includeImportsClosure == EXCLUDED) {
-            return asSet(ints.get(OWLAnonymousIndividual.class, OWLAxiom.class).get().keySet());
+            return getAnonymousIndividuals();
         }
         Set<OWLAnonymousIndividual> result = createLinkedSet();
         for (OWLOntology o : getImportsClosure()) {
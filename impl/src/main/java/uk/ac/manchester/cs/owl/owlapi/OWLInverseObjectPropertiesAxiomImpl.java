@@ -69,8 +69,13 @@ public class OWLInverseObjectPropertiesAxiomImpl
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLInverseObjectPropertiesAxiomImpl(getFirstProperty(), getSecondProperty(),
-            NO_ANNOTATIONS);
+        OWLInverseObjectPropertiesAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLInverseObjectPropertiesAxiomImpl(getFirstProperty(), getSecondProperty(),
+                    NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
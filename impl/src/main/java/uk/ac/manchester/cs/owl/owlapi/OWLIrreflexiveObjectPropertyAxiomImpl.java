@@ -56,8 +56,12 @@ public class OWLIrreflexiveObjectPropertyAxiomImpl extends
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLIrreflexiveObjectPropertyAxiomImpl(getProperty(),
-                NO_ANNOTATIONS);
+        OWLIrreflexiveObjectPropertyAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLIrreflexiveObjectPropertyAxiomImpl(getProperty(), NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
@@ -16,16 +16,17 @@ import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.verifyNotNull;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Serializable;
-import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -248,7 +249,15 @@ public class OWLLiteralImpl extends OWLObjectImplWithoutEntityAndAnonCaching imp
             return false;
         }
         OWLLiteral other = (OWLLiteral) obj;
-        return literal.get().equals(other.getLiteral())
+        boolean sameLiteral;
+        if (obj instanceof OWLLiteralImpl) {
+            // avoids decompressing either literal
+            sameLiteral = hashCode == ((OWLLiteralImpl) obj).hashCode
+                && literal.sameString(((OWLLiteralImpl) obj).literal);
+        } else {
+            sameLiteral = literal.get().equals(other.getLiteral());
+        }
+        return sameLiteral
             && (getDatatype().equals(other.getDatatype())
                 || OWL2Datatype.XSD_STRING.getIRI().equals(other.getDatatype().getIRI())
                 || OWLRDFVocabulary.RDF_LANG_STRING.getIRI().equals(other.getDatatype().getIRI())
@@ -324,18 +333,15 @@ public class OWLLiteralImpl extends OWLObjectImplWithoutEntityAndAnonCaching imp
         byte[] bytes;
 
         LiteralWrapper(String s) {
+            l = s;
             if (s.length() > COMPRESSION_LIMIT) {
-                try {
-                    bytes = compress(s);
+                byte[] compressed = compress(s);
+                // keep the compressed form only if it is smaller than the string, which takes
+                // at least one byte per character
+                if (compressed.length < s.length()) {
+                    bytes = compressed;
                     l = null;
-                } catch (IOException e) {
-                    // some problem happened - defaulting to no compression
-                    l = s;
-                    bytes = null;
                 }
-            } else {
-                bytes = null;
-                l = s;
             }
         }
 
@@ -345,39 +351,101 @@ public class OWLLiteralImpl extends OWLObjectImplWithoutEntityAndAnonCaching imp
                 return verifyNotNull(l);
             }
             try {
+                if (bytes[0] == (byte) 0x1f && bytes[1] == (byte) 0x8b) {
+                    // gzip stream, from a serialized literal of a previous version
+                    return decompressGZip(bytes);
+                }
                 return decompress(bytes);
-            } catch (IOException e) {
+            } catch (IOException | DataFormatException e) {
                 // some problem has happened - cannot recover from this
                 throw new OWLRuntimeException(e);
             }
         }
 
+        /**
+         * @param other another wrapper
+         * @return true if the wrapped strings are equal; compressed strings are compared without
+         *         decompressing them, as compression is deterministic
+         */
+        boolean sameString(LiteralWrapper other) {
+            if (l != null && other.l != null) {
+                return l.equals(other.l);
+            }
+            if (bytes != null && other.bytes != null && bytes[0] != (byte) 0x1f
+                && other.bytes[0] != (byte) 0x1f) {
+                return Arrays.equals(bytes, other.bytes);
+            }
+            return get().equals(other.get());
+        }
+
+        /**
+         * Deflates the UTF-8 encoding of s, without headers, after four bytes holding the length
+         * of the encoding.
+         */
+        @Nonnull
+        static byte[] compress(String s) {
+            byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+            Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+            try {
+                deflater.setInput(utf8);
+                deflater.finish();
+                byte[] buffer = new byte[utf8.length + 64];
+                int length = utf8.length;
+                buffer[0] = (byte) (length >>> 24);
+                buffer[1] = (byte) (length >>> 16);
+                buffer[2] = (byte) (length >>> 8);
+                buffer[3] = (byte) length;
+                int size = 4;
+                while (!deflater.finished() && size < buffer.length) {
+                    size += deflater.deflate(buffer, size, buffer.length - size);
+                }
+                if (!deflater.finished()) {
+                    // incompressible; the caller will keep the string
+                    return utf8;
+                }
+                return Arrays.copyOf(buffer, size);
+            } finally {
+                deflater.end();
+            }
+        }
+
         @Nonnull
-        static byte[] compress(String s) throws IOException {
-            ByteArrayOutputStream out = new ByteArrayOutputStream();
-            GZIPOutputStream zipout = new GZIPOutputStream(out);
-            Writer writer = new OutputStreamWriter(zipout, COMPRESSED_ENCODING);
-            writer.write(s);
-            writer.flush();
-            zipout.finish();
-            zipout.flush();
-            return out.toByteArray();
+        static String decompress(byte[] compressed) throws DataFormatException {
+            int length = (compressed[0] & 0xff) << 24 | (compressed[1] & 0xff) << 16
+                | (compressed[2] & 0xff) << 8 | compressed[3] & 0xff;
+            byte[] utf8 = new byte[length];
+            Inflater inflater = new Inflater(true);
+            try {
+                inflater.setInput(compressed, 4, compressed.length - 4);
+                int size = 0;
+                while (size < length) {
+                    int read = inflater.inflate(utf8, size, length - size);
+                    if (read == 0 && (inflater.finished() || inflater.needsInput())) {
+                        throw new DataFormatException("Truncated literal");
+                    }
+                    size += read;
+                }
+            } finally {
+                inflater.end();
+            }
+            return new String(utf8, StandardCharsets.UTF_8);
         }
 
         @Nonnull
-        static String decompress(byte[] result) throws IOException {
+        static String decompressGZip(byte[] result) throws IOException {
             ByteArrayInputStream in = new ByteArrayInputStream(result);
             GZIPInputStream zipin = new GZIPInputStream(in);
-            Reader reader = new InputStreamReader(zipin, COMPRESSED_ENCODING);
+            Reader reader = new InputStreamReader(zipin, GZIP_ENCODING);
             StringBuilder b = new StringBuilder();
-            int c = reader.read();
-            while (c > -1) {
-                b.append((char) c);
-                c = reader.read();
+            char[] buffer = new char[1024];
+            int read = reader.read(buffer);
+            while (read > -1) {
+                b.append(buffer, 0, read);
+                read = reader.read(buffer);
             }
             return b.toString();
         }
 
-        private static final String COMPRESSED_ENCODING = "UTF-16";
+        private static final String GZIP_ENCODING = "UTF-16";
     }
 }
@@ -0,0 +1,84 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.model.OWLDatatype;
+
+/**
+ * An xsd:dateTime literal with a time zone, stored as seconds and nanoseconds since the epoch and
+ * the offset of the time zone in seconds.
+ * 
+ * @since 4.7.7
+ */
+public class OWLLiteralImplDateTime extends OWLLiteralImplTyped {
+
+    private static final long serialVersionUID = 40000L;
+    private final long seconds;
+    private final int nanos;
+    private final int offset;
+
+    /**
+     * @param value date and time
+     * @param datatype datatype
+     */
+    public OWLLiteralImplDateTime(@Nonnull OffsetDateTime value, @Nonnull OWLDatatype datatype) {
+        super(value.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME), datatype);
+        Instant instant = value.toInstant();
+        seconds = instant.getEpochSecond();
+        nanos = instant.getNano();
+        offset = value.getOffset().getTotalSeconds();
+    }
+
+    /**
+     * @param lexicalValue lexical form
+     * @param datatype datatype
+     * @return a literal for the lexical form, or null if the lexical form has no time zone or would
+     *         not be rendered back unchanged
+     */
+    @Nullable
+    public static OWLLiteralImplDateTime parse(@Nonnull String lexicalValue,
+        @Nonnull OWLDatatype datatype) {
+        try {
+            OffsetDateTime value =
+                OffsetDateTime.parse(lexicalValue, DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+            if (value.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME).equals(lexicalValue)) {
+                return new OWLLiteralImplDateTime(value, datatype);
+            }
+        } catch (DateTimeParseException e) {
+            // not in the supported format
+        }
+        return null;
+    }
+
+    @Override
+    public String getLiteral() {
+        return OffsetDateTime
+            .ofInstant(Instant.ofEpochSecond(seconds, nanos), ZoneOffset.ofTotalSeconds(offset))
+            .format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+    }
+
+    @Override
+    protected boolean sameValue(OWLLiteralImplTyped other) {
+        OWLLiteralImplDateTime o = (OWLLiteralImplDateTime) other;
+        return seconds == o.seconds && nanos == o.nanos && offset == o.offset;
+    }
+}
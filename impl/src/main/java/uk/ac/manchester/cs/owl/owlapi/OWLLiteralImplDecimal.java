@@ -0,0 +1,103 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import java.math.BigDecimal;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.model.OWLDatatype;
+
+/**
+ * An xsd:decimal literal whose value is stored as an unscaled {@code long} and a scale, as in
+ * {@link BigDecimal}. Trailing zeros are part of the scale, so the lexical form is preserved.
+ * 
+ * @since 4.7.7
+ */
+public class OWLLiteralImplDecimal extends OWLLiteralImplTyped {
+
+    private static final long serialVersionUID = 40000L;
+    /** Powers of ten that are exact doubles. */
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8,
+        1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+    private static final long EXACT_DOUBLE_LIMIT = 1L << 53;
+    private final long unscaled;
+    private final int scale;
+
+    /**
+     * @param unscaled unscaled value
+     * @param scale number of digits after the decimal point; not negative
+     * @param datatype datatype
+     */
+    public OWLLiteralImplDecimal(long unscaled, int scale, @Nonnull OWLDatatype datatype) {
+        super(BigDecimal.valueOf(unscaled, scale).toPlainString(), datatype);
+        this.unscaled = unscaled;
+        this.scale = scale;
+    }
+
+    /**
+     * @param lexicalValue lexical form
+     * @param datatype datatype
+     * @return a literal for the lexical form, or null if the lexical form is not a canonical
+     *         decimal with an unscaled value that fits a long
+     */
+    @Nullable
+    public static OWLLiteralImplDecimal parse(@Nonnull String lexicalValue,
+        @Nonnull OWLDatatype datatype) {
+        try {
+            BigDecimal value = new BigDecimal(lexicalValue);
+            if (value.scale() >= 0 && value.unscaledValue().bitLength() < 64
+                && value.toPlainString().equals(lexicalValue)) {
+                return new OWLLiteralImplDecimal(value.unscaledValue().longValue(), value.scale(),
+                    datatype);
+            }
+        } catch (NumberFormatException e) {
+            // not a decimal
+        }
+        return null;
+    }
+
+    @Override
+    public String getLiteral() {
+        return BigDecimal.valueOf(unscaled, scale).toPlainString();
+    }
+
+    @Override
+    public int parseInteger() {
+        if (scale == 0 && unscaled >= Integer.MIN_VALUE && unscaled <= Integer.MAX_VALUE) {
+            return (int) unscaled;
+        }
+        return super.parseInteger();
+    }
+
+    @Override
+    public boolean parseBoolean() {
+        return scale == 0 && unscaled == 1;
+    }
+
+    @Override
+    public double parseDouble() {
+        if (scale < POWERS_OF_TEN.length && Math.abs(unscaled) < EXACT_DOUBLE_LIMIT) {
+            // both operands are exact, so the division is correctly rounded
+            return unscaled / POWERS_OF_TEN[scale];
+        }
+        return super.parseDouble();
+    }
+
+    @Override
+    protected boolean sameValue(OWLLiteralImplTyped other) {
+        OWLLiteralImplDecimal o = (OWLLiteralImplDecimal) other;
+        return unscaled == o.unscaled && scale == o.scale;
+    }
+}
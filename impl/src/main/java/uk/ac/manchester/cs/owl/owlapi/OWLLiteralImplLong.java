@@ -0,0 +1,92 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.model.OWLDatatype;
+
+/**
+ * A literal whose value is stored as a {@code long}; used for xsd:long values, and for xsd:integer
+ * values too large for {@link OWLLiteralImplInteger}.
+ * 
+ * @since 4.7.7
+ */
+public class OWLLiteralImplLong extends OWLLiteralImplTyped {
+
+    private static final long serialVersionUID = 40000L;
+    private final long literal;
+
+    /**
+     * @param literal literal value
+     * @param datatype datatype
+     */
+    public OWLLiteralImplLong(long literal, @Nonnull OWLDatatype datatype) {
+        super(Long.toString(literal), datatype);
+        this.literal = literal;
+    }
+
+    /**
+     * @param lexicalValue lexical form
+     * @param datatype datatype
+     * @return a literal for the lexical form, or null if the lexical form is not the canonical
+     *         representation of a long value
+     */
+    @Nullable
+    public static OWLLiteralImplLong parse(@Nonnull String lexicalValue,
+        @Nonnull OWLDatatype datatype) {
+        try {
+            long value = Long.parseLong(lexicalValue);
+            if (Long.toString(value).equals(lexicalValue)) {
+                return new OWLLiteralImplLong(value, datatype);
+            }
+        } catch (NumberFormatException e) {
+            // not a long
+        }
+        return null;
+    }
+
+    @Override
+    public String getLiteral() {
+        return Long.toString(literal);
+    }
+
+    @Override
+    public int parseInteger() {
+        if (literal < Integer.MIN_VALUE || literal > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Value out of range: " + literal);
+        }
+        return (int) literal;
+    }
+
+    @Override
+    public boolean parseBoolean() {
+        return literal == 1;
+    }
+
+    @Override
+    public double parseDouble() {
+        return literal;
+    }
+
+    @Override
+    public float parseFloat() {
+        return literal;
+    }
+
+    @Override
+    protected boolean sameValue(OWLLiteralImplTyped other) {
+        return literal == ((OWLLiteralImplLong) other).literal;
+    }
+}
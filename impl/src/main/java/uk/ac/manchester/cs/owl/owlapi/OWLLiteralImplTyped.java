@@ -0,0 +1,236 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
+
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotationValueVisitor;
+import org.semanticweb.owlapi.model.OWLAnnotationValueVisitorEx;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLDataVisitor;
+import org.semanticweb.owlapi.model.OWLDataVisitorEx;
+import org.semanticweb.owlapi.model.OWLDatatype;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLObjectVisitor;
+import org.semanticweb.owlapi.model.OWLObjectVisitorEx;
+import org.semanticweb.owlapi.util.OWLObjectTypeIndexProvider;
+import org.semanticweb.owlapi.vocab.OWL2Datatype;
+
+import com.google.common.base.Optional;
+
+/**
+ * Base class for literals that keep a primitive value instead of their lexical form. The lexical
+ * form is rendered on request; subclasses are only built for lexical forms that render back
+ * unchanged, so that these literals are equal, with equal hash codes, to
+ * {@link OWLLiteralImpl} instances with the same lexical form and datatype. The parse methods
+ * behave as in {@link OWLLiteralImpl}, with fast paths where the value makes parsing unnecessary.
+ * 
+ * @since 4.7.7
+ */
+public abstract class OWLLiteralImplTyped extends OWLObjectImplWithoutEntityAndAnonCaching
+    implements OWLLiteral {
+
+    private static final long serialVersionUID = 40000L;
+    @Nonnull
+    private final OWLDatatype datatype;
+
+    /**
+     * @param lexicalValue lexical form, used to compute the hash code
+     * @param datatype datatype
+     */
+    protected OWLLiteralImplTyped(@Nonnull String lexicalValue, @Nonnull OWLDatatype datatype) {
+        this.datatype = checkNotNull(datatype, "datatype cannot be null");
+        // same hash code as OWLLiteralImpl for datatypes other than strings, booleans, integers,
+        // doubles and floats
+        hashCode = ((277 * 37 + datatype.hashCode()) * 37) + lexicalValue.hashCode() * 65536;
+    }
+
+    @Override
+    protected int index() {
+        return OWLObjectTypeIndexProvider.DATA_TYPE_INDEX_BASE + 8;
+    }
+
+    /**
+     * @param other literal of the same class as this literal
+     * @return true if the two literals have the same value
+     */
+    protected abstract boolean sameValue(OWLLiteralImplTyped other);
+
+    @Override
+    public void addSignatureEntitiesToSet(Set<OWLEntity> entities) {
+        entities.add(datatype);
+    }
+
+    @Override
+    public void addAnonymousIndividualsToSet(Set<OWLAnonymousIndividual> anons) {}
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public boolean isRDFPlainLiteral() {
+        return false;
+    }
+
+    @Override
+    public boolean hasLang() {
+        return false;
+    }
+
+    @Nonnull
+    @Override
+    public String getLang() {
+        return "";
+    }
+
+    @Override
+    public boolean hasLang(String lang) {
+        return lang == null || lang.trim().isEmpty();
+    }
+
+    @Override
+    public OWLDatatype getDatatype() {
+        return datatype;
+    }
+
+    @Override
+    public boolean isInteger() {
+        return datatype.getIRI().equals(OWL2Datatype.XSD_INTEGER.getIRI());
+    }
+
+    @Override
+    public int parseInteger() {
+        return Integer.parseInt(getLiteral());
+    }
+
+    @Override
+    public boolean isBoolean() {
+        return false;
+    }
+
+    @Override
+    public boolean parseBoolean() {
+        String literal = getLiteral();
+        return "1".equals(literal) || "true".equals(literal);
+    }
+
+    @Override
+    public boolean isDouble() {
+        return false;
+    }
+
+    @Override
+    public double parseDouble() {
+        return Double.parseDouble(getLiteral());
+    }
+
+    @Override
+    public boolean isFloat() {
+        return false;
+    }
+
+    @Override
+    public float parseFloat() {
+        return Float.parseFloat(getLiteral());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof OWLLiteral) || obj.hashCode() != hashCode) {
+            return false;
+        }
+        OWLLiteral other = (OWLLiteral) obj;
+        if (!datatype.equals(other.getDatatype())) {
+            return false;
+        }
+        if (obj.getClass() == getClass()) {
+            return sameValue((OWLLiteralImplTyped) obj);
+        }
+        return !other.hasLang() && getLiteral().equals(other.getLiteral());
+    }
+
+    @Override
+    protected int compareObjectOfSameType(OWLObject object) {
+        OWLLiteral other = (OWLLiteral) object;
+        int diff = datatype.compareTo(other.getDatatype());
+        if (diff != 0) {
+            return diff;
+        }
+        if (object.getClass() == getClass() && sameValue((OWLLiteralImplTyped) object)) {
+            return 0;
+        }
+        // order by lexical form, as the other literal implementations do
+        diff = getLiteral().compareTo(other.getLiteral());
+        if (diff != 0) {
+            return diff;
+        }
+        return "".compareTo(other.getLang());
+    }
+
+    @Override
+    public void accept(OWLDataVisitor visitor) {
+        visitor.visit(this);
+    }
+
+    @Override
+    public <O> O accept(OWLDataVisitorEx<O> visitor) {
+        return visitor.visit(this);
+    }
+
+    @Override
+    public void accept(OWLAnnotationValueVisitor visitor) {
+        visitor.visit(this);
+    }
+
+    @Override
+    public <O> O accept(OWLAnnotationValueVisitorEx<O> visitor) {
+        return visitor.visit(this);
+    }
+
+    @Override
+    public void accept(OWLObjectVisitor visitor) {
+        visitor.visit(this);
+    }
+
+    @Override
+    public <O> O accept(OWLObjectVisitorEx<O> visitor) {
+        return visitor.visit(this);
+    }
+
+    @Override
+    public Optional<IRI> asIRI() {
+        return Optional.absent();
+    }
+
+    @Override
+    public Optional<OWLAnonymousIndividual> asAnonymousIndividual() {
+        return Optional.absent();
+    }
+
+    @Override
+    public Optional<OWLLiteral> asLiteral() {
+        return Optional.<OWLLiteral>of(this);
+    }
+}
@@ -20,6 +20,7 @@ import java.util.Set;
 
 import javax.annotation.Nonnull;
 
+import org.semanticweb.owlapi.model.HasIndexedOperands;
 import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
 import org.semanticweb.owlapi.model.OWLClassExpression;
 import org.semanticweb.owlapi.model.OWLEntity;
@@ -34,7 +35,7 @@ import org.semanticweb.owlapi.util.CollectionFactory;
  */
 public abstract class OWLNaryBooleanClassExpressionImpl extends
     OWLAnonymousClassExpressionImpl implements
-    OWLNaryBooleanClassExpression {
+    OWLNaryBooleanClassExpression, HasIndexedOperands<OWLClassExpression> {
 
     private static final long serialVersionUID = 40000L;
     @Nonnull
@@ -76,6 +77,16 @@ public abstract class OWLNaryBooleanClassExpressionImpl extends
             .getCopyOnRequestSetFromImmutableCollection(operands);
     }
 
+    @Override
+    public int getOperandCount() {
+        return operands.size();
+    }
+
+    @Override
+    public OWLClassExpression getOperandAt(int index) {
+        return operands.get(index);
+    }
+
     @Override
     public boolean isClassExpressionLiteral() {
         return false;
@@ -95,6 +106,9 @@ public abstract class OWLNaryBooleanClassExpressionImpl extends
 
     @Override
     protected int compareObjectOfSameType(OWLObject object) {
+        if (object instanceof OWLNaryBooleanClassExpressionImpl) {
+            return compareLists(operands, ((OWLNaryBooleanClassExpressionImpl) object).operands);
+        }
         return compareSets(operands,
             ((OWLNaryBooleanClassExpression) object).getOperands());
     }
@@ -23,6 +23,7 @@ import java.util.Set;
 
 import javax.annotation.Nonnull;
 
+import org.semanticweb.owlapi.model.HasIndexedOperands;
 import org.semanticweb.owlapi.model.OWLAnnotation;
 import org.semanticweb.owlapi.model.OWLClassExpression;
 import org.semanticweb.owlapi.model.OWLNaryClassAxiom;
@@ -35,7 +36,7 @@ import org.semanticweb.owlapi.model.OWLPairwiseVisitor;
  * @since 2.0.0
  */
 public abstract class OWLNaryClassAxiomImpl extends OWLClassAxiomImpl implements
-        OWLNaryClassAxiom {
+        OWLNaryClassAxiom, HasIndexedOperands<OWLClassExpression> {
 
     private static final long serialVersionUID = 40000L;
     @Nonnull
@@ -61,6 +62,16 @@ public abstract class OWLNaryClassAxiomImpl extends OWLClassAxiomImpl implements
         return getCopyOnRequestSetFromImmutableCollection(classExpressions);
     }
 
+    @Override
+    public int getOperandCount() {
+        return classExpressions.size();
+    }
+
+    @Override
+    public OWLClassExpression getOperandAt(int index) {
+        return classExpressions.get(index);
+    }
+
     @Override
     public List<OWLClassExpression> getClassExpressionsAsList() {
         return new ArrayList<>(classExpressions);
@@ -28,7 +28,7 @@ import org.semanticweb.owlapi.util.CollectionFactory;
  * @since 3.0.0
  */
 public abstract class OWLNaryDataRangeImpl extends
-    OWLObjectImplWithoutEntityAndAnonCaching implements OWLNaryDataRange {
+    OWLObjectImplWithoutEntityAndAnonCaching implements OWLNaryDataRange, HasIndexedOperands<OWLDataRange> {
 
     private static final long serialVersionUID = 40000L;
     @Nonnull
@@ -46,6 +46,27 @@ public abstract class OWLNaryDataRangeImpl extends
             .getCopyOnRequestSetFromImmutableCollection(operands);
     }
 
+    @Override
+    public int getOperandCount() {
+        return operands.size();
+    }
+
+    @Override
+    public OWLDataRange getOperandAt(int index) {
+        return operands.get(index);
+    }
+
+    /**
+     * @param other data range of the same type
+     * @return comparison of the operands of this data range and of the other
+     */
+    protected int compareOperands(OWLNaryDataRange other) {
+        if (other instanceof OWLNaryDataRangeImpl) {
+            return compareLists(operands, ((OWLNaryDataRangeImpl) other).operands);
+        }
+        return compareSets(operands, other.getOperands());
+    }
+
     @Override
     public boolean isTopDatatype() {
         return false;
@@ -22,6 +22,7 @@ import java.util.Set;
 
 import javax.annotation.Nonnull;
 
+import org.semanticweb.owlapi.model.HasIndexedOperands;
 import org.semanticweb.owlapi.model.OWLAnnotation;
 import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
 import org.semanticweb.owlapi.model.OWLEntity;
@@ -37,7 +38,7 @@ import org.semanticweb.owlapi.model.OWLPairwiseVisitor;
  */
 public abstract class OWLNaryIndividualAxiomImpl extends
         OWLIndividualAxiomImplWithoutEntityAndAnonCaching implements
-        OWLNaryIndividualAxiom {
+        OWLNaryIndividualAxiom, HasIndexedOperands<OWLIndividual> {
 
     private static final long serialVersionUID = 40000L;
     @Nonnull
@@ -81,6 +82,16 @@ public abstract class OWLNaryIndividualAxiomImpl extends
         return getCopyOnRequestSetFromImmutableCollection(individuals);
     }
 
+    @Override
+    public int getOperandCount() {
+        return individuals.size();
+    }
+
+    @Override
+    public OWLIndividual getOperandAt(int index) {
+        return individuals.get(index);
+    }
+
     @Override
     public List<OWLIndividual> getIndividualsAsList() {
         return new ArrayList<>(individuals);
@@ -106,6 +117,9 @@ public abstract class OWLNaryIndividualAxiomImpl extends
 
     @Override
     protected int compareObjectOfSameType(OWLObject object) {
+        if (object instanceof OWLNaryIndividualAxiomImpl) {
+            return compareLists(individuals, ((OWLNaryIndividualAxiomImpl) object).individuals);
+        }
         return compareSets(individuals,
                 ((OWLNaryIndividualAxiom) object).getIndividuals());
     }
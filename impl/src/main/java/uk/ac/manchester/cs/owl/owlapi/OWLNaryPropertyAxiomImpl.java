@@ -24,6 +24,7 @@ import java.util.TreeSet;
 import javax.annotation.Nonnull;
 
 import org.semanticweb.owlapi.model.HasAnonymousIndividuals;
+import org.semanticweb.owlapi.model.HasIndexedOperands;
 import org.semanticweb.owlapi.model.HasSignature;
 import org.semanticweb.owlapi.model.OWLAnnotation;
 import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
@@ -43,7 +44,7 @@ import org.semanticweb.owlapi.util.CollectionFactory;
  */
 public abstract class OWLNaryPropertyAxiomImpl<P extends OWLPropertyExpression>
         extends OWLPropertyAxiomImplWithoutEntityAndAnonCaching implements
-        OWLNaryPropertyAxiom<P> {
+        OWLNaryPropertyAxiom<P>, HasIndexedOperands<P> {
 
     private static final long serialVersionUID = 40000L;
     @Nonnull
@@ -94,6 +95,16 @@ public abstract class OWLNaryPropertyAxiomImpl<P extends OWLPropertyExpression>
                 .getCopyOnRequestSetFromImmutableCollection(properties);
     }
 
+    @Override
+    public int getOperandCount() {
+        return properties.size();
+    }
+
+    @Override
+    public P getOperandAt(int index) {
+        return properties.get(index);
+    }
+
     @Override
     public Set<P> getPropertiesMinus(P property) {
         Set<P> props = new TreeSet<>(properties);
@@ -121,6 +132,9 @@ public abstract class OWLNaryPropertyAxiomImpl<P extends OWLPropertyExpression>
 
     @Override
     protected int compareObjectOfSameType(OWLObject object) {
+        if (object instanceof OWLNaryPropertyAxiomImpl) {
+            return compareLists(properties, ((OWLNaryPropertyAxiomImpl<?>) object).properties);
+        }
         return compareSets(properties,
                 ((OWLNaryPropertyAxiom<?>) object).getProperties());
     }
@@ -72,8 +72,13 @@ public class OWLNegativeDataPropertyAssertionAxiomImpl
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLNegativeDataPropertyAssertionAxiomImpl(getSubject(),
-                getProperty(), getObject(), NO_ANNOTATIONS);
+        OWLNegativeDataPropertyAssertionAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLNegativeDataPropertyAssertionAxiomImpl(getSubject(), getProperty(),
+                    getObject(), NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
@@ -63,8 +63,13 @@ public class OWLNegativeObjectPropertyAssertionAxiomImpl
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLNegativeObjectPropertyAssertionAxiomImpl(getSubject(),
-                getProperty(), getObject(), NO_ANNOTATIONS);
+        OWLNegativeObjectPropertyAssertionAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLNegativeObjectPropertyAssertionAxiomImpl(getSubject(), getProperty(),
+                    getObject(), NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
@@ -12,13 +12,13 @@
  * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
 package uk.ac.manchester.cs.owl.owlapi;
 
-import static org.semanticweb.owlapi.util.OWLAPIPreconditions.verifyNotNull;
-
 import java.io.IOException;
 import java.io.Serializable;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -42,8 +42,11 @@ import org.semanticweb.owlapi.model.OWLEntity;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
 import org.semanticweb.owlapi.model.OWLObject;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.SignatureCaching;
+import org.semanticweb.owlapi.model.parameters.ConfigurationOptions;
 import org.semanticweb.owlapi.util.CollectionFactory;
 import org.semanticweb.owlapi.util.HashCode;
+import org.semanticweb.owlapi.util.StructuralFingerprint;
 import org.semanticweb.owlapi.util.OWLClassExpressionCollector;
 import org.semanticweb.owlapi.util.OWLObjectTypeIndexProvider;
 import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
@@ -60,10 +63,20 @@ public abstract class OWLObjectImplWithEntityAndAnonCaching implements OWLObject
     protected static final Set<OWLAnnotation> NO_ANNOTATIONS = CollectionFactory.emptySet();
     static final OWLObjectTypeIndexProvider OWLOBJECT_TYPEINDEX_PROVIDER =
         new OWLObjectTypeIndexProvider();
+    /** Signature caching of objects not created by a data factory. */
+    static final SignatureCaching DEFAULT_SIGNATURE_CACHING = ConfigurationOptions.SIGNATURE_CACHING
+        .getValue(SignatureCaching.class, Collections.emptyMap());
     private int hashCode = 0;
+    /** Structural fingerprint, 0 until first requested. */
+    protected transient long fingerprint;
+    /**
+     * Signature cache: the signature array, or a weak reference to it, depending on the signature
+     * caching of this object. Until the signature is computed, holds the signature caching set by
+     * the data factory, or null for {@link #DEFAULT_SIGNATURE_CACHING}. The array holds the
+     * entities followed by the anonymous individuals.
+     */
     @Nullable
-    private transient WeakReference<Set<OWLEntity>> signature = null;
-    private transient WeakReference<Set<OWLAnonymousIndividual>> anons = null;
+    private transient Object signature = null;
     @Nonnull
     protected static final OWLClass OWL_THING =
         new OWLClassImpl(OWLRDFVocabulary.OWL_THING.getIRI());
@@ -72,38 +85,102 @@ public abstract class OWLObjectImplWithEntityAndAnonCaching implements OWLObject
         throws IOException, ClassNotFoundException {
         stream.defaultReadObject();
         signature = null;
-        anons = null;
     }
 
-    @Override
-    public Set<OWLEntity> getSignature() {
-        Set<OWLEntity> set = null;
-        if (signature != null) {
-            set = verifyNotNull(signature).get();
+    /**
+     * @param caching signature caching for this object; only set before the signature is computed
+     */
+    void setSignatureCaching(SignatureCaching caching) {
+        if (signature == null && caching != DEFAULT_SIGNATURE_CACHING) {
+            signature = caching;
+        }
+    }
+
+    /**
+     * @return signature caching of this object
+     */
+    SignatureCaching getSignatureCaching() {
+        Object cache = signature;
+        if (cache instanceof OWLObject[]) {
+            return SignatureCaching.INLINE;
+        }
+        if (cache instanceof WeakReference) {
+            return SignatureCaching.WEAK;
+        }
+        return cache == null ? DEFAULT_SIGNATURE_CACHING : (SignatureCaching) cache;
+    }
+
+    @SuppressWarnings("unchecked")
+    private OWLObject[] signatureArray() {
+        Object cache = signature;
+        if (cache instanceof OWLObject[]) {
+            return (OWLObject[]) cache;
         }
-        if (set == null) {
-            set = new HashSet<>();
+        OWLObject[] array = null;
+        SignatureCaching caching = DEFAULT_SIGNATURE_CACHING;
+        if (cache instanceof WeakReference) {
+            array = ((WeakReference<OWLObject[]>) cache).get();
+            caching = SignatureCaching.WEAK;
+        } else if (cache != null) {
+            caching = (SignatureCaching) cache;
+        }
+        if (array == null) {
+            Set<OWLEntity> set = new HashSet<>();
             Set<OWLAnonymousIndividual> anon = new HashSet<>();
             OWLEntityCollectionContainerCollector collector =
                 new OWLEntityCollectionContainerCollector(set, anon);
             accept(collector);
-            signature = new WeakReference<>(set);
-            anons = new WeakReference<>(anon);
+            array = new OWLObject[set.size() + anon.size()];
+            int i = 0;
+            for (OWLEntity e : set) {
+                array[i++] = e;
+            }
+            for (OWLAnonymousIndividual a : anon) {
+                array[i++] = a;
+            }
+            if (caching == SignatureCaching.INLINE) {
+                signature = array;
+            } else if (caching == SignatureCaching.WEAK) {
+                signature = new WeakReference<>(array);
+            }
+        }
+        return array;
+    }
+
+    private static int entityCount(OWLObject[] array) {
+        int i = 0;
+        while (i < array.length && array[i] instanceof OWLEntity) {
+            i++;
         }
-        return CollectionFactory.getCopyOnRequestSetFromImmutableCollection(set);
+        return i;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Set<OWLEntity> getSignature() {
+        OWLObject[] array = signatureArray();
+        List<?> entities = Arrays.asList(array).subList(0, entityCount(array));
+        return CollectionFactory
+            .getCopyOnRequestSetFromImmutableCollection((List<OWLEntity>) entities);
     }
 
     @Override
     public boolean containsEntityInSignature(@Nonnull OWLEntity owlEntity) {
-        return getSignature().contains(owlEntity);
+        for (OWLObject o : signatureArray()) {
+            if (o.equals(owlEntity)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public Set<OWLAnonymousIndividual> getAnonymousIndividuals() {
-        if (signature == null || verifyNotNull(signature).get() == null) {
-            getSignature();
-        }
-        return CollectionFactory.getCopyOnRequestSetFromImmutableCollection(anons.get());
+        OWLObject[] array = signatureArray();
+        List<?> anons = Arrays.asList(array).subList(entityCount(array), array.length);
+        return CollectionFactory
+            .getCopyOnRequestSetFromImmutableCollection((List<OWLAnonymousIndividual>) anons);
     }
 
     @Override
@@ -191,21 +268,44 @@ public abstract class OWLObjectImplWithEntityAndAnonCaching implements OWLObject
         return hashCode;
     }
 
+    @Override
+    public long getFingerprint() {
+        if (fingerprint == 0) {
+            fingerprint = StructuralFingerprint.fingerprint(this);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * @param obj object to compare
+     * @return true if the fingerprints of this object and of obj are both already computed and
+     *         differ, in which case the objects cannot be equal
+     */
+    protected boolean fingerprintsDiffer(Object obj) {
+        long other;
+        if (obj instanceof OWLObjectImplWithoutEntityAndAnonCaching) {
+            other = ((OWLObjectImplWithoutEntityAndAnonCaching) obj).fingerprint;
+        } else if (obj instanceof OWLObjectImplWithEntityAndAnonCaching) {
+            other = ((OWLObjectImplWithEntityAndAnonCaching) obj).fingerprint;
+        } else {
+            return false;
+        }
+        return fingerprint != 0 && other != 0 && fingerprint != other;
+    }
+
     protected abstract int index();
 
+    /**
+     * Orders by type index, then by structure, then by axiom annotations. There is no equality
+     * check up front: a structural equals() would walk both objects once more only to find what the
+     * structural comparison finds anyway.
+     */
     @Override
     public int compareTo(OWLObject o) {
-        if (equals(o)) {
+        if (o == this) {
             return 0;
         }
-        int thisTypeIndex = index();
-        int otherTypeIndex = 0;
-        if (o instanceof OWLObjectImplWithEntityAndAnonCaching) {
-            otherTypeIndex = ((OWLObjectImplWithEntityAndAnonCaching) o).index();
-        } else {
-            otherTypeIndex = OWLOBJECT_TYPEINDEX_PROVIDER.getTypeIndex(o);
-        }
-        int diff = thisTypeIndex - otherTypeIndex;
+        int diff = index() - OWLObjectImplWithoutEntityAndAnonCaching.typeIndex(o);
         if (diff != 0) {
             return diff;
         }
@@ -214,11 +314,19 @@ public abstract class OWLObjectImplWithEntityAndAnonCaching implements OWLObject
         if (diff != 0) {
             return diff;
         }
+        return compareAnnotationsOfSameType(o);
+    }
+
+    /**
+     * @param o object of the same type as this object
+     * @return comparison of the annotations, if both objects are axioms; 0 otherwise
+     */
+    protected int compareAnnotationsOfSameType(OWLObject o) {
         if (this instanceof OWLAxiom) {
-            diff = compareLists(new ArrayList<>(((OWLAxiom) this).getAnnotations()),
+            return compareLists(new ArrayList<>(((OWLAxiom) this).getAnnotations()),
                 new ArrayList<>(((OWLAxiom) o).getAnnotations()));
         }
-        return diff;
+        return 0;
     }
 
     protected int compareAnnotations(List<OWLAnnotation> l1, List<OWLAnnotation> l2) {
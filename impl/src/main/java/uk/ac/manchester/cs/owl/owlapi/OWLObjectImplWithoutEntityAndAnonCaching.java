@@ -44,6 +44,7 @@ import org.semanticweb.owlapi.util.CollectionFactory;
 import org.semanticweb.owlapi.util.HashCode;
 import org.semanticweb.owlapi.util.OWLClassExpressionCollector;
 import org.semanticweb.owlapi.util.OWLObjectTypeIndexProvider;
+import org.semanticweb.owlapi.util.StructuralFingerprint;
 import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
 
 /**
@@ -60,6 +61,8 @@ public abstract class OWLObjectImplWithoutEntityAndAnonCaching
     static final OWLObjectTypeIndexProvider OWLOBJECT_TYPEINDEX_PROVIDER =
         new OWLObjectTypeIndexProvider();
     protected int hashCode = 0;
+    /** Structural fingerprint, 0 until first requested. */
+    protected transient long fingerprint;
     @Nonnull
     protected static final OWLClass OWL_THING =
         new OWLClassImpl(OWLRDFVocabulary.OWL_THING.getIRI());
@@ -222,21 +225,44 @@ public abstract class OWLObjectImplWithoutEntityAndAnonCaching
         return hashCode;
     }
 
+    @Override
+    public long getFingerprint() {
+        if (fingerprint == 0) {
+            fingerprint = StructuralFingerprint.fingerprint(this);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * @param obj object to compare
+     * @return true if the fingerprints of this object and of obj are both already computed and
+     *         differ, in which case the objects cannot be equal
+     */
+    protected boolean fingerprintsDiffer(Object obj) {
+        long other;
+        if (obj instanceof OWLObjectImplWithoutEntityAndAnonCaching) {
+            other = ((OWLObjectImplWithoutEntityAndAnonCaching) obj).fingerprint;
+        } else if (obj instanceof OWLObjectImplWithEntityAndAnonCaching) {
+            other = ((OWLObjectImplWithEntityAndAnonCaching) obj).fingerprint;
+        } else {
+            return false;
+        }
+        return fingerprint != 0 && other != 0 && fingerprint != other;
+    }
+
     protected abstract int index();
 
+    /**
+     * Orders by type index, then by structure, then by axiom annotations. There is no equality
+     * check up front: a structural equals() would walk both objects once more only to find what the
+     * structural comparison finds anyway.
+     */
     @Override
     public int compareTo(OWLObject o) {
-        if (equals(o)) {
+        if (o == this) {
             return 0;
         }
-        int thisTypeIndex = index();
-        int otherTypeIndex = 0;
-        if (o instanceof OWLObjectImplWithoutEntityAndAnonCaching) {
-            otherTypeIndex = ((OWLObjectImplWithoutEntityAndAnonCaching) o).index();
-        } else {
-            otherTypeIndex = OWLOBJECT_TYPEINDEX_PROVIDER.getTypeIndex(o);
-        }
-        int diff = thisTypeIndex - otherTypeIndex;
+        int diff = index() - typeIndex(o);
         if (diff != 0) {
             return diff;
         }
@@ -245,11 +271,34 @@ public abstract class OWLObjectImplWithoutEntityAndAnonCaching
         if (diff != 0) {
             return diff;
         }
+        return compareAnnotationsOfSameType(o);
+    }
+
+    /**
+     * @param o object
+     * @return type index of the object, read from the implementation when possible rather than
+     *         through a visitor
+     */
+    static int typeIndex(OWLObject o) {
+        if (o instanceof OWLObjectImplWithoutEntityAndAnonCaching) {
+            return ((OWLObjectImplWithoutEntityAndAnonCaching) o).index();
+        }
+        if (o instanceof OWLObjectImplWithEntityAndAnonCaching) {
+            return ((OWLObjectImplWithEntityAndAnonCaching) o).index();
+        }
+        return OWLOBJECT_TYPEINDEX_PROVIDER.getTypeIndex(o);
+    }
+
+    /**
+     * @param o object of the same type as this object
+     * @return comparison of the annotations, if both objects are axioms; 0 otherwise
+     */
+    protected int compareAnnotationsOfSameType(OWLObject o) {
         if (this instanceof OWLAxiom) {
-            diff = compareLists(new ArrayList<>(((OWLAxiom) this).getAnnotations()),
+            return compareLists(new ArrayList<>(((OWLAxiom) this).getAnnotations()),
                 new ArrayList<>(((OWLAxiom) o).getAnnotations()));
         }
-        return diff;
+        return 0;
     }
 
     protected int compareAnnotations(List<OWLAnnotation> l1, List<OWLAnnotation> l2) {
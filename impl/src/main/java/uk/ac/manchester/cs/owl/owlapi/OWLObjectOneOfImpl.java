@@ -15,8 +15,8 @@ package uk.ac.manchester.cs.owl.owlapi;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.TreeSet;
 
 import javax.annotation.Nonnull;
 
@@ -42,7 +42,7 @@ public class OWLObjectOneOfImpl extends OWLAnonymousClassExpressionImpl implemen
 
     private static final long serialVersionUID = 40000L;
     @Nonnull
-    private final Set<OWLIndividual> values;
+    private final List<OWLIndividual> values;
 
     @Override
     protected int index() {
@@ -53,7 +53,8 @@ public class OWLObjectOneOfImpl extends OWLAnonymousClassExpressionImpl implemen
      * @param values values for oneof
      */
     public OWLObjectOneOfImpl(@Nonnull Set<? extends OWLIndividual> values) {
-        this.values = new TreeSet<>(checkNotNull(values, "values cannot be null"));
+        checkNotNull(values, "values cannot be null");
+        this.values = CollectionFactory.sortOptionally((Set<OWLIndividual>) values);
     }
 
     @Override
@@ -105,10 +106,16 @@ public class OWLObjectOneOfImpl extends OWLAnonymousClassExpressionImpl implemen
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (!(obj instanceof OWLObjectOneOf)) {
             return false;
         }
-        return ((OWLObjectOneOf) obj).getIndividuals().equals(values);
+        if (obj instanceof OWLObjectOneOfImpl) {
+            return values.equals(((OWLObjectOneOfImpl) obj).values);
+        }
+        return ((OWLObjectOneOf) obj).getIndividuals().equals(getIndividuals());
     }
 
     @Override
@@ -133,6 +140,9 @@ public class OWLObjectOneOfImpl extends OWLAnonymousClassExpressionImpl implemen
 
     @Override
     protected int compareObjectOfSameType(OWLObject object) {
+        if (object instanceof OWLObjectOneOfImpl) {
+            return compareLists(values, ((OWLObjectOneOfImpl) object).values);
+        }
         return compareSets(values, ((OWLObjectOneOf) object).getIndividuals());
     }
 }
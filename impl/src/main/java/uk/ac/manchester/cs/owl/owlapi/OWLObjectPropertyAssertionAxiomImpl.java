@@ -63,8 +63,13 @@ public class OWLObjectPropertyAssertionAxiomImpl
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLObjectPropertyAssertionAxiomImpl(getSubject(),
-                getProperty(), getObject(), NO_ANNOTATIONS);
+        OWLObjectPropertyAssertionAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLObjectPropertyAssertionAxiomImpl(getSubject(), getProperty(), getObject(),
+                    NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
@@ -58,8 +58,12 @@ public class OWLObjectPropertyDomainAxiomImpl extends
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLObjectPropertyDomainAxiomImpl(getProperty(), getDomain(),
-                NO_ANNOTATIONS);
+        OWLObjectPropertyDomainAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLObjectPropertyDomainAxiomImpl(getProperty(), getDomain(), NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
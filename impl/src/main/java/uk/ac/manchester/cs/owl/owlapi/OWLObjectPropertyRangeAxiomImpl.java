@@ -71,8 +71,12 @@ public class OWLObjectPropertyRangeAxiomImpl
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLObjectPropertyRangeAxiomImpl(getProperty(), getRange(),
-                NO_ANNOTATIONS);
+        OWLObjectPropertyRangeAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLObjectPropertyRangeAxiomImpl(getProperty(), getRange(), NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
@@ -0,0 +1,60 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
+
+import java.io.NotSerializableException;
+import java.io.ObjectStreamException;
+
+import javax.annotation.Nonnull;
+
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+/**
+ * A read only ontology whose axioms and main indexes live in a memory mapped
+ * {@link OffHeapAxiomStore}; axioms are decoded when queries read them, so the heap holds only the
+ * ontology header and whatever secondary indexes have been used. Like
+ * {@link OWLFrozenOntologyImpl}, the ontology is not an
+ * {@link org.semanticweb.owlapi.model.OWLMutableOntology}; changes applied through its manager
+ * fail with an {@link org.semanticweb.owlapi.model.ImmutableOWLOntologyChangeException}. Instances
+ * cannot be serialized; the store file is their persistent form.
+ *
+ * @since 4.7.7
+ */
+public class OWLOffHeapOntologyImpl extends OWLImmutableOntologyImpl {
+
+    private static final long serialVersionUID = 40000L;
+
+    /**
+     * @param manager manager for the new ontology
+     * @param store store holding the axioms, annotations, imports declarations and id
+     */
+    public OWLOffHeapOntologyImpl(@Nonnull OWLOntologyManager manager,
+        @Nonnull OffHeapAxiomStore store) {
+        super(manager, checkNotNull(store, "store cannot be null").getOntologyID(),
+            new OffHeapInternals(store));
+    }
+
+    /**
+     * @return the store holding the axioms of this ontology
+     */
+    public OffHeapAxiomStore getStore() {
+        return ((OffHeapInternals) ints).getStore();
+    }
+
+    @SuppressWarnings("unused")
+    private Object writeReplace() throws ObjectStreamException {
+        throw new NotSerializableException("Off heap ontologies cannot be serialized");
+    }
+}
@@ -17,6 +17,7 @@ import static org.semanticweb.owlapi.model.parameters.ChangeApplied.SUCCESSFULLY
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -111,6 +112,15 @@ public class OWLOntologyImpl extends OWLImmutableOntologyImpl
         return getOWLOntologyManager().addAxioms(this, axioms);
     }
 
+    @Override
+    public List<OWLAxiom> addAxiomsInBulk(Collection<? extends OWLAxiom> axioms) {
+        List<OWLAxiom> added = ints.addAxioms(axioms);
+        if (!added.isEmpty()) {
+            invalidateOntologyCaches(this);
+        }
+        return added;
+    }
+
     protected class OWLOntologyChangeFilter
         implements OWLOntologyChangeVisitorEx<ChangeApplied>, Serializable {
 
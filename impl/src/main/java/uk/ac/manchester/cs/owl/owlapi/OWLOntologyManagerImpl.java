@@ -23,24 +23,35 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.RandomAccess;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Phaser;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
@@ -48,6 +59,7 @@ import javax.annotation.Nullable;
 import javax.inject.Inject;
 
 import org.semanticweb.owlapi.OWLAPIConfigProvider;
+import org.semanticweb.owlapi.change.OWLOntologyChangeBatch;
 import org.semanticweb.owlapi.io.FileDocumentSource;
 import org.semanticweb.owlapi.io.IRIDocumentSource;
 import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
@@ -76,7 +88,6 @@ import org.semanticweb.owlapi.model.OWLAnnotation;
 import org.semanticweb.owlapi.model.OWLAnnotationAxiom;
 import org.semanticweb.owlapi.model.OWLAnnotationProperty;
 import org.semanticweb.owlapi.model.OWLAxiom;
-import org.semanticweb.owlapi.model.OWLAxiomChange;
 import org.semanticweb.owlapi.model.OWLDataFactory;
 import org.semanticweb.owlapi.model.OWLDeclarationAxiom;
 import org.semanticweb.owlapi.model.OWLDocumentFormat;
@@ -109,7 +120,6 @@ import org.semanticweb.owlapi.model.OWLStorer;
 import org.semanticweb.owlapi.model.OWLStorerFactory;
 import org.semanticweb.owlapi.model.OWLStorerNotFoundException;
 import org.semanticweb.owlapi.model.PriorityCollectionSorting;
-import org.semanticweb.owlapi.model.RemoveAxiom;
 import org.semanticweb.owlapi.model.RemoveImport;
 import org.semanticweb.owlapi.model.SetOntologyID;
 import org.semanticweb.owlapi.model.UnknownOWLOntologyException;
@@ -123,6 +133,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import uk.ac.manchester.cs.owl.owlapi.concurrent.ConcurrentPriorityCollection;
+import uk.ac.manchester.cs.owl.owlapi.concurrent.NoOpReadWriteLock;
+import uk.ac.manchester.cs.owl.owlapi.concurrent.OptimisticReadWriteLock;
 
 /**
  * @author Matthew Horridge, The University Of Manchester, Bio-Health Informatics Group
@@ -134,6 +146,7 @@ public class OWLOntologyManagerImpl
     private static final String BADLY_BEHAVING_LISTENER_HAS_BEEN_REMOVED =
         "BADLY BEHAVING LISTENER: {} has been removed";
     private static final long serialVersionUID = 40000L;
+    private static final Lock NO_LOCK = new NoOpReadWriteLock().readLock();
     private static final Logger LOGGER = LoggerFactory.getLogger(OWLOntologyManagerImpl.class);
     @Nonnull
     protected final Map<OWLOntologyID, OWLOntology> ontologiesByID = createSyncMap();
@@ -164,7 +177,29 @@ public class OWLOntologyManagerImpl
     protected final List<OWLOntologyChangeProgressListener> progressListeners = createSyncList();
     @Nonnull
     protected final AtomicLong autoGeneratedURICounter = new AtomicLong();
-    private final AtomicBoolean broadcastChanges = new AtomicBoolean(true);
+    /** Threads loading an ontology; changes applied by these threads are not broadcast. */
+    private transient Set<Thread> loadingThreads = ConcurrentHashMap.newKeySet();
+    /**
+     * Documents being loaded, by document IRI. A load of a document claimed by another load waits
+     * for it, so only loads of the same document are serialized.
+     */
+    private transient Map<IRI, DocumentLoad> loadingDocuments = new ConcurrentHashMap<>();
+    /** The load run by each loading thread, including threads loading imports in parallel. */
+    private transient Map<Thread, DocumentLoad> loads = new ConcurrentHashMap<>();
+    /**
+     * Ontologies created by loads that have not finished, with the load that created them; they
+     * are registered so that their IDs are reserved, but are only visible to loading threads.
+     */
+    private transient Map<OWLOntology, DocumentLoad> unpublished =
+        Collections.synchronizedMap(new IdentityHashMap<>());
+    /** Imports loaded in parallel, by the threads that requested or are loading them. */
+    private transient Map<Thread, ImportsLoad> importsLoads = new ConcurrentHashMap<>();
+    /**
+     * Imports that loads found already being loaded by another load, by the thread that requested
+     * the load; the load returns once they are loaded.
+     */
+    private transient Map<Thread, Queue<CountDownLatch>> sharedImports = new ConcurrentHashMap<>();
+    private transient Executor importsExecutor = ForkJoinPool.commonPool();
     @Nonnull
     protected OWLOntologyChangeBroadcastStrategy defaultChangeBroadcastStrategy =
         new DefaultChangeBroadcastStrategy();
@@ -282,7 +317,11 @@ public class OWLOntologyManagerImpl
     public Set<OWLOntology> getOntologies() {
         readLock.lock();
         try {
-            return new HashSet<>(ontologiesByID.values());
+            Set<OWLOntology> result = new HashSet<>(ontologiesByID.values());
+            if (!unpublished.isEmpty() && !isLoading()) {
+                result.removeIf(unpublished::containsKey);
+            }
+            return result;
         } finally {
             readLock.unlock();
         }
@@ -308,7 +347,7 @@ public class OWLOntologyManagerImpl
     public boolean contains(OWLOntology ontology) {
         readLock.lock();
         try {
-            return ontologiesByID.containsValue(ontology);
+            return ontologiesByID.containsValue(ontology) && isVisible(ontology);
         } finally {
             readLock.unlock();
         }
@@ -407,7 +446,7 @@ public class OWLOntologyManagerImpl
                     }
                 }
             }
-            return result;
+            return result == null || isVisible(result) ? result : null;
         } finally {
             readLock.unlock();
         }
@@ -425,6 +464,9 @@ public class OWLOntologyManagerImpl
                     }
                 }
             }
+            if (result != null && !isVisible(result)) {
+                return null;
+            }
             // HACK: This extra clause is necessary to make getOntology match
             // the
             // behaviour of createOntology in cases where a documentIRI has been
@@ -660,22 +702,24 @@ public class OWLOntologyManagerImpl
             boolean allNoOps = true;
             // list of changes applied successfully. These are the changes that
             // will be reverted in case of a rollback
-            List<OWLOntologyChange> appliedChanges = new ArrayList<>();
+            AppliedChanges appliedChanges = new AppliedChanges(changes);
             fireBeginChanges(changes.size());
-            for (OWLOntologyChange change : changes) {
+            for (int i = 0; i < appliedChanges.changes.size(); i++) {
                 // once rollback is requested by a failed change, do not carry
                 // out any more changes
-                if (!rollbackRequested) {
-                    assert change != null;
-                    ChangeApplied enactChangeApplication = enactChangeApplication(change);
-                    if (enactChangeApplication == ChangeApplied.UNSUCCESSFULLY) {
-                        rollbackRequested = true;
-                    }
-                    if (enactChangeApplication == ChangeApplied.SUCCESSFULLY) {
-                        allNoOps = false;
-                        appliedChanges.add(change);
-                    }
-                    fireChangeApplied(change);
+                OWLOntologyChange change = appliedChanges.changes.get(i);
+                assert change != null;
+                ChangeApplied enactChangeApplication = enactChangeApplication(change);
+                if (enactChangeApplication == ChangeApplied.UNSUCCESSFULLY) {
+                    rollbackRequested = true;
+                }
+                if (enactChangeApplication == ChangeApplied.SUCCESSFULLY) {
+                    allNoOps = false;
+                    appliedChanges.add(i);
+                }
+                fireChangeApplied(change);
+                if (rollbackRequested) {
+                    break;
                 }
             }
             if (rollbackRequested) {
@@ -691,7 +735,7 @@ public class OWLOntologyManagerImpl
                 appliedChanges.clear();
             }
             fireEndChanges();
-            broadcastChanges(appliedChanges);
+            broadcastChanges(appliedChanges.copy());
             if (rollbackRequested) {
                 return ChangeApplied.UNSUCCESSFULLY;
             }
@@ -713,22 +757,24 @@ public class OWLOntologyManagerImpl
             boolean allNoOps = true;
             // list of changes applied successfully. These are the changes that
             // will be reverted in case of a rollback
-            List<OWLOntologyChange> appliedChanges = new ArrayList<>();
+            AppliedChanges appliedChanges = new AppliedChanges(changes);
             fireBeginChanges(changes.size());
-            for (OWLOntologyChange change : changes) {
+            for (int i = 0; i < appliedChanges.changes.size(); i++) {
                 // once rollback is requested by a failed change, do not carry
                 // out any more changes
-                if (!rollbackRequested) {
-                    assert change != null;
-                    ChangeApplied enactChangeApplication = enactChangeApplication(change);
-                    if (enactChangeApplication == ChangeApplied.UNSUCCESSFULLY) {
-                        rollbackRequested = true;
-                    }
-                    if (enactChangeApplication == ChangeApplied.SUCCESSFULLY) {
-                        allNoOps = false;
-                        appliedChanges.add(change);
-                    }
-                    fireChangeApplied(change);
+                OWLOntologyChange change = appliedChanges.changes.get(i);
+                assert change != null;
+                ChangeApplied enactChangeApplication = enactChangeApplication(change);
+                if (enactChangeApplication == ChangeApplied.UNSUCCESSFULLY) {
+                    rollbackRequested = true;
+                }
+                if (enactChangeApplication == ChangeApplied.SUCCESSFULLY) {
+                    allNoOps = false;
+                    appliedChanges.add(i);
+                }
+                fireChangeApplied(change);
+                if (rollbackRequested) {
+                    break;
                 }
             }
             if (rollbackRequested) {
@@ -744,14 +790,15 @@ public class OWLOntologyManagerImpl
                 appliedChanges.clear();
             }
             fireEndChanges();
-            broadcastChanges(appliedChanges);
+            List<OWLOntologyChange> applied = appliedChanges.copy();
+            broadcastChanges(applied);
             if (rollbackRequested) {
-                return new ChangeDetails(ChangeApplied.UNSUCCESSFULLY, appliedChanges);
+                return new ChangeDetails(ChangeApplied.UNSUCCESSFULLY, applied);
             }
             if (allNoOps) {
-                return new ChangeDetails(ChangeApplied.NO_OPERATION, appliedChanges);
+                return new ChangeDetails(ChangeApplied.NO_OPERATION, applied);
             }
-            return new ChangeDetails(ChangeApplied.SUCCESSFULLY, appliedChanges);
+            return new ChangeDetails(ChangeApplied.SUCCESSFULLY, applied);
         } catch (OWLOntologyChangeVetoException e) {
             // Some listener blocked the changes.
             broadcastOntologyChangesVetoed(changes, e);
@@ -778,10 +825,10 @@ public class OWLOntologyManagerImpl
         writeLock.lock();
         try {
             // Write lock not needed at this point
-            List<AddAxiom> changes = new ArrayList<>(axioms.size() + 2);
+            OWLOntologyChangeBatch changes = new OWLOntologyChangeBatch(axioms.size());
             for (OWLAxiom ax : axioms) {
                 assert ax != null;
-                changes.add(new AddAxiom(ont, ax));
+                changes.addAxiom(ont, ax);
             }
             return applyChanges(changes);
         } finally {
@@ -789,6 +836,136 @@ public class OWLOntologyManagerImpl
         }
     }
 
+    @Override
+    public ChangeApplied addAxiomsInBulk(@Nonnull OWLOntology ont,
+        @Nonnull Collection<? extends OWLAxiom> axioms) {
+        checkNotNull(ont, "ontology cannot be null");
+        checkNotNull(axioms, "axioms cannot be null");
+        writeLock.lock();
+        try {
+            if (axioms.isEmpty()) {
+                return ChangeApplied.NO_OPERATION;
+            }
+            if (!(ont instanceof OWLMutableOntology)) {
+                throw new ImmutableOWLOntologyChangeException(
+                    new AddAxiom(ont, axioms.iterator().next()).getChangeData(), ont.toString());
+            }
+            List<OWLAxiom> toAdd = new ArrayList<>(axioms.size());
+            OWLOntologyLoaderConfiguration ontologyConfig =
+                ontologyConfigurationsByOntologyID.get(ont.getOntologyID());
+            boolean skipAnnotations =
+                ontologyConfig != null && !ontologyConfig.isLoadAnnotationAxioms();
+            for (OWLAxiom ax : axioms) {
+                if (!skipAnnotations || !(ax instanceof OWLAnnotationAxiom)) {
+                    toAdd.add(ax);
+                }
+            }
+            List<AddAxiom> changes = new AddAxiomList(ont, toAdd);
+            try {
+                broadcastImpendingChanges(changes);
+            } catch (OWLOntologyChangeVetoException e) {
+                broadcastOntologyChangesVetoed(changes, e);
+                return ChangeApplied.UNSUCCESSFULLY;
+            }
+            fireBeginChanges(toAdd.size());
+            List<OWLAxiom> added;
+            try {
+                added = ((OWLMutableOntology) ont).addAxiomsInBulk(toAdd);
+            } finally {
+                fireEndChanges();
+            }
+            broadcastChanges(new AddAxiomList(ont, added));
+            return added.isEmpty() ? ChangeApplied.NO_OPERATION : ChangeApplied.SUCCESSFULLY;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** Changes for a batch of added axioms, created on access. */
+    private static class AddAxiomList extends AbstractList<AddAxiom> implements RandomAccess {
+
+        private final OWLOntology ontology;
+        private final List<OWLAxiom> axioms;
+
+        AddAxiomList(OWLOntology ontology, List<OWLAxiom> axioms) {
+            this.ontology = ontology;
+            this.axioms = axioms;
+        }
+
+        @Override
+        public AddAxiom get(int index) {
+            return new AddAxiom(ontology, axioms.get(index));
+        }
+
+        @Override
+        public int size() {
+            return axioms.size();
+        }
+    }
+
+    /**
+     * Changes applied so far, recorded as positions in the list being applied rather than copied:
+     * lists of changes such as {@link OWLOntologyChangeBatch} create change objects on access.
+     */
+    private static class AppliedChanges extends AbstractList<OWLOntologyChange> implements
+        RandomAccess {
+
+        final List<? extends OWLOntologyChange> changes;
+        private int[] positions = new int[10];
+        private int size;
+
+        AppliedChanges(List<? extends OWLOntologyChange> changes) {
+            this.changes = changes instanceof RandomAccess ? changes : new ArrayList<>(changes);
+        }
+
+        void add(int position) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size + (size >> 1));
+            }
+            positions[size++] = position;
+        }
+
+        @Override
+        public OWLOntologyChange get(int index) {
+            if (index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+            }
+            return changes.get(positions[index]);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            size = 0;
+        }
+
+        /**
+         * Listeners and callers may keep the applied changes, so they must not depend on the list
+         * of changes, which the caller may clear or reuse.
+         *
+         * @return a copy of the applied changes
+         */
+        OWLOntologyChangeBatch copy() {
+            OWLOntologyChangeBatch copy = new OWLOntologyChangeBatch(size);
+            if (changes instanceof OWLOntologyChangeBatch) {
+                // copy the packed changes as they are, without creating change objects
+                OWLOntologyChangeBatch batch = (OWLOntologyChangeBatch) changes;
+                for (int i = 0; i < size; i++) {
+                    copy.add(batch, positions[i]);
+                }
+                return copy;
+            }
+            for (int i = 0; i < size; i++) {
+                copy.add(get(i));
+            }
+            return copy;
+        }
+    }
+
     @Override
     public ChangeApplied removeAxiom(@Nonnull OWLOntology ont, @Nonnull OWLAxiom axiom) {
         writeLock.lock();
@@ -804,10 +981,10 @@ public class OWLOntologyManagerImpl
     public ChangeApplied removeAxioms(@Nonnull OWLOntology ont,
         @Nonnull Set<? extends OWLAxiom> axioms) {
         // Write lock not needed at this point
-        List<RemoveAxiom> changes = new ArrayList<>(axioms.size() + 2);
+        OWLOntologyChangeBatch changes = new OWLOntologyChangeBatch(axioms.size());
         for (OWLAxiom ax : axioms) {
             assert ax != null;
-            changes.add(new RemoveAxiom(ont, ax));
+            changes.removeAxiom(ont, ax);
         }
         return applyChanges(changes);
     }
@@ -906,7 +1083,12 @@ public class OWLOntologyManagerImpl
     public void ontologyCreated(OWLOntology ontology) {
         // This method is called when a factory that we have asked to create or
         // load an ontology has created the ontology. We add the ontology to the
-        // set of loaded ontologies.
+        // set of loaded ontologies. Ontologies created while loading are only
+        // visible to other threads once the load has finished.
+        DocumentLoad load = loads.get(Thread.currentThread());
+        if (load != null) {
+            unpublished.put(ontology, load);
+        }
         addOntology(ontology);
     }
 
@@ -1085,6 +1267,27 @@ public class OWLOntologyManagerImpl
         }
     }
 
+    @Override
+    public OWLOntology freezeOntology(OWLOntology ontology) {
+        writeLock.lock();
+        try {
+            checkNotNull(ontology, "ontology cannot be null");
+            if (!contains(ontology)) {
+                throw new UnknownOWLOntologyException(ontology.getOntologyID());
+            }
+            if (ontology instanceof OWLFrozenOntologyImpl) {
+                return ontology;
+            }
+            OWLOntology frozen = new OWLFrozenOntologyImpl(this, ontology);
+            // the original keeps its manager, so references to it can still be read
+            ontologiesByID.put(frozen.getOntologyID(), frozen);
+            resetImportsClosureCache();
+            return frozen;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
     @Override
     public OWLOntology loadOntology(IRI ontologyIRI) throws OWLOntologyCreationException {
         // if an ontology cyclically imports itself, the manager should not try to download from the
@@ -1102,51 +1305,199 @@ public class OWLOntologyManagerImpl
     @Nonnull
     protected OWLOntology loadOntology(@Nonnull IRI ontologyIRI, boolean allowExists,
         @Nonnull OWLOntologyLoaderConfiguration configuration) throws OWLOntologyCreationException {
-        writeLock.lock();
+        Lock loading = loadingLock();
+        loading.lock();
         try {
-            OWLOntology ontByID = null;
-            // Check for matches on the ontology IRI first
-            for (OWLOntologyID nextOntologyID : ontologiesByID.keySet()) {
-                if (ontologyIRI.equals(nextOntologyID.getOntologyIRI().orNull())) {
-                    ontByID = ontologiesByID.get(nextOntologyID);
-                }
-            }
-            // This method may be called using a version IRI, so also check the
-            // version IRI if necessary
-            if (ontByID == null) {
+            IRI documentIRI;
+            DocumentLoad pending;
+            readLock.lock();
+            try {
+                OWLOntology ontByID = null;
+                // Check for matches on the ontology IRI first
                 for (OWLOntologyID nextOntologyID : ontologiesByID.keySet()) {
-                    if (ontologyIRI.equals(nextOntologyID.getVersionIRI().orNull())) {
+                    if (ontologyIRI.equals(nextOntologyID.getOntologyIRI().orNull())) {
                         ontByID = ontologiesByID.get(nextOntologyID);
                     }
                 }
-            }
-            if (ontByID != null) {
-                return ontByID;
-            }
-            OWLOntologyID id = new OWLOntologyID(ontologyIRI, null);
-            IRI documentIRI = getDocumentIRIFromMappers(id);
-            if (documentIRI != null) {
-                if (documentIRIsByID.values().contains(documentIRI) && !allowExists) {
-                    throw new OWLOntologyDocumentAlreadyExistsException(documentIRI);
+                // This method may be called using a version IRI, so also check the
+                // version IRI if necessary
+                if (ontByID == null) {
+                    for (OWLOntologyID nextOntologyID : ontologiesByID.keySet()) {
+                        if (ontologyIRI.equals(nextOntologyID.getVersionIRI().orNull())) {
+                            ontByID = ontologiesByID.get(nextOntologyID);
+                        }
+                    }
                 }
-                // The ontology might be being loaded, but its IRI might
-                // not have been set (as is probably the case with RDF/XML!)
-                OWLOntology ontByDocumentIRI = loadOntologyByDocumentIRI(documentIRI);
-                if (ontByDocumentIRI != null) {
-                    return ontByDocumentIRI;
+                pending = ontByID == null ? null : pendingLoad(ontByID);
+                if (ontByID != null) {
+                    if (pending == null) {
+                        return ontByID;
+                    }
+                    // wait for the load that created it, then look again
+                    documentIRI = null;
+                } else {
+                    OWLOntologyID id = new OWLOntologyID(ontologyIRI, null);
+                    documentIRI = getDocumentIRIFromMappers(id);
+                    if (documentIRI != null) {
+                        if (documentIRIsByID.values().contains(documentIRI) && !allowExists) {
+                            throw new OWLOntologyDocumentAlreadyExistsException(documentIRI);
+                        }
+                        // The ontology might be being loaded, but its IRI might
+                        // not have been set (as is probably the case with RDF/XML!)
+                        OWLOntology ontByDocumentIRI = loadOntologyByDocumentIRI(documentIRI);
+                        if (ontByDocumentIRI != null) {
+                            return ontByDocumentIRI;
+                        }
+                    } else {
+                        // Nothing we can do here. We can't get a document IRI to load
+                        // the ontology from.
+                        throw new OntologyIRIMappingNotFoundException(ontologyIRI);
+                    }
                 }
-            } else {
-                // Nothing we can do here. We can't get a document IRI to load
-                // the ontology from.
-                throw new OntologyIRIMappingNotFoundException(ontologyIRI);
+            } finally {
+                readLock.unlock();
+            }
+            if (pending != null) {
+                await(pending.done);
+                return loadOntology(ontologyIRI, allowExists, configuration);
             }
             return loadOntology(ontologyIRI, new IRIDocumentSource(documentIRI, null, null),
                 configuration);
         } finally {
-            writeLock.unlock();
+            loading.unlock();
+        }
+    }
+
+    /**
+     * Loads take the manager lock only while changing the manager or the ontology being loaded;
+     * queries, saves, changes on other ontologies and loads of other documents proceed while an
+     * ontology is parsed. A thread that already holds the manager lock, for example a listener that
+     * loads an ontology, keeps holding the write lock for the whole load.
+     *
+     * @return the lock to hold while loading
+     */
+    private Lock loadingLock() {
+        if (isImportsLoader() || !holdsManagerLock()) {
+            return NO_LOCK;
+        }
+        return writeLock;
+    }
+
+    /**
+     * A load claims its document, and waits if another load has claimed it first. Loads that
+     * cannot wait proceed without a claim: imports, as the other load may be waiting for the
+     * current one, and threads holding the manager lock, as the other load may be waiting for the
+     * lock.
+     *
+     * @param documentIRI document to load
+     * @return the claim, or null if the document was already claimed
+     * @throws OWLOntologyCreationException if interrupted while waiting
+     */
+    @Nullable
+    private DocumentLoad claimDocument(IRI documentIRI) throws OWLOntologyCreationException {
+        DocumentLoad claim = new DocumentLoad();
+        while (true) {
+            DocumentLoad other = loadingDocuments.putIfAbsent(documentIRI, claim);
+            if (other == null) {
+                return claim;
+            }
+            if (other.owner == claim.owner || isLoading() || isImportsLoader()
+                || holdsManagerLock()) {
+                return null;
+            }
+            await(other.done);
         }
     }
 
+    /**
+     * @param ontology registered ontology
+     * @return the load that created the ontology, if it has not finished and the current thread
+     *         should wait for it; a loading thread shares the load instead, as the other load may
+     *         be waiting for the current one
+     */
+    @Nullable
+    private DocumentLoad pendingLoad(OWLOntology ontology) {
+        DocumentLoad load = unpublished.isEmpty() ? null : unpublished.get(ontology);
+        if (load == null || load.owner == loadOwner()) {
+            return null;
+        }
+        if (isLoading() || isImportsLoader() || holdsManagerLock()) {
+            shareImport(load.done);
+            return null;
+        }
+        return load;
+    }
+
+    /**
+     * Publishes the ontologies created by a load that has finished.
+     *
+     * @param load finished load
+     */
+    private void publish(DocumentLoad load) {
+        if (!unpublished.isEmpty()) {
+            unpublished.values().removeIf(l -> l == load);
+        }
+        load.done.countDown();
+    }
+
+    /**
+     * @param ontology registered ontology
+     * @return true if the ontology has been published, or the current thread is loading
+     */
+    private boolean isVisible(OWLOntology ontology) {
+        return unpublished.isEmpty() || !unpublished.containsKey(ontology) || isLoading();
+    }
+
+    private boolean isLoading() {
+        return loadingThreads.contains(Thread.currentThread());
+    }
+
+    /**
+     * @return the thread that requested the load run by the current thread
+     */
+    private Thread loadOwner() {
+        Thread current = Thread.currentThread();
+        ImportsLoad imports = importsLoads.get(current);
+        return imports == null ? current : imports.requester;
+    }
+
+    /**
+     * @param loaded latch released when a load has finished
+     * @throws OWLOntologyCreationException if interrupted while waiting
+     */
+    private static void await(CountDownLatch loaded) throws OWLOntologyCreationException {
+        try {
+            awaitImport(loaded);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OWLOntologyCreationException(e);
+        }
+    }
+
+    /**
+     * @return true if the current thread holds the manager lock; locks that cannot tell whether
+     *         they are held are assumed to be held
+     */
+    private boolean holdsManagerLock() {
+        if (lock instanceof ReentrantReadWriteLock) {
+            ReentrantReadWriteLock rwl = (ReentrantReadWriteLock) lock;
+            return rwl.isWriteLockedByCurrentThread() || rwl.getReadHoldCount() > 0;
+        }
+        if (lock instanceof OptimisticReadWriteLock) {
+            return ((OptimisticReadWriteLock) lock).isHeldByCurrentThread();
+        }
+        return true;
+    }
+
+    /**
+     * @return true if the current thread loads imports in parallel on behalf of the thread that
+     *         requested them
+     */
+    private boolean isImportsLoader() {
+        ImportsLoad imports = importsLoads.get(Thread.currentThread());
+        return imports != null && imports.requester != Thread.currentThread();
+    }
+
     private OWLOntology loadOntologyByDocumentIRI(IRI documentIRI) {
         readLock.lock();
         try {
@@ -1200,6 +1551,55 @@ public class OWLOntologyManagerImpl
         return loadOntology(null, documentSource, conf);
     }
 
+    /**
+     * Documents are parsed in parallel, as are all loads of different documents. Documents that import the same ontology share it; it is loaded by the first document that
+     * requests it, and the futures of the other documents complete once it has been loaded. The
+     * other documents do not wait for it while they are parsed, since two documents waiting for
+     * each other's imports would never finish.
+     */
+    @Override
+    public List<CompletableFuture<OWLOntology>> loadOntologiesFromOntologyDocuments(
+        Collection<? extends OWLOntologyDocumentSource> documentSources,
+        OWLOntologyLoaderConfiguration config, Executor executor) {
+        List<CompletableFuture<OWLOntology>> futures = new ArrayList<>(documentSources.size());
+        for (OWLOntologyDocumentSource documentSource : documentSources) {
+            CompletableFuture<OWLOntology> future = new CompletableFuture<>();
+            executor.execute(() -> {
+                try {
+                    future.complete(loadOntology(null, documentSource, config));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+            futures.add(future);
+        }
+        return futures;
+    }
+
+    /**
+     * Loads can run in the ForkJoin pool that loads the imports, for example documents of a batch
+     * load, so they wait for other loads as managed blockers; the pool can then add a thread while
+     * they are blocked.
+     *
+     * @param loaded latch released when the import has been loaded
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private static void awaitImport(CountDownLatch loaded) throws InterruptedException {
+        ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+
+            @Override
+            public boolean block() throws InterruptedException {
+                loaded.await();
+                return true;
+            }
+
+            @Override
+            public boolean isReleasable() {
+                return loaded.getCount() == 0;
+            }
+        });
+    }
+
     @Override
     public OWLOntology loadOntologyFromOntologyDocument(File file)
         throws OWLOntologyCreationException {
@@ -1227,16 +1627,53 @@ public class OWLOntologyManagerImpl
     protected OWLOntology loadOntology(@Nullable IRI ontologyIRI,
         @Nonnull OWLOntologyDocumentSource documentSource,
         @Nonnull OWLOntologyLoaderConfiguration configuration) throws OWLOntologyCreationException {
-        writeLock.lock();
+        Thread current = Thread.currentThread();
+        if (isLoading() || isImportsLoader()) {
+            return load(ontologyIRI, documentSource, configuration);
+        }
+        Queue<CountDownLatch> shared = new ConcurrentLinkedQueue<>();
+        sharedImports.put(current, shared);
+        OWLOntology ontology;
         try {
-            if (loadCount.get() != importsLoadCount.get()) {
+            ontology = load(ontologyIRI, documentSource, configuration);
+        } finally {
+            sharedImports.remove(current);
+        }
+        // a thread holding the manager lock cannot wait for other loads
+        if (!holdsManagerLock()) {
+            for (CountDownLatch loaded : shared) {
+                await(loaded);
+            }
+        }
+        return ontology;
+    }
+
+    @Nonnull
+    private OWLOntology load(@Nullable IRI ontologyIRI,
+        @Nonnull OWLOntologyDocumentSource documentSource,
+        @Nonnull OWLOntologyLoaderConfiguration configuration) throws OWLOntologyCreationException {
+        DocumentLoad claim = claimDocument(documentSource.getDocumentIRI());
+        Lock loading = loadingLock();
+        loading.lock();
+        try {
+            Thread current = Thread.currentThread();
+            // parallel loads do not keep the counts in step
+            if (loadCount.get() != importsLoadCount.get() && !isImportsLoader()
+                && loadingThreads.size() == (isLoading() ? 1 : 0)) {
                 LOGGER.warn(
                     "Runtime Warning: Parsers should load imported ontologies using the makeImportLoadRequest method.");
             }
+            boolean imported = isLoading() || isImportsLoader();
             fireStartedLoadingEvent(new OWLOntologyID(ontologyIRI, null),
-                documentSource.getDocumentIRI(), loadCount.get() > 0);
+                documentSource.getDocumentIRI(), imported);
             loadCount.incrementAndGet();
-            broadcastChanges.set(false);
+            boolean outermost = loadingThreads.add(current);
+            DocumentLoad load = null;
+            if (outermost) {
+                load = new DocumentLoad();
+                loads.put(current, load);
+            }
+            long start = System.nanoTime();
             Exception ex = null;
             OWLOntologyID idOfLoadedOntology = new OWLOntologyID();
             try {
@@ -1265,16 +1702,22 @@ public class OWLOntologyManagerImpl
                 throw e;
             } finally {
                 loadCount.decrementAndGet();
-                if (loadCount.get() == 0) {
-                    broadcastChanges.set(true);
+                if (load != null) {
                     // Completed loading ontology and imports
+                    loads.remove(current);
+                    loadingThreads.remove(current);
+                    publish(load);
                 }
                 fireFinishedLoadingEvent(idOfLoadedOntology, documentSource.getDocumentIRI(),
-                    loadCount.get() > 0, ex);
+                    imported, ex, System.nanoTime() - start);
             }
             throw new OWLOntologyFactoryNotFoundException(documentSource.getDocumentIRI());
         } finally {
-            writeLock.unlock();
+            loading.unlock();
+            if (claim != null) {
+                loadingDocuments.remove(documentSource.getDocumentIRI(), claim);
+                claim.done.countDown();
+            }
         }
     }
 
@@ -1285,11 +1728,16 @@ public class OWLOntologyManagerImpl
         // that cyclically import themselves from being loaded twice.
         if (documentSource instanceof IRIDocumentSource) {
             IRIDocumentSource source = (IRIDocumentSource) documentSource;
-            java.util.Optional<Entry<OWLOntologyID, IRI>> findAny =
-                documentIRIsByID.entrySet().stream()
+            readLock.lock();
+            try {
+                java.util.Optional<Entry<OWLOntologyID, IRI>> findAny = documentIRIsByID
+                    .entrySet().stream()
                     .filter(v -> Objects.equals(source.getDocumentIRI(), v.getValue())).findAny();
-            if (findAny.isPresent()) {
-                return getOntology(findAny.get().getKey());
+                if (findAny.isPresent()) {
+                    return getOntology(findAny.get().getKey());
+                }
+            } finally {
+                readLock.unlock();
             }
         }
 
@@ -1299,14 +1747,33 @@ public class OWLOntologyManagerImpl
                 // because it will be added
                 // when the ontology is created.
                 factory.setLock(lock);
-                OWLOntology ontology =
-                    factory.loadOWLOntology(this, documentSource, this, configuration);
+                OWLOntology ontology;
+                ImportsLoad imports = null;
+                try {
+                    ontology = factory.loadOWLOntology(this, documentSource, this, configuration);
+                } finally {
+                    imports = awaitImports();
+                }
+                if (imports != null) {
+                    imports.rethrowFailure();
+                }
                 if (configuration.shouldRepairIllegalPunnings()) {
                     fixIllegalPunnings(ontology);
                 }
                 // Store the ontology to the document IRI mapping
-                documentIRIsByID.put(ontology.getOntologyID(), documentSource.getDocumentIRI());
-                ontologyConfigurationsByOntologyID.put(ontology.getOntologyID(), configuration);
+                writeLock.lock();
+                try {
+                    documentIRIsByID.put(ontology.getOntologyID(),
+                        documentSource.getDocumentIRI());
+                    ontologyConfigurationsByOntologyID.put(ontology.getOntologyID(),
+                        configuration);
+                } finally {
+                    writeLock.unlock();
+                }
+                if (ontology instanceof HasEagerIndexes
+                    && configuration.shouldBuildIndexesInParallel()) {
+                    buildIndexes(ontology, configuration);
+                }
                 if (ontology instanceof HasTrimToSize && configuration.shouldTrimToSize()) {
                     ((HasTrimToSize) ontology).trimToSize();
                 }
@@ -1316,6 +1783,19 @@ public class OWLOntologyManagerImpl
         return null;
     }
 
+    protected void buildIndexes(OWLOntology ontology,
+        OWLOntologyLoaderConfiguration configuration) {
+        long start = System.nanoTime();
+        Map<String, Long> times =
+            ((HasEagerIndexes) ontology).buildIndexes(configuration.getIndexesExecutor());
+        if (LOGGER.isDebugEnabled()) {
+            times.forEach((index, time) -> LOGGER.debug("Index {} built in {} ms", index,
+                Long.valueOf(time.longValue() / 1000000)));
+        }
+        LOGGER.info("{} indexes for {} built in {} ms", Integer.valueOf(times.size()),
+            ontology.getOntologyID(), Long.valueOf((System.nanoTime() - start) / 1000000));
+    }
+
     protected void fixIllegalPunnings(OWLOntology o) {
         Collection<IRI> illegals = OWLDocumentFormatImpl.determineIllegalPunnings(true,
             o.getSignature(INCLUDED), o.getPunnedIRIs(INCLUDED));
@@ -1353,13 +1833,13 @@ public class OWLOntologyManagerImpl
                 if (ont.containsEntityInSignature(e)) {
                     // then all axioms referring the annotation property
                     // must be rebuilt.
-                    List<OWLAxiomChange> list = new ArrayList<>();
+                    OWLOntologyChangeBatch list = new OWLOntologyChangeBatch();
                     for (OWLAxiom ax : ont.getAxioms()) {
                         if (ax.getSignature().contains(e)) {
-                            list.add(new RemoveAxiom(ont, ax));
+                            list.removeAxiom(ont, ax);
                             OWLAnnotationPropertyTransformer changer =
                                 new OWLAnnotationPropertyTransformer(replacementMap, dataFactory);
-                            list.add(new AddAxiom(ont, changer.transformObject(ax)));
+                            list.addAxiom(ont, changer.transformObject(ax));
                         }
                     }
                     o.getOWLOntologyManager().applyChanges(list);
@@ -1389,6 +1869,7 @@ public class OWLOntologyManagerImpl
             removeValue(ontologyIDsByImportsDeclaration, ontologyID);
             removeValue(importedIRIs, ontologyID);
             if (o != null) {
+                unpublished.remove(o);
                 o.setOWLOntologyManager(null);
                 resetImportsClosureCache();
             }
@@ -1481,44 +1962,36 @@ public class OWLOntologyManagerImpl
     }
 
     // Methods to save ontologies
+    /**
+     * Frozen ontologies and snapshots never change, so storing them does not keep writers out.
+     */
+    private Lock storeLock(OWLOntology ontology) {
+        return ontology instanceof OWLFrozenOntologyImpl ? NO_LOCK : readLock;
+    }
+
     @Override
     public void saveOntology(OWLOntology ontology) throws OWLOntologyStorageException {
-        readLock.lock();
-        try {
-            OWLDocumentFormat format = getOntologyFormat(ontology);
-            saveOntology(ontology, format);
-        } finally {
-            readLock.unlock();
-        }
+        // the lookups lock; storing locks unless the ontology is frozen
+        saveOntology(ontology, getOntologyFormat(ontology));
     }
 
     @Override
     public void saveOntology(@Nonnull OWLOntology ontology, OWLDocumentFormat ontologyFormat)
         throws OWLOntologyStorageException {
-        readLock.lock();
-        try {
-            saveOntology(ontology, ontologyFormat, getOntologyDocumentIRI(ontology));
-        } finally {
-            readLock.unlock();
-        }
+        saveOntology(ontology, ontologyFormat, getOntologyDocumentIRI(ontology));
     }
 
     @Override
     public void saveOntology(OWLOntology ontology, IRI documentIRI)
         throws OWLOntologyStorageException {
-        readLock.lock();
-        try {
-            OWLDocumentFormat format = getOntologyFormat(ontology);
-            saveOntology(ontology, format, documentIRI);
-        } finally {
-            readLock.unlock();
-        }
+        saveOntology(ontology, getOntologyFormat(ontology), documentIRI);
     }
 
     @Override
     public void saveOntology(OWLOntology ontology, OWLDocumentFormat ontologyFormat,
         IRI documentIRI) throws OWLOntologyStorageException {
-        readLock.lock();
+        Lock storeLock = storeLock(ontology);
+        storeLock.lock();
         try {
             try {
                 for (OWLStorerFactory storerFactory : ontologyStorers) {
@@ -1533,7 +2006,7 @@ public class OWLOntologyManagerImpl
                 throw new OWLOntologyStorageIOException(e);
             }
         } finally {
-            readLock.unlock();
+            storeLock.unlock();
         }
     }
 
@@ -1554,18 +2027,14 @@ public class OWLOntologyManagerImpl
     @Override
     public void saveOntology(OWLOntology ontology, OWLOntologyDocumentTarget documentTarget)
         throws OWLOntologyStorageException {
-        readLock.lock();
-        try {
-            saveOntology(ontology, getOntologyFormat(ontology), documentTarget);
-        } finally {
-            readLock.unlock();
-        }
+        saveOntology(ontology, getOntologyFormat(ontology), documentTarget);
     }
 
     @Override
     public void saveOntology(OWLOntology ontology, OWLDocumentFormat ontologyFormat,
         OWLOntologyDocumentTarget documentTarget) throws OWLOntologyStorageException {
-        readLock.lock();
+        Lock storeLock = storeLock(ontology);
+        storeLock.lock();
         try {
             try {
                 for (OWLStorerFactory storerFactory : ontologyStorers) {
@@ -1580,7 +2049,7 @@ public class OWLOntologyManagerImpl
                 throw new OWLOntologyStorageIOException(e);
             }
         } finally {
-            readLock.unlock();
+            storeLock.unlock();
         }
     }
 
@@ -1709,6 +2178,13 @@ public class OWLOntologyManagerImpl
         listenerMap = new ConcurrentHashMap<>();
         impendingChangeListenerMap = new ConcurrentHashMap<>();
         vetoListeners = new ArrayList<>();
+        loadingThreads = ConcurrentHashMap.newKeySet();
+        importsLoads = new ConcurrentHashMap<>();
+        sharedImports = new ConcurrentHashMap<>();
+        loadingDocuments = new ConcurrentHashMap<>();
+        loads = new ConcurrentHashMap<>();
+        unpublished = Collections.synchronizedMap(new IdentityHashMap<>());
+        importsExecutor = ForkJoinPool.commonPool();
     }
 
     @Override
@@ -1730,7 +2206,7 @@ public class OWLOntologyManagerImpl
     protected void broadcastChanges(@Nonnull List<? extends OWLOntologyChange> changes) {
         writeLock.lock();
         try {
-            if (!broadcastChanges.get()) {
+            if (loadingThreads.contains(Thread.currentThread())) {
                 return;
             }
             for (OWLOntologyChangeListener listener : new ArrayList<>(listenerMap.keySet())) {
@@ -1762,7 +2238,7 @@ public class OWLOntologyManagerImpl
     protected void broadcastImpendingChanges(@Nonnull List<? extends OWLOntologyChange> changes) {
         writeLock.lock();
         try {
-            if (!broadcastChanges.get()) {
+            if (loadingThreads.contains(Thread.currentThread())) {
                 return;
             }
             for (ImpendingOWLOntologyChangeListener listener : new ArrayList<>(
@@ -1865,12 +2341,15 @@ public class OWLOntologyManagerImpl
     // Imports etc.
     protected OWLOntology loadImports(OWLImportsDeclaration declaration,
         @Nonnull OWLOntologyLoaderConfiguration configuration) throws OWLOntologyCreationException {
-        writeLock.lock();
+        Lock loading = loadingLock();
+        loading.lock();
         try {
             importsLoadCount.incrementAndGet();
             OWLOntology ont = null;
             try {
-                ont = loadOntology(declaration.getIRI(), true, configuration);
+                if (!loadedElsewhere(declaration.getIRI())) {
+                    ont = loadOntology(declaration.getIRI(), true, configuration);
+                }
             } catch (OWLOntologyCreationException e) {
                 if (configuration
                     .getMissingImportHandlingStrategy() == MissingImportHandlingStrategy.THROW_EXCEPTION) {
@@ -1885,41 +2364,225 @@ public class OWLOntologyManagerImpl
             }
             return ont;
         } finally {
-            writeLock.unlock();
+            loading.unlock();
         }
     }
 
+    /**
+     * An import whose document another load has claimed is not loaded again, nor waited for, as
+     * the other load may be waiting for the current one; the load that requested it returns once
+     * the other load has finished.
+     *
+     * @param ontologyIRI imported ontology
+     * @return true if the document of the import is being loaded by another load
+     */
+    private boolean loadedElsewhere(IRI ontologyIRI) {
+        // the current load holds at least one claim
+        if (loadingDocuments.size() < 2) {
+            return false;
+        }
+        IRI documentIRI = getDocumentIRIFromMappers(new OWLOntologyID(ontologyIRI, null));
+        DocumentLoad other = documentIRI == null ? null : loadingDocuments.get(documentIRI);
+        if (other == null || other.owner == loadOwner()) {
+            return false;
+        }
+        shareImport(other.done);
+        return true;
+    }
+
+    /**
+     * Imports are loaded in parallel if the loader configuration says so; the tasks loading them
+     * do not wait for each other, so a bounded executor cannot run out of threads. Imports are
+     * often fetched over the network, so an executor with more threads than cores, or with virtual
+     * threads, can be a better fit than the default.
+     *
+     * @param executor executor for loading imports in parallel; the common ForkJoin pool by
+     *        default
+     * @see OWLOntologyLoaderConfiguration#setLoadImportsInParallel(boolean)
+     */
+    public void setImportsExecutor(Executor executor) {
+        importsExecutor = checkNotNull(executor, "executor cannot be null");
+    }
+
     @Override
     public void makeLoadImportRequest(OWLImportsDeclaration declaration) {
-        writeLock.lock();
-        try {
-            makeLoadImportRequest(declaration, getOntologyLoaderConfiguration());
-        } finally {
-            writeLock.unlock();
-        }
+        makeLoadImportRequest(declaration, getOntologyLoaderConfiguration());
     }
 
     @Override
     public void makeLoadImportRequest(OWLImportsDeclaration declaration,
         OWLOntologyLoaderConfiguration configuration) {
-        writeLock.lock();
+        Lock loading = loadingLock();
+        loading.lock();
         try {
             IRI iri = declaration.getIRI();
-            if (!configuration.isIgnoredImport(iri) && !importedIRIs.containsKey(iri)) {
-                importedIRIs.put(iri, new Object());
-                try {
-                    OWLOntology ont = loadImports(declaration, configuration);
-                    if (ont != null) {
-                        ontologyIDsByImportsDeclaration.put(declaration, ont.getOntologyID());
-                        importedIRIs.put(iri, ont.getOntologyID());
-                    }
-                } catch (OWLOntologyCreationException e) {
-                    // Wrap as UnloadableImportException and throw
-                    throw new UnloadableImportException(e, declaration);
-                }
+            if (configuration.isIgnoredImport(iri)) {
+                return;
+            }
+            CountDownLatch loaded = new CountDownLatch(1);
+            Object claimed = importedIRIs.putIfAbsent(iri, loaded);
+            if (claimed instanceof CountDownLatch) {
+                shareImport((CountDownLatch) claimed);
+                return;
+            }
+            if (claimed != null) {
+                return;
+            }
+            ImportsLoad imports =
+                configuration.shouldLoadImportsInParallel() ? importsLoad() : null;
+            if (imports != null) {
+                imports.schedule(declaration, configuration, loaded);
+            } else {
+                loadImport(declaration, configuration, loaded);
             }
         } finally {
-            writeLock.unlock();
+            loading.unlock();
+        }
+    }
+
+    private void loadImport(OWLImportsDeclaration declaration,
+        @Nonnull OWLOntologyLoaderConfiguration configuration, CountDownLatch loaded) {
+        try {
+            OWLOntology ont = loadImports(declaration, configuration);
+            if (ont != null) {
+                ontologyIDsByImportsDeclaration.put(declaration, ont.getOntologyID());
+                importedIRIs.put(declaration.getIRI(), ont.getOntologyID());
+            }
+        } catch (OWLOntologyCreationException e) {
+            // Wrap as UnloadableImportException and throw
+            throw new UnloadableImportException(e, declaration);
+        } finally {
+            // an import that failed to load can be requested again
+            importedIRIs.remove(declaration.getIRI(), loaded);
+            loaded.countDown();
+        }
+    }
+
+    /**
+     * Records an import that another load is loading, so that a load is not returned before its
+     * imports closure is complete. The parallel imports of a load are awaited with the load itself.
+     *
+     * @param loaded latch released when the import has been loaded
+     */
+    private void shareImport(CountDownLatch loaded) {
+        Thread current = Thread.currentThread();
+        ImportsLoad imports = importsLoads.get(current);
+        Queue<CountDownLatch> shared =
+            sharedImports.get(imports == null ? current : imports.requester);
+        if (shared != null && loaded.getCount() > 0) {
+            shared.add(loaded);
+        }
+    }
+
+    /**
+     * @return the parallel imports load of the current thread, started if the thread is loading an
+     *         ontology without holding the manager lock, or null if imports must be loaded one
+     *         after the other
+     */
+    @Nullable
+    private ImportsLoad importsLoad() {
+        Thread current = Thread.currentThread();
+        ImportsLoad imports = importsLoads.get(current);
+        if (imports == null && loadingThreads.contains(current) && !holdsManagerLock()) {
+            imports = new ImportsLoad();
+            importsLoads.put(current, imports);
+        }
+        return imports;
+    }
+
+    /**
+     * Waits for the imports requested in parallel by the current thread, if any.
+     *
+     * @return the finished imports load, or null if the thread did not request parallel imports
+     */
+    @Nullable
+    private ImportsLoad awaitImports() {
+        Thread current = Thread.currentThread();
+        ImportsLoad imports = importsLoads.get(current);
+        if (imports == null || imports.requester != current) {
+            return null;
+        }
+        importsLoads.remove(current);
+        imports.await();
+        return imports;
+    }
+
+    /** A load of a document, and of the ontologies it creates, by the thread that requested it. */
+    private class DocumentLoad {
+
+        final Thread owner = loadOwner();
+        final CountDownLatch done = new CountDownLatch(1);
+    }
+
+    /**
+     * The imports closure of an ontology, loaded in parallel on the imports executor. Each imported
+     * ontology schedules its own imports while it is parsed, so imports that do not depend on each
+     * other are parsed concurrently. The thread that requested the first import waits for the
+     * whole closure; the loading threads act on its behalf.
+     */
+    private class ImportsLoad {
+
+        final Thread requester = Thread.currentThread();
+        /** One party for the requester and one for each import being loaded. */
+        private final Phaser pending = new Phaser(1);
+        private final Queue<RuntimeException> failures = new ConcurrentLinkedQueue<>();
+
+        void schedule(OWLImportsDeclaration declaration,
+            @Nonnull OWLOntologyLoaderConfiguration configuration, CountDownLatch loaded) {
+            pending.register();
+            importsExecutor.execute(() -> load(declaration, configuration, loaded));
+        }
+
+        private void load(OWLImportsDeclaration declaration,
+            @Nonnull OWLOntologyLoaderConfiguration configuration, CountDownLatch loaded) {
+            Thread current = Thread.currentThread();
+            importsLoads.put(current, this);
+            try {
+                loadImport(declaration, configuration, loaded);
+            } catch (RuntimeException e) {
+                failures.add(e);
+            } finally {
+                importsLoads.remove(current);
+                pending.arriveAndDeregister();
+            }
+        }
+
+        /**
+         * The requester can itself run in a ForkJoin pool, possibly the one loading the imports, so
+         * it waits as a managed blocker; the pool can then add a thread while it is blocked.
+         */
+        void await() {
+            int phase = pending.arrive();
+            try {
+                ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+
+                    @Override
+                    public boolean block() {
+                        pending.awaitAdvance(phase);
+                        return true;
+                    }
+
+                    @Override
+                    public boolean isReleasable() {
+                        return pending.getPhase() != phase;
+                    }
+                });
+            } catch (InterruptedException e) {
+                // awaitAdvance is not interruptible; keep the status for the caller
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * Failures are rethrown to the requester as they would have been thrown by a sequential
+         * load: missing imports only fail the load with
+         * {@link MissingImportHandlingStrategy#THROW_EXCEPTION}.
+         */
+        void rethrowFailure() {
+            RuntimeException e = failures.peek();
+            if (e != null) {
+                throw e;
+            }
         }
     }
 
@@ -1988,13 +2651,33 @@ public class OWLOntologyManagerImpl
         }
     }
 
+    /**
+     * Fires a finished loading event without a measured loading time.
+     *
+     * @param ontologyID id of the loaded ontology
+     * @param documentIRI document IRI
+     * @param imported true if the ontology was loaded as an import
+     * @param ex exception thrown by the load, if any
+     */
     protected void fireFinishedLoadingEvent(OWLOntologyID ontologyID, IRI documentIRI,
         boolean imported, Exception ex) {
+        fireFinishedLoadingEvent(ontologyID, documentIRI, imported, ex, 0L);
+    }
+
+    /**
+     * @param ontologyID id of the loaded ontology
+     * @param documentIRI document IRI
+     * @param imported true if the ontology was loaded as an import
+     * @param ex exception thrown by the load, if any
+     * @param loadingTime time spent loading, in nanoseconds
+     */
+    protected void fireFinishedLoadingEvent(OWLOntologyID ontologyID, IRI documentIRI,
+        boolean imported, Exception ex, long loadingTime) {
         writeLock.lock();
         try {
             for (OWLOntologyLoaderListener listener : new ArrayList<>(loaderListeners)) {
                 listener.finishedLoadingOntology(new OWLOntologyLoaderListener.LoadingFinishedEvent(
-                    ontologyID, documentIRI, imported, ex));
+                    ontologyID, documentIRI, imported, ex, loadingTime));
             }
         } finally {
             writeLock.unlock();
@@ -2024,7 +2707,7 @@ public class OWLOntologyManagerImpl
     protected void fireBeginChanges(int size) {
         writeLock.lock();
         try {
-            if (!broadcastChanges.get()) {
+            if (loadingThreads.contains(Thread.currentThread())) {
                 return;
             }
             for (OWLOntologyChangeProgressListener listener : progressListeners) {
@@ -2043,7 +2726,7 @@ public class OWLOntologyManagerImpl
     protected void fireEndChanges() {
         writeLock.lock();
         try {
-            if (!broadcastChanges.get()) {
+            if (loadingThreads.contains(Thread.currentThread())) {
                 return;
             }
             for (OWLOntologyChangeProgressListener listener : progressListeners) {
@@ -2062,7 +2745,7 @@ public class OWLOntologyManagerImpl
     private void fireChangeApplied(@Nonnull OWLOntologyChange change) {
         writeLock.lock();
         try {
-            if (!broadcastChanges.get()) {
+            if (loadingThreads.contains(Thread.currentThread())) {
                 return;
             }
             if (progressListeners.isEmpty()) {
@@ -56,8 +56,12 @@ public class OWLReflexiveObjectPropertyAxiomImpl extends
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLReflexiveObjectPropertyAxiomImpl(getProperty(),
-                NO_ANNOTATIONS);
+        OWLReflexiveObjectPropertyAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLReflexiveObjectPropertyAxiomImpl(getProperty(), NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
@@ -60,7 +60,12 @@ public class OWLSameIndividualAxiomImpl extends OWLNaryIndividualAxiomImpl
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLSameIndividualAxiomImpl(getIndividuals(), NO_ANNOTATIONS);
+        OWLSameIndividualAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLSameIndividualAxiomImpl(getIndividuals(), NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
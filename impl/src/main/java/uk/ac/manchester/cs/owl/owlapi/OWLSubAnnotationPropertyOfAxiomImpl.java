@@ -75,8 +75,13 @@ public class OWLSubAnnotationPropertyOfAxiomImpl extends
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLSubAnnotationPropertyOfAxiomImpl(getSubProperty(),
-                getSuperProperty(), NO_ANNOTATIONS);
+        OWLSubAnnotationPropertyOfAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLSubAnnotationPropertyOfAxiomImpl(getSubProperty(), getSuperProperty(),
+                    NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
@@ -71,7 +71,12 @@ public class OWLSubClassOfAxiomImpl extends OWLClassAxiomImpl implements
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLSubClassOfAxiomImpl(subClass, superClass, NO_ANNOTATIONS);
+        OWLSubClassOfAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLSubClassOfAxiomImpl(subClass, superClass, NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
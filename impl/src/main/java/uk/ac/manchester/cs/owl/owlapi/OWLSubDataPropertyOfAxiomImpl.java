@@ -51,8 +51,13 @@ public class OWLSubDataPropertyOfAxiomImpl extends
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLSubDataPropertyOfAxiomImpl(getSubProperty(), getSuperProperty(),
-            NO_ANNOTATIONS);
+        OWLSubDataPropertyOfAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLSubDataPropertyOfAxiomImpl(getSubProperty(), getSuperProperty(),
+                    NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
@@ -51,8 +51,13 @@ public class OWLSubObjectPropertyOfAxiomImpl extends
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLSubObjectPropertyOfAxiomImpl(getSubProperty(), getSuperProperty(),
-            NO_ANNOTATIONS);
+        OWLSubObjectPropertyOfAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLSubObjectPropertyOfAxiomImpl(getSubProperty(), getSuperProperty(),
+                    NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
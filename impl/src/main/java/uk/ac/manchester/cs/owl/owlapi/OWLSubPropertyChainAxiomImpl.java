@@ -70,8 +70,13 @@ public class OWLSubPropertyChainAxiomImpl extends OWLPropertyAxiomImplWithEntity
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLSubPropertyChainAxiomImpl(getPropertyChain(), getSuperProperty(),
-            NO_ANNOTATIONS);
+        OWLSubPropertyChainOfAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLSubPropertyChainAxiomImpl(getPropertyChain(), getSuperProperty(),
+                    NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
@@ -56,8 +56,12 @@ public class OWLTransitiveObjectPropertyAxiomImpl extends
         if (!isAnnotated()) {
             return this;
         }
-        return new OWLTransitiveObjectPropertyAxiomImpl(getProperty(),
-                NO_ANNOTATIONS);
+        OWLTransitiveObjectPropertyAxiom axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new OWLTransitiveObjectPropertyAxiomImpl(getProperty(), NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
@@ -0,0 +1,827 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClassAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDocumentFormat;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLImportsDeclaration;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.OWLRuntimeException;
+
+/**
+ * An immutable axiom store held in a memory mapped file. Axioms are kept in a compact binary form
+ * and materialized on demand; the axioms by type index and the entity reference indexes are
+ * stored in the file as well, so that opening a store costs time and heap proportional to the
+ * ontology header rather than to the number of axioms.
+ * <p>
+ * Each axiom is encoded with Java serialization, with class descriptors replaced by indexes in a
+ * class name table and IRIs replaced by indexes in a string table. Records are grouped by axiom
+ * type, so the axioms of a type are a range of record ordinals; for each entity, the ordinals of
+ * the axioms referencing it are stored as a sorted posting list. The file layout is:
+ *
+ * <pre>
+ * header       magic, version, axiom count, section offsets
+ * records      encoded axioms, grouped by axiom type
+ * offsets      record start offsets, one long per axiom plus the end offset
+ * strings      UTF-8 IRIs and anonymous individual ids
+ * string index string start offsets, one long per string plus the end offset
+ * entities     per entity kind, sorted by string: string id, posting count, posting start
+ * postings     int ordinals of referencing axioms
+ * metadata     ontology id, annotations, imports, class names and range tables
+ * </pre>
+ *
+ * The file is closed once mapped; the mapping stays valid for as long as the store is reachable.
+ * Stores are safe for concurrent reads.
+ *
+ * @since 4.7.7
+ */
+public class OffHeapAxiomStore {
+
+    private static final long MAGIC = 0x4F574C4D41503031L;
+    private static final int VERSION = 1;
+    private static final int CHUNK_BITS = 30;
+    private static final long CHUNK_SIZE = 1L << CHUNK_BITS;
+    private static final int RECORDS = 0;
+    private static final int RECORD_OFFSETS = 1;
+    private static final int STRINGS = 2;
+    private static final int STRING_OFFSETS = 3;
+    private static final int ENTITIES = 4;
+    private static final int POSTINGS = 5;
+    private static final int METADATA = 6;
+    private static final int SECTIONS = 7;
+    private static final int HEADER_SIZE = 16 + 8 * SECTIONS;
+    private static final int ENTITY_ENTRY_SIZE = 16;
+    /**
+     * Classes that can be read from a store: OWL objects, formats and the JDK and Guava types they
+     * hold. Store files can be shared, so anything else is rejected rather than instantiated.
+     */
+    private static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter(
+        "org.semanticweb.owlapi.**;uk.ac.manchester.cs.**;org.obolibrary.**;"
+            + "com.google.common.**;java.lang.*;java.util.**;java.math.*;!*");
+    /** Entity kinds, in the order of the entity table. */
+    static final int CLASS = 0;
+    static final int OBJECT_PROPERTY = 1;
+    static final int DATA_PROPERTY = 2;
+    static final int NAMED_INDIVIDUAL = 3;
+    static final int DATATYPE = 4;
+    static final int ANNOTATION_PROPERTY = 5;
+    static final int ANONYMOUS_INDIVIDUAL = 6;
+    static final int KINDS = 7;
+    private final MappedByteBuffer[] chunks;
+    private final long[] sections = new long[SECTIONS];
+    private final int axiomCount;
+    private final Metadata metadata;
+    private final ObjectStreamClass[] descriptors;
+    private final OWLDataFactory df;
+
+    private OffHeapAxiomStore(Path file, OWLDataFactory df) throws IOException {
+        this.df = df;
+        long size;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            size = channel.size();
+            int count = (int) ((size + CHUNK_SIZE - 1) >>> CHUNK_BITS);
+            chunks = new MappedByteBuffer[count];
+            for (int index = 0; index < count; index++) {
+                long start = (long) index << CHUNK_BITS;
+                chunks[index] =
+                    channel.map(MapMode.READ_ONLY, start, Math.min(CHUNK_SIZE, size - start));
+            }
+        }
+        if (size < HEADER_SIZE || getLong(0) != MAGIC || getInt(8) != VERSION) {
+            throw new IOException("Not an axiom store, or unsupported version: " + file);
+        }
+        axiomCount = getInt(12);
+        for (int index = 0; index < SECTIONS; index++) {
+            sections[index] = getLong(16 + 8L * index);
+        }
+        byte[] bytes = new byte[(int) (size - sections[METADATA])];
+        get(sections[METADATA], bytes);
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            in.setObjectInputFilter(FILTER);
+            metadata = (Metadata) in.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException(e);
+        }
+        descriptors = new ObjectStreamClass[metadata.classNames.size()];
+    }
+
+    /**
+     * @param file file written by {@link #write(OWLOntology, Path)}
+     * @param df data factory used to create entities read from the store
+     * @return the opened store
+     * @throws IOException if the file cannot be read or is not an axiom store
+     */
+    public static OffHeapAxiomStore open(Path file, OWLDataFactory df) throws IOException {
+        return new OffHeapAxiomStore(checkNotNull(file, "file cannot be null"),
+            checkNotNull(df, "df cannot be null"));
+    }
+
+    // reading
+
+    private ByteBuffer chunk(long position) {
+        return chunks[(int) (position >>> CHUNK_BITS)];
+    }
+
+    /** Longs and ints are aligned, so they never cross a chunk boundary. */
+    private long getLong(long position) {
+        return chunk(position).getLong((int) (position & (CHUNK_SIZE - 1)));
+    }
+
+    private int getInt(long position) {
+        return chunk(position).getInt((int) (position & (CHUNK_SIZE - 1)));
+    }
+
+    private void get(long position, byte[] destination) {
+        int done = 0;
+        while (done < destination.length) {
+            long current = position + done;
+            int offset = (int) (current & (CHUNK_SIZE - 1));
+            ByteBuffer buffer = chunk(current);
+            int length = Math.min(destination.length - done, buffer.capacity() - offset);
+            buffer.get(offset, destination, done, length);
+            done += length;
+        }
+    }
+
+    String string(int id) {
+        long start = getLong(sections[STRING_OFFSETS] + 8L * id);
+        long end = getLong(sections[STRING_OFFSETS] + 8L * id + 8);
+        byte[] bytes = new byte[(int) (end - start)];
+        get(sections[STRINGS] + start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    IRI iri(int id) {
+        return IRI.create(string(id));
+    }
+
+    ObjectStreamClass descriptor(int id) throws ClassNotFoundException {
+        ObjectStreamClass descriptor = descriptors[id];
+        if (descriptor == null) {
+            descriptor = ObjectStreamClass.lookupAny(Class.forName(metadata.classNames.get(id),
+                false, OffHeapAxiomStore.class.getClassLoader()));
+            descriptors[id] = descriptor;
+        }
+        return descriptor;
+    }
+
+    /**
+     * @return number of axioms in the store
+     */
+    public int getAxiomCount() {
+        return axiomCount;
+    }
+
+    /**
+     * @param ordinal record ordinal, between 0 and {@link #getAxiomCount()}
+     * @return the axiom, decoded from its record
+     */
+    public OWLAxiom getAxiom(int ordinal) {
+        long start = getLong(sections[RECORD_OFFSETS] + 8L * ordinal);
+        long end = getLong(sections[RECORD_OFFSETS] + 8L * ordinal + 8);
+        byte[] bytes = new byte[(int) (end - start)];
+        get(sections[RECORDS] + start, bytes);
+        try (ObjectInputStream in = new DecodingInput(new ByteArrayInputStream(bytes), this)) {
+            return (OWLAxiom) in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new OWLRuntimeException("Cannot decode axiom " + ordinal, e);
+        }
+    }
+
+    /**
+     * @param type axiom type
+     * @return first ordinal of the axioms of the type
+     */
+    int typeStart(AxiomType<?> type) {
+        return type.getIndex() < metadata.typeStarts.length - 1
+            ? metadata.typeStarts[type.getIndex()] : axiomCount;
+    }
+
+    /**
+     * @param type axiom type
+     * @return ordinal after the last axiom of the type
+     */
+    int typeEnd(AxiomType<?> type) {
+        return type.getIndex() < metadata.typeStarts.length - 1
+            ? metadata.typeStarts[type.getIndex() + 1] : axiomCount;
+    }
+
+    /**
+     * @param ordinal record ordinal
+     * @return type of the axiom stored at the ordinal
+     */
+    AxiomType<?> typeOf(int ordinal) {
+        int index = Arrays.binarySearch(metadata.typeStarts, ordinal);
+        if (index < 0) {
+            index = -index - 2;
+        } else {
+            // skip empty ranges starting at the same ordinal
+            while (index + 1 < metadata.typeStarts.length
+                && metadata.typeStarts[index + 1] == ordinal) {
+                index++;
+            }
+        }
+        for (AxiomType<?> type : AxiomType.AXIOM_TYPES) {
+            if (type.getIndex() == index) {
+                return type;
+            }
+        }
+        throw new OWLRuntimeException("No axiom type for ordinal " + ordinal);
+    }
+
+    /**
+     * @param kind entity kind
+     * @return number of entities of the kind
+     */
+    int entityCount(int kind) {
+        return metadata.kindStarts[kind + 1] - metadata.kindStarts[kind];
+    }
+
+    /**
+     * @param kind entity kind
+     * @param position position of the entity among the entities of its kind
+     * @return the entity
+     */
+    OWLObject entity(int kind, int position) {
+        String value = string(entityStringId(metadata.kindStarts[kind] + position));
+        switch (kind) {
+            case CLASS:
+                return df.getOWLClass(IRI.create(value));
+            case OBJECT_PROPERTY:
+                return df.getOWLObjectProperty(IRI.create(value));
+            case DATA_PROPERTY:
+                return df.getOWLDataProperty(IRI.create(value));
+            case NAMED_INDIVIDUAL:
+                return df.getOWLNamedIndividual(IRI.create(value));
+            case DATATYPE:
+                return df.getOWLDatatype(IRI.create(value));
+            case ANNOTATION_PROPERTY:
+                return df.getOWLAnnotationProperty(IRI.create(value));
+            default:
+                return df.getOWLAnonymousIndividual(value);
+        }
+    }
+
+    private int entityStringId(int entry) {
+        return getInt(sections[ENTITIES] + (long) ENTITY_ENTRY_SIZE * entry);
+    }
+
+    /**
+     * @param kind entity kind
+     * @param key IRI or anonymous individual id
+     * @return position of the entity among those of its kind, or -1 if not referenced
+     */
+    int find(int kind, String key) {
+        int low = metadata.kindStarts[kind];
+        int high = metadata.kindStarts[kind + 1] - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = string(entityStringId(middle)).compareTo(key);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle - metadata.kindStarts[kind];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param kind entity kind
+     * @param position position of the entity among the entities of its kind
+     * @return number of axioms referencing the entity
+     */
+    int postingCount(int kind, int position) {
+        return getInt(
+            sections[ENTITIES] + (long) ENTITY_ENTRY_SIZE * (metadata.kindStarts[kind] + position)
+                + 4);
+    }
+
+    /**
+     * @param kind entity kind
+     * @param position position of the entity among the entities of its kind
+     * @param index index in the posting list
+     * @return ordinal of the axiom
+     */
+    int posting(int kind, int position, int index) {
+        long start = getLong(
+            sections[ENTITIES] + (long) ENTITY_ENTRY_SIZE * (metadata.kindStarts[kind] + position)
+                + 8);
+        return getInt(sections[POSTINGS] + 4L * (start + index));
+    }
+
+    /**
+     * @param entity entity or anonymous individual
+     * @return kind of the entity
+     */
+    static int kind(OWLObject entity) {
+        if (entity instanceof OWLAnonymousIndividual) {
+            return ANONYMOUS_INDIVIDUAL;
+        }
+        OWLEntity e = (OWLEntity) entity;
+        if (e.isOWLClass()) {
+            return CLASS;
+        }
+        if (e.isOWLObjectProperty()) {
+            return OBJECT_PROPERTY;
+        }
+        if (e.isOWLDataProperty()) {
+            return DATA_PROPERTY;
+        }
+        if (e.isOWLNamedIndividual()) {
+            return NAMED_INDIVIDUAL;
+        }
+        if (e.isOWLDatatype()) {
+            return DATATYPE;
+        }
+        return ANNOTATION_PROPERTY;
+    }
+
+    /**
+     * @param entity entity or anonymous individual
+     * @return string key of the entity in the entity table
+     */
+    static String key(OWLObject entity) {
+        if (entity instanceof OWLAnonymousIndividual) {
+            return ((OWLAnonymousIndividual) entity).getID().getID();
+        }
+        return ((OWLEntity) entity).getIRI().toString();
+    }
+
+    /**
+     * Finds an axiom by scanning the shortest posting list among those of the entities it
+     * references, restricted to the range of its type.
+     *
+     * @param axiom axiom to find
+     * @return ordinal of the axiom, or -1 if it is not in the store
+     */
+    int ordinalOf(OWLAxiom axiom) {
+        int start = typeStart(axiom.getAxiomType());
+        int end = typeEnd(axiom.getAxiomType());
+        if (start == end) {
+            return -1;
+        }
+        int bestKind = -1;
+        int bestPosition = -1;
+        int bestCount = end - start;
+        List<OWLObject> referenced = new ArrayList<>(axiom.getSignature());
+        referenced.addAll(axiom.getAnonymousIndividuals());
+        for (OWLObject e : referenced) {
+            int kind = kind(e);
+            int position = find(kind, key(e));
+            if (position < 0) {
+                return -1;
+            }
+            int count = postingCount(kind, position);
+            if (count < bestCount) {
+                bestKind = kind;
+                bestPosition = position;
+                bestCount = count;
+            }
+        }
+        if (bestKind < 0) {
+            for (int ordinal = start; ordinal < end; ordinal++) {
+                if (getAxiom(ordinal).equals(axiom)) {
+                    return ordinal;
+                }
+            }
+            return -1;
+        }
+        for (int index = 0; index < bestCount; index++) {
+            int ordinal = posting(bestKind, bestPosition, index);
+            if (ordinal >= start && ordinal < end && getAxiom(ordinal).equals(axiom)) {
+                return ordinal;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the ontology id stored with the axioms
+     */
+    public OWLOntologyID getOntologyID() {
+        return metadata.ontologyID;
+    }
+
+    /**
+     * @return ontology annotations
+     */
+    public List<OWLAnnotation> getAnnotations() {
+        return metadata.annotations;
+    }
+
+    /**
+     * @return imports declarations
+     */
+    public List<OWLImportsDeclaration> getImportsDeclarations() {
+        return metadata.imports;
+    }
+
+    /**
+     * @return format of the document the ontology was loaded from, if known
+     */
+    @Nullable
+    public OWLDocumentFormat getFormat() {
+        if (metadata.format == null) {
+            return null;
+        }
+        try (ObjectInputStream in =
+            new ObjectInputStream(new ByteArrayInputStream(metadata.format))) {
+            in.setObjectInputFilter(FILTER);
+            return (OWLDocumentFormat) in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new OWLRuntimeException("Cannot decode the ontology format", e);
+        }
+    }
+
+    /**
+     * @return ordinals of the general class axioms
+     */
+    int[] generalClassAxioms() {
+        return metadata.generalClassAxioms;
+    }
+
+    // writing
+
+    /**
+     * Writes the axioms, annotations, imports declarations and id of an ontology to a file. The
+     * file is written next to the target and moved in place when complete.
+     *
+     * @param ontology ontology to write
+     * @param file file to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(OWLOntology ontology, Path file) throws IOException {
+        checkNotNull(ontology, "ontology cannot be null");
+        checkNotNull(file, "file cannot be null");
+        List<AxiomType<?>> types = new ArrayList<>(AxiomType.AXIOM_TYPES);
+        types.sort(Comparator.comparingInt(AxiomType::getIndex));
+        int maxIndex = types.get(types.size() - 1).getIndex();
+        Metadata metadata = new Metadata();
+        metadata.ontologyID = ontology.getOntologyID();
+        metadata.annotations = new ArrayList<>(ontology.getAnnotations());
+        metadata.imports = new ArrayList<>(ontology.getImportsDeclarations());
+        OWLOntologyManager manager = ontology.getOWLOntologyManager();
+        if (manager != null && manager.contains(ontology)) {
+            metadata.format = formatBytes(manager.getOntologyFormat(ontology));
+        }
+        metadata.typeStarts = new int[maxIndex + 2];
+        Set<OWLClassAxiom> general = new HashSet<>(ontology.getGeneralClassAxioms());
+        List<Integer> generalOrdinals = new ArrayList<>();
+        Map<String, Integer> stringIds = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        Map<String, Integer> classIds = new HashMap<>();
+        List<Map<String, IntArray>> postings = new ArrayList<>();
+        for (int kind = 0; kind < KINDS; kind++) {
+            postings.add(new HashMap<>());
+        }
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        long[] offsets = new long[SECTIONS];
+        int ordinal = 0;
+        try (CountingOutput counter = new CountingOutput(
+            new BufferedOutputStream(Files.newOutputStream(temporary), 1 << 16));
+            DataOutputStream out = new DataOutputStream(counter)) {
+            out.write(new byte[HEADER_SIZE]);
+            offsets[RECORDS] = counter.count;
+            List<Long> longOffsets = new ArrayList<>();
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            EncodingOutput encoder =
+                new EncodingOutput(buffer, stringIds, strings, classIds, metadata.classNames);
+            long recordStart = 0;
+            int typeIndex = 0;
+            for (AxiomType<?> type : types) {
+                while (typeIndex <= type.getIndex()) {
+                    metadata.typeStarts[typeIndex++] = ordinal;
+                }
+                for (OWLAxiom axiom : ontology.getAxioms(type)) {
+                    longOffsets.add(Long.valueOf(recordStart));
+                    encoder.reset();
+                    encoder.writeObject(axiom);
+                    encoder.flush();
+                    buffer.writeTo(out);
+                    recordStart += buffer.size();
+                    buffer.reset();
+                    for (OWLEntity e : axiom.getSignature()) {
+                        postings.get(kind(e)).computeIfAbsent(key(e), k -> new IntArray())
+                            .add(ordinal);
+                    }
+                    for (OWLAnonymousIndividual e : axiom.getAnonymousIndividuals()) {
+                        postings.get(ANONYMOUS_INDIVIDUAL)
+                            .computeIfAbsent(key(e), k -> new IntArray()).add(ordinal);
+                    }
+                    if (axiom instanceof OWLClassAxiom && general.contains(axiom)) {
+                        generalOrdinals.add(Integer.valueOf(ordinal));
+                    }
+                    ordinal++;
+                }
+            }
+            while (typeIndex < metadata.typeStarts.length) {
+                metadata.typeStarts[typeIndex++] = ordinal;
+            }
+            longOffsets.add(Long.valueOf(recordStart));
+            align(out, counter);
+            offsets[RECORD_OFFSETS] = counter.count;
+            for (Long offset : longOffsets) {
+                out.writeLong(offset.longValue());
+            }
+            // entity keys go in the string table as well
+            List<List<String>> sortedKeys = new ArrayList<>();
+            for (int kind = 0; kind < KINDS; kind++) {
+                List<String> keys = new ArrayList<>(postings.get(kind).keySet());
+                keys.sort(null);
+                keys.forEach(k -> stringId(k, stringIds, strings));
+                sortedKeys.add(keys);
+            }
+            offsets[STRINGS] = counter.count;
+            List<Long> stringOffsets = new ArrayList<>(strings.size() + 1);
+            long stringStart = 0;
+            for (String s : strings) {
+                stringOffsets.add(Long.valueOf(stringStart));
+                byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+                out.write(bytes);
+                stringStart += bytes.length;
+            }
+            stringOffsets.add(Long.valueOf(stringStart));
+            align(out, counter);
+            offsets[STRING_OFFSETS] = counter.count;
+            for (Long offset : stringOffsets) {
+                out.writeLong(offset.longValue());
+            }
+            offsets[ENTITIES] = counter.count;
+            metadata.kindStarts = new int[KINDS + 1];
+            long postingStart = 0;
+            int entry = 0;
+            for (int kind = 0; kind < KINDS; kind++) {
+                metadata.kindStarts[kind] = entry;
+                for (String key : sortedKeys.get(kind)) {
+                    IntArray list = postings.get(kind).get(key);
+                    out.writeInt(stringIds.get(key).intValue());
+                    out.writeInt(list.size);
+                    out.writeLong(postingStart);
+                    postingStart += list.size;
+                    entry++;
+                }
+            }
+            metadata.kindStarts[KINDS] = entry;
+            offsets[POSTINGS] = counter.count;
+            for (int kind = 0; kind < KINDS; kind++) {
+                for (String key : sortedKeys.get(kind)) {
+                    IntArray list = postings.get(kind).get(key);
+                    for (int index = 0; index < list.size; index++) {
+                        out.writeInt(list.values[index]);
+                    }
+                }
+            }
+            align(out, counter);
+            offsets[METADATA] = counter.count;
+            metadata.generalClassAxioms =
+                generalOrdinals.stream().mapToInt(Integer::intValue).toArray();
+            ObjectOutputStream meta = new ObjectOutputStream(out);
+            meta.writeObject(metadata);
+            meta.flush();
+        }
+        try (FileChannel header = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE);
+            buffer.putLong(MAGIC).putInt(VERSION).putInt(ordinal);
+            for (long offset : offsets) {
+                buffer.putLong(offset);
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                header.write(buffer, HEADER_SIZE - buffer.remaining());
+            }
+            header.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /** Formats may carry parser metadata that cannot be serialized; those are not stored. */
+    @Nullable
+    private static byte[] formatBytes(@Nullable OWLDocumentFormat format) {
+        if (format == null) {
+            return null;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(format);
+        } catch (IOException e) {
+            return null;
+        }
+        return bytes.toByteArray();
+    }
+
+    private static int stringId(String s, Map<String, Integer> stringIds, List<String> strings) {
+        Integer id = stringIds.get(s);
+        if (id == null) {
+            id = Integer.valueOf(strings.size());
+            stringIds.put(s, id);
+            strings.add(s);
+        }
+        return id.intValue();
+    }
+
+    private static void align(DataOutputStream out, CountingOutput counter) throws IOException {
+        while ((counter.count & 7) != 0) {
+            out.write(0);
+        }
+    }
+
+    private static class Metadata implements Serializable {
+
+        private static final long serialVersionUID = 40000L;
+        OWLOntologyID ontologyID;
+        List<OWLAnnotation> annotations;
+        List<OWLImportsDeclaration> imports;
+        @Nullable
+        byte[] format;
+        final List<String> classNames = new ArrayList<>();
+        int[] typeStarts;
+        int[] kindStarts;
+        int[] generalClassAxioms;
+
+        Metadata() {}
+    }
+
+    private static class IntArray {
+
+        int[] values = new int[2];
+        int size;
+
+        IntArray() {}
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+
+    /** Stand in for an IRI in an encoded record. */
+    private static class IRIReference implements Serializable {
+
+        private static final long serialVersionUID = 40000L;
+        final int id;
+
+        IRIReference(int id) {
+            this.id = id;
+        }
+    }
+
+    private static class CountingOutput extends FilterOutputStream {
+
+        long count;
+
+        CountingOutput(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+    private static class EncodingOutput extends ObjectOutputStream {
+
+        private final Map<String, Integer> stringIds;
+        private final List<String> strings;
+        private final Map<String, Integer> classIds;
+        private final List<String> classNames;
+
+        EncodingOutput(OutputStream out, Map<String, Integer> stringIds, List<String> strings,
+            Map<String, Integer> classIds, List<String> classNames) throws IOException {
+            super(out);
+            this.stringIds = stringIds;
+            this.strings = strings;
+            this.classIds = classIds;
+            this.classNames = classNames;
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected void writeStreamHeader() {
+            // records are read one at a time, without a stream header
+        }
+
+        @Override
+        protected void writeClassDescriptor(@Nonnull ObjectStreamClass desc) throws IOException {
+            writeInt(stringId(desc.getName(), classIds, classNames));
+        }
+
+        @Override
+        protected Object replaceObject(Object obj) {
+            if (obj instanceof IRI) {
+                return new IRIReference(stringId(obj.toString(), stringIds, strings));
+            }
+            return obj;
+        }
+    }
+
+    private static class DecodingInput extends ObjectInputStream {
+
+        private final OffHeapAxiomStore store;
+
+        DecodingInput(InputStream in, OffHeapAxiomStore store) throws IOException {
+            super(in);
+            this.store = store;
+            setObjectInputFilter(FILTER);
+            enableResolveObject(true);
+        }
+
+        @Override
+        protected void readStreamHeader() {
+            // records have no stream header
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor()
+            throws IOException, ClassNotFoundException {
+            return store.descriptor(readInt());
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc)
+            throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(desc.getName(), false,
+                    OffHeapAxiomStore.class.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+
+        @Override
+        protected Object resolveObject(Object obj) {
+            if (obj instanceof IRIReference) {
+                return store.iri(((IRIReference) obj).id);
+            }
+            return obj;
+        }
+    }
+}
@@ -0,0 +1,538 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.lang.ref.SoftReference;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClassAxiom;
+import org.semanticweb.owlapi.model.OWLDeclarationAxiom;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLSubPropertyChainOfAxiom;
+import org.semanticweb.owlapi.util.OWLAxiomSearchFilter;
+
+import uk.ac.manchester.cs.owl.owlapi.util.collections.SortedArrayList;
+
+/**
+ * Internals whose axioms by type, entity reference and declaration indexes are views over an
+ * {@link OffHeapAxiomStore}; axioms are decoded from the store when a view is read. The other
+ * indexes are built lazily from the axioms by type view, as for on heap internals, when they are
+ * first used. All indexes are read only.
+ *
+ * @since 4.7.7
+ */
+class OffHeapInternals extends Internals {
+
+    private static final long serialVersionUID = 40000L;
+    @Nonnull
+    private final transient OffHeapAxiomStore store;
+
+    /**
+     * @param store store holding the axioms
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    OffHeapInternals(@Nonnull OffHeapAxiomStore store) {
+        this.store = store;
+        axiomsByType = new AxiomsByTypePointer(this, store);
+        owlClassReferences = new ReferencePointer(this, store, OffHeapAxiomStore.CLASS);
+        owlObjectPropertyReferences =
+            new ReferencePointer(this, store, OffHeapAxiomStore.OBJECT_PROPERTY);
+        owlDataPropertyReferences =
+            new ReferencePointer(this, store, OffHeapAxiomStore.DATA_PROPERTY);
+        owlIndividualReferences =
+            new ReferencePointer(this, store, OffHeapAxiomStore.NAMED_INDIVIDUAL);
+        owlAnonymousIndividualReferences =
+            new ReferencePointer(this, store, OffHeapAxiomStore.ANONYMOUS_INDIVIDUAL);
+        owlDatatypeReferences = new ReferencePointer(this, store, OffHeapAxiomStore.DATATYPE);
+        owlAnnotationPropertyReferences =
+            new ReferencePointer(this, store, OffHeapAxiomStore.ANNOTATION_PROPERTY);
+        declarationsByEntity = new DeclarationPointer(this, store);
+        store.getAnnotations().forEach(this::addOntologyAnnotation);
+        store.getImportsDeclarations().forEach(this::addImportsDeclaration);
+        for (int ordinal : store.generalClassAxioms()) {
+            addGeneralClassAxioms((OWLClassAxiom) store.getAxiom(ordinal));
+        }
+        for (int ordinal = store.typeStart(AxiomType.SUB_PROPERTY_CHAIN_OF); ordinal < store
+            .typeEnd(AxiomType.SUB_PROPERTY_CHAIN_OF); ordinal++) {
+            addPropertyChainSubPropertyAxioms((OWLSubPropertyChainOfAxiom) store.getAxiom(ordinal));
+        }
+    }
+
+    /**
+     * @return the store holding the axioms
+     */
+    OffHeapAxiomStore getStore() {
+        return store;
+    }
+
+    @SuppressWarnings("unused")
+    private void writeObject(ObjectOutputStream stream) throws IOException {
+        throw new NotSerializableException("Off heap internals cannot be serialized");
+    }
+
+    /** Ordinals of the axioms for a key, in ascending order. */
+    abstract static class Ordinals {
+
+        static final Ordinals EMPTY = new Range(0, 0);
+
+        abstract int size();
+
+        abstract int get(int index);
+
+        /** @return index of the ordinal, or a negative value if not present */
+        int indexOf(int ordinal) {
+            int low = 0;
+            int high = size() - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int value = get(middle);
+                if (value < ordinal) {
+                    low = middle + 1;
+                } else if (value > ordinal) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -low - 1;
+        }
+    }
+
+    static class Range extends Ordinals {
+
+        private final int start;
+        private final int end;
+
+        Range(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        int size() {
+            return end - start;
+        }
+
+        @Override
+        int get(int index) {
+            return start + index;
+        }
+
+        @Override
+        int indexOf(int ordinal) {
+            return ordinal >= start && ordinal < end ? ordinal - start : -1;
+        }
+    }
+
+    static class Postings extends Ordinals {
+
+        private final OffHeapAxiomStore store;
+        private final int kind;
+        private final int position;
+        private final int size;
+
+        Postings(OffHeapAxiomStore store, int kind, int position) {
+            this.store = store;
+            this.kind = kind;
+            this.position = position;
+            size = store.postingCount(kind, position);
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+
+        @Override
+        int get(int index) {
+            return store.posting(kind, position, index);
+        }
+    }
+
+    static class Explicit extends Ordinals {
+
+        private final int[] ordinals;
+
+        Explicit(int[] ordinals) {
+            this.ordinals = ordinals;
+        }
+
+        @Override
+        int size() {
+            return ordinals.length;
+        }
+
+        @Override
+        int get(int index) {
+            return ordinals[index];
+        }
+    }
+
+    /**
+     * Read only list decoding the axioms at a list of ordinals when accessed. Membership checks
+     * locate the axiom in the store rather than decoding the list.
+     */
+    static class AxiomList<V extends OWLAxiom> extends AbstractList<V> implements RandomAccess {
+
+        private final OffHeapAxiomStore store;
+        private final Ordinals ordinals;
+
+        AxiomList(OffHeapAxiomStore store, Ordinals ordinals) {
+            this.store = store;
+            this.ordinals = ordinals;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V get(int index) {
+            return (V) store.getAxiom(ordinals.get(index));
+        }
+
+        @Override
+        public int size() {
+            return ordinals.size();
+        }
+
+        @Override
+        public boolean contains(@Nullable Object o) {
+            if (!(o instanceof OWLAxiom) || ordinals.size() == 0) {
+                return false;
+            }
+            int ordinal = store.ordinalOf((OWLAxiom) o);
+            return ordinal >= 0 && ordinals.indexOf(ordinal) >= 0;
+        }
+    }
+
+    /**
+     * Base class for read only pointers over the store. Pointers are always initialized and never
+     * lock.
+     */
+    abstract static class OffHeapPointer<K, V extends OWLAxiom> extends MapPointer<K, V> {
+
+        protected final OffHeapAxiomStore store;
+
+        OffHeapPointer(Internals i, OffHeapAxiomStore store) {
+            super(null, null, true, i);
+            this.store = store;
+        }
+
+        /**
+         * @param key key
+         * @return ordinals of the values for the key
+         */
+        protected abstract Ordinals ordinals(K key);
+
+        /**
+         * @return keys, sorted
+         */
+        protected abstract SortedArrayList<K> keys();
+
+        @Override
+        public boolean containsReference(K e) {
+            return ordinals(e).size() > 0;
+        }
+
+        @Override
+        public boolean containsReference(IRI e) {
+            return false;
+        }
+
+        @Override
+        public boolean isInitialized() {
+            return true;
+        }
+
+        @Override
+        public boolean isLockFree() {
+            return true;
+        }
+
+        @Override
+        public boolean isFrozen() {
+            return true;
+        }
+
+        @Override
+        public MapPointer<K, V> freeze() {
+            return this;
+        }
+
+        @Override
+        public MapPointer<K, V> sorted() {
+            return this;
+        }
+
+        @Override
+        public MapPointer<K, V> init() {
+            return this;
+        }
+
+        @Override
+        public SortedArrayList<K> sortedKeys() {
+            return keys();
+        }
+
+        @Override
+        public List<K> keySet() {
+            return new ArrayList<>(keys());
+        }
+
+        @Override
+        public List<V> getValues(K key) {
+            return new AxiomList<>(store, ordinals(key));
+        }
+
+        @Override
+        public Stream<V> values(K key) {
+            return getValues(key).stream();
+        }
+
+        @Override
+        public Stream<V> allValues() {
+            return getAllValues().stream();
+        }
+
+        @Override
+        public void forEach(K key, Consumer<? super V> action) {
+            getValues(key).forEach(action);
+        }
+
+        @Override
+        public <T> Collection<OWLAxiom> filterAxioms(OWLAxiomSearchFilter filter,
+            T key) {
+            List<OWLAxiom> toReturn = new ArrayList<>();
+            for (AxiomType<?> at : filter.getAxiomTypes()) {
+                for (int ordinal = store.typeStart(at); ordinal < store.typeEnd(at); ordinal++) {
+                    OWLAxiom ax = store.getAxiom(ordinal);
+                    if (filter.pass(ax, key)) {
+                        toReturn.add(ax);
+                    }
+                }
+            }
+            return toReturn;
+        }
+
+        @Override
+        public boolean hasValues(K key) {
+            return containsReference(key);
+        }
+
+        @Override
+        public boolean put(K key, V value) {
+            throw new UnsupportedOperationException("Off heap index pointers cannot be modified");
+        }
+
+        @Override
+        public boolean remove(K key, V value) {
+            throw new UnsupportedOperationException("Off heap index pointers cannot be modified");
+        }
+
+        @Override
+        public boolean containsKey(K key) {
+            return containsReference(key);
+        }
+
+        @Override
+        public boolean contains(K key, V value) {
+            return getValues(key).contains(value);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size() == 0;
+        }
+
+        @Override
+        public void trimToSize() {
+            // nothing to trim
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + '(' + size() + ')';
+        }
+    }
+
+    /** Axioms by type: each type is a range of ordinals. */
+    static class AxiomsByTypePointer extends OffHeapPointer<AxiomType<?>, OWLAxiom> {
+
+        AxiomsByTypePointer(Internals i, OffHeapAxiomStore store) {
+            super(i, store);
+        }
+
+        @Override
+        protected Ordinals ordinals(AxiomType<?> key) {
+            return new Range(store.typeStart(key), store.typeEnd(key));
+        }
+
+        @Override
+        protected SortedArrayList<AxiomType<?>> keys() {
+            throw new IllegalStateException("Keys are not sorted for this pointer");
+        }
+
+        @Override
+        public List<AxiomType<?>> keySet() {
+            List<AxiomType<?>> keys = new ArrayList<>();
+            for (AxiomType<?> type : AxiomType.AXIOM_TYPES) {
+                if (store.typeStart(type) < store.typeEnd(type)) {
+                    keys.add(type);
+                }
+            }
+            return keys;
+        }
+
+        @Override
+        public List<OWLAxiom> getAllValues() {
+            return new AxiomList<>(store, new Range(0, store.getAxiomCount()));
+        }
+
+        @Override
+        public int size() {
+            return store.getAxiomCount();
+        }
+    }
+
+    /** Entity references: each entity has a posting list of the axioms referencing it. */
+    static class ReferencePointer<K extends OWLObject> extends OffHeapPointer<K, OWLAxiom> {
+
+        private final int kind;
+        private volatile SoftReference<SortedArrayList<K>> keys;
+
+        ReferencePointer(Internals i, OffHeapAxiomStore store, int kind) {
+            super(i, store);
+            this.kind = kind;
+        }
+
+        @Override
+        protected Ordinals ordinals(K key) {
+            int position = store.find(kind, OffHeapAxiomStore.key(key));
+            return position < 0 ? Ordinals.EMPTY : new Postings(store, kind, position);
+        }
+
+        @Override
+        public boolean containsReference(K e) {
+            return store.find(kind, OffHeapAxiomStore.key(e)) >= 0;
+        }
+
+        @Override
+        public boolean containsReference(IRI e) {
+            return kind != OffHeapAxiomStore.ANONYMOUS_INDIVIDUAL
+                && store.find(kind, e.toString()) >= 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected SortedArrayList<K> keys() {
+            SoftReference<SortedArrayList<K>> reference = keys;
+            SortedArrayList<K> list = reference == null ? null : reference.get();
+            if (list == null) {
+                List<K> entities = new ArrayList<>(store.entityCount(kind));
+                for (int position = 0; position < store.entityCount(kind); position++) {
+                    entities.add((K) store.entity(kind, position));
+                }
+                list = new SortedArrayList<>(entities);
+                keys = new SoftReference<>(list);
+            }
+            return list;
+        }
+
+        @Override
+        public List<OWLAxiom> getAllValues() {
+            List<OWLAxiom> values = new ArrayList<>();
+            for (int position = 0; position < store.entityCount(kind); position++) {
+                values.addAll(new AxiomList<>(store, new Postings(store, kind, position)));
+            }
+            return values;
+        }
+
+        @Override
+        public int size() {
+            return store.entityCount(kind);
+        }
+    }
+
+    /**
+     * Declarations by entity: the postings of the entity within the range of declaration axioms,
+     * excluding declarations that mention the entity only in their annotations.
+     */
+    static class DeclarationPointer extends OffHeapPointer<OWLEntity, OWLDeclarationAxiom> {
+
+        DeclarationPointer(Internals i, OffHeapAxiomStore store) {
+            super(i, store);
+        }
+
+        @Override
+        protected Ordinals ordinals(OWLEntity key) {
+            int kind = OffHeapAxiomStore.kind(key);
+            int position = store.find(kind, OffHeapAxiomStore.key(key));
+            if (position < 0) {
+                return Ordinals.EMPTY;
+            }
+            Postings postings = new Postings(store, kind, position);
+            int end = store.typeEnd(AxiomType.DECLARATION);
+            int index = postings.indexOf(store.typeStart(AxiomType.DECLARATION));
+            if (index < 0) {
+                index = -index - 1;
+            }
+            int[] ordinals = new int[postings.size() - index];
+            int count = 0;
+            for (; index < postings.size() && postings.get(index) < end; index++) {
+                int ordinal = postings.get(index);
+                if (((OWLDeclarationAxiom) store.getAxiom(ordinal)).getEntity().equals(key)) {
+                    ordinals[count++] = ordinal;
+                }
+            }
+            return count == 0 ? Ordinals.EMPTY : new Explicit(Arrays.copyOf(ordinals, count));
+        }
+
+        @Override
+        protected SortedArrayList<OWLEntity> keys() {
+            // an entity can be declared more than once, with different annotations
+            Set<OWLEntity> entities = new HashSet<>();
+            for (OWLAxiom ax : getAllValues()) {
+                entities.add(((OWLDeclarationAxiom) ax).getEntity());
+            }
+            return new SortedArrayList<>(entities);
+        }
+
+        @Override
+        public List<OWLDeclarationAxiom> getAllValues() {
+            return new AxiomList<>(store, new Range(store.typeStart(AxiomType.DECLARATION),
+                store.typeEnd(AxiomType.DECLARATION)));
+        }
+
+        @Override
+        public int size() {
+            return getAllValues().size();
+        }
+    }
+}
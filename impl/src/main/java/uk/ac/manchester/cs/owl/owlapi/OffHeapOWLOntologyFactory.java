@@ -0,0 +1,218 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+
+import javax.annotation.Nonnull;
+
+import org.semanticweb.owlapi.formats.RDFXMLDocumentFormat;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDocumentFormat;
+import org.semanticweb.owlapi.model.OWLImportsDeclaration;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyAlreadyExistsException;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyFactory;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An ontology factory that keeps loaded ontologies in memory mapped files. The first time a
+ * document is loaded, it is parsed by the delegate factory and written to an
+ * {@link OffHeapAxiomStore} in the store directory; the parsed ontology is then replaced in the
+ * manager by an {@link OWLOffHeapOntologyImpl} over the store, and can be collected. Later loads of
+ * the same document open the store directly, without parsing, as long as the store is up to date:
+ * for {@code file} documents, the store must be newer than the document; for {@code http} and
+ * {@code https} documents, the server must answer a conditional {@code HEAD} request, sent with
+ * the time the store was written, with {@code 304 Not Modified}; documents from other schemes must
+ * report a modification time older than the store. Documents whose content is supplied by a reader
+ * or a stream are always parsed. If the store cannot be written, the parsed ontology is kept in
+ * memory.
+ * <p>
+ * Ontologies loaded through this factory are read only. Creating new, empty ontologies is left to
+ * the delegate.
+ *
+ * @since 4.7.7
+ */
+public class OffHeapOWLOntologyFactory implements OWLOntologyFactory {
+
+    private static final long serialVersionUID = 40000L;
+    private static final Logger LOGGER = LoggerFactory.getLogger(OffHeapOWLOntologyFactory.class);
+    private static final String SUFFIX = ".owlmap";
+    @Nonnull
+    private final OWLOntologyFactory delegate;
+    @Nonnull
+    private final String directory;
+
+    /**
+     * @param delegate factory used to parse documents and create ontologies
+     * @param directory directory where store files are kept; created if needed
+     */
+    public OffHeapOWLOntologyFactory(@Nonnull OWLOntologyFactory delegate,
+        @Nonnull Path directory) {
+        this.delegate = checkNotNull(delegate, "delegate cannot be null");
+        this.directory = checkNotNull(directory, "directory cannot be null").toString();
+    }
+
+    /**
+     * @param documentIRI document IRI
+     * @return the store file for the document
+     */
+    public Path getStoreFile(@Nonnull IRI documentIRI) {
+        String name = UUID.nameUUIDFromBytes(
+            documentIRI.toString().getBytes(StandardCharsets.UTF_8)).toString();
+        return Paths.get(directory, name + SUFFIX);
+    }
+
+    @Override
+    public boolean canCreateFromDocumentIRI(@Nonnull IRI documentIRI) {
+        return delegate.canCreateFromDocumentIRI(documentIRI);
+    }
+
+    @Override
+    public OWLOntology createOWLOntology(@Nonnull OWLOntologyManager manager,
+        @Nonnull OWLOntologyID ontologyID, @Nonnull IRI documentIRI,
+        @Nonnull OWLOntologyCreationHandler handler) throws OWLOntologyCreationException {
+        return delegate.createOWLOntology(manager, ontologyID, documentIRI, handler);
+    }
+
+    @Override
+    public boolean canLoad(@Nonnull OWLOntologyDocumentSource documentSource) {
+        return delegate.canLoad(documentSource);
+    }
+
+    @Override
+    public OWLOntology loadOWLOntology(@Nonnull OWLOntologyManager manager,
+        @Nonnull OWLOntologyDocumentSource documentSource,
+        @Nonnull OWLOntologyCreationHandler handler,
+        @Nonnull OWLOntologyLoaderConfiguration configuration) throws OWLOntologyCreationException {
+        IRI documentIRI = documentSource.getDocumentIRI();
+        Path file = getStoreFile(documentIRI);
+        if (isUpToDate(documentSource, file, configuration)) {
+            try {
+                return open(manager, OffHeapAxiomStore.open(file, manager.getOWLDataFactory()),
+                    handler, configuration);
+            } catch (IOException e) {
+                LOGGER.warn("Store {} for {} cannot be read, parsing the document again", file,
+                    documentIRI, e);
+            }
+        }
+        OWLOntology parsed =
+            delegate.loadOWLOntology(manager, documentSource, handler, configuration);
+        // punnings are repaired before writing, since the stored ontology cannot be changed
+        if (configuration.shouldRepairIllegalPunnings()
+            && manager instanceof OWLOntologyManagerImpl) {
+            ((OWLOntologyManagerImpl) manager).fixIllegalPunnings(parsed);
+        }
+        OffHeapAxiomStore store;
+        try {
+            Files.createDirectories(file.getParent());
+            OffHeapAxiomStore.write(parsed, file);
+            store = OffHeapAxiomStore.open(file, manager.getOWLDataFactory());
+        } catch (IOException e) {
+            LOGGER.warn("Store {} for {} cannot be written, keeping the ontology in memory", file,
+                documentIRI, e);
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            return parsed;
+        }
+        // replaces the parsed ontology, registered under the same id; format and imports were
+        // recorded by the delegate
+        OWLOntology mapped = new OWLOffHeapOntologyImpl(manager, store);
+        handler.ontologyCreated(mapped);
+        parsed.setOWLOntologyManager(null);
+        return mapped;
+    }
+
+    private static boolean isUpToDate(OWLOntologyDocumentSource documentSource, Path file,
+        OWLOntologyLoaderConfiguration configuration) {
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+        IRI documentIRI = documentSource.getDocumentIRI();
+        String scheme = documentIRI.getScheme();
+        if ("file".equals(scheme)) {
+            try {
+                Path source = Paths.get(documentIRI.toURI());
+                return Files.isRegularFile(source) && Files.getLastModifiedTime(file)
+                    .compareTo(Files.getLastModifiedTime(source)) > 0;
+            } catch (IOException | IllegalArgumentException e) {
+                return false;
+            }
+        }
+        if (documentSource.isReaderAvailable() || documentSource.isInputStreamAvailable()) {
+            return false;
+        }
+        try {
+            long written = Files.getLastModifiedTime(file).toMillis();
+            URLConnection connection = documentIRI.toURI().toURL().openConnection();
+            connection.setConnectTimeout(configuration.getConnectionTimeout());
+            connection.setReadTimeout(configuration.getConnectionTimeout());
+            if (connection instanceof HttpURLConnection) {
+                HttpURLConnection http = (HttpURLConnection) connection;
+                http.setRequestMethod("HEAD");
+                http.setIfModifiedSince(written);
+                try {
+                    return http.getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED;
+                } finally {
+                    http.disconnect();
+                }
+            }
+            // zero if the modification time is unknown
+            long modified = connection.getLastModified();
+            return modified > 0 && modified < written;
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.debug("Cannot check whether {} has changed, parsing it again", documentIRI, e);
+            return false;
+        }
+    }
+
+    private static OWLOntology open(OWLOntologyManager manager, OffHeapAxiomStore store,
+        OWLOntologyCreationHandler handler, OWLOntologyLoaderConfiguration configuration)
+        throws OWLOntologyCreationException {
+        if (manager.contains(store.getOntologyID())) {
+            throw new OWLOntologyAlreadyExistsException(store.getOntologyID());
+        }
+        OWLOntology ontology = new OWLOffHeapOntologyImpl(manager, store);
+        handler.ontologyCreated(ontology);
+        OWLDocumentFormat format = store.getFormat();
+        handler.setOntologyFormat(ontology, format == null ? new RDFXMLDocumentFormat() : format);
+        for (OWLImportsDeclaration declaration : store.getImportsDeclarations()) {
+            manager.makeLoadImportRequest(declaration, configuration);
+        }
+        return ontology;
+    }
+
+    @Override
+    public void setLock(ReadWriteLock lock) {
+        delegate.setLock(lock);
+    }
+}
@@ -96,7 +96,12 @@ public class SWRLRuleImpl extends OWLLogicalAxiomImplWithEntityAndAnonCaching
         if (!isAnnotated()) {
             return this;
         }
-        return new SWRLRuleImpl(getBody(), getHead(), NO_ANNOTATIONS);
+        SWRLRule axiom = cachedAxiomWithoutAnnotations();
+        if (axiom == null) {
+            axiom = cacheAxiomWithoutAnnotations(
+                new SWRLRuleImpl(getBody(), getHead(), NO_ANNOTATIONS));
+        }
+        return axiom;
     }
 
     @Override
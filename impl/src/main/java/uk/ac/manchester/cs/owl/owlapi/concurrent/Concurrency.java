@@ -8,6 +8,8 @@ package uk.ac.manchester.cs.owl.owlapi.concurrent;
 public enum Concurrency {
     /** Concurrent implementation. */
     CONCURRENT,
+    /** Concurrent implementation with optimistic reads for short queries. */
+    OPTIMISTIC,
     /** Non concurrent implementation. */
     NON_CONCURRENT
 }
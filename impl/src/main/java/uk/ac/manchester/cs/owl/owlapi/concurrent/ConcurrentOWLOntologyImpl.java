@@ -4,13 +4,21 @@ import static org.semanticweb.owlapi.util.OWLAPIPreconditions.verifyNotNull;
 
 import java.io.OutputStream;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BooleanSupplier;
 import java.util.function.IntSupplier;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
@@ -104,15 +112,34 @@ import org.semanticweb.owlapi.model.parameters.Imports;
 import org.semanticweb.owlapi.model.parameters.Navigation;
 import org.semanticweb.owlapi.util.OWLAxiomSearchFilter;
 
+import uk.ac.manchester.cs.owl.owlapi.HasEagerIndexes;
+import uk.ac.manchester.cs.owl.owlapi.HasSnapshot;
 import uk.ac.manchester.cs.owl.owlapi.HasTrimToSize;
+import uk.ac.manchester.cs.owl.owlapi.OWLFrozenOntologyImpl;
 
 /**
  * Matthew Horridge Stanford Center for Biomedical Informatics Research 03/04/15
  */
-public class ConcurrentOWLOntologyImpl implements OWLMutableOntology, HasTrimToSize {
+public class ConcurrentOWLOntologyImpl
+    implements OWLMutableOntology, HasTrimToSize, HasEagerIndexes, HasSnapshot {
 
     private final OWLOntology delegate;
     private ReadWriteLock lock;
+    private final AtomicLong version = new AtomicLong();
+    /** Snapshot of the current version, if one was taken; writes discard it. */
+    private volatile Snapshot latest;
+
+    private static class Snapshot {
+
+        final long version;
+        @Nonnull
+        final OWLOntology ontology;
+
+        Snapshot(long version, OWLOntology ontology) {
+            this.version = version;
+            this.ontology = ontology;
+        }
+    }
 
     /**
      * Constructs a ConcurrentOWLOntology that provides concurrent access to a delegate
@@ -141,6 +168,7 @@ public class ConcurrentOWLOntologyImpl implements OWLMutableOntology, HasTrimToS
         try {
             return t.get();
         } finally {
+            newVersion();
             writeLock.unlock();
         }
     }
@@ -151,10 +179,57 @@ public class ConcurrentOWLOntologyImpl implements OWLMutableOntology, HasTrimToS
         try {
             t.run();
         } finally {
+            newVersion();
             writeLock.unlock();
         }
     }
 
+    private void newVersion() {
+        latest = null;
+        version.incrementAndGet();
+    }
+
+    @Override
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * The snapshot is copied from the delegate under the read lock, once per version; readers can
+     * then use it for as long as they need while writers create new versions. A snapshot taken by
+     * a thread holding the write lock can see a change in progress, so it is not cached.
+     */
+    @Override
+    public OWLOntology snapshot() {
+        if (isWriteLockedByCurrentThread()) {
+            return new OWLFrozenOntologyImpl(delegate.getOWLOntologyManager(), delegate);
+        }
+        Snapshot current = latest;
+        if (current != null && current.version == version.get()) {
+            return current.ontology;
+        }
+        return withReadLock(() -> {
+            Snapshot s = latest;
+            long v = version.get();
+            if (s == null || s.version != v) {
+                s = new Snapshot(v,
+                    new OWLFrozenOntologyImpl(delegate.getOWLOntologyManager(), delegate));
+                latest = s;
+            }
+            return s.ontology;
+        });
+    }
+
+    private boolean isWriteLockedByCurrentThread() {
+        if (lock instanceof ReentrantReadWriteLock) {
+            return ((ReentrantReadWriteLock) lock).isWriteLockedByCurrentThread();
+        }
+        if (lock instanceof OptimisticReadWriteLock) {
+            return ((OptimisticReadWriteLock) lock).isWriteLockedByCurrentThread();
+        }
+        return false;
+    }
+
     private <T> T withReadLock(Supplier<T> t) {
         Lock readLock = lock.readLock();
         readLock.lock();
@@ -165,7 +240,35 @@ public class ConcurrentOWLOntologyImpl implements OWLMutableOntology, HasTrimToS
         }
     }
 
+    private void callWithReadLock(Runnable t) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            t.run();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Streams are lazy, so they cannot be consumed inside the read lock; unless locking is disabled,
+     * the stream contents are collected while the lock is held.
+     */
+    private <T> Stream<T> streamWithReadLock(Supplier<Stream<T>> t) {
+        if (lock instanceof NoOpReadWriteLock) {
+            return t.get();
+        }
+        return withReadLock(() -> t.get().collect(Collectors.toList())).stream();
+    }
+
+    /**
+     * Boolean and int queries are short; with an {@link OptimisticReadWriteLock}, they are run
+     * without locking first.
+     */
     private boolean withBooleanReadLock(BooleanSupplier t) {
+        if (lock instanceof OptimisticReadWriteLock) {
+            return ((OptimisticReadWriteLock) lock).readBoolean(t);
+        }
         Lock readLock = lock.readLock();
         readLock.lock();
         try {
@@ -176,6 +279,9 @@ public class ConcurrentOWLOntologyImpl implements OWLMutableOntology, HasTrimToS
     }
 
     private int withIntReadLock(IntSupplier t) {
+        if (lock instanceof OptimisticReadWriteLock) {
+            return ((OptimisticReadWriteLock) lock).readInt(t);
+        }
         Lock readLock = lock.readLock();
         readLock.lock();
         try {
@@ -211,6 +317,60 @@ public class ConcurrentOWLOntologyImpl implements OWLMutableOntology, HasTrimToS
         }
     }
 
+    @Override
+    public Map<String, Long> buildIndexes(Executor executor) {
+        if (delegate instanceof HasEagerIndexes) {
+            // building indexes does not change the ontology; only writers are kept out
+            return withReadLock(() -> ((HasEagerIndexes) delegate).buildIndexes(executor));
+        }
+        return Collections.emptyMap();
+    }
+
+    @Override
+    public Stream<OWLAxiom> axioms() {
+        return streamWithReadLock(delegate::axioms);
+    }
+
+    @Override
+    public <T extends OWLAxiom> Stream<T> axioms(AxiomType<T> axiomType) {
+        return streamWithReadLock(() -> delegate.axioms(axiomType));
+    }
+
+    @Override
+    public <T extends OWLAxiom> void forEachAxiom(AxiomType<T> axiomType, Imports imports,
+        Consumer<? super T> action) {
+        if (imports == Imports.EXCLUDED) {
+            callWithReadLock(() -> delegate.forEachAxiom(axiomType, imports, action));
+        } else {
+            for (OWLOntology o : getImportsClosure()) {
+                o.forEachAxiom(axiomType, Imports.EXCLUDED, action);
+            }
+        }
+    }
+
+    @Override
+    public Stream<OWLAxiom> referencingAxioms(OWLPrimitive owlEntity, Imports imports) {
+        if (imports == Imports.EXCLUDED) {
+            return streamWithReadLock(() -> delegate.referencingAxioms(owlEntity, imports));
+        }
+        return importsClosure().flatMap(o -> o.referencingAxioms(owlEntity, Imports.EXCLUDED));
+    }
+
+    @Override
+    public <T extends OWLAxiom> Stream<T> axioms(Class<T> type,
+        Class<? extends OWLObject> explicitClass, OWLObject entity, Navigation forSubPosition) {
+        return streamWithReadLock(
+            () -> delegate.axioms(type, explicitClass, entity, forSubPosition));
+    }
+
+    @Override
+    public <T extends OWLAxiom> void forEachAxiom(Class<T> type,
+        Class<? extends OWLObject> explicitClass, OWLObject entity, Navigation forSubPosition,
+        Consumer<? super T> action) {
+        callWithReadLock(
+            () -> delegate.forEachAxiom(type, explicitClass, entity, forSubPosition, action));
+    }
+
     @Override
     public void accept(@Nonnull OWLNamedObjectVisitor owlNamedObjectVisitor) {
         delegate.accept(owlNamedObjectVisitor);
@@ -1403,6 +1563,11 @@ public class ConcurrentOWLOntologyImpl implements OWLMutableOntology, HasTrimToS
         return withWriteLock(() -> getMutableOntology().addAxioms(set));
     }
 
+    @Override
+    public List<OWLAxiom> addAxiomsInBulk(Collection<? extends OWLAxiom> axioms) {
+        return withWriteLock(() -> getMutableOntology().addAxiomsInBulk(axioms));
+    }
+
     private OWLMutableOntology getMutableOntology() {
         return (OWLMutableOntology) delegate;
     }
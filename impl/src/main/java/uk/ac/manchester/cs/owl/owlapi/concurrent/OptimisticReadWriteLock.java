@@ -0,0 +1,180 @@
+package uk.ac.manchester.cs.owl.owlapi.concurrent;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A reentrant read write lock that also supports optimistic reads. Writers and pessimistic readers
+ * are excluded by a {@link ReentrantReadWriteLock}, so the lock can be shared by a manager and its
+ * ontologies and acquired again by the thread that holds it. While a thread holds the write lock it
+ * also holds the write mode of a {@link StampedLock}. Optimistic readers run a query without
+ * locking and check the stamp afterwards. If a writer was active, the query is run again under the
+ * read lock. An optimistic read writes no shared state, so readers on different cores do not
+ * contend for the reader count of the lock.
+ * <p>
+ * Only queries that read the ontology and return a value computed from it should be run
+ * optimistically: they can observe a write in progress, and their result is discarded if so.
+ * Exceptions thrown while a write was in progress are discarded as well.
+ *
+ * @since 4.7.7
+ */
+public class OptimisticReadWriteLock implements ReadWriteLock, Serializable {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final StampedLock stampedLock = new StampedLock();
+    private final WriteLock writeLock = new WriteLock();
+
+    @Override
+    @Nonnull
+    public Lock readLock() {
+        return lock.readLock();
+    }
+
+    @Override
+    @Nonnull
+    public Lock writeLock() {
+        return writeLock;
+    }
+
+    /**
+     * @return true if the current thread holds the read or the write lock
+     */
+    public boolean isHeldByCurrentThread() {
+        return lock.isWriteLockedByCurrentThread() || lock.getReadHoldCount() > 0;
+    }
+
+    /**
+     * @return true if the current thread holds the write lock
+     */
+    public boolean isWriteLockedByCurrentThread() {
+        return lock.isWriteLockedByCurrentThread();
+    }
+
+    /**
+     * @param query query to run
+     * @return the query result, computed without locking if no writer was active
+     */
+    public boolean readBoolean(BooleanSupplier query) {
+        long stamp = stampedLock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                boolean result = query.getAsBoolean();
+                if (stampedLock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                if (stampedLock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return query.getAsBoolean();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * @param query query to run
+     * @return the query result, computed without locking if no writer was active
+     */
+    public int readInt(IntSupplier query) {
+        long stamp = stampedLock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                int result = query.getAsInt();
+                if (stampedLock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                if (stampedLock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return query.getAsInt();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Write lock: the outermost acquisition by a thread also takes the write mode of the stamped
+     * lock, and the last release gives it back. The stamped lock is only taken by threads that
+     * hold the reentrant write lock, so taking it never blocks.
+     */
+    private class WriteLock implements Lock, Serializable {
+
+        private transient long stamp;
+
+        private void acquired() {
+            if (lock.getWriteHoldCount() == 1) {
+                stamp = stampedLock.writeLock();
+            }
+        }
+
+        @Override
+        public void lock() {
+            lock.writeLock().lock();
+            acquired();
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            lock.writeLock().lockInterruptibly();
+            acquired();
+        }
+
+        @Override
+        public boolean tryLock() {
+            if (lock.writeLock().tryLock()) {
+                acquired();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            if (lock.writeLock().tryLock(time, unit)) {
+                acquired();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void unlock() {
+            if (lock.getWriteHoldCount() == 1) {
+                stampedLock.unlockWrite(stamp);
+            }
+            lock.writeLock().unlock();
+        }
+
+        /**
+         * Waiting on a condition would release the write lock but not the stamped lock, so
+         * conditions are not supported.
+         */
+        @Override
+        @Nonnull
+        public Condition newCondition() {
+            throw new UnsupportedOperationException(
+                "Conditions are not supported by optimistic locks");
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package uk.ac.manchester.cs.owl.owlapi.util.collections;
+
+import java.util.Collection;
+
+/**
+ * An {@link OpenHashSet} that compares elements by reference, for values that are known to be
+ * canonical instances.
+ *
+ * @param <T> set element type
+ */
+public class IdentityOpenHashSet<T> extends OpenHashSet<T> {
+
+    /**
+     * default constructor
+     */
+    public IdentityOpenHashSet() {
+        super();
+    }
+
+    /**
+     * @param expectedSize number of elements the set should hold without growing
+     */
+    public IdentityOpenHashSet(int expectedSize) {
+        super(expectedSize);
+    }
+
+    /**
+     * @param collection collection to copy
+     */
+    public IdentityOpenHashSet(Collection<? extends T> collection) {
+        super(collection.size());
+        addAll(collection);
+    }
+
+    @Override
+    protected int hash(Object o) {
+        return System.identityHashCode(o);
+    }
+
+    @Override
+    protected boolean same(Object stored, Object o) {
+        return stored == o;
+    }
+}
@@ -0,0 +1,150 @@
+package uk.ac.manchester.cs.owl.owlapi.util.collections;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A sorted, duplicate free list of non negative ints backed by a single array. Ids handed out in
+ * increasing order are appended in constant time; other insertions and removals shift the tail of
+ * the array. Lookups are binary searches.
+ */
+public class IntPostingList {
+
+    private static final int[] EMPTY = new int[0];
+    private int[] ids;
+    private int size;
+
+    /**
+     * default constructor
+     */
+    public IntPostingList() {
+        this(4);
+    }
+
+    /**
+     * @param initialCapacity initial capacity
+     */
+    public IntPostingList(int initialCapacity) {
+        ids = initialCapacity == 0 ? EMPTY : new int[initialCapacity];
+    }
+
+    /**
+     * @param id id to add
+     * @return true if the id was not already present
+     */
+    public boolean add(int id) {
+        if (size == 0 || ids[size - 1] < id) {
+            ensureCapacity(size + 1);
+            ids[size++] = id;
+            return true;
+        }
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position >= 0) {
+            return false;
+        }
+        int insertion = -position - 1;
+        ensureCapacity(size + 1);
+        System.arraycopy(ids, insertion, ids, insertion + 1, size - insertion);
+        ids[insertion] = id;
+        size++;
+        return true;
+    }
+
+    /**
+     * @param id id to remove
+     * @return true if the id was present
+     */
+    public boolean remove(int id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position < 0) {
+            return false;
+        }
+        System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+        size--;
+        return true;
+    }
+
+    /**
+     * @param id id to look up
+     * @return true if the id is present
+     */
+    public boolean contains(int id) {
+        return id >= 0 && Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    /**
+     * @param index position in the list
+     * @return id at the position
+     */
+    public int get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        return ids[index];
+    }
+
+    /**
+     * @return number of ids
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return iterator over the ids, in increasing order
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public int nextInt() {
+                if (next >= size) {
+                    throw new NoSuchElementException("No Next Element");
+                }
+                return ids[next++];
+            }
+        };
+    }
+
+    /**
+     * @return the ids, as a new array
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    /**
+     * Shrink the backing array to the number of ids contained.
+     */
+    public void trimToSize() {
+        if (ids.length > size) {
+            ids = size == 0 ? EMPTY : Arrays.copyOf(ids, size);
+        }
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (ids.length < minCapacity) {
+            ids = Arrays.copyOf(ids, Math.max(minCapacity, ids.length + (ids.length >> 1) + 1));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
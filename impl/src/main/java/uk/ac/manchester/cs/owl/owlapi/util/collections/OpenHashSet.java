@@ -0,0 +1,333 @@
+package uk.ac.manchester.cs.owl.owlapi.util.collections;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+/**
+ * A compact set backed by a single array. Up to {@link #LINEAR_LIMIT} elements are stored densely
+ * and found by linear scan, growing the array one step at a time; larger sets switch to open
+ * addressing with linear probing, in a power of two table at most three quarters full. Removals
+ * shift entries back rather than leaving tombstones, so a table never degrades. Elements are
+ * compared with {@link Object#equals(Object)} and {@link Object#hashCode()}; subclasses can change
+ * the comparison, see {@link IdentityOpenHashSet}. Null elements are not allowed. Iterators do not
+ * support removal; bulk removals rebuild the set. Not thread safe.
+ *
+ * @param <T> set element type
+ */
+public class OpenHashSet<T> extends AbstractSet<T> {
+
+    /** Sets up to this size are stored without hashing. */
+    public static final int LINEAR_LIMIT = 8;
+    private static final Object[] EMPTY = new Object[0];
+    private Object[] table;
+    private int size;
+    private boolean hashed;
+    private int modifications;
+
+    /**
+     * default constructor
+     */
+    public OpenHashSet() {
+        table = EMPTY;
+    }
+
+    /**
+     * @param expectedSize number of elements the set should hold without growing
+     */
+    public OpenHashSet(int expectedSize) {
+        if (expectedSize <= LINEAR_LIMIT) {
+            table = expectedSize == 0 ? EMPTY : new Object[expectedSize];
+        } else {
+            table = new Object[tableSize(expectedSize)];
+            hashed = true;
+        }
+    }
+
+    /**
+     * @param collection collection to copy
+     */
+    public OpenHashSet(Collection<? extends T> collection) {
+        this(collection.size());
+        addAll(collection);
+    }
+
+    /**
+     * @param o element
+     * @return hash code used to place the element
+     */
+    protected int hash(Object o) {
+        return o.hashCode();
+    }
+
+    /**
+     * @param stored element in the set
+     * @param o element looked up
+     * @return true if the elements are the same for this set
+     */
+    protected boolean same(Object stored, Object o) {
+        return stored == o || stored.equals(o);
+    }
+
+    private static int tableSize(int size) {
+        int capacity = Integer.highestOneBit(Math.max(size * 4 / 3, 2) * 2 - 1);
+        // keep the table at most three quarters full
+        while (capacity * 3 / 4 < size) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int mix(int h) {
+        // spread the bits, as hash codes of similar objects tend to share low bits
+        int x = h * 0x9E3779B9;
+        return x ^ (x >>> 16);
+    }
+
+    private int slot(Object o) {
+        int mask = table.length - 1;
+        int index = mix(hash(o)) & mask;
+        Object stored;
+        while ((stored = table[index]) != null) {
+            if (same(stored, o)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -index - 1;
+    }
+
+    private int denseIndex(Object o) {
+        for (int index = 0; index < size; index++) {
+            if (same(table[index], o)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(@Nullable Object o) {
+        if (o == null || size == 0) {
+            return false;
+        }
+        return hashed ? slot(o) >= 0 : denseIndex(o) >= 0;
+    }
+
+    @Override
+    public boolean add(T t) {
+        if (t == null) {
+            throw new NullPointerException("OpenHashSet cannot store null values");
+        }
+        if (!hashed) {
+            if (denseIndex(t) >= 0) {
+                return false;
+            }
+            if (size < LINEAR_LIMIT) {
+                if (size == table.length) {
+                    // small sets grow one step at a time; beyond four, by half
+                    table = Arrays.copyOf(table, size < 4 ? size + 1 : Math.min(LINEAR_LIMIT,
+                        size + (size >> 1)));
+                }
+                table[size++] = t;
+                modifications++;
+                return true;
+            }
+            rehash(tableSize(size + 1));
+        }
+        int index = slot(t);
+        if (index >= 0) {
+            return false;
+        }
+        if (size + 1 > table.length * 3 / 4) {
+            rehash(table.length << 1);
+            index = slot(t);
+        }
+        table[-index - 1] = t;
+        size++;
+        modifications++;
+        return true;
+    }
+
+    private void rehash(int capacity) {
+        Object[] old = table;
+        boolean wasHashed = hashed;
+        table = new Object[capacity];
+        hashed = true;
+        int mask = capacity - 1;
+        int limit = wasHashed ? old.length : size;
+        for (int i = 0; i < limit; i++) {
+            Object o = old[i];
+            if (o != null) {
+                int index = mix(hash(o)) & mask;
+                while (table[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                table[index] = o;
+            }
+        }
+    }
+
+    @Override
+    public boolean remove(@Nullable Object o) {
+        if (o == null || size == 0) {
+            return false;
+        }
+        if (!hashed) {
+            int index = denseIndex(o);
+            if (index < 0) {
+                return false;
+            }
+            table[index] = table[--size];
+            table[size] = null;
+            modifications++;
+            return true;
+        }
+        int index = slot(o);
+        if (index < 0) {
+            return false;
+        }
+        deleteSlot(index);
+        size--;
+        modifications++;
+        return true;
+    }
+
+    /** Backward shift deletion: moves later entries of the probe sequence into the hole. */
+    private void deleteSlot(int hole) {
+        int mask = table.length - 1;
+        int gap = hole;
+        int index = (gap + 1) & mask;
+        Object o;
+        while ((o = table[index]) != null) {
+            int home = mix(hash(o)) & mask;
+            // move the entry if its home slot is not in the cyclic range (gap, index]
+            if (((index - home) & mask) >= ((index - gap) & mask)) {
+                table[gap] = o;
+                gap = index;
+            }
+            index = (index + 1) & mask;
+        }
+        table[gap] = null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        Object[] kept = new Object[size];
+        int next = 0;
+        int limit = hashed ? table.length : size;
+        for (int i = 0; i < limit; i++) {
+            Object o = table[i];
+            if (o != null && !filter.test((T) o)) {
+                kept[next++] = o;
+            }
+        }
+        if (next == size) {
+            return false;
+        }
+        clear();
+        for (int i = 0; i < next; i++) {
+            add((T) kept[i]);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return removeIf(c::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return removeIf(o -> !c.contains(o));
+    }
+
+    /**
+     * Shrinks the backing array to the smallest size that holds the current elements: an array of
+     * exactly {@link #size()} elements for small sets, the smallest table within the load factor
+     * otherwise.
+     */
+    public void trimToSize() {
+        if (size <= LINEAR_LIMIT) {
+            Object[] dense = size == 0 ? EMPTY : new Object[size];
+            int next = 0;
+            int limit = hashed ? table.length : size;
+            for (int i = 0; i < limit; i++) {
+                if (table[i] != null) {
+                    dense[next++] = table[i];
+                }
+            }
+            table = dense;
+            hashed = false;
+        } else if (tableSize(size) < table.length) {
+            rehash(tableSize(size));
+        }
+        modifications++;
+    }
+
+    /**
+     * @return length of the backing array
+     */
+    public int capacity() {
+        return table.length;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        table = EMPTY;
+        size = 0;
+        hashed = false;
+        modifications++;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+
+            private final int expectedModifications = modifications;
+            private int index = advance(0);
+
+            private int advance(int from) {
+                if (!hashed) {
+                    return from;
+                }
+                int i = from;
+                while (i < table.length && table[i] == null) {
+                    i++;
+                }
+                return i;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return hashed ? index < table.length : index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (modifications != expectedModifications) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No Next Element");
+                }
+                T t = (T) table[index];
+                index = advance(index + 1);
+                return t;
+            }
+        };
+    }
+}
@@ -10,7 +10,10 @@ import java.util.NoSuchElementException;
  * elements
  * 
  * @param <T> set element type
+ * @deprecated use {@link OpenHashSet}, which stores small sets as densely and does not need
+ *             replacing when it grows
  */
+@Deprecated
 public class SmallSet<T> extends AbstractSet<T> {
 
     T element1;
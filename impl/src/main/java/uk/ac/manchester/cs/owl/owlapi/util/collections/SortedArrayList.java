@@ -0,0 +1,147 @@
+package uk.ac.manchester.cs.owl.owlapi.util.collections;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable, duplicate free list of comparable elements kept in natural order in a single array.
+ * Membership tests are binary searches, so the natural order of the elements must be consistent
+ * with equals. Instances cannot be modified; {@link #asSet()} gives a set view over the same array.
+ *
+ * @param <T> element type; must be comparable to itself
+ */
+public class SortedArrayList<T> extends AbstractList<T> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 40000L;
+    private static final Object[] EMPTY = new Object[0];
+    private final Object[] elements;
+
+    /**
+     * @param collection elements to copy; duplicates are dropped
+     */
+    public SortedArrayList(Collection<? extends T> collection) {
+        Object[] sorted = collection.toArray();
+        Arrays.sort(sorted);
+        int size = 0;
+        // start of the run of kept elements comparing equal to the current one; duplicates can be
+        // anywhere in the run, as elements that compare equal need not be equal
+        int run = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (size > 0 && compare(sorted[size - 1], sorted[i]) != 0) {
+                run = size;
+            }
+            if (!contains(sorted, run, size, sorted[i])) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        elements = size == 0 ? EMPTY : size == sorted.length ? sorted : Arrays.copyOf(sorted, size);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        return (T) elements[index];
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public boolean contains(@Nullable Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public int indexOf(@Nullable Object o) {
+        if (o == null || elements.length == 0) {
+            return -1;
+        }
+        int position;
+        try {
+            position = Arrays.binarySearch(elements, o);
+        } catch (ClassCastException e) {
+            // not comparable with the elements, hence not an element
+            return -1;
+        }
+        if (position < 0) {
+            return -1;
+        }
+        if (elements[position].equals(o)) {
+            return position;
+        }
+        // elements comparing equal to o but not equal to it; o might be among them
+        for (int i = position - 1; i >= 0 && compare(elements[i], o) == 0; i--) {
+            if (elements[i].equals(o)) {
+                return i;
+            }
+        }
+        for (int i = position + 1; i < elements.length && compare(elements[i], o) == 0; i++) {
+            if (elements[i].equals(o)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(@Nullable Object o) {
+        // no duplicates
+        return indexOf(o);
+    }
+
+    private static boolean contains(Object[] array, int from, int to, Object o) {
+        for (int i = from; i < to; i++) {
+            if (array[i].equals(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Object o1, Object o2) {
+        return ((Comparable) o1).compareTo(o2);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return elements.clone();
+    }
+
+    /**
+     * @return an immutable set view of this list; iteration follows the order of the list
+     */
+    public Set<T> asSet() {
+        return new SetView();
+    }
+
+    private class SetView extends AbstractSet<T> implements Serializable {
+
+        private static final long serialVersionUID = 40000L;
+
+        @Override
+        public Iterator<T> iterator() {
+            return SortedArrayList.this.iterator();
+        }
+
+        @Override
+        public int size() {
+            return elements.length;
+        }
+
+        @Override
+        public boolean contains(@Nullable Object o) {
+            return indexOf(o) >= 0;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+
+class AnnotationSetTest {
+
+    private final OWLDataFactory df = new OWLDataFactoryImpl();
+    private final OWLAnnotation xref = df.getOWLAnnotation(
+        df.getOWLAnnotationProperty(IRI.create("urn:test#hasDbXref")), df.getOWLLiteral("GOC:x"));
+    private final OWLAnnotation source =
+        df.getOWLAnnotation(df.getRDFSComment(), df.getOWLLiteral("source"));
+
+    @Test
+    void shouldCopyAnnotationSetsOnRequest() {
+        OWLClass a = df.getOWLClass(IRI.create("urn:test#A"));
+        OWLClass b = df.getOWLClass(IRI.create("urn:test#B"));
+        OWLAxiom first = df.getOWLSubClassOfAxiom(a, b,
+            new LinkedHashSet<>(Arrays.asList(xref, source)));
+        OWLAxiom second = df.getOWLDeclarationAxiom(a,
+            new LinkedHashSet<>(Arrays.asList(source, xref, source)));
+        Set<OWLAnnotation> annotations = first.getAnnotations();
+        assertEquals(annotations, second.getAnnotations());
+        assertEquals(new HashSet<>(Arrays.asList(xref, source)), annotations);
+        assertEquals(annotations, new HashSet<>(Arrays.asList(xref, source)));
+        assertEquals(new HashSet<>(annotations).hashCode(), annotations.hashCode());
+        OWLAnnotation other = df.getOWLAnnotation(df.getRDFSLabel(), df.getOWLLiteral("other"));
+        assertTrue(annotations.add(other));
+        assertEquals(3, annotations.size());
+        assertEquals(new HashSet<>(Arrays.asList(xref, source)), first.getAnnotations());
+        assertEquals(new HashSet<>(Arrays.asList(xref, source)), second.getAnnotations());
+        assertEquals(Collections.emptySet(), first.getAxiomWithoutAnnotations().getAnnotations());
+    }
+
+    @Test
+    void shouldBuildAxiomsWithoutAnnotationsOnce() {
+        OWLClass a = df.getOWLClass(IRI.create("urn:test#A"));
+        OWLAxiom annotated = df.getOWLDeclarationAxiom(a, Collections.singleton(xref));
+        OWLAxiom plain = annotated.getAxiomWithoutAnnotations();
+        assertFalse(plain.isAnnotated());
+        assertSame(plain, annotated.getAxiomWithoutAnnotations());
+        assertSame(plain, plain.getAxiomWithoutAnnotations());
+        assertEquals(df.getOWLDeclarationAxiom(a), plain);
+        assertEquals(Collections.singleton(xref), annotated.getAnnotations());
+        assertEquals(annotated, df.getOWLDeclarationAxiom(a, Collections.singleton(xref)));
+    }
+}
@@ -0,0 +1,186 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.io.IRIDocumentSource;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.semanticweb.owlapi.model.AddImport;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLImportsDeclaration;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLOntologyIRIMapper;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.UnloadableImportException;
+
+import uk.ac.manchester.cs.owl.owlapi.concurrent.ConcurrentOWLOntologyBuilder;
+import uk.ac.manchester.cs.owl.owlapi.concurrent.NonConcurrentOWLOntologyBuilder;
+
+class BatchLoadTest {
+
+    private final OWLDataFactory df = new OWLDataFactoryImpl();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final OWLOntologyManager manager = new OWLOntologyManagerImpl(df, lock);
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+    /** Documents a and b only load if they are parsed at the same time. */
+    private final CyclicBarrier parsing = new CyclicBarrier(2);
+    /** Released once the shared import has started loading. */
+    private final CountDownLatch sharedStarted = new CountDownLatch(1);
+    /** Released by the test to let the shared import finish loading. */
+    private final CountDownLatch sharedReleased = new CountDownLatch(1);
+
+    private static IRI iri(String name) {
+        return IRI.create("urn:test:" + name);
+    }
+
+    /** Factory that loads an empty ontology for every document but the missing one. */
+    private class WaitingFactory extends OWLOntologyFactoryImpl {
+
+        WaitingFactory() {
+            super(new ConcurrentOWLOntologyBuilder(new NonConcurrentOWLOntologyBuilder(), lock));
+        }
+
+        @Override
+        public boolean canLoad(OWLOntologyDocumentSource documentSource) {
+            return true;
+        }
+
+        @Override
+        public OWLOntology loadOWLOntology(OWLOntologyManager m,
+            OWLOntologyDocumentSource documentSource, OWLOntologyCreationHandler handler,
+            OWLOntologyLoaderConfiguration configuration) throws OWLOntologyCreationException {
+            IRI documentIRI = documentSource.getDocumentIRI();
+            if (documentIRI.equals(iri("missing"))) {
+                throw new OWLOntologyCreationException("No document " + documentIRI);
+            }
+            OWLOntology ontology = createOWLOntology(m, new OWLOntologyID(documentIRI, null),
+                documentIRI, handler);
+            m.addAxiom(ontology, df.getOWLDeclarationAxiom(df.getOWLClass(documentIRI)));
+            try {
+                parsing.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+                throw new OWLOntologyCreationException(e);
+            }
+            return ontology;
+        }
+    }
+
+    /** Factory for documents a and b, which both import the shared document. */
+    private class SharingFactory extends OWLOntologyFactoryImpl {
+
+        SharingFactory() {
+            super(new ConcurrentOWLOntologyBuilder(new NonConcurrentOWLOntologyBuilder(), lock));
+        }
+
+        @Override
+        public boolean canLoad(OWLOntologyDocumentSource documentSource) {
+            return true;
+        }
+
+        @Override
+        public OWLOntology loadOWLOntology(OWLOntologyManager m,
+            OWLOntologyDocumentSource documentSource, OWLOntologyCreationHandler handler,
+            OWLOntologyLoaderConfiguration configuration) throws OWLOntologyCreationException {
+            IRI documentIRI = documentSource.getDocumentIRI();
+            OWLOntology ontology = createOWLOntology(m, new OWLOntologyID(documentIRI, null),
+                documentIRI, handler);
+            try {
+                if (documentIRI.equals(iri("shared"))) {
+                    sharedStarted.countDown();
+                    sharedReleased.await(10, TimeUnit.SECONDS);
+                    return ontology;
+                }
+                if (documentIRI.equals(iri("b"))) {
+                    sharedStarted.await(10, TimeUnit.SECONDS);
+                }
+            } catch (InterruptedException e) {
+                throw new OWLOntologyCreationException(e);
+            }
+            OWLImportsDeclaration declaration = df.getOWLImportsDeclaration(iri("shared"));
+            m.applyChange(new AddImport(ontology, declaration));
+            m.makeLoadImportRequest(declaration, configuration);
+            return ontology;
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldLoadDocumentsInParallel() throws Exception {
+        manager.setOntologyFactories(Collections.singleton(new WaitingFactory()));
+        List<OWLOntologyDocumentSource> sources = new ArrayList<>();
+        for (String name : Arrays.asList("a", "missing", "b")) {
+            sources.add(new IRIDocumentSource(iri(name)));
+        }
+        List<CompletableFuture<OWLOntology>> futures = manager
+            .loadOntologiesFromOntologyDocuments(sources, new OWLOntologyLoaderConfiguration(),
+                executor);
+        assertEquals(3, futures.size());
+        OWLOntology a = futures.get(0).get(10, TimeUnit.SECONDS);
+        OWLOntology b = futures.get(2).get(10, TimeUnit.SECONDS);
+        assertEquals(iri("a"), a.getOntologyID().getOntologyIRI().get());
+        assertEquals(iri("b"), b.getOntologyID().getOntologyIRI().get());
+        assertSame(a.getClassesInSignature().iterator().next(), df.getOWLClass(iri("a")));
+        assertEquals(iri("b"), manager.getOntologyDocumentIRI(b));
+        ExecutionException e =
+            assertThrows(ExecutionException.class, () -> futures.get(1).get(10, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof OWLOntologyCreationException);
+        assertEquals(2, manager.getOntologies().size());
+    }
+
+    @Test
+    void shouldForgetImportsThatFailedToLoad() {
+        OWLOntologyManagerImpl m = new OWLOntologyManagerImpl(df, lock);
+        m.setOntologyFactories(Collections.singleton(new WaitingFactory()));
+        m.getIRIMappers().add((OWLOntologyIRIMapper) i -> i);
+        assertThrows(UnloadableImportException.class, () -> m
+            .makeLoadImportRequest(df.getOWLImportsDeclaration(iri("missing"))));
+        assertFalse(m.importedIRIs.containsKey(iri("missing")));
+    }
+
+    @Test
+    void shouldWaitForImportsLoadedByOtherDocuments() throws Exception {
+        manager.setOntologyFactories(Collections.singleton(new SharingFactory()));
+        manager.getIRIMappers().add((OWLOntologyIRIMapper) i -> i);
+        List<CompletableFuture<OWLOntology>> futures =
+            manager.loadOntologiesFromOntologyDocuments(
+                Arrays.asList(new IRIDocumentSource(iri("a")), new IRIDocumentSource(iri("b"))),
+                new OWLOntologyLoaderConfiguration(), executor);
+        sharedStarted.await(10, TimeUnit.SECONDS);
+        // b skips the import that a is loading, but its future waits for it
+        assertThrows(TimeoutException.class, () -> futures.get(1).get(200, TimeUnit.MILLISECONDS));
+        sharedReleased.countDown();
+        OWLOntology a = futures.get(0).get(10, TimeUnit.SECONDS);
+        OWLOntology b = futures.get(1).get(10, TimeUnit.SECONDS);
+        assertEquals(2, a.getImportsClosure().size());
+        assertEquals(2, b.getImportsClosure().size());
+        assertEquals(3, manager.getOntologies().size());
+    }
+}
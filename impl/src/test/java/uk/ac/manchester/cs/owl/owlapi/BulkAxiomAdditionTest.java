@@ -0,0 +1,69 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static uk.ac.manchester.cs.owl.owlapi.TestClasses.c;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.AddAxiom;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.parameters.ChangeApplied;
+
+import uk.ac.manchester.cs.owl.owlapi.concurrent.ConcurrentOWLOntologyBuilder;
+import uk.ac.manchester.cs.owl.owlapi.concurrent.NonConcurrentOWLOntologyBuilder;
+
+class BulkAxiomAdditionTest {
+
+    private final OWLDataFactory df = new OWLDataFactoryImpl();
+
+    @Test
+    void shouldAddAxiomsWithOneChangeEventAndConsistentIndexes()
+        throws OWLOntologyCreationException {
+        ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        OWLOntologyManager manager = new OWLOntologyManagerImpl(df, lock);
+        manager.setOntologyFactories(Collections.singleton(new OWLOntologyFactoryImpl(
+            new ConcurrentOWLOntologyBuilder(new NonConcurrentOWLOntologyBuilder(), lock))));
+        OWLOntology ontology = manager.createOntology(IRI.create("urn:test:bulk"));
+        manager.addAxiom(ontology, df.getOWLSubClassOfAxiom(c(1), c(0)));
+        // build a lazy index and the signature before the batch
+        assertEquals(1, ontology.getSubClassAxiomsForSubClass(c(1)).size());
+        assertEquals(2, ontology.getClassesInSignature().size());
+        List<List<? extends OWLOntologyChange>> events = new ArrayList<>();
+        manager.addOntologyChangeListener(events::add);
+        List<OWLAxiom> axioms = new ArrayList<>();
+        for (int i = 1; i < 1000; i++) {
+            axioms.add(df.getOWLSubClassOfAxiom(c(i), c(i - 1)));
+            axioms.add(df.getOWLDeclarationAxiom(c(i)));
+        }
+        assertEquals(ChangeApplied.SUCCESSFULLY, manager.addAxiomsInBulk(ontology, axioms));
+        assertEquals(1, events.size());
+        // the subclass axiom for C1 was already there
+        assertEquals(axioms.size() - 1, events.get(0).size());
+        assertEquals(new AddAxiom(ontology, df.getOWLDeclarationAxiom(c(1))),
+            events.get(0).get(0));
+        assertEquals(axioms.size(), ontology.getAxiomCount());
+        assertEquals(999, ontology.getAxiomCount(AxiomType.SUBCLASS_OF));
+        assertEquals(1, ontology.getSubClassAxiomsForSubClass(c(500)).size());
+        assertEquals(1, ontology.getSubClassAxiomsForSuperClass(c(500)).size());
+        assertTrue(ontology.isDeclared(c(999)));
+        List<OWLClass> classes = new ArrayList<>(ontology.getClassesInSignature());
+        assertEquals(1000, classes.size());
+        List<OWLClass> sorted = new ArrayList<>(classes);
+        Collections.sort(sorted);
+        assertEquals(sorted, classes);
+        assertEquals(ChangeApplied.NO_OPERATION, manager.addAxiomsInBulk(ontology, axioms));
+    }
+}
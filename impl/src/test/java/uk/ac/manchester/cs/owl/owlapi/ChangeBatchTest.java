@@ -0,0 +1,150 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static uk.ac.manchester.cs.owl.owlapi.TestClasses.c;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.change.OWLOntologyChangeBatch;
+import org.semanticweb.owlapi.model.AddAxiom;
+import org.semanticweb.owlapi.model.AddOntologyAnnotation;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.RemoveAxiom;
+import org.semanticweb.owlapi.model.parameters.ChangeApplied;
+import org.semanticweb.owlapi.util.OWLEntityRenamer;
+
+import uk.ac.manchester.cs.owl.owlapi.concurrent.ConcurrentOWLOntologyBuilder;
+import uk.ac.manchester.cs.owl.owlapi.concurrent.NonConcurrentOWLOntologyBuilder;
+
+class ChangeBatchTest {
+
+    private final OWLDataFactory df = new OWLDataFactoryImpl();
+
+    private OWLOntologyManager manager() {
+        ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        OWLOntologyManager manager = new OWLOntologyManagerImpl(df, lock);
+        manager.setOntologyFactories(Collections.singleton(new OWLOntologyFactoryImpl(
+            new ConcurrentOWLOntologyBuilder(new NonConcurrentOWLOntologyBuilder(), lock))));
+        return manager;
+    }
+
+    @Test
+    void shouldCreateChangesOnAccess() throws OWLOntologyCreationException {
+        OWLOntologyManager manager = manager();
+        OWLOntology o1 = manager.createOntology(IRI.create("urn:test:o1"));
+        OWLOntology o2 = manager.createOntology(IRI.create("urn:test:o2"));
+        OWLAxiom a1 = df.getOWLSubClassOfAxiom(c(1), c(0));
+        OWLAxiom a2 = df.getOWLSubClassOfAxiom(c(2), c(0));
+        AddOntologyAnnotation annotation = new AddOntologyAnnotation(o2,
+            df.getOWLAnnotation(df.getRDFSComment(), df.getOWLLiteral("comment")));
+        OWLOntologyChangeBatch batch = new OWLOntologyChangeBatch(1);
+        batch.addAxiom(o1, a1).removeAxiom(o1, a2);
+        assertSame(o1, batch.getOntology(1));
+        batch.add(new AddAxiom(o2, a2));
+        batch.add(annotation);
+        assertEquals(Arrays.asList(new AddAxiom(o1, a1), new RemoveAxiom(o1, a2),
+            new AddAxiom(o2, a2), annotation), batch);
+        assertSame(o1, batch.getOntology(0));
+        assertSame(o2, batch.getOntology(2));
+        assertTrue(batch.isAxiomChange(2));
+        assertFalse(batch.isAxiomChange(3));
+        assertSame(a2, batch.getAxiom(1));
+        assertSame(annotation, batch.get(3));
+        assertThrows(IllegalStateException.class, () -> batch.getAxiom(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.get(4));
+        batch.trimToSize();
+        assertEquals(4, batch.size());
+        assertEquals(new AddAxiom(o2, a2), batch.get(2));
+        batch.clear();
+        assertTrue(batch.isEmpty());
+        batch.addAxiom(o2, a1);
+        assertSame(o2, batch.getOntology(0));
+    }
+
+    @Test
+    void shouldReplaceRemoveAndCopyChanges() throws OWLOntologyCreationException {
+        OWLOntologyManager manager = manager();
+        OWLOntology o1 = manager.createOntology(IRI.create("urn:test:o1"));
+        OWLOntology o2 = manager.createOntology(IRI.create("urn:test:o2"));
+        OWLAxiom a1 = df.getOWLSubClassOfAxiom(c(1), c(0));
+        OWLAxiom a2 = df.getOWLSubClassOfAxiom(c(2), c(0));
+        OWLOntologyChangeBatch batch = new OWLOntologyChangeBatch();
+        batch.addAxiom(o1, a1).addAxiom(o1, a2).removeAxiom(o1, a1);
+        assertEquals(new AddAxiom(o1, a2), batch.set(1, new RemoveAxiom(o2, a2)));
+        assertSame(o2, batch.getOntology(1));
+        assertSame(o1, batch.getOntology(2));
+        assertEquals(new AddAxiom(o1, a1), batch.remove(0));
+        assertEquals(Arrays.asList(new RemoveAxiom(o2, a2), new RemoveAxiom(o1, a1)), batch);
+        OWLOntologyChangeBatch copy = new OWLOntologyChangeBatch(batch);
+        copy.addAll(batch);
+        assertEquals(4, copy.size());
+        assertSame(a2, copy.getAxiom(2));
+        assertSame(o1, copy.getOntology(3));
+    }
+
+    @Test
+    void shouldRenameWithBatches() throws OWLOntologyCreationException {
+        OWLOntologyManager manager = manager();
+        OWLOntology o = manager.createOntology(IRI.create("urn:test:o1"));
+        manager.addAxiom(o, df.getOWLSubClassOfAxiom(c(1), c(0)));
+        manager.addAxiom(o, df.getOWLSubClassOfAxiom(c(2), c(0)));
+        List<OWLOntologyChange> changes = new OWLEntityRenamer(manager, Collections.singleton(o))
+            .changeIRI(c(0), c(3).getIRI());
+        assertTrue(changes instanceof OWLOntologyChangeBatch);
+        assertEquals(4, changes.size());
+        // callers can still edit the list before applying it
+        changes.remove(3);
+        changes.remove(2);
+        manager.applyChanges(changes);
+        assertEquals(1, o.getReferencingAxioms(c(0)).size());
+        assertEquals(1, o.getReferencingAxioms(c(3)).size());
+        assertEquals(2, o.getAxiomCount());
+    }
+
+    @Test
+    void shouldApplyBatchAndReportOnlyAppliedChanges() throws OWLOntologyCreationException {
+        OWLOntologyManager manager = manager();
+        OWLOntology o1 = manager.createOntology(IRI.create("urn:test:o1"));
+        OWLOntology o2 = manager.createOntology(IRI.create("urn:test:o2"));
+        manager.addAxiom(o1, df.getOWLSubClassOfAxiom(c(1), c(0)));
+        List<List<? extends OWLOntologyChange>> events = new ArrayList<>();
+        manager.addOntologyChangeListener(events::add);
+        OWLOntologyChangeBatch batch = new OWLOntologyChangeBatch();
+        for (int i = 1; i < 100; i++) {
+            batch.addAxiom(i % 2 == 0 ? o1 : o2, df.getOWLSubClassOfAxiom(c(i), c(i - 1)));
+        }
+        // already in o1, not applied
+        batch.addAxiom(o1, df.getOWLSubClassOfAxiom(c(1), c(0)));
+        batch.removeAxiom(o2, df.getOWLSubClassOfAxiom(c(3), c(2)));
+        assertEquals(ChangeApplied.SUCCESSFULLY, manager.applyChanges(batch));
+        assertEquals(1, events.size());
+        List<? extends OWLOntologyChange> applied = events.get(0);
+        assertEquals(100, applied.size());
+        assertEquals(batch.subList(0, 99), applied.subList(0, 99));
+        assertEquals(batch.get(100), applied.get(99));
+        List<OWLOntologyChange> expected = new ArrayList<>(applied);
+        batch.clear();
+        assertEquals(expected, applied);
+        assertEquals(50, o1.getAxiomCount());
+        assertEquals(49, o2.getAxiomCount());
+        batch.addAxiom(o1, df.getOWLSubClassOfAxiom(c(1), c(0)));
+        assertEquals(ChangeApplied.NO_OPERATION, manager.applyChanges(batch));
+        assertEquals(2, events.size());
+        assertTrue(events.get(1).isEmpty());
+    }
+}
@@ -0,0 +1,54 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+
+class CompareToConsistencyTest {
+
+    private final OWLDataFactory df = new OWLDataFactoryImpl();
+
+    @Test
+    void shouldBeConsistentWithEqualsWithoutCheckingEqualityFirst() {
+        OWLClass a = df.getOWLClass(IRI.create("urn:test#A"));
+        OWLClass b = df.getOWLClass(IRI.create("urn:test#B"));
+        OWLClass c = df.getOWLClass(IRI.create("urn:test#C"));
+        OWLObjectProperty p = df.getOWLObjectProperty(IRI.create("urn:test#p"));
+        List<OWLObject> objects = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            // built twice, so that equal objects are distinct instances
+            objects.add(df.getOWLObjectIntersectionOf(a, b));
+            objects.add(df.getOWLObjectIntersectionOf(a, c));
+            objects.add(df.getOWLObjectIntersectionOf(a, b, c));
+            objects.add(df.getOWLSubClassOfAxiom(a, df.getOWLObjectSomeValuesFrom(p, b)));
+            objects.add(df.getOWLSubClassOfAxiom(a, df.getOWLObjectSomeValuesFrom(p, b),
+                Collections.singleton(df.getOWLAnnotation(df.getRDFSLabel(), df.getOWLLiteral("x")))));
+            objects.add(df.getOWLSubClassOfAxiom(a, df.getOWLObjectSomeValuesFrom(p, b),
+                new HashSet<>(Arrays.asList(
+                    df.getOWLAnnotation(df.getRDFSLabel(), df.getOWLLiteral("x")),
+                    df.getOWLAnnotation(df.getRDFSComment(), df.getOWLLiteral("y"))))));
+            objects.add(df.getOWLDisjointClassesAxiom(a, b, c));
+            objects.add(df.getOWLDisjointClassesAxiom(a, b));
+            objects.add(df.getOWLDataOneOf(df.getOWLLiteral(1), df.getOWLLiteral("1")));
+            objects.add(df.getOWLDatatypeMinInclusiveRestriction(1));
+        }
+        for (OWLObject x : objects) {
+            for (OWLObject y : objects) {
+                int xy = Integer.signum(x.compareTo(y));
+                assertEquals(-xy, Integer.signum(y.compareTo(x)), x + " " + y);
+                assertEquals(x.equals(y), xy == 0, x + " " + y);
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+
+class EntityRegistryTest {
+
+    private final IRI iri = IRI.create("urn:test#", "Shared");
+
+    private static OWLDataFactoryImpl factory(boolean shared) {
+        return new OWLDataFactoryImpl(new OWLOntologyLoaderConfiguration(), false, shared);
+    }
+
+    @Test
+    void shouldShareEntitiesAcrossFactories() {
+        OWLDataFactoryImpl first = factory(true);
+        OWLDataFactoryImpl second = factory(true);
+        long hits = EntityRegistry.shared().stats().get("classes").hitCount();
+        OWLClass c = first.getOWLClass(iri);
+        assertSame(c, second.getOWLClass(IRI.create("urn:test#Shared")));
+        assertSame(c, EntityRegistry.shared().getOWLClass(iri));
+        assertSame(first.getOWLObjectProperty(iri), second.getOWLObjectProperty(iri));
+        assertTrue(EntityRegistry.shared().stats().get("classes").hitCount() >= hits + 2);
+        assertEquals(EntityRegistry.shared().stats().get("classes"),
+            second.getCacheStatistics().get("classes"));
+        // purging one factory does not affect the others
+        first.purge();
+        assertSame(c, second.getOWLClass(iri));
+    }
+
+    @Test
+    void shouldKeepEntitiesPerFactory() {
+        OWLDataFactoryImpl first = factory(false);
+        OWLDataFactoryImpl second = factory(false);
+        OWLClass c = first.getOWLClass(iri);
+        assertSame(c, first.getOWLClass(iri));
+        assertNotSame(c, second.getOWLClass(iri));
+        assertEquals(c, second.getOWLClass(iri));
+        assertNotSame(c, factory(true).getOWLClass(iri));
+    }
+}
@@ -0,0 +1,45 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+
+class HashConsingDataFactoryTest {
+
+    private static OWLClassExpression restriction(OWLDataFactory df) {
+        OWLObjectProperty p = df.getOWLObjectProperty(IRI.create("urn:test#p"));
+        OWLClass a = df.getOWLClass(IRI.create("urn:test#A"));
+        OWLClass b = df.getOWLClass(IRI.create("urn:test#B"));
+        return df.getOWLObjectSomeValuesFrom(p, df.getOWLObjectIntersectionOf(a, b));
+    }
+
+    @Test
+    void shouldShareStructurallyEqualObjects() {
+        OWLDataFactoryImpl df = new OWLDataFactoryImpl(new OWLOntologyLoaderConfiguration(), true);
+        OWLClassExpression first = restriction(df);
+        assertSame(first, restriction(df));
+        OWLClass c = df.getOWLClass(IRI.create("urn:test#C"));
+        OWLAxiom axiom = df.getOWLSubClassOfAxiom(c, restriction(df));
+        assertSame(axiom, df.getOWLSubClassOfAxiom(c, restriction(df)));
+        OWLAxiom annotated = df.getOWLSubClassOfAxiom(c, restriction(df), Collections
+            .singleton(df.getOWLAnnotation(df.getRDFSLabel(), df.getOWLLiteral("x"))));
+        assertNotSame(axiom, annotated);
+        assertEquals(axiom, annotated.getAxiomWithoutAnnotations());
+        assertTrue(df.getCacheStatistics().get("objects").hitCount() > 0);
+        OWLDataFactoryImpl plain = new OWLDataFactoryImpl(new OWLOntologyLoaderConfiguration(), false);
+        assertNotSame(restriction(plain), restriction(plain));
+        assertEquals(first, restriction(plain));
+    }
+}
@@ -0,0 +1,200 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static uk.ac.manchester.cs.owl.owlapi.TestClasses.c;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
+
+import uk.ac.manchester.cs.owl.owlapi.concurrent.NonConcurrentOWLOntologyBuilder;
+
+class MapPointerTest {
+
+    private final OWLDataFactory df = new OWLDataFactoryImpl();
+
+    @Test
+    void shouldIndexThroughCopyOnWriteAndConcurrentValues() {
+        Internals internals = new Internals(true, false);
+        assertTrue(internals.isLockFreeIndexes());
+        OWLClass a = c(0);
+        List<OWLSubClassOfAxiom> axioms = new ArrayList<>();
+        for (int i = 1; i < 20; i++) {
+            OWLSubClassOfAxiom ax = df.getOWLSubClassOfAxiom(a, c(i));
+            axioms.add(ax);
+            assertTrue(internals.addAxiom(ax));
+            assertFalse(internals.addAxiom(ax));
+            MapPointer<OWLClass, OWLSubClassOfAxiom> bySub =
+                internals.get(OWLClass.class, OWLSubClassOfAxiom.class).get();
+            assertTrue(bySub.isLockFree());
+            assertEquals(new HashSet<>(axioms), new HashSet<>(bySub.getValues(a)));
+            assertTrue(bySub.contains(a, ax));
+        }
+        MapPointer<OWLClass, OWLSubClassOfAxiom> bySub =
+            internals.get(OWLClass.class, OWLSubClassOfAxiom.class).get();
+        List<OWLSubClassOfAxiom> view = bySub.getValues(a);
+        assertSame(view, bySub.getValues(a));
+        assertThrows(UnsupportedOperationException.class, () -> view.add(axioms.get(0)));
+        for (OWLSubClassOfAxiom ax : axioms) {
+            assertTrue(internals.removeAxiom(ax));
+            assertFalse(bySub.contains(a, ax));
+        }
+        assertFalse(bySub.containsKey(a));
+        assertEquals(0, internals.getAxiomCount());
+    }
+
+    @Test
+    void shouldReadConcurrentlyWithoutLocking() throws InterruptedException {
+        Internals internals = new Internals(true, false);
+        List<OWLAxiom> axioms = new ArrayList<>();
+        for (int i = 1; i < 1000; i++) {
+            OWLSubClassOfAxiom ax = df.getOWLSubClassOfAxiom(c(i % 10), c(i));
+            axioms.add(ax);
+            internals.addAxiom(ax);
+        }
+        List<Thread> threads = new ArrayList<>();
+        List<Throwable> errors = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    for (OWLAxiom ax : axioms) {
+                        OWLSubClassOfAxiom sub = (OWLSubClassOfAxiom) ax;
+                        assertTrue(internals.getAxiomsByType().contains(ax.getAxiomType(), ax));
+                        assertTrue(internals.get(OWLClass.class, OWLSubClassOfAxiom.class).get()
+                            .getValues(sub.getSubClass().asOWLClass()).contains(ax));
+                    }
+                } catch (Throwable e) {
+                    synchronized (errors) {
+                        errors.add(e);
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(errors.isEmpty(), errors.toString());
+        assertEquals(axioms.size(), internals.getAxiomCount());
+    }
+
+    @Test
+    void shouldStorePostingListsOfAxiomIds() {
+        Internals internals = new Internals(false, true);
+        assertTrue(internals.isCompactIndexes());
+        OWLClass a = c(0);
+        List<OWLSubClassOfAxiom> axioms = new ArrayList<>();
+        for (int i = 1; i < 20; i++) {
+            OWLSubClassOfAxiom ax = df.getOWLSubClassOfAxiom(a, c(i));
+            axioms.add(ax);
+            assertTrue(internals.addAxiom(ax));
+            assertFalse(internals.addAxiom(ax));
+        }
+        MapPointer<OWLClass, OWLSubClassOfAxiom> bySub =
+            internals.get(OWLClass.class, OWLSubClassOfAxiom.class).get();
+        assertEquals(axioms, bySub.getValues(a));
+        assertEquals(axioms.size(), internals.getAxiomIds().size());
+        assertTrue(internals.removeAxiom(axioms.get(3)));
+        assertFalse(bySub.contains(a, axioms.get(3)));
+        assertEquals(axioms.size() - 1, internals.getAxiomIds().size());
+        // the released id is reused
+        OWLSubClassOfAxiom replacement = df.getOWLSubClassOfAxiom(a, c(100));
+        assertTrue(internals.addAxiom(replacement));
+        assertTrue(bySub.contains(a, replacement));
+        assertEquals(axioms.size(), bySub.getValues(a).size());
+        assertEquals(axioms.size(), internals.getAxiomIds().size());
+    }
+
+    @Test
+    void shouldTakeIndexOptionsFromTheManagerConfiguration() throws OWLOntologyCreationException {
+        OWLOntologyManager manager = new OWLOntologyManagerImpl(df, new ReentrantReadWriteLock());
+        manager.setOntologyFactories(Collections.singleton(
+            new OWLOntologyFactoryImpl(new NonConcurrentOWLOntologyBuilder())));
+        Internals plain = ((OWLOntologyImpl) manager.createOntology()).ints;
+        assertFalse(plain.isCompactIndexes());
+        manager.setOntologyLoaderConfiguration(
+            manager.getOntologyLoaderConfiguration().setCompactAxiomIndexes(true));
+        Internals compact = ((OWLOntologyImpl) manager.createOntology()).ints;
+        assertTrue(compact.isCompactIndexes());
+        assertFalse(compact.isLockFreeIndexes());
+        assertFalse(plain.isCompactIndexes());
+    }
+
+    @Test
+    void shouldBuildLazyIndexesInParallel() {
+        Internals internals = new Internals();
+        for (int i = 1; i < 100; i++) {
+            internals.addAxiom(df.getOWLSubClassOfAxiom(c(i), c(i % 7)));
+        }
+        MapPointer<OWLClass, OWLSubClassOfAxiom> bySub =
+            internals.get(OWLClass.class, OWLSubClassOfAxiom.class).get();
+        assertFalse(bySub.isInitialized());
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        Map<String, Long> times;
+        try {
+            times = internals.buildIndexes(pool);
+        } finally {
+            pool.shutdown();
+        }
+        assertTrue(times.containsKey("subClassAxiomsBySubPosition"));
+        assertTrue(times.containsKey("classAxiomsByClass"));
+        assertFalse(times.containsKey("axiomsByType"));
+        assertTrue(bySub.isInitialized());
+        assertEquals(1, bySub.getValues(c(5)).size());
+        assertTrue(internals.buildIndexes(Runnable::run).isEmpty());
+    }
+
+    @Test
+    void shouldMaintainSortedKeysIncrementally() {
+        Internals internals = new Internals();
+        MapPointer<OWLClass, OWLAxiom> references =
+            internals.get(OWLClass.class, OWLAxiom.class).get();
+        OWLSubClassOfAxiom first = df.getOWLSubClassOfAxiom(c(3), c(1));
+        internals.addAxiom(first);
+        List<OWLClass> keys = references.sortedKeys();
+        assertEquals(List.of(c(1), c(3)), keys);
+        // same entities, new reference: the snapshot is unchanged
+        OWLSubClassOfAxiom second = df.getOWLSubClassOfAxiom(c(1), c(3));
+        internals.addAxiom(second);
+        assertSame(keys, references.sortedKeys());
+        internals.addAxiom(df.getOWLSubClassOfAxiom(c(2), c(1)));
+        assertEquals(List.of(c(1), c(2), c(3)), references.sortedKeys());
+        // c(3) is still referenced by the second axiom
+        internals.removeAxiom(first);
+        assertEquals(List.of(c(1), c(2), c(3)), references.sortedKeys());
+        internals.removeAxiom(second);
+        assertEquals(List.of(c(1), c(2)), references.sortedKeys());
+    }
+
+    @Test
+    void shouldRebuildSortedKeysAfterBulkAdditions() {
+        Internals internals = new Internals();
+        MapPointer<OWLClass, OWLAxiom> references =
+            internals.get(OWLClass.class, OWLAxiom.class).get();
+        internals.addAxiom(df.getOWLSubClassOfAxiom(c(2), c(1)));
+        assertEquals(List.of(c(1), c(2)), references.sortedKeys());
+        internals.addAxioms(List.of(df.getOWLSubClassOfAxiom(c(4), c(1)),
+            df.getOWLSubClassOfAxiom(c(3), c(2))));
+        assertEquals(List.of(c(1), c(2), c(3), c(4)), references.sortedKeys());
+        internals.removeAxiom(df.getOWLSubClassOfAxiom(c(4), c(1)));
+        assertEquals(List.of(c(1), c(2), c(3)), references.sortedKeys());
+    }
+}
@@ -0,0 +1,43 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAnnotationProperty;
+import org.semanticweb.owlapi.model.OWLClass;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+class OWLDataFactoryInternalsImplTest {
+
+    private final OWLDataFactoryInternalsImpl internals = new OWLDataFactoryInternalsImpl(false);
+
+    @Test
+    void shouldShareEntitiesForEqualIRIs() {
+        // distinct but equal IRI instances
+        OWLClass c = internals.getOWLClass(IRI.create(new String("urn:test#A")));
+        assertSame(c, internals.getOWLClass(IRI.create(new String("urn:test#A"))));
+        CacheStats stats = internals.getCacheStatistics().get("classes");
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+    }
+
+    @Test
+    void shouldInternAnnotationsAndLanguageTagsByValue() {
+        OWLAnnotationProperty p = internals.getOWLAnnotationProperty(IRI.create("urn:test#p"));
+        OWLAnnotation a = internals.getOWLAnnotation(p, internals.getOWLLiteral("x", "EN "),
+            Collections.emptySet());
+        OWLAnnotation b = internals.getOWLAnnotation(p, internals.getOWLLiteral("x", "en"),
+            Collections.emptySet());
+        assertSame(a, b);
+        assertEquals(1, internals.getCacheStatistics().get("annotations").hitCount());
+        assertEquals(1, internals.getCacheStatistics().get("languageTags").hitCount());
+        internals.purge();
+        assertEquals(0, internals.getCacheStatistics().get("annotations").requestCount());
+    }
+}
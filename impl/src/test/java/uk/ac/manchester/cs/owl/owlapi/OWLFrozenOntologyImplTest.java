@@ -0,0 +1,81 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static uk.ac.manchester.cs.owl.owlapi.TestClasses.c;
+
+import java.util.Collections;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.ImmutableOWLOntologyChangeException;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
+
+import uk.ac.manchester.cs.owl.owlapi.concurrent.ConcurrentOWLOntologyBuilder;
+import uk.ac.manchester.cs.owl.owlapi.concurrent.NonConcurrentOWLOntologyBuilder;
+
+class OWLFrozenOntologyImplTest {
+
+    private final OWLDataFactory df = new OWLDataFactoryImpl();
+    private OWLOntologyManager manager;
+    private OWLOntology ontology;
+
+    @BeforeEach
+    void setUp() throws OWLOntologyCreationException {
+        ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        manager = new OWLOntologyManagerImpl(df, lock);
+        manager.setOntologyFactories(Collections.singleton(new OWLOntologyFactoryImpl(
+            new ConcurrentOWLOntologyBuilder(new NonConcurrentOWLOntologyBuilder(), lock))));
+        ontology = manager.createOntology(IRI.create("urn:test:frozen"));
+        for (int i = 1; i < 10; i++) {
+            manager.addAxiom(ontology, df.getOWLSubClassOfAxiom(c(i), c(0)));
+        }
+        manager.addAxiom(ontology, df.getOWLDeclarationAxiom(c(100)));
+    }
+
+    @Test
+    void shouldAnswerQueriesLikeTheOriginal() {
+        OWLOntology frozen = manager.freezeOntology(ontology);
+        assertTrue(frozen instanceof OWLFrozenOntologyImpl);
+        assertSame(frozen, manager.getOntology(ontology.getOntologyID()));
+        assertSame(frozen, manager.freezeOntology(frozen));
+        assertEquals(10, frozen.getAxiomCount());
+        assertEquals(9, frozen.getSubClassAxiomsForSuperClass(c(0)).size());
+        assertEquals(1, frozen.getSubClassAxiomsForSubClass(c(3)).size());
+        assertTrue(frozen.containsAxiom(df.getOWLSubClassOfAxiom(c(5), c(0))));
+        assertFalse(frozen.containsAxiom(df.getOWLSubClassOfAxiom(c(0), c(5))));
+        assertEquals(11, frozen.getClassesInSignature().size());
+        assertEquals(11, frozen.getSignature().size());
+        assertTrue(frozen.containsEntityInSignature(c(100)));
+        assertTrue(frozen.containsClassInSignature(c(7).getIRI()));
+        assertTrue(frozen.isDeclared(c(100)));
+    }
+
+    @Test
+    void shouldLeaveTheOriginalReadable() {
+        manager.freezeOntology(ontology);
+        assertSame(manager, ontology.getOWLOntologyManager());
+        assertEquals(10, ontology.getAxiomCount());
+        assertEquals(9, ontology.getSubClassAxiomsForSuperClass(c(0)).size());
+    }
+
+    @Test
+    void shouldRejectChanges() {
+        OWLOntology frozen = manager.freezeOntology(ontology);
+        OWLSubClassOfAxiom ax = df.getOWLSubClassOfAxiom(c(0), c(1));
+        assertThrows(ImmutableOWLOntologyChangeException.class,
+            () -> manager.addAxiom(frozen, ax));
+        assertThrows(ImmutableOWLOntologyChangeException.class,
+            () -> manager.removeAxiom(frozen, df.getOWLSubClassOfAxiom(c(1), c(0))));
+        assertEquals(10, frozen.getAxiomCount());
+    }
+}
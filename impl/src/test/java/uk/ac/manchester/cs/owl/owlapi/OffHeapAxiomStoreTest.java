@@ -0,0 +1,170 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.semanticweb.owlapi.model.parameters.Imports.EXCLUDED;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.semanticweb.owlapi.formats.RDFXMLDocumentFormat;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.semanticweb.owlapi.model.AddOntologyAnnotation;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyFactory;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.OWLRuntimeException;
+
+import uk.ac.manchester.cs.owl.owlapi.concurrent.NonConcurrentOWLOntologyBuilder;
+import uk.ac.manchester.cs.owl.owlapi.concurrent.NoOpReadWriteLock;
+
+class OffHeapAxiomStoreTest {
+
+    private final OWLDataFactory df = new OWLDataFactoryImpl();
+    private final OWLClass a = df.getOWLClass(IRI.create("urn:test#A"));
+    private final OWLClass b = df.getOWLClass(IRI.create("urn:test#B"));
+    private final OWLObjectProperty p = df.getOWLObjectProperty(IRI.create("urn:test#p"));
+    private final OWLObjectProperty q = df.getOWLObjectProperty(IRI.create("urn:test#q"));
+    private final OWLAnonymousIndividual anon = df.getOWLAnonymousIndividual("_:genid1");
+
+    private OWLOntologyManager manager() {
+        OWLOntologyManager manager = new OWLOntologyManagerImpl(df, new NoOpReadWriteLock());
+        manager.setOntologyFactories(Collections
+            .singleton(new OWLOntologyFactoryImpl(new NonConcurrentOWLOntologyBuilder())));
+        return manager;
+    }
+
+    private void fill(OWLOntologyManager manager, OWLOntology o) {
+        manager.addAxioms(o, new HashSet<>(Arrays.asList(df.getOWLDeclarationAxiom(a),
+            df.getOWLDeclarationAxiom(p), df.getOWLSubClassOfAxiom(a, b),
+            df.getOWLSubClassOfAxiom(df.getOWLObjectSomeValuesFrom(p, a), b),
+            df.getOWLSubPropertyChainOfAxiom(Arrays.asList(p, q), p),
+            df.getOWLDataPropertyRangeAxiom(df.getOWLDataProperty(IRI.create("urn:test#d")),
+                df.getOWLDatatypeMinInclusiveRestriction(3)),
+            df.getOWLAnnotationAssertionAxiom(a.getIRI(),
+                df.getOWLAnnotation(df.getRDFSComment(), anon)),
+            df.getOWLClassAssertionAxiom(a, anon),
+            df.getOWLSubClassOfAxiom(b, df.getOWLThing(),
+                Collections.singleton(
+                    df.getOWLAnnotation(df.getRDFSLabel(), df.getOWLLiteral("b")))))));
+        manager.applyChange(new AddOntologyAnnotation(o,
+            df.getOWLAnnotation(df.getRDFSComment(), df.getOWLLiteral("test"))));
+    }
+
+    /** Factory that creates a filled ontology instead of parsing, and counts its loads. */
+    private OWLOntologyFactory parsing(AtomicInteger parses) {
+        return new OWLOntologyFactoryImpl(new NonConcurrentOWLOntologyBuilder()) {
+
+            @Override
+            public OWLOntology loadOWLOntology(OWLOntologyManager manager,
+                OWLOntologyDocumentSource documentSource, OWLOntologyCreationHandler handler,
+                OWLOntologyLoaderConfiguration configuration) throws OWLOntologyCreationException {
+                parses.incrementAndGet();
+                OWLOntology o = createOWLOntology(manager,
+                    new OWLOntologyID(IRI.create("urn:test:offheap")),
+                    documentSource.getDocumentIRI(), handler);
+                fill(manager, o);
+                return o;
+            }
+        };
+    }
+
+    @Test
+    void shouldAnswerQueriesFromTheMappedFile(@TempDir Path dir)
+        throws OWLOntologyCreationException, IOException {
+        OWLOntologyManager manager = manager();
+        OWLOntology source = manager.createOntology(IRI.create("urn:test:offheap"));
+        fill(manager, source);
+        Path file = dir.resolve("store.owlmap");
+        OffHeapAxiomStore.write(source, file);
+        OWLOntologyManager other = manager();
+        OWLOffHeapOntologyImpl mapped =
+            new OWLOffHeapOntologyImpl(other, OffHeapAxiomStore.open(file, df));
+        assertEquals(source.getOntologyID(), mapped.getOntologyID());
+        assertEquals(source.getAnnotations(), mapped.getAnnotations());
+        assertEquals(source.getAxiomCount(), mapped.getAxiomCount());
+        assertEquals(source.getAxioms(), mapped.getAxioms());
+        assertEquals(source.getAxioms(AxiomType.SUBCLASS_OF),
+            mapped.getAxioms(AxiomType.SUBCLASS_OF));
+        assertEquals(source.getSignature(), mapped.getSignature());
+        assertEquals(source.getAnonymousIndividuals(), mapped.getAnonymousIndividuals());
+        assertEquals(source.getGeneralClassAxioms(), mapped.getGeneralClassAxioms());
+        assertEquals(source.getReferencingAxioms(a), mapped.getReferencingAxioms(a));
+        assertEquals(source.getReferencingAxioms(anon), mapped.getReferencingAxioms(anon));
+        assertEquals(source.getSubClassAxiomsForSubClass(a),
+            mapped.getSubClassAxiomsForSubClass(a));
+        assertEquals(source.getAxioms(p, EXCLUDED), mapped.getAxioms(p, EXCLUDED));
+        for (OWLAxiom ax : source.getAxioms()) {
+            assertTrue(mapped.containsAxiom(ax), ax.toString());
+            assertEquals(ax.hashCode(), mapped.getAxioms().stream().filter(ax::equals)
+                .findAny().get().hashCode());
+        }
+        assertFalse(mapped.containsAxiom(df.getOWLSubClassOfAxiom(b, a)));
+        assertTrue(mapped.isDeclared(a));
+        assertFalse(mapped.isDeclared(b));
+        assertTrue(mapped.containsClassInSignature(b.getIRI(), EXCLUDED));
+        assertFalse(mapped.containsClassInSignature(IRI.create("urn:test#C"), EXCLUDED));
+        assertThrows(UnsupportedOperationException.class,
+            () -> mapped.ints.addAxiom(df.getOWLSubClassOfAxiom(b, a)));
+    }
+
+    @Test
+    void shouldReopenTheStoreInsteadOfParsingAgain(@TempDir Path dir)
+        throws OWLOntologyCreationException, IOException {
+        Path document = Files.createFile(dir.resolve("source.owl"));
+        Files.setLastModifiedTime(document,
+            FileTime.fromMillis(System.currentTimeMillis() - 60000));
+        AtomicInteger parses = new AtomicInteger();
+        OWLOntologyFactory parsing = parsing(parses);
+        OWLOntology loaded = null;
+        for (int i = 0; i < 2; i++) {
+            OWLOntologyManager manager = manager();
+            manager.setOntologyFactories(
+                Collections.singleton(new OffHeapOWLOntologyFactory(parsing, dir.resolve("maps"))));
+            loaded = manager.loadOntologyFromOntologyDocument(IRI.create(document.toFile()));
+            assertTrue(loaded instanceof OWLOffHeapOntologyImpl);
+            assertEquals(9, loaded.getAxiomCount());
+            assertTrue(manager.getOntologyFormat(loaded) instanceof RDFXMLDocumentFormat);
+            OWLOntology o = loaded;
+            assertThrows(OWLRuntimeException.class,
+                () -> manager.addAxiom(o, df.getOWLSubClassOfAxiom(b, a)));
+        }
+        assertEquals(1, parses.get());
+    }
+
+    @Test
+    void shouldKeepTheParsedOntologyIfTheStoreCannotBeWritten(@TempDir Path dir)
+        throws OWLOntologyCreationException, IOException {
+        Path document = Files.createFile(dir.resolve("source.owl"));
+        // a file where the store directory should be
+        Path maps = Files.createFile(dir.resolve("maps"));
+        OWLOntologyManager manager = manager();
+        manager.setOntologyFactories(Collections
+            .singleton(new OffHeapOWLOntologyFactory(parsing(new AtomicInteger()), maps)));
+        OWLOntology loaded =
+            manager.loadOntologyFromOntologyDocument(IRI.create(document.toFile()));
+        assertFalse(loaded instanceof OWLOffHeapOntologyImpl);
+        assertEquals(9, loaded.getAxiomCount());
+        assertTrue(manager.contains(loaded));
+    }
+}
@@ -0,0 +1,83 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.semanticweb.owlapi.model.parameters.Imports.EXCLUDED;
+import static org.semanticweb.owlapi.model.parameters.Imports.INCLUDED;
+import static uk.ac.manchester.cs.owl.owlapi.TestClasses.c;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.AddImport;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
+import org.semanticweb.owlapi.model.parameters.Navigation;
+
+import uk.ac.manchester.cs.owl.owlapi.concurrent.ConcurrentOWLOntologyBuilder;
+import uk.ac.manchester.cs.owl.owlapi.concurrent.NonConcurrentOWLOntologyBuilder;
+
+class OntologyStreamsTest {
+
+    private final OWLDataFactory df = new OWLDataFactoryImpl();
+    private OWLOntologyManager manager;
+    private OWLOntology ontology;
+    private OWLOntology imported;
+
+    @BeforeEach
+    void setUp() throws OWLOntologyCreationException {
+        ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        manager = new OWLOntologyManagerImpl(df, lock);
+        manager.setOntologyFactories(Collections.singleton(new OWLOntologyFactoryImpl(
+            new ConcurrentOWLOntologyBuilder(new NonConcurrentOWLOntologyBuilder(), lock))));
+        ontology = manager.createOntology(IRI.create("urn:test:streams"));
+        imported = manager.createOntology(IRI.create("urn:test:imported"));
+        manager.applyChange(new AddImport(ontology,
+            df.getOWLImportsDeclaration(IRI.create("urn:test:imported"))));
+        for (int i = 1; i < 10; i++) {
+            manager.addAxiom(ontology, df.getOWLSubClassOfAxiom(c(i), c(0)));
+            manager.addAxiom(imported, df.getOWLSubClassOfAxiom(c(i + 10), c(0)));
+        }
+        manager.addAxiom(ontology, df.getOWLDeclarationAxiom(c(100)));
+    }
+
+    @Test
+    void shouldStreamTheSameAxiomsAsTheSetAccessors() {
+        assertEquals(ontology.getAxioms(), ontology.axioms().collect(Collectors.toSet()));
+        assertEquals(ontology.getAxioms(INCLUDED),
+            ontology.axioms(INCLUDED).parallel().collect(Collectors.toSet()));
+        assertEquals(19, ontology.axioms(INCLUDED).count());
+        assertEquals(18, ontology.axioms(AxiomType.SUBCLASS_OF, INCLUDED).parallel().count());
+        assertEquals(ontology.getReferencingAxioms(c(0), INCLUDED),
+            ontology.referencingAxioms(c(0), INCLUDED).collect(Collectors.toSet()));
+        assertEquals(ontology.getSignature(EXCLUDED),
+            ontology.signature(EXCLUDED).collect(Collectors.toSet()));
+        assertEquals(18, ontology.axioms(OWLSubClassOfAxiom.class, OWLClass.class, c(0), INCLUDED,
+            Navigation.IN_SUPER_POSITION).count());
+        assertEquals(1, ontology.axioms(OWLSubClassOfAxiom.class, OWLClass.class, c(3),
+            Navigation.IN_SUB_POSITION).count());
+    }
+
+    @Test
+    void shouldVisitAxiomsWithoutCollectingThem() {
+        List<OWLSubClassOfAxiom> visited = new ArrayList<>();
+        ontology.forEachAxiom(AxiomType.SUBCLASS_OF, INCLUDED, visited::add);
+        assertEquals(18, visited.size());
+        visited.clear();
+        ontology.forEachAxiom(OWLSubClassOfAxiom.class, OWLClass.class, c(0),
+            Navigation.IN_SUPER_POSITION, visited::add);
+        assertEquals(9, visited.size());
+        assertTrue(ontology.getAxioms(AxiomType.SUBCLASS_OF).containsAll(visited));
+    }
+}
@@ -0,0 +1,176 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.io.IRIDocumentSource;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.semanticweb.owlapi.model.AddImport;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.MissingImportEvent;
+import org.semanticweb.owlapi.model.MissingImportHandlingStrategy;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLImportsDeclaration;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLOntologyIRIMapper;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderListener;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderListener.LoadingFinishedEvent;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.UnloadableImportException;
+
+import uk.ac.manchester.cs.owl.owlapi.concurrent.ConcurrentOWLOntologyBuilder;
+import uk.ac.manchester.cs.owl.owlapi.concurrent.NonConcurrentOWLOntologyBuilder;
+
+class ParallelImportsLoadTest {
+
+    private final OWLDataFactory df = new OWLDataFactoryImpl();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final OWLOntologyManagerImpl manager = new OWLOntologyManagerImpl(df, lock);
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    /** Imports of each document. */
+    private final Map<IRI, List<IRI>> documents = new HashMap<>();
+    /** Documents a and b only load if they are parsed at the same time. */
+    private final CyclicBarrier siblings = new CyclicBarrier(2);
+    private final List<LoadingFinishedEvent> finished =
+        Collections.synchronizedList(new ArrayList<>());
+    private final List<MissingImportEvent> missing =
+        Collections.synchronizedList(new ArrayList<>());
+    private final OWLOntologyLoaderConfiguration config =
+        new OWLOntologyLoaderConfiguration().setLoadImportsInParallel(true);
+
+    private static IRI iri(String name) {
+        return IRI.create("urn:test:" + name);
+    }
+
+    private void document(String name, String... imports) {
+        List<IRI> iris = new ArrayList<>();
+        for (String i : imports) {
+            iris.add(iri(i));
+        }
+        documents.put(iri(name), iris);
+    }
+
+    /** Factory that reads the imports of each document from the documents map. */
+    private class ImportingFactory extends OWLOntologyFactoryImpl {
+
+        ImportingFactory() {
+            super(new ConcurrentOWLOntologyBuilder(new NonConcurrentOWLOntologyBuilder(), lock));
+        }
+
+        @Override
+        public boolean canLoad(OWLOntologyDocumentSource documentSource) {
+            return true;
+        }
+
+        @Override
+        public OWLOntology loadOWLOntology(OWLOntologyManager m,
+            OWLOntologyDocumentSource documentSource, OWLOntologyCreationHandler handler,
+            OWLOntologyLoaderConfiguration configuration) throws OWLOntologyCreationException {
+            IRI documentIRI = documentSource.getDocumentIRI();
+            List<IRI> imports = documents.get(documentIRI);
+            if (imports == null) {
+                throw new OWLOntologyCreationException("No document " + documentIRI);
+            }
+            OWLOntology ontology = createOWLOntology(m, new OWLOntologyID(documentIRI, null),
+                documentIRI, handler);
+            for (IRI i : imports) {
+                OWLImportsDeclaration declaration = df.getOWLImportsDeclaration(i);
+                m.applyChange(new AddImport(ontology, declaration));
+                m.makeLoadImportRequest(declaration, configuration);
+            }
+            if (documentIRI.equals(iri("a")) || documentIRI.equals(iri("b"))) {
+                try {
+                    siblings.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+                    throw new OWLOntologyCreationException(e);
+                }
+            }
+            return ontology;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        manager.setOntologyFactories(Collections.singleton(new ImportingFactory()));
+        manager.getIRIMappers().add((OWLOntologyIRIMapper) i -> i);
+        manager.setImportsExecutor(executor);
+        manager.addOntologyLoaderListener(new OWLOntologyLoaderListener() {
+
+            @Override
+            public void startedLoadingOntology(LoadingStartedEvent event) {}
+
+            @Override
+            public void finishedLoadingOntology(LoadingFinishedEvent event) {
+                finished.add(event);
+            }
+        });
+        manager.addMissingImportListener(missing::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private OWLOntology load(String name, OWLOntologyLoaderConfiguration configuration)
+        throws OWLOntologyCreationException {
+        return manager.loadOntologyFromOntologyDocument(new IRIDocumentSource(iri(name)),
+            configuration);
+    }
+
+    @Test
+    void shouldLoadIndependentImportsConcurrently() throws OWLOntologyCreationException {
+        document("root", "a", "b");
+        document("a", "c");
+        document("b", "c");
+        document("c");
+        OWLOntology root = load("root", config);
+        assertEquals(4, manager.getOntologies().size());
+        assertEquals(4, root.getImportsClosure().size());
+        assertEquals(4, finished.size());
+        for (LoadingFinishedEvent event : finished) {
+            assertTrue(event.isSuccessful());
+            assertTrue(event.getLoadingTime() > 0);
+            assertEquals(!event.getDocumentIRI().equals(iri("root")), event.isImported());
+        }
+    }
+
+    @Test
+    void shouldReportMissingImportsSilently() throws OWLOntologyCreationException {
+        document("root", "c", "missing");
+        document("c");
+        OWLOntology root = load("root",
+            config.setMissingImportHandlingStrategy(MissingImportHandlingStrategy.SILENT));
+        assertEquals(2, root.getImportsClosure().size());
+        assertEquals(1, missing.size());
+        assertEquals(iri("missing"), missing.get(0).getImportedOntologyURI());
+    }
+
+    @Test
+    void shouldFailOnMissingImports() {
+        document("root", "c", "missing");
+        document("c");
+        assertThrows(UnloadableImportException.class, () -> load("root", config));
+        assertTrue(missing.isEmpty());
+    }
+}
@@ -0,0 +1,67 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.SignatureCaching;
+
+class SignatureCacheTest {
+
+    private final OWLDataFactory df = new OWLDataFactoryImpl();
+    private final OWLClass a = df.getOWLClass(IRI.create("urn:test#A"));
+    private final OWLClass b = df.getOWLClass(IRI.create("urn:test#B"));
+    private final OWLObjectProperty p = df.getOWLObjectProperty(IRI.create("urn:test#p"));
+
+    @Test
+    void shouldSplitEntitiesAndAnonymousIndividuals() {
+        OWLAnonymousIndividual anon = df.getOWLAnonymousIndividual();
+        OWLAxiom axiom = df.getOWLClassAssertionAxiom(df.getOWLObjectSomeValuesFrom(p, b), anon);
+        for (int i = 0; i < 2; i++) {
+            assertEquals(new HashSet<>(Arrays.asList(p, b)), axiom.getSignature());
+            assertEquals(Collections.singleton(anon), axiom.getAnonymousIndividuals());
+            assertTrue(axiom.containsEntityInSignature(p));
+            assertFalse(axiom.containsEntityInSignature(a));
+        }
+        assertEquals(Collections.singleton(b), axiom.getClassesInSignature());
+    }
+
+    @Test
+    void shouldNotExposeTheCachedSignature() {
+        OWLAxiom axiom = df.getOWLSubClassOfAxiom(a, df.getOWLObjectSomeValuesFrom(p, b));
+        Set<OWLEntity> signature = axiom.getSignature();
+        signature.clear();
+        signature.add(df.getOWLThing());
+        assertEquals(new HashSet<>(Arrays.asList(a, b, p)), axiom.getSignature());
+        assertTrue(axiom.getAnonymousIndividuals().isEmpty());
+    }
+
+    @Test
+    void shouldCacheAsConfiguredForTheFactory() {
+        for (SignatureCaching caching : SignatureCaching.values()) {
+            OWLDataFactory factory = new OWLDataFactoryImpl(
+                new OWLOntologyLoaderConfiguration().setSignatureCaching(caching));
+            OWLObjectImplWithEntityAndAnonCaching axiom =
+                (OWLObjectImplWithEntityAndAnonCaching) factory.getOWLSubClassOfAxiom(a,
+                    factory.getOWLObjectSomeValuesFrom(p, b));
+            assertEquals(caching, axiom.getSignatureCaching());
+            assertEquals(new HashSet<>(Arrays.asList(a, b, p)), axiom.getSignature());
+            assertEquals(caching, axiom.getSignatureCaching());
+            assertEquals(new HashSet<>(Arrays.asList(a, b, p)), axiom.getSignature());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.util.StructuralFingerprint;
+import org.semanticweb.owlapi.vocab.OWL2Datatype;
+
+class StructuralFingerprintTest {
+
+    private static final long FINGERPRINT = 2713776795442141537L;
+
+    private static OWLAxiom axiom(OWLDataFactory df, boolean reversed) {
+        OWLClass a = df.getOWLClass(IRI.create("urn:test#A"));
+        OWLClass b = df.getOWLClass(IRI.create("urn:test#B"));
+        OWLObjectProperty p = df.getOWLObjectProperty(IRI.create("urn:test#p"));
+        return df.getOWLSubClassOfAxiom(reversed ? df.getOWLObjectIntersectionOf(b, a)
+            : df.getOWLObjectIntersectionOf(a, b), df.getOWLObjectSomeValuesFrom(p,
+                df.getOWLThing()), Collections.singleton(
+                    df.getOWLAnnotation(df.getRDFSLabel(), df.getOWLLiteral("x", "en"))));
+    }
+
+    @Test
+    void shouldBeStructuralAndStableAcrossFactories() {
+        OWLAxiom first = axiom(new OWLDataFactoryImpl(), false);
+        OWLAxiom second = axiom(new OWLDataFactoryImpl(), true);
+        assertEquals(first, second);
+        assertEquals(first.getFingerprint(), second.getFingerprint());
+        assertEquals(StructuralFingerprint.fingerprint(first), first.getFingerprint());
+        // fixed value: fingerprints must not change between runs or JVMs
+        assertEquals(FINGERPRINT, first.getFingerprint());
+        assertNotEquals(first.getFingerprint(),
+            first.getAxiomWithoutAnnotations().getFingerprint());
+        OWLDataFactoryImpl df = new OWLDataFactoryImpl();
+        Set<Long> distinct = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            distinct.add(Long.valueOf(df.getOWLSubClassOfAxiom(
+                df.getOWLClass(IRI.create("urn:test#C" + i)),
+                df.getOWLClass(IRI.create("urn:test#D" + i))).getFingerprint()));
+            distinct.add(Long.valueOf(df.getOWLLiteral(i).getFingerprint()));
+        }
+        assertEquals(2000, distinct.size());
+    }
+
+    @Test
+    void shouldKeepLenientLiteralEqualityAfterCaching() {
+        OWLDataFactory df = new OWLDataFactoryImpl();
+        IRI subject = IRI.create("urn:test#A");
+        OWLLiteral[][] equal = {
+            {df.getOWLLiteral("abc"), df.getOWLLiteral("abc", df.getRDFPlainLiteral())},
+            {df.getOWLLiteral("abc"), df.getOWLLiteral("abc", df.getOWLDatatype(OWL2Datatype.XSD_STRING.getIRI()))},
+            {df.getOWLLiteral(5), df.getOWLLiteral("+5", df.getIntegerOWLDatatype())},
+            {df.getOWLLiteral(1.5D), df.getOWLLiteral("1.50", df.getDoubleOWLDatatype())},
+            {df.getOWLLiteral(true), df.getOWLLiteral("1", df.getBooleanOWLDatatype())}};
+        for (OWLLiteral[] pair : equal) {
+            OWLAxiom first = df.getOWLAnnotationAssertionAxiom(df.getRDFSLabel(), subject, pair[0]);
+            OWLAxiom second =
+                df.getOWLAnnotationAssertionAxiom(df.getRDFSLabel(), subject, pair[1]);
+            assertTrue(first.equals(second), pair[0] + " " + pair[1]);
+            assertEquals(pair[0].getFingerprint(), pair[1].getFingerprint());
+            first.getFingerprint();
+            second.getFingerprint();
+            assertTrue(first.equals(second), pair[0] + " " + pair[1]);
+            assertTrue(second.equals(first), pair[0] + " " + pair[1]);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLObjectSomeValuesFrom;
+import org.semanticweb.owlapi.util.OWLObjectVisitorExAdapter;
+import org.semanticweb.owlapi.util.OWLObjectWalker;
+import org.semanticweb.owlapi.util.StructureWalker.AnnotationWalkingControl;
+
+class StructureWalkerTest {
+
+    private final OWLDataFactory df = new OWLDataFactoryImpl();
+    private final OWLClass a = df.getOWLClass(IRI.create("urn:test#A"));
+    private final OWLClass b = df.getOWLClass(IRI.create("urn:test#B"));
+    private final OWLClass c = df.getOWLClass(IRI.create("urn:test#C"));
+    private final OWLClass d = df.getOWLClass(IRI.create("urn:test#D"));
+    private final OWLClass e = df.getOWLClass(IRI.create("urn:test#E"));
+    private final OWLObjectProperty p = df.getOWLObjectProperty(IRI.create("urn:test#p"));
+    private final OWLAnnotation comment =
+        df.getOWLAnnotation(df.getRDFSComment(), df.getOWLLiteral("note"));
+    private final List<OWLAxiom> axioms = Arrays.asList(
+        df.getOWLSubClassOfAxiom(a,
+            df.getOWLObjectSomeValuesFrom(p, df.getOWLObjectIntersectionOf(b, c)),
+            Collections.singleton(comment)),
+        df.getOWLDisjointClassesAxiom(e, d));
+
+    private List<OWLObject> walk(Recorder recorder) {
+        OWLObjectWalker<OWLAxiom> walker =
+            new OWLObjectWalker<>(axioms, true, AnnotationWalkingControl.WALK_ANNOTATIONS);
+        recorder.walker = walker;
+        walker.walkStructure(recorder);
+        return recorder.visited;
+    }
+
+    @Test
+    void shouldWalkOperandsAndAnnotationsInOrder() {
+        List<OWLObject> visited = walk(new Recorder());
+        assertTrue(visited.contains(comment));
+        assertTrue(visited.indexOf(b) < visited.indexOf(c));
+        assertTrue(visited.indexOf(d) < visited.indexOf(e));
+        assertTrue(visited.containsAll(Arrays.asList(a, b, c, d, e, p)));
+    }
+
+    @Test
+    void shouldSkipSubtree() {
+        List<OWLObject> visited = walk(new Recorder() {
+
+            @Override
+            protected Object doDefault(OWLObject object) {
+                super.doDefault(object);
+                if (object instanceof OWLObjectSomeValuesFrom) {
+                    walker.skipSubtree();
+                }
+                return object;
+            }
+        });
+        assertFalse(visited.contains(p));
+        assertFalse(visited.contains(b));
+        assertFalse(visited.contains(c));
+        assertTrue(visited.containsAll(Arrays.asList(a, d, e, comment)));
+    }
+
+    @Test
+    void shouldStopWalk() {
+        List<OWLObject> visited = walk(new Recorder() {
+
+            @Override
+            protected Object doDefault(OWLObject object) {
+                super.doDefault(object);
+                if (object.equals(d)) {
+                    walker.stop();
+                }
+                return object;
+            }
+        });
+        assertEquals(d, visited.get(visited.size() - 1));
+        assertFalse(visited.contains(e));
+    }
+
+    private static class Recorder extends OWLObjectVisitorExAdapter<Object> {
+
+        final List<OWLObject> visited = new ArrayList<>();
+        OWLObjectWalker<OWLAxiom> walker;
+
+        Recorder() {
+            super(Boolean.TRUE);
+        }
+
+        @Override
+        protected Object doDefault(OWLObject object) {
+            visited.add(object);
+            return object;
+        }
+    }
+}
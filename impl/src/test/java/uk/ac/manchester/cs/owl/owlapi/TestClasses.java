@@ -0,0 +1,21 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+
+/** Numbered classes in a test namespace, for tests that need many distinct classes. */
+final class TestClasses {
+
+    private static final OWLDataFactory DF = new OWLDataFactoryImpl();
+
+    private TestClasses() {}
+
+    /**
+     * @param i class number
+     * @return the class named C followed by the number
+     */
+    static OWLClass c(int i) {
+        return DF.getOWLClass(IRI.create("urn:test#", "C" + i));
+    }
+}
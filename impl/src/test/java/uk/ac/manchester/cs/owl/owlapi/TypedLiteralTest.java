@@ -0,0 +1,73 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.OWLDatatype;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.vocab.OWL2Datatype;
+
+class TypedLiteralTest {
+
+    private final OWLDataFactoryInternalsImplNoCache factory =
+        new OWLDataFactoryInternalsImplNoCache(false);
+
+    private OWLLiteral check(String lexicalValue, OWL2Datatype type,
+        Class<? extends OWLLiteral> expected) {
+        OWLDatatype datatype = new OWL2DatatypeImpl(type);
+        OWLLiteral literal = factory.getOWLLiteral(lexicalValue, datatype);
+        assertEquals(expected, literal.getClass());
+        assertEquals(lexicalValue, literal.getLiteral());
+        OWLLiteral generic = new OWLLiteralImpl(lexicalValue, "", datatype);
+        assertEquals(generic, literal);
+        assertEquals(literal, generic);
+        assertEquals(generic.hashCode(), literal.hashCode());
+        assertEquals(0, literal.compareTo(generic));
+        assertEquals(literal, factory.getOWLLiteral(lexicalValue, datatype));
+        return literal;
+    }
+
+    @Test
+    void shouldStoreValuesAndPreserveLexicalForms() {
+        OWLLiteral big = check("1234567890123", OWL2Datatype.XSD_LONG, OWLLiteralImplLong.class);
+        assertEquals(1234567890123D, big.parseDouble());
+        assertThrows(NumberFormatException.class, big::parseInteger);
+        check("-9876543210", OWL2Datatype.XSD_INTEGER, OWLLiteralImplLong.class);
+        OWLLiteral decimal = check("1.50", OWL2Datatype.XSD_DECIMAL, OWLLiteralImplDecimal.class);
+        assertEquals(1.5D, decimal.parseDouble());
+        assertEquals(0.1D, check("0.1", OWL2Datatype.XSD_DECIMAL, OWLLiteralImplDecimal.class)
+            .parseDouble());
+        assertEquals(42, check("42", OWL2Datatype.XSD_DECIMAL, OWLLiteralImplDecimal.class)
+            .parseInteger());
+        check("2020-02-29T23:59:30+01:00", OWL2Datatype.XSD_DATE_TIME,
+            OWLLiteralImplDateTime.class);
+        check("2020-02-29T23:59:30.25Z", OWL2Datatype.XSD_DATE_TIME,
+            OWLLiteralImplDateTime.class);
+        // lexical forms that would not render back unchanged keep the generic representation
+        check("+7", OWL2Datatype.XSD_LONG, OWLLiteralImplNoCompression.class);
+        check(".5", OWL2Datatype.XSD_DECIMAL, OWLLiteralImplNoCompression.class);
+        check("2020-02-29T23:59:30", OWL2Datatype.XSD_DATE_TIME,
+            OWLLiteralImplNoCompression.class);
+        assertTrue(check("1", OWL2Datatype.XSD_LONG, OWLLiteralImplLong.class).parseBoolean());
+        assertFalse(check("10", OWL2Datatype.XSD_LONG, OWLLiteralImplLong.class).parseBoolean());
+    }
+
+    @Test
+    void shouldCompressLongStrings() {
+        StringBuilder b = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            b.append("A long literal, repeated; è ").append(i % 7).append(' ');
+        }
+        String text = b.toString();
+        OWLDatatype string = new OWL2DatatypeImpl(OWL2Datatype.XSD_STRING);
+        OWLLiteral first = new OWLLiteralImpl(text, "", string);
+        OWLLiteral second = new OWLLiteralImpl(new String(text), "", string);
+        assertEquals(text, first.getLiteral());
+        assertEquals(first, second);
+        assertEquals(first, new OWLLiteralImplNoCompression(text, "", string));
+        assertFalse(first.equals(new OWLLiteralImpl(text + '.', "", string)));
+    }
+}
@@ -0,0 +1,180 @@
+package uk.ac.manchester.cs.owl.owlapi.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormatFactory;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentTarget;
+import org.semanticweb.owlapi.io.StreamDocumentTarget;
+import org.semanticweb.owlapi.model.AddImport;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDocumentFormat;
+import org.semanticweb.owlapi.model.OWLMutableOntology;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+import org.semanticweb.owlapi.model.OWLStorer;
+import org.semanticweb.owlapi.model.parameters.AxiomAnnotations;
+import org.semanticweb.owlapi.model.parameters.Imports;
+import org.semanticweb.owlapi.util.OWLStorerFactoryImpl;
+
+import uk.ac.manchester.cs.owl.owlapi.HasSnapshot;
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLOntologyFactoryImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLOntologyManagerImpl;
+
+class ConcurrentOWLOntologySnapshotTest {
+
+    private final OWLDataFactory df = new OWLDataFactoryImpl();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final OWLOntologyManager manager = new OWLOntologyManagerImpl(df, lock);
+
+    private OWLAxiom axiom(int i) {
+        return df.getOWLSubClassOfAxiom(df.getOWLClass(IRI.create("urn:test#", "C" + i)),
+            df.getOWLClass(IRI.create("urn:test#", "C" + (i - 1))));
+    }
+
+    private OWLOntology createOntology() throws OWLOntologyCreationException {
+        manager.setOntologyFactories(Collections.singleton(new OWLOntologyFactoryImpl(
+            new ConcurrentOWLOntologyBuilder(new NonConcurrentOWLOntologyBuilder(), lock))));
+        OWLOntology ontology = manager.createOntology(IRI.create("urn:test:snapshot"));
+        for (int i = 1; i <= 10; i++) {
+            manager.addAxiom(ontology, axiom(i));
+        }
+        return ontology;
+    }
+
+    @Test
+    void shouldKeepSnapshotsStableAcrossChanges() throws OWLOntologyCreationException {
+        OWLOntology ontology = createOntology();
+        HasSnapshot versioned = (HasSnapshot) ontology;
+        long version = versioned.getVersion();
+        OWLOntology snapshot = versioned.snapshot();
+        assertFalse(snapshot instanceof OWLMutableOntology);
+        assertSame(snapshot, versioned.snapshot());
+        assertEquals(version, versioned.getVersion());
+        assertEquals(10, snapshot.getAxiomCount());
+        manager.addAxiom(ontology, axiom(11));
+        manager.removeAxiom(ontology, axiom(1));
+        assertTrue(versioned.getVersion() > version);
+        assertEquals(10, snapshot.getAxiomCount());
+        assertTrue(snapshot.containsAxiom(axiom(1)));
+        assertFalse(snapshot.containsAxiom(axiom(11)));
+        OWLOntology next = versioned.snapshot();
+        assertNotSame(snapshot, next);
+        assertEquals(ontology.getAxioms(), next.getAxioms());
+        assertSame(next, ((HasSnapshot) next).snapshot());
+    }
+
+    @Test
+    void shouldAnswerIncludedQueriesFromSnapshot() throws OWLOntologyCreationException {
+        OWLOntology ontology = createOntology();
+        IRI importedIRI = IRI.create("urn:test:imported");
+        OWLOntology imported = manager.createOntology(importedIRI);
+        manager.addAxiom(imported, axiom(20));
+        manager.applyChange(new AddImport(ontology, df.getOWLImportsDeclaration(importedIRI)));
+        OWLOntology snapshot = ((HasSnapshot) ontology).snapshot();
+        manager.addAxiom(ontology, axiom(11));
+        assertTrue(snapshot.getImportsClosure().stream().anyMatch(o -> o == snapshot));
+        assertFalse(snapshot.getImportsClosure().stream().anyMatch(o -> o == ontology));
+        Set<OWLAxiom> axioms = snapshot.getAxioms(Imports.INCLUDED);
+        assertEquals(11, axioms.size());
+        assertTrue(axioms.contains(axiom(20)));
+        assertFalse(axioms.contains(axiom(11)));
+        assertFalse(snapshot.containsAxiom(axiom(11), Imports.INCLUDED,
+            AxiomAnnotations.CONSIDER_AXIOM_ANNOTATIONS));
+    }
+
+    @Test
+    void shouldNotCacheSnapshotsTakenUnderWriteLock() throws OWLOntologyCreationException {
+        OWLOntology ontology = createOntology();
+        HasSnapshot versioned = (HasSnapshot) ontology;
+        OWLOntology inside;
+        lock.writeLock().lock();
+        try {
+            inside = versioned.snapshot();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        assertNotSame(inside, versioned.snapshot());
+        assertSame(versioned.snapshot(), versioned.snapshot());
+    }
+
+    private final CountDownLatch storing = new CountDownLatch(1);
+    private final CountDownLatch stored = new CountDownLatch(1);
+
+    /** Storer that waits until the test has applied a change. */
+    private class WaitingStorer implements OWLStorer {
+
+        @Override
+        public boolean canStoreOntology(OWLDocumentFormat ontologyFormat) {
+            return true;
+        }
+
+        @Override
+        public void storeOntology(OWLOntology ontology, IRI documentIRI,
+            OWLDocumentFormat ontologyFormat) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void storeOntology(OWLOntology ontology, OWLOntologyDocumentTarget target,
+            OWLDocumentFormat format) {
+            storing.countDown();
+            try {
+                stored.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Test
+    void shouldApplyChangesWhileSnapshotIsStored() throws Exception {
+        OWLOntology ontology = createOntology();
+        OWLOntology snapshot = ((HasSnapshot) ontology).snapshot();
+        manager.getOntologyStorers().add(
+            new OWLStorerFactoryImpl(new FunctionalSyntaxDocumentFormatFactory()) {
+
+                @Override
+                public OWLStorer createStorer() {
+                    return new WaitingStorer();
+                }
+            });
+        Thread saver = new Thread(() -> {
+            try {
+                manager.saveOntology(snapshot, new FunctionalSyntaxDocumentFormat(),
+                    new StreamDocumentTarget(new ByteArrayOutputStream()));
+            } catch (OWLOntologyStorageException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        saver.start();
+        storing.await();
+        try {
+            assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> manager.addAxiom(ontology, axiom(11)));
+            assertEquals(11, ontology.getAxiomCount());
+            assertEquals(10, snapshot.getAxiomCount());
+        } finally {
+            stored.countDown();
+            saver.join();
+        }
+    }
+}
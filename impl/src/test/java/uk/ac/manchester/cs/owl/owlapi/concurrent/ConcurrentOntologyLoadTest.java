@@ -0,0 +1,144 @@
+package uk.ac.manchester.cs.owl.owlapi.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.model.AddAxiom;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLOntologyFactoryImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLOntologyManagerImpl;
+
+class ConcurrentOntologyLoadTest {
+
+    private final OWLDataFactory df = new OWLDataFactoryImpl();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final OWLOntologyManager manager = new OWLOntologyManagerImpl(df, lock);
+    private final CountDownLatch parsing = new CountDownLatch(1);
+    private final CountDownLatch parsed = new CountDownLatch(1);
+    private final IRI documentIRI = IRI.create("urn:test:document");
+
+    private OWLAxiom axiom(int i) {
+        return df.getOWLSubClassOfAxiom(df.getOWLClass(IRI.create("urn:test#", "C" + i)),
+            df.getOWLClass(IRI.create("urn:test#", "C" + (i - 1))));
+    }
+
+    /** Factory that stops halfway through a load until the test lets it finish. */
+    private class SlowFactory extends OWLOntologyFactoryImpl {
+
+        private final CountDownLatch started;
+
+        SlowFactory(CountDownLatch started) {
+            super(new ConcurrentOWLOntologyBuilder(new NonConcurrentOWLOntologyBuilder(), lock));
+            this.started = started;
+        }
+
+        @Override
+        public OWLOntology loadOWLOntology(OWLOntologyManager m,
+            OWLOntologyDocumentSource documentSource, OWLOntologyCreationHandler handler,
+            OWLOntologyLoaderConfiguration configuration) throws OWLOntologyCreationException {
+            OWLOntology ontology = createOWLOntology(m,
+                new OWLOntologyID(IRI.create(documentSource.getDocumentIRI() + ":loaded"), null),
+                documentSource.getDocumentIRI(), handler);
+            m.addAxiom(ontology, axiom(1));
+            started.countDown();
+            try {
+                parsed.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new OWLOntologyCreationException(e);
+            }
+            m.addAxiom(ontology, axiom(2));
+            return ontology;
+        }
+    }
+
+    @Test
+    void shouldUseOtherOntologiesWhileLoading() throws Exception {
+        manager.setOntologyFactories(Collections.singleton(new SlowFactory(parsing)));
+        List<OWLOntologyChange> broadcast = Collections.synchronizedList(new ArrayList<>());
+        manager.addOntologyChangeListener(broadcast::addAll);
+        AtomicReference<OWLOntology> loaded = new AtomicReference<>();
+        Thread loader = new Thread(() -> {
+            try {
+                loaded.set(manager.loadOntologyFromOntologyDocument(
+                    new StringDocumentSource("", documentIRI, null, null)));
+            } catch (OWLOntologyCreationException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        loader.start();
+        parsing.await();
+        OWLOntology other;
+        try {
+            other = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                OWLOntology o = manager.createOntology(IRI.create("urn:test:other"));
+                manager.addAxiom(o, axiom(3));
+                // the ontology being loaded is published once it has been parsed
+                assertEquals(Collections.singleton(o), manager.getOntologies());
+                assertNull(manager.getOntology(IRI.create("urn:test:document:loaded")));
+                return o;
+            });
+        } finally {
+            parsed.countDown();
+            loader.join();
+        }
+        assertEquals(1, other.getAxiomCount());
+        assertEquals(2, loaded.get().getAxiomCount());
+        assertEquals(documentIRI, manager.getOntologyDocumentIRI(loaded.get()));
+        assertEquals(2, manager.getOntologies().size());
+        // changes applied by the loading thread are not broadcast
+        assertEquals(Collections.singletonList(new AddAxiom(other, axiom(3))), broadcast);
+    }
+
+    @Test
+    void shouldLoadDifferentDocumentsInParallel() throws Exception {
+        CountDownLatch bothParsing = new CountDownLatch(2);
+        manager.setOntologyFactories(Collections.singleton(new SlowFactory(bothParsing)));
+        List<Thread> loaders = new ArrayList<>();
+        for (String name : Arrays.asList("urn:test:a", "urn:test:b")) {
+            Thread loader = new Thread(() -> {
+                try {
+                    manager.loadOntologyFromOntologyDocument(
+                        new StringDocumentSource("", IRI.create(name), null, null));
+                } catch (OWLOntologyCreationException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            loader.start();
+            loaders.add(loader);
+        }
+        try {
+            // neither load finishes before both have started
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> bothParsing.await());
+        } finally {
+            parsed.countDown();
+            for (Thread loader : loaders) {
+                loader.join();
+            }
+        }
+        assertEquals(2, manager.getOntologies().size());
+    }
+}
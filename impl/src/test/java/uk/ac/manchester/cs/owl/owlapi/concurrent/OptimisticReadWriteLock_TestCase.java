@@ -0,0 +1,100 @@
+package uk.ac.manchester.cs.owl.owlapi.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class OptimisticReadWriteLock_TestCase {
+
+    private final OptimisticReadWriteLock lock = new OptimisticReadWriteLock();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private void writeInAnotherThread() {
+        Thread writer = new Thread(() -> {
+            lock.writeLock().lock();
+            lock.writeLock().unlock();
+        });
+        writer.start();
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private boolean tryLockInAnotherThread() throws InterruptedException {
+        AtomicBoolean locked = new AtomicBoolean();
+        Thread other = new Thread(() -> {
+            if (lock.writeLock().tryLock()) {
+                locked.set(true);
+                lock.writeLock().unlock();
+            }
+        });
+        other.start();
+        other.join();
+        return locked.get();
+    }
+
+    @Test
+    void shouldReadOnceWithoutWriters() {
+        assertEquals(42, lock.readInt(() -> calls.incrementAndGet() + 41));
+        assertTrue(lock.readBoolean(() -> calls.incrementAndGet() == 2));
+    }
+
+    @Test
+    void shouldReadAgainIfWriterWasActive() {
+        assertEquals(2, lock.readInt(() -> {
+            if (calls.incrementAndGet() == 1) {
+                writeInAnotherThread();
+            }
+            return calls.get();
+        }));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void shouldDiscardExceptionsIfWriterWasActive() {
+        assertTrue(lock.readBoolean(() -> {
+            if (calls.incrementAndGet() == 1) {
+                writeInAnotherThread();
+                throw new IllegalStateException("inconsistent read");
+            }
+            return true;
+        }));
+        assertThrows(IllegalStateException.class, () -> lock.readBoolean(() -> {
+            throw new IllegalStateException("consistent read");
+        }));
+    }
+
+    @Test
+    void shouldReadUnderLockWhileHoldingWriteLock() {
+        lock.writeLock().lock();
+        try {
+            assertEquals(1, lock.readInt(calls::incrementAndGet));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void shouldReleaseStampedLockOnLastUnlock() throws InterruptedException {
+        lock.writeLock().lock();
+        lock.writeLock().lock();
+        lock.readLock().lock();
+        lock.readLock().unlock();
+        lock.writeLock().unlock();
+        assertFalse(tryLockInAnotherThread());
+        lock.writeLock().unlock();
+        assertTrue(tryLockInAnotherThread());
+        assertEquals(1, lock.readInt(calls::incrementAndGet));
+        assertThrows(IllegalMonitorStateException.class, () -> lock.writeLock().unlock());
+    }
+}
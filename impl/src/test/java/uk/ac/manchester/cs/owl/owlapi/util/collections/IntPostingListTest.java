@@ -0,0 +1,49 @@
+package uk.ac.manchester.cs.owl.owlapi.util.collections;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.PrimitiveIterator;
+
+import org.junit.jupiter.api.Test;
+
+class IntPostingListTest {
+
+    @Test
+    void testAddRemoveContains() {
+        IntPostingList list = new IntPostingList(0);
+        assertTrue(list.isEmpty());
+        assertTrue(list.add(5));
+        assertTrue(list.add(9));
+        assertTrue(list.add(1));
+        assertTrue(list.add(7));
+        assertFalse(list.add(7));
+        assertArrayEquals(new int[] {1, 5, 7, 9}, list.toArray());
+        assertTrue(list.contains(5));
+        assertFalse(list.contains(6));
+        assertFalse(list.contains(-1));
+        assertTrue(list.remove(5));
+        assertFalse(list.remove(5));
+        assertArrayEquals(new int[] {1, 7, 9}, list.toArray());
+        assertEquals(3, list.size());
+    }
+
+    @Test
+    void testIteratorAndTrim() {
+        IntPostingList list = new IntPostingList(16);
+        for (int i = 0; i < 10; i++) {
+            list.add(i * 2);
+        }
+        list.trimToSize();
+        PrimitiveIterator.OfInt it = list.iterator();
+        for (int i = 0; i < 10; i++) {
+            assertTrue(it.hasNext());
+            assertEquals(i * 2, it.nextInt());
+        }
+        assertFalse(it.hasNext());
+        assertTrue(list.add(100));
+        assertEquals(100, list.get(10));
+    }
+}
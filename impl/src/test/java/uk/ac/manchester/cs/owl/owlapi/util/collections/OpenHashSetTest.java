@@ -0,0 +1,78 @@
+package uk.ac.manchester.cs.owl.owlapi.util.collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class OpenHashSetTest {
+
+    /** All instances collide, to exercise probing and backward shift deletion. */
+    static class Colliding {
+
+        final int value;
+
+        Colliding(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public int hashCode() {
+            return value % 3;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Colliding && ((Colliding) obj).value == value;
+        }
+    }
+
+    @Test
+    void shouldMatchHashSetThroughGrowthRemovalAndTrimming() {
+        OpenHashSet<Colliding> set = new OpenHashSet<>();
+        Set<Colliding> expected = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            assertTrue(set.add(new Colliding(i)));
+            expected.add(new Colliding(i));
+            assertFalse(set.add(new Colliding(i)));
+        }
+        assertEquals(expected, set);
+        int grown = set.capacity();
+        for (int i = 0; i < 200; i += 2) {
+            assertTrue(set.remove(new Colliding(i)));
+            expected.remove(new Colliding(i));
+        }
+        assertFalse(set.remove(new Colliding(0)));
+        assertEquals(expected, set);
+        for (int i = 0; i < 200; i++) {
+            assertEquals(expected.contains(new Colliding(i)), set.contains(new Colliding(i)));
+        }
+        set.trimToSize();
+        assertTrue(set.capacity() < grown);
+        assertEquals(expected, set);
+        set.removeIf(c -> c.value > 5);
+        set.trimToSize();
+        assertEquals(3, set.size());
+        assertEquals(3, set.capacity());
+        assertTrue(set.contains(new Colliding(1)));
+        assertTrue(set.contains(new Colliding(5)));
+    }
+
+    @Test
+    void shouldCompareByReferenceInIdentityVariant() {
+        String a = new String("a");
+        String b = new String("a");
+        IdentityOpenHashSet<String> set = new IdentityOpenHashSet<>();
+        assertTrue(set.add(a));
+        assertTrue(set.add(b));
+        assertFalse(set.add(a));
+        assertEquals(2, set.size());
+        assertTrue(set.remove(b));
+        assertFalse(set.contains(b));
+        assertTrue(set.contains(a));
+    }
+}
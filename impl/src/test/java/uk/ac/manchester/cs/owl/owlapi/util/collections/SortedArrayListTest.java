@@ -0,0 +1,49 @@
+package uk.ac.manchester.cs.owl.owlapi.util.collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+class SortedArrayListTest {
+
+    /** Compares by length only, so different values can compare equal. */
+    private static class Key implements Comparable<Key> {
+
+        private final String value;
+
+        Key(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public int compareTo(Key o) {
+            return Integer.compare(value.length(), o.value.length());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Key && ((Key) obj).value.equals(value);
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+    }
+
+    @Test
+    void shouldDropDuplicatesAmongElementsComparingEqual() {
+        SortedArrayList<Key> list = new SortedArrayList<>(Arrays.asList(new Key("ab"),
+            new Key("cd"), new Key("ab"), new Key("x"), new Key("cd"), new Key("ef")));
+        assertEquals(4, list.size());
+        assertTrue(list.contains(new Key("x")));
+        assertTrue(list.contains(new Key("ab")));
+        assertTrue(list.contains(new Key("ef")));
+        assertFalse(list.contains(new Key("gh")));
+        assertFalse(list.contains(null));
+    }
+}